@@ -5,6 +5,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import com.google.common.io.ByteSource;
 import com.google.common.io.MoreFiles;
@@ -63,6 +64,12 @@ final class FileBlobRecord
         }
     }
 
+    @Override
+    public Optional<Path> getFile()
+    {
+        return Optional.of( this.file );
+    }
+
     @Override
     public boolean equals( final Object o )
     {
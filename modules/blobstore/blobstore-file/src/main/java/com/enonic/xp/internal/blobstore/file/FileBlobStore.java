@@ -2,6 +2,7 @@ package com.enonic.xp.internal.blobstore.file;
 
 import java.io.IOException;
 import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -77,6 +78,15 @@ public final class FileBlobStore
     {
         try
         {
+            final Path source = record.getFile().filter( file -> file.startsWith( baseDir ) ).orElse( null );
+            if ( source != null )
+            {
+                final BlobRecord linked = linkRecord( segment, record.getKey(), source );
+                if ( linked != null )
+                {
+                    return linked;
+                }
+            }
             return addRecord( segment, record.getKey(), record.getBytes() );
         }
         catch ( IOException e )
@@ -182,6 +192,40 @@ public final class FileBlobStore
         return new FileBlobRecord( key, file );
     }
 
+    /**
+     * Blob files are written once and removed, never modified, so a record of the same store is added as a hard link instead of a copy.
+     * Other holders of links, such as file dumps, must replace a linked file rather than write into it.
+     *
+     * @return linked record, or {@code null} if the file system does not support links
+     */
+    private BlobRecord linkRecord( final Segment segment, final BlobKey key, final Path source )
+        throws IOException
+    {
+        final Path file = resolveBlobPath( segment, key );
+
+        if ( Files.exists( file ) )
+        {
+            return null;
+        }
+
+        Files.createDirectories( file.getParent() );
+        try
+        {
+            Files.createLink( file, source );
+        }
+        catch ( FileAlreadyExistsException e )
+        {
+            LOG.debug( "Blob [{}] already exists in segment [{}]", key, segment );
+        }
+        catch ( UnsupportedOperationException | IOException e )
+        {
+            LOG.debug( "Cannot link blob [{}] to segment [{}], copying", key, segment, e );
+            return null;
+        }
+
+        return new FileBlobRecord( key, file );
+    }
+
     private Path resolveBlobPath( final Segment segment, final BlobKey key )
     {
         final String id = key.toString();
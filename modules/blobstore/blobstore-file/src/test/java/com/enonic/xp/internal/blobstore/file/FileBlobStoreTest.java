@@ -1,5 +1,6 @@
 package com.enonic.xp.internal.blobstore.file;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,7 @@ import com.enonic.xp.blob.Segment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -132,6 +134,34 @@ public class FileBlobStoreTest
         assertTrue( beforeUpdate < rec2.lastModified() );
     }
 
+    @Test
+    public void addRecord_linksRecordOfSameStore()
+        throws Exception
+    {
+        final Segment secondSegment = Segment.from( "test", "blob2" );
+        final BlobRecord record = createRecord( "hello" );
+
+        final BlobRecord linked = this.blobStore.addRecord( secondSegment, record );
+        assertEquals( record.getKey(), linked.getKey() );
+        assertTrue( Files.isSameFile( record.getFile().get(), linked.getFile().get() ) );
+
+        this.blobStore.removeRecord( this.segment, record.getKey() );
+        assertEquals( "hello", new String( this.blobStore.getRecord( secondSegment, record.getKey() ).getBytes().read() ) );
+    }
+
+    @Test
+    public void addRecord_copiesRecordOfOtherStore()
+        throws Exception
+    {
+        final FileBlobStore sourceStore = new FileBlobStore( this.temporaryFolder.resolve( "source" ) );
+        final FileBlobStore targetStore = new FileBlobStore( this.temporaryFolder.resolve( "target" ) );
+        final BlobRecord record = sourceStore.addRecord( this.segment, ByteSource.wrap( "hello".getBytes() ) );
+
+        final BlobRecord copied = targetStore.addRecord( this.segment, record );
+        assertEquals( record.getKey(), copied.getKey() );
+        assertFalse( Files.isSameFile( record.getFile().get(), copied.getFile().get() ) );
+    }
+
     private BlobRecord createRecord( final String str )
     {
         return createRecord( segment, str );
@@ -1,5 +1,8 @@
 package com.enonic.xp.blob;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 import com.google.common.io.ByteSource;
 
 public interface BlobRecord
@@ -11,4 +14,15 @@ public interface BlobRecord
     ByteSource getBytes();
 
     long lastModified();
+
+    /**
+     * Local file holding the bytes of this record, if the record is backed by one.
+     * The file must be treated as read-only.
+     *
+     * @return file of this record, or empty if bytes are not stored in a local file
+     */
+    default Optional<Path> getFile()
+    {
+        return Optional.empty();
+    }
 }
@@ -33,6 +33,8 @@ public class ContentQuery
 
     private final int size;
 
+    private final String cursor;
+
     public ContentQuery( final Builder builder )
     {
         this.queryExpr = builder.queryExpr;
@@ -43,6 +45,7 @@ public class ContentQuery
         this.aggregationQueries = AggregationQueries.fromCollection( builder.aggregationQueries.build() );
         this.queryFilters = builder.queryFilters.build();
         this.highlight = builder.highlight;
+        this.cursor = builder.cursor;
     }
 
     public static Builder create()
@@ -90,6 +93,17 @@ public class ContentQuery
         return highlight;
     }
 
+    /**
+     * Cursor of the page to return, as returned by {@link FindContentIdsByQueryResult#getCursor()} for the previous page.
+     * An empty string requests the first page, {@code null} pages with {@code from} instead.
+     *
+     * @see com.enonic.xp.node.NodeQuery#getCursor()
+     */
+    public String getCursor()
+    {
+        return cursor;
+    }
+
     public static class Builder
     {
         private QueryExpr queryExpr;
@@ -108,6 +122,8 @@ public class ContentQuery
 
         private HighlightQuery highlight;
 
+        private String cursor;
+
         public Builder queryExpr( final QueryExpr queryExpr )
         {
             this.queryExpr = queryExpr;
@@ -168,6 +184,12 @@ public class ContentQuery
             return this;
         }
 
+        public Builder cursor( final String cursor )
+        {
+            this.cursor = cursor;
+            return this;
+        }
+
         public ContentQuery build()
         {
             return new ContentQuery( this );
@@ -27,6 +27,8 @@ public final class FindContentIdsByQueryResult
 
     private final long hits;
 
+    private final String cursor;
+
     private FindContentIdsByQueryResult( final Builder builder )
     {
         this.contentIds = builder.contentIds;
@@ -36,6 +38,7 @@ public final class FindContentIdsByQueryResult
         this.highlight = builder.highlight != null ? ImmutableMap.copyOf( builder.highlight ) : null;
         this.sort = builder.sort != null ? ImmutableMap.copyOf( builder.sort ) : null;
         this.score = builder.score != null ? ImmutableMap.copyOf( builder.score ) : null;
+        this.cursor = builder.cursor;
     }
 
     public static Builder create()
@@ -84,6 +87,14 @@ public final class FindContentIdsByQueryResult
         return hits;
     }
 
+    /**
+     * @return cursor of the next page of a query with a {@link ContentQuery#getCursor() cursor},
+     * or {@code null} when there are no more hits
+     */
+    public String getCursor()
+    {
+        return cursor;
+    }
 
     @Override
     public boolean equals( final Object o )
@@ -99,13 +110,13 @@ public final class FindContentIdsByQueryResult
         final FindContentIdsByQueryResult that = (FindContentIdsByQueryResult) o;
         return totalHits == that.totalHits && hits == that.hits && Objects.equals( aggregations, that.aggregations ) &&
             Objects.equals( contentIds, that.contentIds ) && Objects.equals( highlight, that.highlight ) &&
-            Objects.equals( sort, that.sort ) && Objects.equals( score, that.score );
+            Objects.equals( sort, that.sort ) && Objects.equals( score, that.score ) && Objects.equals( cursor, that.cursor );
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash( aggregations, contentIds, totalHits, hits, highlight, sort, score );
+        return Objects.hash( aggregations, contentIds, totalHits, hits, highlight, sort, score, cursor );
     }
 
     public static final class Builder
@@ -124,6 +135,8 @@ public final class FindContentIdsByQueryResult
 
         private long hits;
 
+        private String cursor;
+
         private Builder()
         {
         }
@@ -170,6 +183,12 @@ public final class FindContentIdsByQueryResult
             return this;
         }
 
+        public Builder cursor( final String cursor )
+        {
+            this.cursor = cursor;
+            return this;
+        }
+
         public FindContentIdsByQueryResult build()
         {
             return new FindContentIdsByQueryResult( this );
@@ -18,6 +18,8 @@ public class SystemDumpParams
 
     private final boolean archive;
 
+    private final String baseDumpName;
+
     private SystemDumpParams( final Builder builder )
     {
         dumpName = builder.dumpName;
@@ -27,6 +29,7 @@ public class SystemDumpParams
         maxVersions = builder.maxVersions;
         this.listener = builder.listener;
         this.archive = builder.archive;
+        this.baseDumpName = builder.baseDumpName;
     }
 
     public String getDumpName()
@@ -69,6 +72,16 @@ public class SystemDumpParams
         return archive;
     }
 
+    /**
+     * Name of a previous dump this dump is based on. When set, only changes made after the base dump are written.
+     *
+     * @return base dump name or {@code null} for a full dump
+     */
+    public String getBaseDumpName()
+    {
+        return baseDumpName;
+    }
+
     @Override
     public boolean equals( final Object o )
     {
@@ -83,13 +96,14 @@ public class SystemDumpParams
         final SystemDumpParams that = (SystemDumpParams) o;
         return includeVersions == that.includeVersions && includeBinaries == that.includeBinaries &&
             Objects.equals( dumpName, that.dumpName ) && Objects.equals( maxAge, that.maxAge ) &&
-            Objects.equals( maxVersions, that.maxVersions ) && Objects.equals( listener, that.listener );
+            Objects.equals( maxVersions, that.maxVersions ) && Objects.equals( listener, that.listener ) &&
+            Objects.equals( baseDumpName, that.baseDumpName );
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash( dumpName, includeVersions, includeBinaries, maxAge, maxVersions, listener );
+        return Objects.hash( dumpName, includeVersions, includeBinaries, maxAge, maxVersions, listener, baseDumpName );
     }
 
     public static final class Builder
@@ -108,6 +122,8 @@ public class SystemDumpParams
 
         private boolean archive;
 
+        private String baseDumpName;
+
         private Builder()
         {
         }
@@ -154,6 +170,12 @@ public class SystemDumpParams
             return this;
         }
 
+        public Builder baseDumpName( final String baseDumpName )
+        {
+            this.baseDumpName = baseDumpName;
+            return this;
+        }
+
         public SystemDumpParams build()
         {
             return new SystemDumpParams( this );
@@ -1,5 +1,7 @@
 package com.enonic.xp.dump;
 
+import java.time.Duration;
+
 import com.enonic.xp.branch.Branch;
 import com.enonic.xp.repository.RepositoryId;
 
@@ -14,4 +16,14 @@ public interface SystemLoadListener
     void loadingCommits( RepositoryId repositoryId );
 
     void entryLoaded();
+
+    /**
+     * Called when all entries of the current branch, versions or commits have been loaded.
+     *
+     * @param count    number of loaded entries
+     * @param duration time spent loading the entries
+     */
+    default void entriesLoaded( long count, Duration duration )
+    {
+    }
 }
@@ -8,7 +8,15 @@ import com.enonic.xp.util.BinaryReference;
 
 public class ReadImageParams
 {
-    private static final int DEFAULT_BACKGROUND_COLOR = 0xFFFFFF;
+    /**
+     * Background color of images requested without a background.
+     */
+    public static final int DEFAULT_BACKGROUND_COLOR = 0xFFFFFF;
+
+    /**
+     * Quality of images requested without a quality.
+     */
+    public static final int DEFAULT_QUALITY = 85;
 
     private final ContentId contentId;
 
@@ -0,0 +1,336 @@
+package com.enonic.xp.index;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.enonic.xp.data.PropertyPath;
+import com.enonic.xp.util.GlobPatternMatcher;
+
+/**
+ * Path index configs of a {@link PatternIndexConfigDocument} compiled into character tries.
+ * <p>
+ * Resolves the same config as looking up the lowercased path among exact paths and then testing every path config in sorted order
+ * with {@link GlobPatternMatcher} and {@link PathIndexConfig#matches(String)}, but walks the path only once and does not build
+ * path strings. Plain paths are stored at the end of their characters, patterns at the end of their literal prefix, so only patterns
+ * whose literal prefix the path starts with are tested.
+ * <p>
+ * As with {@link GlobPatternMatcher#match(String, String, String)}, a malformed pattern does not fail when the matcher is built,
+ * but throws {@link PatternSyntaxException} when it is tested, that is for paths that start with its literal prefix.
+ */
+final class IndexConfigMatcher
+{
+    private static final String SEPARATOR = PropertyPath.ELEMENT_DIVIDER;
+
+    private static final String GLOB_CHARS = "*?[]{}\\";
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final Node exactRoot = new Node();
+
+    private final Node root = new Node();
+
+    private final PathIndexConfig[] pathIndexConfigs;
+
+    IndexConfigMatcher( final List<PathIndexConfig> pathIndexConfigs, final Map<String, PathIndexConfig> exactPathIndexConfigs )
+    {
+        this.pathIndexConfigs = pathIndexConfigs.toArray( PathIndexConfig[]::new );
+
+        exactPathIndexConfigs.forEach( ( path, pathIndexConfig ) -> {
+            Node node = exactRoot;
+            for ( int i = 0; i < path.length(); i++ )
+            {
+                node = node.addChild( Character.toLowerCase( path.charAt( i ) ) );
+            }
+            node.exact = pathIndexConfig;
+        } );
+
+        for ( int rank = 0; rank < this.pathIndexConfigs.length; rank++ )
+        {
+            final String path = this.pathIndexConfigs[rank].getPath().toString();
+            final int literalEnd = literalEnd( path );
+
+            Node node = root;
+            for ( int i = 0; i < literalEnd; i++ )
+            {
+                node = node.addChild( path.charAt( i ) );
+            }
+
+            if ( literalEnd == path.length() )
+            {
+                node.prefixRank = Math.min( node.prefixRank, rank );
+            }
+            else
+            {
+                node.addGlob( new Glob( rank, path, literalEnd ) );
+            }
+        }
+    }
+
+    PathIndexConfig match( final PropertyPath path )
+    {
+        return match( new ElementNames( path ) );
+    }
+
+    PathIndexConfig match( final CharSequence path )
+    {
+        final int length = path.length();
+
+        Node exact = exactRoot;
+        for ( int i = 0; i < length && exact != null; i++ )
+        {
+            exact = exact.child( Character.toLowerCase( path.charAt( i ) ) );
+        }
+        if ( exact != null && exact.exact != null )
+        {
+            return exact.exact;
+        }
+
+        int best = NO_MATCH;
+        Node node = root;
+        int position = 0;
+        while ( node != null )
+        {
+            best = Math.min( best, node.prefixRank );
+            for ( Glob glob : node.globs )
+            {
+                if ( glob.rank >= best )
+                {
+                    break;
+                }
+                if ( glob.matches( path, position ) )
+                {
+                    best = glob.rank;
+                    break;
+                }
+            }
+            node = position < length ? node.child( path.charAt( position++ ) ) : null;
+        }
+
+        return best == NO_MATCH ? null : pathIndexConfigs[best];
+    }
+
+    private static int literalEnd( final String path )
+    {
+        for ( int i = 0; i < path.length(); i++ )
+        {
+            if ( GLOB_CHARS.indexOf( path.charAt( i ) ) >= 0 )
+            {
+                return i;
+            }
+        }
+        return path.length();
+    }
+
+    private static final class Node
+    {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private static final Glob[] NO_GLOBS = new Glob[0];
+
+        private char[] keys = new char[0];
+
+        private Node[] children = NO_CHILDREN;
+
+        private Glob[] globs = NO_GLOBS;
+
+        private int prefixRank = NO_MATCH;
+
+        private PathIndexConfig exact;
+
+        Node child( final char c )
+        {
+            final int index = Arrays.binarySearch( keys, c );
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild( final char c )
+        {
+            final int index = Arrays.binarySearch( keys, c );
+            if ( index >= 0 )
+            {
+                return children[index];
+            }
+
+            final int insertAt = -index - 1;
+            final Node child = new Node();
+
+            final char[] newKeys = new char[keys.length + 1];
+            System.arraycopy( keys, 0, newKeys, 0, insertAt );
+            System.arraycopy( keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt );
+            newKeys[insertAt] = c;
+
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy( children, 0, newChildren, 0, insertAt );
+            System.arraycopy( children, insertAt, newChildren, insertAt + 1, children.length - insertAt );
+            newChildren[insertAt] = child;
+
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void addGlob( final Glob glob )
+        {
+            // globs are added in rank order
+            globs = Arrays.copyOf( globs, globs.length + 1 );
+            globs[globs.length - 1] = glob;
+        }
+    }
+
+    private static final class Glob
+    {
+        private final int rank;
+
+        private final String path;
+
+        // pattern is the literal prefix followed by a single '*' that matches anything but the separator
+        private final boolean singleStar;
+
+        private final Pattern pattern;
+
+        private final PatternSyntaxException syntaxError;
+
+        Glob( final int rank, final String path, final int literalEnd )
+        {
+            this.rank = rank;
+            this.path = path;
+            this.singleStar = literalEnd == path.length() - 1 && path.charAt( literalEnd ) == '*';
+
+            Pattern pattern = null;
+            PatternSyntaxException syntaxError = null;
+            if ( !singleStar )
+            {
+                try
+                {
+                    pattern = GlobPatternMatcher.compile( path, SEPARATOR );
+                }
+                catch ( PatternSyntaxException e )
+                {
+                    syntaxError = e;
+                }
+            }
+            this.pattern = pattern;
+            this.syntaxError = syntaxError;
+        }
+
+        /**
+         * @param value path starting with the literal prefix of this pattern
+         * @param offset length of the literal prefix
+         */
+        boolean matches( final CharSequence value, final int offset )
+        {
+            if ( singleStar )
+            {
+                if ( offset < value.length() && value.charAt( offset ) == '*' )
+                {
+                    return true;
+                }
+                for ( int i = offset; i < value.length(); i++ )
+                {
+                    if ( value.charAt( i ) == '.' )
+                    {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            if ( syntaxError != null )
+            {
+                throw syntaxError;
+            }
+            return pattern.matcher( value ).matches() || startsWithPath( value, offset );
+        }
+
+        private boolean startsWithPath( final CharSequence value, final int offset )
+        {
+            if ( value.length() < path.length() )
+            {
+                return false;
+            }
+            for ( int i = offset; i < path.length(); i++ )
+            {
+                if ( value.charAt( i ) != path.charAt( i ) )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Element names of a property path joined by the separator, as in {@code path.resetAllIndexesTo( 0 ).toString()}.
+     * Optimized for sequential access and the short steps back of pattern matching.
+     */
+    private static final class ElementNames
+        implements CharSequence
+    {
+        private final List<PropertyPath.Element> elements;
+
+        private final int length;
+
+        private int element;
+
+        private int elementStart;
+
+        ElementNames( final PropertyPath path )
+        {
+            this.elements = path.pathElements();
+            int length = Math.max( 0, elements.size() - 1 );
+            for ( PropertyPath.Element element : elements )
+            {
+                length += element.getName().length();
+            }
+            this.length = length;
+        }
+
+        @Override
+        public int length()
+        {
+            return length;
+        }
+
+        @Override
+        public char charAt( final int index )
+        {
+            while ( index < elementStart )
+            {
+                elementStart -= elements.get( --element ).getName().length() + 1;
+            }
+
+            String name = elements.get( element ).getName();
+            while ( index > elementStart + name.length() )
+            {
+                elementStart += name.length() + 1;
+                name = elements.get( ++element ).getName();
+            }
+
+            return index == elementStart + name.length() ? SEPARATOR.charAt( 0 ) : name.charAt( index - elementStart );
+        }
+
+        @Override
+        public CharSequence subSequence( final int start, final int end )
+        {
+            return toString().subSequence( start, end );
+        }
+
+        @Override
+        public String toString()
+        {
+            final StringBuilder builder = new StringBuilder( length );
+            for ( PropertyPath.Element element : elements )
+            {
+                if ( builder.length() > 0 )
+                {
+                    builder.append( SEPARATOR );
+                }
+                builder.append( element.getName() );
+            }
+            return builder.toString();
+        }
+    }
+}
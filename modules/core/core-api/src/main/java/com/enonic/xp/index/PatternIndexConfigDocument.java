@@ -10,7 +10,6 @@ import com.google.common.collect.ImmutableSortedSet;
 
 import com.enonic.xp.annotation.PublicApi;
 import com.enonic.xp.data.PropertyPath;
-import com.enonic.xp.util.GlobPatternMatcher;
 
 import static com.google.common.base.Strings.nullToEmpty;
 
@@ -26,6 +25,8 @@ public final class PatternIndexConfigDocument
 
     private final AllTextIndexConfig allTextConfig;
 
+    private final IndexConfigMatcher matcher;
+
     public IndexConfig getDefaultConfig()
     {
         return defaultConfig;
@@ -38,6 +39,7 @@ public final class PatternIndexConfigDocument
         this.pathIndexConfigMap = builder.stringPathIndexConfigMap;
         this.defaultConfig = builder.defaultConfig;
         this.allTextConfig = builder.allTextIndexConfig.build();
+        this.matcher = new IndexConfigMatcher( this.pathIndexConfigs.asList(), this.pathIndexConfigMap );
     }
 
     public static Builder create()
@@ -58,38 +60,18 @@ public final class PatternIndexConfigDocument
     @Override
     public IndexConfig getConfigForPath( final PropertyPath dataPath )
     {
-        return doGetConfigForPath( dataPath.resetAllIndexesTo( 0 ).toString() );
+        return configOrDefault( matcher.match( dataPath ) );
     }
 
     @Override
     public IndexConfig getConfigForPath( final IndexPath indexPath )
     {
-        return doGetConfigForPath( indexPath.toString() );
+        return configOrDefault( matcher.match( indexPath.toString() ) );
     }
 
-    private IndexConfig doGetConfigForPath( final String path )
+    private IndexConfig configOrDefault( final PathIndexConfig pathIndexConfig )
     {
-        final PathIndexConfig exactMatch = pathIndexConfigMap.get( path.toLowerCase() );
-
-        if ( exactMatch != null )
-        {
-            return exactMatch.getIndexConfig();
-        }
-
-        for ( final PathIndexConfig pathIndexConfig : pathIndexConfigs )
-        {
-            if ( GlobPatternMatcher.match( pathIndexConfig.getPath().toString(), path, "." ) )
-            {
-                return pathIndexConfig.getIndexConfig();
-            }
-
-            if ( pathIndexConfig.matches( path ) )
-            {
-                return pathIndexConfig.getIndexConfig();
-            }
-        }
-
-        return defaultConfig;
+        return pathIndexConfig != null ? pathIndexConfig.getIndexConfig() : defaultConfig;
     }
 
     @Override
@@ -17,6 +17,8 @@ public class FindNodesByQueryResult
 
     private final long hits;
 
+    private final String cursor;
+
     private FindNodesByQueryResult( final Builder builder )
     {
         this.nodeHits = builder.nodeHits.build();
@@ -24,6 +26,7 @@ public class FindNodesByQueryResult
         this.hits = builder.hits;
         this.aggregations = builder.aggregations;
         this.suggestions = builder.suggestions;
+        this.cursor = builder.cursor;
     }
 
     public static Builder create()
@@ -61,6 +64,15 @@ public class FindNodesByQueryResult
         return hits;
     }
 
+    /**
+     * @return cursor of the next page of a query with a {@link NodeQuery#getCursor() cursor},
+     * or {@code null} when there are no more hits
+     */
+    public String getCursor()
+    {
+        return cursor;
+    }
+
     public static final class Builder
     {
         private final NodeHits.Builder nodeHits = NodeHits.create();
@@ -73,6 +85,8 @@ public class FindNodesByQueryResult
 
         private Suggestions suggestions;
 
+        private String cursor;
+
         private Builder()
         {
         }
@@ -108,6 +122,12 @@ public class FindNodesByQueryResult
             return this;
         }
 
+        public Builder cursor( final String cursor )
+        {
+            this.cursor = cursor;
+            return this;
+        }
+
         public FindNodesByQueryResult build()
         {
             return new FindNodesByQueryResult( this );
@@ -1,5 +1,7 @@
 package com.enonic.xp.node;
 
+import com.google.common.base.Preconditions;
+
 import com.enonic.xp.annotation.PublicApi;
 
 @PublicApi
@@ -16,6 +18,8 @@ public class NodeQuery
 
     private final boolean withPath;
 
+    private final String cursor;
+
     private NodeQuery( final Builder builder )
     {
         super( builder );
@@ -23,6 +27,9 @@ public class NodeQuery
         this.path = builder.path;
         this.accurateScoring = builder.accurateScoring;
         this.withPath = builder.withPath;
+        this.cursor = builder.cursor;
+        Preconditions.checkArgument( cursor == null || ( getFrom() == 0 && getSize() >= 0 ),
+                                     "Cursor cannot be combined with from or all results" );
     }
 
     public NodePath getParent()
@@ -45,6 +52,15 @@ public class NodeQuery
         return withPath;
     }
 
+    /**
+     * Cursor of the page to return, as returned by {@link FindNodesByQueryResult#getCursor()} for the previous page.
+     * An empty string requests the first page, {@code null} pages with {@code from} instead.
+     */
+    public String getCursor()
+    {
+        return cursor;
+    }
+
     public static Builder create()
     {
         return new Builder();
@@ -61,6 +77,8 @@ public class NodeQuery
 
         private boolean withPath = false;
 
+        private String cursor;
+
         public Builder()
         {
             super();
@@ -90,6 +108,21 @@ public class NodeQuery
             return this;
         }
 
+        /**
+         * Pages through the hits in the sort order, starting after the last hit of the page the cursor was returned with.
+         * Unlike {@code from}, the cost of a page does not grow with its depth.
+         * <p>
+         * Only field sorts are supported, and hits with several values of a sort field may be returned on more than one page.
+         * Total hits and aggregations only count the hits after the cursor.
+         *
+         * @param cursor cursor returned with the previous page, or an empty string for the first page
+         */
+        public Builder cursor( final String cursor )
+        {
+            this.cursor = cursor;
+            return this;
+        }
+
         public NodeQuery build()
         {
             return new NodeQuery( this );
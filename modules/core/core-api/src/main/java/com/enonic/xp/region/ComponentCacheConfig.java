@@ -0,0 +1,103 @@
+package com.enonic.xp.region;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+
+import com.enonic.xp.annotation.PublicApi;
+
+/**
+ * Server side output cache settings of a part or layout.
+ * <p>
+ * Rendered output is reused for requests with the same component, content and values of the {@link #getVaryBy() vary-by} request
+ * attributes. Supported vary-by values are {@code params}, {@code user}, {@code header:<name>} and {@code cookie:<name>}.
+ * Output for authenticated users is only cached when it varies by {@code user}.
+ */
+@PublicApi
+public final class ComponentCacheConfig
+{
+    private final Duration ttl;
+
+    private final ImmutableSet<String> varyBy;
+
+    private ComponentCacheConfig( final Builder builder )
+    {
+        this.ttl = builder.ttl;
+        this.varyBy = builder.varyBy.build();
+    }
+
+    public Duration getTtl()
+    {
+        return ttl;
+    }
+
+    public ImmutableSet<String> getVaryBy()
+    {
+        return varyBy;
+    }
+
+    @Override
+    public boolean equals( final Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() )
+        {
+            return false;
+        }
+        final ComponentCacheConfig that = (ComponentCacheConfig) o;
+        return ttl.equals( that.ttl ) && varyBy.equals( that.varyBy );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( ttl, varyBy );
+    }
+
+    @Override
+    public String toString()
+    {
+        return MoreObjects.toStringHelper( this ).add( "ttl", ttl ).add( "varyBy", varyBy ).toString();
+    }
+
+    public static Builder create()
+    {
+        return new Builder();
+    }
+
+    public static final class Builder
+    {
+        private Duration ttl;
+
+        private final ImmutableSet.Builder<String> varyBy = ImmutableSet.builder();
+
+        private Builder()
+        {
+        }
+
+        public Builder ttl( final Duration ttl )
+        {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder varyBy( final String value )
+        {
+            this.varyBy.add( value );
+            return this;
+        }
+
+        public ComponentCacheConfig build()
+        {
+            Preconditions.checkNotNull( ttl, "ttl cannot be null" );
+            Preconditions.checkArgument( !ttl.isNegative() && !ttl.isZero(), "ttl must be positive" );
+            return new ComponentCacheConfig( this );
+        }
+    }
+}
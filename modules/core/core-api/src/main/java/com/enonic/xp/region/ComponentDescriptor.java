@@ -29,6 +29,8 @@ public abstract class ComponentDescriptor
 
     private final InputTypeConfig schemaConfig;
 
+    private final ComponentCacheConfig cacheConfig;
+
     protected ComponentDescriptor( final BaseBuilder builder )
     {
         super( builder.key );
@@ -41,6 +43,7 @@ public abstract class ComponentDescriptor
         this.modifiedTime = builder.modifiedTime;
         this.config = builder.config;
         this.schemaConfig = builder.schemaConfig.build();
+        this.cacheConfig = builder.cacheConfig;
     }
 
     public final String getDisplayName()
@@ -78,6 +81,11 @@ public abstract class ComponentDescriptor
         return schemaConfig;
     }
 
+    public ComponentCacheConfig getCacheConfig()
+    {
+        return cacheConfig;
+    }
+
     public abstract ResourceKey getComponentPath();
 
     public abstract static class BaseBuilder<T extends BaseBuilder>
@@ -100,6 +108,8 @@ public abstract class ComponentDescriptor
 
         private final InputTypeConfig.Builder schemaConfig = InputTypeConfig.create();
 
+        private ComponentCacheConfig cacheConfig;
+
         protected BaseBuilder()
         {
         }
@@ -118,6 +128,7 @@ public abstract class ComponentDescriptor
             {
                 this.schemaConfig.config( descriptor.schemaConfig );
             }
+            this.cacheConfig = descriptor.cacheConfig;
         }
 
         public final T key( final DescriptorKey key )
@@ -168,6 +179,12 @@ public abstract class ComponentDescriptor
             return typecastToBuilder( this );
         }
 
+        public final T cacheConfig( final ComponentCacheConfig value )
+        {
+            this.cacheConfig = value;
+            return typecastToBuilder( this );
+        }
+
         @SuppressWarnings("unchecked")
         private T typecastToBuilder( final BaseBuilder object )
         {
@@ -0,0 +1,12 @@
+package com.enonic.xp.security.acl;
+
+import com.enonic.xp.security.auth.AuthenticationInfo;
+
+/**
+ * Evaluates permissions with the same result as {@link AccessControlList#isAllowedFor(com.enonic.xp.security.PrincipalKeys, Permission)},
+ * caching the permissions allowed to the principals of a user in each access control list.
+ */
+public interface AccessControlEvaluator
+{
+    boolean isAllowed( AuthenticationInfo authInfo, AccessControlList acl, Permission permission );
+}
@@ -1,5 +1,8 @@
 package com.enonic.xp.shared;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -69,4 +72,57 @@ public interface SharedMap<K, V>
      * @return the new value to which the specified key is mapped, or null if this map no longer contains mapping for the key
      */
     V modify( K key, Function<V, V> modifier, int ttlSeconds );
+
+    /**
+     * Returns the values mapped to the specified keys. Keys that have no mapping are not present in the returned map.
+     * Implementations may fetch all entries in a single round-trip.
+     *
+     * @param keys the keys whose associated values are to be returned
+     * @return map of keys to the values they are mapped to
+     */
+    default Map<K, V> getAll( final Collection<? extends K> keys )
+    {
+        final Map<K, V> result = new HashMap<>();
+        for ( K key : keys )
+        {
+            final V value = get( key );
+            if ( value != null )
+            {
+                result.put( key, value );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Equivalent of calling {@link #setAll(Map, int)}  setAll(entries, -1)}
+     *
+     * @param entries entries to put into this map
+     */
+    default void setAll( final Map<? extends K, ? extends V> entries )
+    {
+        setAll( entries, -1 );
+    }
+
+    /**
+     * Puts all entries into this map with a given time to live (TTL).
+     * Entries with null value are removed from the map.
+     *
+     * @param entries    entries to put into this map
+     * @param ttlSeconds maximum time to live in seconds for the entries to stay in the map. (0 means infinite, negative means map provider (for instance Hazelcast) default or infinite if map provider does not have own TTL setting)
+     */
+    default void setAll( final Map<? extends K, ? extends V> entries, final int ttlSeconds )
+    {
+        entries.forEach( ( key, value ) -> set( key, value, ttlSeconds ) );
+    }
+
+    /**
+     * Removes the mappings for the keys from this map if they are present.
+     *
+     * @param keys the keys whose associated values are to be removed
+     */
+    default void deleteAll( final Collection<? extends K> keys )
+    {
+        keys.forEach( this::delete );
+    }
 }
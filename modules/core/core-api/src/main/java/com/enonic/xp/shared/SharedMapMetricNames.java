@@ -0,0 +1,34 @@
+package com.enonic.xp.shared;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * Names of the per-map metrics of {@link SharedMap}, registered as {@code com.enonic.xp.shared.SharedMap.<mapName>.<metric>}.
+ */
+public final class SharedMapMetricNames
+{
+    public static final String HIT = "hit";
+
+    public static final String MISS = "miss";
+
+    public static final String NEAR_CACHE_HIT = "nearCache.hit";
+
+    public static final String NEAR_CACHE_MISS = "nearCache.miss";
+
+    public static final String GET = "get";
+
+    public static final String SET = "set";
+
+    public static final String DELETE = "delete";
+
+    public static final String MODIFY = "modify";
+
+    private SharedMapMetricNames()
+    {
+    }
+
+    public static String name( final String mapName, final String metric )
+    {
+        return MetricRegistry.name( SharedMap.class, mapName, metric );
+    }
+}
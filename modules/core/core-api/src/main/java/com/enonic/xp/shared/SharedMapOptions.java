@@ -0,0 +1,57 @@
+package com.enonic.xp.shared;
+
+/**
+ * Options of a {@link SharedMap} instance.
+ */
+public final class SharedMapOptions
+{
+    private static final SharedMapOptions DEFAULT = create().build();
+
+    private final boolean nearCache;
+
+    private SharedMapOptions( final Builder builder )
+    {
+        this.nearCache = builder.nearCache;
+    }
+
+    /**
+     * Near cache keeps recently read entries on the local node and invalidates them when the entries are changed on any node.
+     * Useful for read-mostly maps. Has no effect if map entries are already stored locally.
+     *
+     * @return {@code true} if near cache is enabled
+     */
+    public boolean isNearCache()
+    {
+        return nearCache;
+    }
+
+    public static SharedMapOptions defaults()
+    {
+        return DEFAULT;
+    }
+
+    public static Builder create()
+    {
+        return new Builder();
+    }
+
+    public static final class Builder
+    {
+        private boolean nearCache;
+
+        private Builder()
+        {
+        }
+
+        public Builder nearCache( final boolean nearCache )
+        {
+            this.nearCache = nearCache;
+            return this;
+        }
+
+        public SharedMapOptions build()
+        {
+            return new SharedMapOptions( this );
+        }
+    }
+}
@@ -9,4 +9,16 @@ public interface SharedMapService
      * @return map instance that is shared across all XP nodes
      */
     <K, V> SharedMap<K, V> getSharedMap( String name );
+
+    /**
+     * @param name    name of a shared map
+     * @param options options of a shared map instance
+     * @param <K>     the type of keys maintained by this map. Can only be standard Java classes.
+     * @param <V>     the type of values maintained by this map. Can only be standard Java classes.
+     * @return map instance that is shared across all XP nodes
+     */
+    default <K, V> SharedMap<K, V> getSharedMap( String name, SharedMapOptions options )
+    {
+        return getSharedMap( name );
+    }
 }
@@ -26,4 +26,15 @@ public interface Trace
     void start();
 
     void end();
+
+    /**
+     * Returns whether the trace is not sampled. Attributes put into a no-op trace are discarded, and it is neither started
+     * nor dispatched to listeners, but it is still set as current trace, so that traces started within it are not sampled either.
+     *
+     * @return {@code true} if the trace is not sampled
+     */
+    default boolean isNoop()
+    {
+        return false;
+    }
 }
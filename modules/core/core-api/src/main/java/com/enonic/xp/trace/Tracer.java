@@ -32,7 +32,7 @@ public final class Tracer
     public static void withCurrent( final Consumer<Trace> consumer )
     {
         final Trace trace = current();
-        if ( trace != null )
+        if ( trace != null && !trace.isNoop() )
         {
             consumer.accept( trace );
         }
@@ -106,7 +106,11 @@ public final class Tracer
 
         if ( trace != null )
         {
-            before.accept( trace );
+            final boolean noop = trace.isNoop();
+            if ( !noop )
+            {
+                before.accept( trace );
+            }
             final Trace current = current();
 
             try
@@ -114,7 +118,10 @@ public final class Tracer
                 setCurrent( trace );
                 startTrace( trace );
                 final T result = main.get();
-                after.accept( trace, result );
+                if ( !noop )
+                {
+                    after.accept( trace, result );
+                }
                 return result;
             }
             finally
@@ -162,7 +169,7 @@ public final class Tracer
 
     private static void startTrace( final Trace trace )
     {
-        if ( trace == null )
+        if ( trace == null || trace.isNoop() )
         {
             return;
         }
@@ -176,7 +183,7 @@ public final class Tracer
 
     private static void endTrace( final Trace trace )
     {
-        if ( trace == null )
+        if ( trace == null || trace.isNoop() )
         {
             return;
         }
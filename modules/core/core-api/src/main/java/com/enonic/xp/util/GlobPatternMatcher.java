@@ -1,5 +1,7 @@
 package com.enonic.xp.util;
 
+import java.util.regex.Pattern;
+
 public class GlobPatternMatcher
 {
 
@@ -10,6 +12,11 @@ public class GlobPatternMatcher
         return value.matches( pathExpr );
     }
 
+    public static Pattern compile( final String pattern, final String separator )
+    {
+        return Pattern.compile( convertGlobToRegex( pattern, separator ) );
+    }
+
     private static String convertGlobToRegex( String pattern, final String separator )
     {
         pattern = pattern.replace( separator, "\\" + separator );
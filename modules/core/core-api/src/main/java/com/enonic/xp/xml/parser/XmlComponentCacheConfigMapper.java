@@ -0,0 +1,40 @@
+package com.enonic.xp.xml.parser;
+
+import java.time.Duration;
+
+import com.enonic.xp.region.ComponentCacheConfig;
+import com.enonic.xp.xml.DomElement;
+import com.enonic.xp.xml.XmlException;
+
+final class XmlComponentCacheConfigMapper
+{
+    public ComponentCacheConfig build( final DomElement root )
+    {
+        if ( root == null )
+        {
+            return null;
+        }
+
+        final ComponentCacheConfig.Builder builder = ComponentCacheConfig.create();
+        builder.ttl( Duration.ofSeconds( Long.parseLong( root.getAttribute( "ttl" ).trim() ) ) );
+        for ( final DomElement child : root.getChildren( "vary-by" ) )
+        {
+            builder.varyBy( checkVaryBy( child.getValue().trim() ) );
+        }
+        return builder.build();
+    }
+
+    private static String checkVaryBy( final String varyBy )
+    {
+        if ( "params".equals( varyBy ) || "user".equals( varyBy ) || hasName( varyBy, "header:" ) || hasName( varyBy, "cookie:" ) )
+        {
+            return varyBy;
+        }
+        throw new XmlException( "Unknown vary-by value [" + varyBy + "]" );
+    }
+
+    private static boolean hasName( final String varyBy, final String prefix )
+    {
+        return varyBy.startsWith( prefix ) && varyBy.length() > prefix.length();
+    }
+}
@@ -10,6 +10,8 @@ public final class XmlLayoutDescriptorParser
 {
     private static final XmlInputTypeConfigMapper CONFIG_MAPPER = new XmlInputTypeConfigMapper();
 
+    private static final XmlComponentCacheConfigMapper CACHE_CONFIG_MAPPER = new XmlComponentCacheConfigMapper();
+
     private LayoutDescriptor.Builder builder;
 
     public XmlLayoutDescriptorParser builder( final LayoutDescriptor.Builder builder )
@@ -37,5 +39,6 @@ public final class XmlLayoutDescriptorParser
         final XmlRegionDescriptorsMapper regionsMapper = new XmlRegionDescriptorsMapper();
         this.builder.regions( regionsMapper.buildRegions( root.getChild( "regions" ) ) );
         this.builder.schemaConfig( CONFIG_MAPPER.build( root.getChild( "config" ) ) );
+        this.builder.cacheConfig( CACHE_CONFIG_MAPPER.build( root.getChild( "cache" ) ) );
     }
 }
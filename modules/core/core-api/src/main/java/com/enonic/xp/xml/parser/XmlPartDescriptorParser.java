@@ -10,6 +10,8 @@ public final class XmlPartDescriptorParser
 {
     private static final XmlInputTypeConfigMapper CONFIG_MAPPER = new XmlInputTypeConfigMapper();
 
+    private static final XmlComponentCacheConfigMapper CACHE_CONFIG_MAPPER = new XmlComponentCacheConfigMapper();
+
     private PartDescriptor.Builder builder;
 
     public XmlPartDescriptorParser builder( final PartDescriptor.Builder builder )
@@ -35,5 +37,6 @@ public final class XmlPartDescriptorParser
         final XmlFormMapper mapper = new XmlFormMapper( this.currentApplication );
         this.builder.config( mapper.buildForm( root.getChild( "form" ) ) );
         this.builder.schemaConfig( CONFIG_MAPPER.build( root.getChild( "config" ) ) );
+        this.builder.cacheConfig( CACHE_CONFIG_MAPPER.build( root.getChild( "cache" ) ) );
     }
 }
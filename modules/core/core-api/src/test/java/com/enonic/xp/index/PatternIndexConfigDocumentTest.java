@@ -1,5 +1,7 @@
 package com.enonic.xp.index;
 
+import java.util.regex.PatternSyntaxException;
+
 import org.junit.jupiter.api.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -7,6 +9,7 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import com.enonic.xp.data.PropertyPath;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class PatternIndexConfigDocumentTest
 {
@@ -61,9 +64,51 @@ public class PatternIndexConfigDocumentTest
         assertEquals( IndexConfig.MINIMAL, config.getConfigForPath( PropertyPath.from( "page", "region" ) ) );
     }
 
+    @Test
+    public void pattern_single_star_match()
+    {
+        final PatternIndexConfigDocument config = PatternIndexConfigDocument.create().
+            add( "x.*", IndexConfig.NONE ).
+            add( "x.myapp.mixin", IndexConfig.FULLTEXT ).
+            add( "data.tags", IndexConfig.PATH ).
+            defaultConfig( IndexConfig.MINIMAL ).
+            build();
+
+        assertEquals( IndexConfig.NONE, config.getConfigForPath( PropertyPath.from( "x", "myapp" ) ) );
+        assertEquals( IndexConfig.FULLTEXT, config.getConfigForPath( PropertyPath.from( "x", "myapp", "mixin", "value" ) ) );
+        assertEquals( IndexConfig.MINIMAL, config.getConfigForPath( PropertyPath.from( "x", "myapp", "other" ) ) );
+        assertEquals( IndexConfig.PATH, config.getConfigForPath( PropertyPath.from( "data", "tagsOld" ) ) );
+        assertEquals( IndexConfig.PATH, config.getConfigForPath( PropertyPath.from( "data.tags[2]" ) ) );
+    }
+
+    @Test
+    public void exact_match_ignores_case()
+    {
+        final PatternIndexConfigDocument config = PatternIndexConfigDocument.create().
+            add( "data.**", IndexConfig.NONE ).
+            add( "data.myTitle", IndexConfig.FULLTEXT ).
+            build();
+
+        assertEquals( IndexConfig.FULLTEXT, config.getConfigForPath( PropertyPath.from( "data", "myTitle" ) ) );
+        assertEquals( IndexConfig.FULLTEXT, config.getConfigForPath( IndexPath.from( "data.MYTITLE" ) ) );
+        assertEquals( IndexConfig.NONE, config.getConfigForPath( IndexPath.from( "data.mytitle.sub" ) ) );
+    }
+
+    @Test
+    void malformed_pattern_fails_on_lookup()
+    {
+        final PatternIndexConfigDocument config = PatternIndexConfigDocument.create().
+            add( "data.[a", IndexConfig.NONE ).
+            add( "page", IndexConfig.MINIMAL ).
+            build();
+
+        assertEquals( IndexConfig.MINIMAL, config.getConfigForPath( PropertyPath.from( "page" ) ) );
+        assertThrows( PatternSyntaxException.class, () -> config.getConfigForPath( PropertyPath.from( "data", "a" ) ) );
+    }
+
     @Test
     void equalsContract()
     {
-        EqualsVerifier.forClass( PatternIndexConfigDocument.class ).withRedefinedSuperclass().withIgnoredFields( "pathIndexConfigMap" ).verify();
+        EqualsVerifier.forClass( PatternIndexConfigDocument.class ).withRedefinedSuperclass().withIgnoredFields( "pathIndexConfigMap", "matcher" ).verify();
     }
 }
@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -147,6 +148,24 @@ class TracerTest
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void trace_noop( @Mock final Consumer<Trace> before, @Mock final BiConsumer<Trace, Object> after, @Mock final Supplier<Object> call )
+    {
+        when( this.manager.newTrace( eq( "noop" ), any() ) ).thenReturn( trace );
+        when( trace.isNoop() ).thenReturn( true );
+
+        Tracer.trace( "noop", before, () -> {
+            assertSame( this.trace, Tracer.current() );
+            Tracer.withCurrent( before );
+            return call.get();
+        }, after );
+
+        verifyNoInteractions( before, after );
+        verify( call, times( 1 ) ).get();
+        verify( this.trace, never() ).start();
+        verify( this.manager, never() ).dispatch( any() );
+    }
+
     @Test
     void testTrace()
         throws Exception
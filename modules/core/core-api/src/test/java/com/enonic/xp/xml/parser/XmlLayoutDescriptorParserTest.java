@@ -12,6 +12,7 @@ import com.enonic.xp.region.RegionDescriptors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class XmlLayoutDescriptorParserTest
     extends XmlModelParserTest
@@ -79,5 +80,7 @@ public class XmlLayoutDescriptorParserTest
         assertNotNull( regions );
         assertEquals( 3, regions.numberOfRegions() );
         assertNotNull( regions.getRegionDescriptor( "header" ) );
+
+        assertNull( result.getCacheConfig() );
     }
 }
@@ -1,5 +1,8 @@
 package com.enonic.xp.xml.parser;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -7,10 +10,13 @@ import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.form.Form;
 import com.enonic.xp.inputtype.InputTypeName;
 import com.enonic.xp.page.DescriptorKey;
+import com.enonic.xp.region.ComponentCacheConfig;
 import com.enonic.xp.region.PartDescriptor;
+import com.enonic.xp.xml.XmlException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class XmlPartDescriptorParserTest
     extends XmlModelParserTest
@@ -46,6 +52,12 @@ public class XmlPartDescriptorParserTest
         assertResult();
     }
 
+    @Test
+    public void testParse_unknownVaryBy()
+    {
+        assertThrows( XmlException.class, () -> parse( this.parser, "-unknownVaryBy.xml" ) );
+    }
+
     private void assertResult()
         throws Exception
     {
@@ -67,5 +79,10 @@ public class XmlPartDescriptorParserTest
         assertEquals( "key.help-text", config.getFormItem( "width" ).toInput().getHelpTextI18nKey() );
 
         assertEquals( "link-urls", config.getFormItem( "link-urls" ).toInlineMixin().getName() );
+
+        final ComponentCacheConfig cacheConfig = result.getCacheConfig();
+        assertNotNull( cacheConfig );
+        assertEquals( Duration.ofMinutes( 5 ), cacheConfig.getTtl() );
+        assertEquals( List.of( "params", "header:Accept-Language" ), cacheConfig.getVaryBy().asList() );
     }
 }
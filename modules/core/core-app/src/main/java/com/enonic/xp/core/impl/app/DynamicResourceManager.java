@@ -1,9 +1,11 @@
 package com.enonic.xp.core.impl.app;
 
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.enonic.xp.app.ApplicationKey;
+import com.enonic.xp.core.impl.app.resource.ResourceServiceInternal;
 import com.enonic.xp.data.PropertyTree;
 import com.enonic.xp.node.CreateNodeParams;
 import com.enonic.xp.node.DeleteNodeParams;
@@ -24,15 +26,19 @@ final class DynamicResourceManager
 
     private final ResourceService resourceService;
 
-    DynamicResourceManager( final NodeService nodeService, final ResourceService resourceService )
+    private final ResourceServiceInternal resourceServiceInternal;
+
+    DynamicResourceManager( final NodeService nodeService, final ResourceService resourceService,
+                            final ResourceServiceInternal resourceServiceInternal )
     {
         this.nodeService = nodeService;
         this.resourceService = resourceService;
+        this.resourceServiceInternal = resourceServiceInternal;
     }
 
     Resource createResource( final NodePath folderPath, final String name, final String resource )
     {
-        return VirtualAppContext.createContext().callWith( () -> {
+        return invalidateAfter( folderPath, () -> VirtualAppContext.createContext().callWith( () -> {
 
             Node resourceFolder = nodeService.getByPath( folderPath );
             if ( resourceFolder == null )
@@ -61,12 +67,12 @@ final class DynamicResourceManager
                                                             .build() );
 
             return new NodeValueResource( ResourceKey.from( appKeyFromNodePath( folderPath), resourcePathFromNodePath( schemaNode.path() ) ), schemaNode );
-        } );
+        } ) );
     }
 
     Resource updateResource( final NodePath folderPath, final String name, final String resource )
     {
-        return VirtualAppContext.createContext().callWith( () -> {
+        return invalidateAfter( folderPath, () -> VirtualAppContext.createContext().callWith( () -> {
 
             final PropertyTree resourceData = new PropertyTree();
 
@@ -83,7 +89,7 @@ final class DynamicResourceManager
 
             return new NodeValueResource(
                 ResourceKey.from( appKeyFromNodePath( schemaNode.path() ), resourcePathFromNodePath( schemaNode.path() ) ), schemaNode );
-        } );
+        } ) );
     }
 
     boolean resourceNodeExists( final NodePath folderPath, final String name )
@@ -111,7 +117,7 @@ final class DynamicResourceManager
 
     boolean deleteResource( final NodePath folderPath, final String name, final boolean deleteFolder )
     {
-        return VirtualAppContext.createContext()
+        return invalidateAfter( folderPath, () -> VirtualAppContext.createContext()
             .callWith( () -> nodeService.delete( DeleteNodeParams.create()
                                                      .nodePath( deleteFolder
                                                                     ? folderPath
@@ -119,7 +125,20 @@ final class DynamicResourceManager
                                                      .refresh( RefreshMode.ALL )
                                                      .build() ) )
             .getNodeBranchEntries()
-            .isNotEmpty();
+            .isNotEmpty() );
+    }
+
+    // compiled resources of the application are dropped before the write returns, node events only reach the cache later
+    private <T> T invalidateAfter( final NodePath folderPath, final Supplier<T> write )
+    {
+        try
+        {
+            return write.get();
+        }
+        finally
+        {
+            resourceServiceInternal.invalidateCompiled( appKeyFromNodePath( folderPath ) );
+        }
     }
 
     public static ApplicationKey appKeyFromNodePath( final NodePath path )
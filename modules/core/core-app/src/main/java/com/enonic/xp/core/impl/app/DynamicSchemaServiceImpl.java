@@ -10,6 +10,7 @@ import org.osgi.service.component.annotations.Reference;
 
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.core.impl.app.resource.ResourceServiceInternal;
 import com.enonic.xp.exception.ForbiddenAccessException;
 import com.enonic.xp.node.NodeName;
 import com.enonic.xp.node.NodePath;
@@ -62,9 +63,10 @@ public class DynamicSchemaServiceImpl
     private final DynamicResourceParser dynamicResourceParser;
 
     @Activate
-    public DynamicSchemaServiceImpl( @Reference final NodeService nodeService, @Reference final ResourceService resourceService )
+    public DynamicSchemaServiceImpl( @Reference final NodeService nodeService, @Reference final ResourceService resourceService,
+                                     @Reference final ResourceServiceInternal resourceServiceInternal )
     {
-        this.dynamicResourceManager = new DynamicResourceManager( nodeService, resourceService );
+        this.dynamicResourceManager = new DynamicResourceManager( nodeService, resourceService, resourceServiceInternal );
         this.dynamicResourceParser = new DynamicResourceParser();
     }
 
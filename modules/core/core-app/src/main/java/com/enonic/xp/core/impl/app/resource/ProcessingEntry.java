@@ -10,10 +10,18 @@ final class ProcessingEntry
 
     final long timestamp;
 
+    final long generation;
+
     ProcessingEntry( final ResourceKey key, final Object value, final long timestamp )
+    {
+        this( key, value, timestamp, 0 );
+    }
+
+    ProcessingEntry( final ResourceKey key, final Object value, final long timestamp, final long generation )
     {
         this.key = key;
         this.value = value;
         this.timestamp = timestamp;
+        this.generation = generation;
     }
 }
@@ -1,9 +1,12 @@
 package com.enonic.xp.core.impl.app.resource;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import org.osgi.service.component.annotations.Activate;
@@ -17,17 +20,21 @@ import com.enonic.xp.app.ApplicationInvalidator;
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.core.impl.app.ApplicationFactoryService;
+import com.enonic.xp.core.impl.app.VirtualAppConstants;
 import com.enonic.xp.core.impl.app.resolver.ApplicationUrlResolver;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
 import com.enonic.xp.resource.Resource;
 import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.resource.ResourceKeys;
 import com.enonic.xp.resource.ResourceProcessor;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.resource.UrlResource;
+import com.enonic.xp.server.RunMode;
 
 @Component(immediate = true)
 public final class ResourceServiceImpl
-    implements ResourceService, ApplicationInvalidator
+    implements ResourceService, ResourceServiceInternal, ApplicationInvalidator, EventListener
 {
     private static final Logger LOG = LoggerFactory.getLogger( ResourceServiceImpl.class );
 
@@ -35,13 +42,28 @@ public final class ResourceServiceImpl
 
     private final ConcurrentMap<ProcessingKey, ProcessingEntry> cache;
 
+    private final ConcurrentMap<ProcessingKey, ProcessingEntry> compiledCache;
+
+    // invalidations of compiled resources by application, to detect entries compiled from resources read before an invalidation
+    private final ConcurrentMap<ApplicationKey, AtomicLong> compiledGenerations;
+
     private final ApplicationFactoryService applicationFactoryService;
 
+    private final boolean compiled;
+
     @Activate
     public ResourceServiceImpl( @Reference final ApplicationFactoryService applicationFactoryService )
+    {
+        this( applicationFactoryService, RunMode.get() );
+    }
+
+    ResourceServiceImpl( final ApplicationFactoryService applicationFactoryService, final RunMode runMode )
     {
         this.cache = new ConcurrentHashMap<>();
+        this.compiledCache = new ConcurrentHashMap<>();
+        this.compiledGenerations = new ConcurrentHashMap<>();
         this.applicationFactoryService = applicationFactoryService;
+        this.compiled = runMode != RunMode.DEV;
     }
 
     @Override
@@ -66,8 +88,17 @@ public final class ResourceServiceImpl
 
     private Optional<ApplicationUrlResolver> findApplicationUrlResolver( final ApplicationKey key )
     {
-        final String resolverSource = (String) ContextAccessor.current().getAttribute( ResourceConstants.RESOURCE_SOURCE_ATTRIBUTE );
-        return applicationFactoryService.findResolver( isSystemApp( key ) ? SYSTEM_APPLICATION_KEY : key, resolverSource );
+        return applicationFactoryService.findResolver( isSystemApp( key ) ? SYSTEM_APPLICATION_KEY : key, resolverSource() );
+    }
+
+    private static String resolverSource()
+    {
+        return (String) ContextAccessor.current().getAttribute( ResourceConstants.RESOURCE_SOURCE_ATTRIBUTE );
+    }
+
+    private boolean isCompiled()
+    {
+        return this.compiled && resolverSource() == null;
     }
 
     private boolean isSystemApp( final ApplicationKey key )
@@ -78,6 +109,11 @@ public final class ResourceServiceImpl
     @Override
     public <K, V> V processResource( final ResourceProcessor<K, V> processor )
     {
+        if ( isCompiled() )
+        {
+            return processCompiled( processor );
+        }
+
         final ProcessingEntry entry = this.cache.compute( new ProcessingKey( processor.getSegment(), processor.getKey() ), ( k, v ) -> {
             final Resource resource = this.getResource( processor.toResourceKey() );
             if ( v == null || !resource.exists() || resource.getTimestamp() > v.timestamp )
@@ -99,6 +135,38 @@ public final class ResourceServiceImpl
         return entry != null ? (V) entry.value : null;
     }
 
+    @SuppressWarnings("unchecked")
+    private <K, V> V processCompiled( final ResourceProcessor<K, V> processor )
+    {
+        final ProcessingKey processingKey = new ProcessingKey( processor.getSegment(), processor.getKey() );
+        final AtomicLong generation = compiledGeneration( processor.toResourceKey().getApplicationKey() );
+
+        ProcessingEntry entry = compile( processingKey, processor, generation.get() );
+        if ( entry != null && entry.generation != generation.get() )
+        {
+            // compiled while the application was invalidated, the resource may have been read before the invalidation
+            this.compiledCache.remove( processingKey, entry );
+            entry = compile( processingKey, processor, generation.get() );
+        }
+
+        return entry != null ? (V) entry.value : null;
+    }
+
+    private <K, V> ProcessingEntry compile( final ProcessingKey processingKey, final ResourceProcessor<K, V> processor,
+                                            final long generation )
+    {
+        return this.compiledCache.computeIfAbsent( processingKey, k -> {
+            final Resource resource = this.getResource( processor.toResourceKey() );
+            final V value = processor.process( resource );
+            return value != null ? new ProcessingEntry( processor.toResourceKey(), value, resource.getTimestamp(), generation ) : null;
+        } );
+    }
+
+    private AtomicLong compiledGeneration( final ApplicationKey key )
+    {
+        return this.compiledGenerations.computeIfAbsent( isSystemApp( key ) ? SYSTEM_APPLICATION_KEY : key, k -> new AtomicLong() );
+    }
+
     @Override
     @Deprecated
     public void invalidate( final ApplicationKey key )
@@ -111,5 +179,60 @@ public final class ResourceServiceImpl
     {
         LOG.debug( "Cleanup Resource cache for {}", key );
         this.cache.entrySet().removeIf( entry -> entry.getValue().key.getApplicationKey().equals( key ) );
+        invalidateCompiled( key );
+    }
+
+    @Override
+    public void onEvent( final Event event )
+    {
+        if ( event.isType( "application" ) )
+        {
+            event.getValueAs( String.class, "applicationKey" ).map( ApplicationKey::from ).ifPresent( this::invalidateCompiled );
+        }
+        else if ( event.isSubType( "node" ) )
+        {
+            invalidateDynamicSchemas( event );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void invalidateDynamicSchemas( final Event event )
+    {
+        final Object nodes = event.getData().get( "nodes" );
+        if ( !( nodes instanceof List ) )
+        {
+            return;
+        }
+
+        for ( Map<String, String> node : (List<Map<String, String>>) nodes )
+        {
+            if ( VirtualAppConstants.VIRTUAL_APP_REPO_ID.toString().equals( node.get( "repo" ) ) )
+            {
+                invalidateNodePath( node.get( "path" ) );
+                invalidateNodePath( node.get( "newPath" ) );
+            }
+        }
+    }
+
+    private void invalidateNodePath( final String path )
+    {
+        if ( path == null || path.length() <= 1 )
+        {
+            return;
+        }
+
+        final int end = path.indexOf( '/', 1 );
+        invalidateCompiled( ApplicationKey.from( end == -1 ? path.substring( 1 ) : path.substring( 1, end ) ) );
+    }
+
+    @Override
+    public void invalidateCompiled( final ApplicationKey key )
+    {
+        final boolean system = SYSTEM_APPLICATION_KEY.equals( key ) || isSystemApp( key );
+        compiledGeneration( key ).incrementAndGet();
+        this.compiledCache.entrySet().removeIf( entry -> {
+            final ApplicationKey entryKey = entry.getValue().key.getApplicationKey();
+            return entryKey.equals( key ) || ( system && isSystemApp( entryKey ) );
+        } );
     }
 }
@@ -0,0 +1,8 @@
+package com.enonic.xp.core.impl.app.resource;
+
+import com.enonic.xp.app.ApplicationKey;
+
+public interface ResourceServiceInternal
+{
+    void invalidateCompiled( ApplicationKey key );
+}
@@ -5,8 +5,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Dictionary;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,7 @@ import com.enonic.xp.core.impl.app.VirtualAppConstants;
 import com.enonic.xp.core.impl.app.resolver.ApplicationUrlResolver;
 import com.enonic.xp.core.impl.app.resolver.NodeResourceApplicationUrlResolver;
 import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.event.Event;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeName;
 import com.enonic.xp.node.NodePath;
@@ -35,12 +41,14 @@ import com.enonic.xp.resource.Resource;
 import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.resource.ResourceKeys;
 import com.enonic.xp.resource.ResourceProcessor;
+import com.enonic.xp.server.RunMode;
 
 import static com.enonic.xp.core.impl.app.ApplicationManifestConstants.X_PROJECT_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -241,6 +249,109 @@ class ResourceServiceImplTest
         } );
     }
 
+    @Test
+    void testProcessResource_compiled()
+        throws Exception
+    {
+        newFile( "a.txt" );
+        assertEquals( "myapp:/a.txt->1", processResource( "segment1", "a.txt", "1" ) );
+
+        Files.delete( appDir.resolve( "a.txt" ) );
+        assertEquals( "myapp:/a.txt->1", processResource( "segment1", "a.txt", "2" ) );
+
+        this.resourceService.onEvent( Event.create( "node.updated" )
+                                          .value( "nodes", List.of( Map.of( "id", "1", "path", "/otherapp/site/parts/a/a.xml", "branch",
+                                                                            "master", "repo", "system.app" ) ) )
+                                          .build() );
+        assertEquals( "myapp:/a.txt->1", processResource( "segment1", "a.txt", "3" ) );
+
+        this.resourceService.onEvent( Event.create( "node.updated" )
+                                          .value( "nodes", List.of( Map.of( "id", "1", "path", "/myapp/site/parts/a/a.xml", "branch",
+                                                                            "master", "repo", "system.app" ) ) )
+                                          .build() );
+        assertNull( processResource( "segment1", "a.txt", "4" ) );
+    }
+
+    @Test
+    void testProcessResource_compiledNotFound()
+        throws Exception
+    {
+        assertNull( processResource( "segment1", "a.txt", "1" ) );
+
+        newFile( "a.txt" );
+        assertEquals( "myapp:/a.txt->2", processResource( "segment1", "a.txt", "2" ) );
+        assertEquals( "myapp:/a.txt->2", processResource( "segment1", "a.txt", "3" ) );
+
+        this.resourceService.onEvent(
+            Event.create( "application" ).value( "eventType", "STARTED" ).value( "applicationKey", "myapp" ).build() );
+        assertEquals( "myapp:/a.txt->4", processResource( "segment1", "a.txt", "4" ) );
+    }
+
+    @Test
+    void testProcessResource_compiledInvalidated()
+        throws Exception
+    {
+        newFile( "a.txt" );
+        assertEquals( "myapp:/a.txt->1", processResource( "segment1", "a.txt", "1" ) );
+
+        this.resourceService.invalidateCompiled( ApplicationKey.from( "otherapp" ) );
+        assertEquals( "myapp:/a.txt->1", processResource( "segment1", "a.txt", "2" ) );
+
+        this.resourceService.invalidateCompiled( ApplicationKey.from( "myapp" ) );
+        assertEquals( "myapp:/a.txt->3", processResource( "segment1", "a.txt", "3" ) );
+    }
+
+    @Test
+    void testProcessResource_compiledInvalidatedWhileCompiling()
+        throws Exception
+    {
+        newFile( "a.txt" );
+
+        final CountDownLatch compiling = new CountDownLatch( 1 );
+        final CountDownLatch invalidated = new CountDownLatch( 1 );
+
+        final ResourceProcessor.Builder<String, String> processor = new ResourceProcessor.Builder<>();
+        processor.key( "a.txt" );
+        processor.keyTranslator( name -> ResourceKey.from( "myapp:/" + name ) );
+        processor.segment( "segment1" );
+        processor.processor( res -> {
+            compiling.countDown();
+            try
+            {
+                invalidated.await();
+            }
+            catch ( InterruptedException e )
+            {
+                throw new AssertionError( e );
+            }
+            return res.getKey().toString() + "->stale";
+        } );
+
+        final CompletableFuture<String> stale =
+            CompletableFuture.supplyAsync( () -> this.resourceService.processResource( processor.build() ) );
+        assertTrue( compiling.await( 5, TimeUnit.SECONDS ) );
+
+        this.resourceService.invalidateCompiled( ApplicationKey.from( "myapp" ) );
+        invalidated.countDown();
+        assertEquals( "myapp:/a.txt->stale", stale.get( 5, TimeUnit.SECONDS ) );
+
+        assertEquals( "myapp:/a.txt->2", processResource( "segment1", "a.txt", "2" ) );
+        assertEquals( "myapp:/a.txt->2", processResource( "segment1", "a.txt", "3" ) );
+    }
+
+    @Test
+    void testProcessResource_devMode()
+        throws Exception
+    {
+        resourceService = new ResourceServiceImpl( applicationFactoryService, RunMode.DEV );
+
+        newFile( "a.txt" );
+        assertEquals( "myapp:/a.txt->1", processResource( "segment1", "a.txt", "1" ) );
+
+        Files.delete( appDir.resolve( "a.txt" ) );
+        assertNull( processResource( "segment1", "a.txt", "2" ) );
+    }
+
     @Test
     void testProcessResource_notFound()
     {
@@ -36,7 +36,8 @@ class ContentQueryNodeQueryTranslator
             .addAggregationQueries( contentQuery.getAggregationQueries() )
             .addQueryFilters( contentQuery.getQueryFilters() )
             .addQueryFilter( contentCollectionFilter )
-            .highlight( contentQuery.getHighlight() );
+            .highlight( contentQuery.getHighlight() )
+            .cursor( contentQuery.getCursor() );
 
         processContentTypesNames( contentQuery, builder );
         processReferenceIds( contentQuery, builder );
@@ -67,6 +67,7 @@ final class FindContentIdsByQueryCommand
             hits( result.getHits() ).
             score( scoreValues ).
             totalHits( result.getTotalHits() ).
+            cursor( result.getCursor() ).
             build();
     }
 
@@ -2,6 +2,7 @@ package com.enonic.xp.core.impl.content;
 
 import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,10 +23,13 @@ import com.enonic.xp.archive.ArchiveConstants;
 import com.enonic.xp.content.Content;
 import com.enonic.xp.content.ContentConstants;
 import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentIds;
 import com.enonic.xp.content.ContentPath;
 import com.enonic.xp.content.ContentService;
+import com.enonic.xp.content.Contents;
 import com.enonic.xp.content.FindContentByParentParams;
 import com.enonic.xp.content.FindContentByParentResult;
+import com.enonic.xp.content.GetContentByIdsParams;
 import com.enonic.xp.context.Context;
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.context.ContextBuilder;
@@ -160,14 +164,14 @@ public final class ParentContentSynchronizer
 
             if ( result.getContents().isNotEmpty() )
             {
+                final LoadedContents targets = loadContents( result.getContents().getIds(), targetContexts.values() );
+
                 final List<ContentToSync> childrenToSync = result.getContents().stream().map( content -> {
-                    final Context actualTargetContext = getActualContext( content.getId(), targetContexts.values() );
+                    final Context actualTargetContext = targets.getContext( content.getId() );
 
                     return ContentToSync.create()
                         .sourceContent( content )
-                        .targetContent( actualTargetContext != null
-                                            ? actualTargetContext.callWith( () -> contentService.getById( content.getId() ) )
-                                            : null )
+                        .targetContent( targets.getContent( content.getId() ) )
                         .sourceContext( currentContentToSync.getSourceContext() )
                         .targetContext( actualTargetContext != null ? actualTargetContext : currentContentToSync.getTargetContext() )
                         .build();
@@ -238,14 +242,15 @@ public final class ParentContentSynchronizer
     private List<ContentToSync> createContentsToSync( final List<ContentId> contentIds, final Map<NodePath, Context> sourceContexts,
                                                       final Map<NodePath, Context> targetContexts )
     {
+        final LoadedContents sources = loadContents( contentIds, sourceContexts.values() );
+        final LoadedContents targets = loadContents( contentIds, targetContexts.values() );
+
         final List<ContentToSync> result = contentIds.stream().map( contentId -> {
-            Context actualSourceContext = getActualContext( contentId, sourceContexts.values() );
-            Context actualTargetContext = getActualContext( contentId, targetContexts.values() );
+            Context actualSourceContext = sources.getContext( contentId );
+            Context actualTargetContext = targets.getContext( contentId );
 
-            final Content sourceContent =
-                actualSourceContext != null ? actualSourceContext.callWith( () -> this.contentService.getById( contentId ) ) : null;
-            final Content targetContent =
-                actualTargetContext != null ? actualTargetContext.callWith( () -> this.contentService.getById( contentId ) ) : null;
+            final Content sourceContent = sources.getContent( contentId );
+            final Content targetContent = targets.getContent( contentId );
 
             if ( actualSourceContext != null )
             {
@@ -358,6 +363,25 @@ public final class ParentContentSynchronizer
         return Map.of( ContentConstants.CONTENT_ROOT_PATH, contentContext, ArchiveConstants.ARCHIVE_ROOT_PATH, archiveContext );
     }
 
+    private LoadedContents loadContents( final Iterable<ContentId> contentIds, final Collection<Context> contexts )
+    {
+        final LoadedContents result = new LoadedContents();
+
+        final ContentIds ids = ContentIds.from( contentIds );
+        if ( ids.isEmpty() )
+        {
+            return result;
+        }
+
+        for ( final Context context : contexts )
+        {
+            final Contents contents = context.callWith( () -> contentService.getByIds( new GetContentByIdsParams( ids ) ) );
+            contents.forEach( content -> result.add( content, context ) );
+        }
+
+        return result;
+    }
+
     private Context getActualContext( final ContentId contentId, final Collection<Context> contexts )
     {
         return contexts.stream()
@@ -385,4 +409,29 @@ public final class ParentContentSynchronizer
             .user( User.create().key( PrincipalKey.ofSuperUser() ).login( PrincipalKey.ofSuperUser().getId() ).build() )
             .build();
     }
+
+    private static final class LoadedContents
+    {
+        private final Map<ContentId, Content> contents = new HashMap<>();
+
+        private final Map<ContentId, Context> contexts = new HashMap<>();
+
+        void add( final Content content, final Context context )
+        {
+            if ( contents.putIfAbsent( content.getId(), content ) == null )
+            {
+                contexts.put( content.getId(), context );
+            }
+        }
+
+        Content getContent( final ContentId contentId )
+        {
+            return contents.get( contentId );
+        }
+
+        Context getContext( final ContentId contentId )
+        {
+            return contexts.get( contentId );
+        }
+    }
 }
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
@@ -13,12 +14,16 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+
 import com.enonic.xp.branch.Branch;
 import com.enonic.xp.content.ContentConstants;
 import com.enonic.xp.content.ContentId;
 import com.enonic.xp.context.Context;
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.context.ContextBuilder;
+import com.enonic.xp.core.internal.concurrent.PartitionedExecutor;
 import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
 import com.enonic.xp.event.Event;
 import com.enonic.xp.event.EventListener;
@@ -31,6 +36,7 @@ import com.enonic.xp.security.PrincipalKey;
 import com.enonic.xp.security.RoleKeys;
 import com.enonic.xp.security.User;
 import com.enonic.xp.security.auth.AuthenticationInfo;
+import com.enonic.xp.util.Metrics;
 
 @Component(immediate = true)
 public final class ProjectContentEventListener
@@ -42,7 +48,13 @@ public final class ProjectContentEventListener
 
     private final ContentEventsSynchronizer contentSynchronizer;
 
-    private final SimpleExecutor simpleExecutor;
+    private static final int PARTITION_COUNT = Math.max( 2, Math.min( Runtime.getRuntime().availableProcessors(), 8 ) );
+
+    private final SimpleExecutor dispatcher;
+
+    private final PartitionedExecutor executor;
+
+    private final Timer syncLag;
 
     @Activate
     public ProjectContentEventListener( @Reference final ProjectService projectService,
@@ -51,15 +63,24 @@ public final class ProjectContentEventListener
         this.projectService = projectService;
         this.contentSynchronizer = contentSynchronizer;
 
-        this.simpleExecutor = new SimpleExecutor( Executors::newSingleThreadExecutor, "project-node-sync-thread",
-                                                  e -> LOG.error( "Project node sync failed", e ) );
+        this.dispatcher = new SimpleExecutor( Executors::newSingleThreadExecutor, "project-node-event-thread-%d",
+                                              e -> LOG.error( "Project node event dispatch failed", e ) );
+        this.executor = new PartitionedExecutor( PARTITION_COUNT, "project-node-sync-thread-%d",
+                                                 e -> LOG.error( "Project node sync failed", e ) );
+
+        Metrics.removeAll( ProjectContentEventListener.class );
+        this.syncLag = Metrics.timer( ProjectContentEventListener.class, "lag" );
+        Metrics.register( ProjectContentEventListener.class, "backlog", (Gauge<Integer>) this.executor::getPendingCount );
     }
 
     @Deactivate
     public void deactivate()
     {
-        this.simpleExecutor.shutdownAndAwaitTermination( Duration.ZERO, neverCommenced -> {
+        this.dispatcher.shutdownAndAwaitTermination( Duration.ZERO, neverCommenced -> {
+        } );
+        this.executor.shutdownAndAwaitTermination( Duration.ZERO, neverCommenced -> {
         } );
+        Metrics.removeAll( ProjectContentEventListener.class );
     }
 
     @Override
@@ -86,7 +107,10 @@ public final class ProjectContentEventListener
 
         if ( isContentEvent )
         {
-            this.simpleExecutor.execute( () -> doHandleContentEvent( nodes, event.getType() ) );
+            final long receivedAt = System.nanoTime();
+
+            // syncs are submitted by a single thread in event order, so syncs into the same project run in event order
+            this.dispatcher.execute( () -> doHandleContentEvent( nodes, event.getType(), receivedAt ) );
         }
     }
 
@@ -97,7 +121,7 @@ public final class ProjectContentEventListener
             "node.deleted".equals( type ) || "node.sorted".equals( type ) || "node.manualOrderUpdated".equals( type );
     }
 
-    private void doHandleContentEvent( final List<Map<String, String>> nodes, final String type )
+    private void doHandleContentEvent( final List<Map<String, String>> nodes, final String type, final long receivedAt )
     {
         createAdminContext().runWith( () -> {
 
@@ -176,7 +200,7 @@ public final class ProjectContentEventListener
                     final ContentEventsSyncParams params = paramsBuilder.build();
                     if ( params.getSyncType() != null )
                     {
-                        contentSynchronizer.sync( params );
+                        submitSync( targetProject.getName(), receivedAt, () -> contentSynchronizer.sync( params ) );
                     }
                 } );
 
@@ -185,17 +209,29 @@ public final class ProjectContentEventListener
                 this.projectService.list()
                     .stream()
                     .filter( project -> project.getName().equals( sourceProject.getParent() ) )
-                    .forEach( parentProject -> contentSynchronizer.sync( ContentSyncParams.create()
-                                                                             .addContentIds( contentIds )
-                                                                             .sourceProject( parentProject.getName() )
-                                                                             .targetProject( sourceProject.getName() )
-                                                                             .build() )
-
-                    );
+                    .forEach( parentProject -> {
+                        final ContentSyncParams params = ContentSyncParams.create()
+                            .addContentIds( contentIds )
+                            .sourceProject( parentProject.getName() )
+                            .targetProject( sourceProject.getName() )
+                            .build();
+
+                        submitSync( sourceProject.getName(), receivedAt, () -> contentSynchronizer.sync( params ) );
+                    } );
             }
         } );
     }
 
+    private void submitSync( final ProjectName targetProject, final long receivedAt, final Runnable sync )
+    {
+        final Context context = ContextAccessor.current();
+
+        this.executor.execute( targetProject, () -> {
+            syncLag.update( System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS );
+            context.runWith( sync );
+        } );
+    }
+
     private Context createAdminContext()
     {
         final AuthenticationInfo authInfo = createAdminAuthInfo();
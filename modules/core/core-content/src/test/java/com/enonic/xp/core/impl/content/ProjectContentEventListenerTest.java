@@ -0,0 +1,93 @@
+package com.enonic.xp.core.impl.content;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.project.Project;
+import com.enonic.xp.project.ProjectName;
+import com.enonic.xp.project.ProjectService;
+import com.enonic.xp.project.Projects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+
+public class ProjectContentEventListenerTest
+{
+    private static final ProjectName PARENT = ProjectName.from( "parent" );
+
+    private static final ProjectName LAYER = ProjectName.from( "layer" );
+
+    private final List<ContentId> synced = new CopyOnWriteArrayList<>();
+
+    private ProjectContentEventListener listener;
+
+    @BeforeEach
+    void setUp()
+    {
+        final Project parent = Project.create().name( PARENT ).displayName( "parent" ).build();
+        final Project layer = Project.create().name( LAYER ).displayName( "layer" ).parent( PARENT ).build();
+
+        final ProjectService projectService = Mockito.mock( ProjectService.class );
+        Mockito.when( projectService.get( PARENT ) ).thenReturn( parent );
+        Mockito.when( projectService.get( LAYER ) ).thenReturn( layer );
+        Mockito.when( projectService.list() ).thenReturn( Projects.from( List.of( parent, layer ) ) );
+
+        final ContentEventsSynchronizer synchronizer = Mockito.mock( ContentEventsSynchronizer.class );
+        Mockito.doAnswer( invocation -> synced.addAll( invocation.<ContentEventsSyncParams>getArgument( 0 ).getContentIds() ) )
+            .when( synchronizer )
+            .sync( any( ContentEventsSyncParams.class ) );
+        Mockito.doAnswer( invocation -> synced.addAll( invocation.<ContentSyncParams>getArgument( 0 ).getContentIds() ) )
+            .when( synchronizer )
+            .sync( any( ContentSyncParams.class ) );
+
+        listener = new ProjectContentEventListener( projectService, synchronizer );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        listener.deactivate();
+    }
+
+    @Test
+    void syncsIntoProjectInEventOrder()
+        throws Exception
+    {
+        final List<ContentId> expected = new ArrayList<>();
+        for ( int i = 0; i < 50; i++ )
+        {
+            // an update in the parent is synced into the layer, a delete in the layer is synced again from the parent
+            final ContentId updated = ContentId.from( "updated" + i );
+            final ContentId deleted = ContentId.from( "deleted" + i );
+            listener.onEvent( event( "node.updated", PARENT, updated ) );
+            listener.onEvent( event( "node.deleted", LAYER, deleted ) );
+            expected.add( updated );
+            expected.add( deleted );
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+        while ( synced.size() < expected.size() && System.nanoTime() < deadline )
+        {
+            Thread.sleep( 10 );
+        }
+
+        assertEquals( expected, synced );
+    }
+
+    private static Event event( final String type, final ProjectName project, final ContentId contentId )
+    {
+        final Map<String, String> node = Map.of( "id", contentId.toString(), "path", "/content/" + contentId, "branch", "draft", "repo",
+                                                 project.getRepoId().toString() );
+        return Event.create( type ).distributed( true ).localOrigin( true ).value( "nodes", List.of( node ) ).build();
+    }
+}
@@ -7,4 +7,8 @@ public @interface ImageConfig
     int filters_maxTotal() default 25;
 
     String memoryLimit() default "10%";
+
+    long renditions_indexSize() default 10000;
+
+    String renditions_prewarm() default "";
 }
@@ -0,0 +1,112 @@
+package com.enonic.xp.core.impl.image;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import com.enonic.xp.core.impl.image.effect.ImageScaleFunction;
+
+/**
+ * Index of lossless images of cached scaled renditions, grouped by everything that makes renditions of the same source
+ * interchangeable: binary, cropping and orientation.
+ * <p>
+ * Only renditions of the whole cropped area without filters are indexed, so any smaller variant of the same group can be produced
+ * by scaling an indexed rendition instead of decoding the original binary, and encoded in any format.
+ */
+final class ImageRenditionIndex
+{
+    /**
+     * Minimum ratio between the sides of a rendition and the sides of a variant derived from it.
+     * Same as for subsampled decoding, so derived variants keep enough detail for a smooth result.
+     */
+    private static final int MIN_DOWNSCALE = 2;
+
+    private final Cache<String, List<Rendition>> renditions;
+
+    ImageRenditionIndex( final long maxSize )
+    {
+        this.renditions = maxSize > 0 ? CacheBuilder.newBuilder().maximumSize( maxSize ).build() : null;
+    }
+
+    boolean isEnabled()
+    {
+        return renditions != null;
+    }
+
+    void add( final String key, final Rendition rendition )
+    {
+        final List<Rendition> list = renditions.asMap().computeIfAbsent( key, k -> new CopyOnWriteArrayList<>() );
+        if ( list.stream().noneMatch( existing -> existing.path.equals( rendition.path ) ) )
+        {
+            list.add( rendition );
+        }
+    }
+
+    /**
+     * @return smallest indexed rendition large enough to derive the result of the scale function from, or {@code null}
+     */
+    Rendition find( final String key, final ImageScaleFunction scaleFunction )
+    {
+        final List<Rendition> list = renditions.getIfPresent( key );
+        if ( list == null )
+        {
+            return null;
+        }
+
+        Rendition best = null;
+        for ( Rendition rendition : list )
+        {
+            final long required = (long) MIN_DOWNSCALE * MIN_DOWNSCALE *
+                scaleFunction.estimateResolution( rendition.sourceWidth, rendition.sourceHeight );
+            if ( rendition.resolution() >= required && ( best == null || rendition.resolution() < best.resolution() ) )
+            {
+                if ( Files.exists( rendition.path ) )
+                {
+                    best = rendition;
+                }
+                else
+                {
+                    list.remove( rendition );
+                }
+            }
+        }
+        return best;
+    }
+
+    static final class Rendition
+    {
+        final Path path;
+
+        final int sourceWidth;
+
+        final int sourceHeight;
+
+        final int width;
+
+        final int height;
+
+        /**
+         * @param sourceWidth  width of the cropped area of the original image
+         * @param sourceHeight height of the cropped area of the original image
+         * @param width        width of the rendition
+         * @param height       height of the rendition
+         */
+        Rendition( final Path path, final int sourceWidth, final int sourceHeight, final int width, final int height )
+        {
+            this.path = path;
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+            this.width = width;
+            this.height = height;
+        }
+
+        long resolution()
+        {
+            return (long) width * height;
+        }
+    }
+}
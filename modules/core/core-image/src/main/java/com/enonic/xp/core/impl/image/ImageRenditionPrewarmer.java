@@ -0,0 +1,222 @@
+package com.enonic.xp.core.impl.image;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Splitter;
+
+import com.enonic.xp.attachment.Attachment;
+import com.enonic.xp.branch.Branch;
+import com.enonic.xp.content.Content;
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentNotFoundException;
+import com.enonic.xp.content.ContentPropertyNames;
+import com.enonic.xp.content.ContentService;
+import com.enonic.xp.content.Media;
+import com.enonic.xp.context.Context;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.context.ContextBuilder;
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
+import com.enonic.xp.image.ImageService;
+import com.enonic.xp.image.ReadImageParams;
+import com.enonic.xp.image.ScaleParams;
+import com.enonic.xp.image.ScaleParamsParser;
+import com.enonic.xp.media.ImageOrientation;
+import com.enonic.xp.media.MediaInfoService;
+import com.enonic.xp.node.Node;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeNotFoundException;
+import com.enonic.xp.node.NodeService;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.schema.content.ContentTypeName;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.RoleKeys;
+import com.enonic.xp.security.User;
+import com.enonic.xp.security.auth.AuthenticationInfo;
+
+/**
+ * Renders configured scales of images created or updated in draft, so they are cached before the first request.
+ * <p>
+ * Renditions use the same defaults as image requests without parameters, and are rendered in the configured order,
+ * so listing the largest scale first lets the smaller ones be derived from it.
+ */
+@Component(immediate = true, configurationPid = "com.enonic.xp.image")
+public final class ImageRenditionPrewarmer
+    implements EventListener
+{
+    private static final Logger LOG = LoggerFactory.getLogger( ImageRenditionPrewarmer.class );
+
+    private static final int MAX_QUEUED = 1_000;
+
+    private final ImageService imageService;
+
+    private final ContentService contentService;
+
+    private final MediaInfoService mediaInfoService;
+
+    private final NodeService nodeService;
+
+    private final List<ScaleParams> scales;
+
+    private final SimpleExecutor executor;
+
+    @Activate
+    public ImageRenditionPrewarmer( @Reference final ImageService imageService, @Reference final ContentService contentService,
+                                    @Reference final MediaInfoService mediaInfoService, @Reference final NodeService nodeService,
+                                    final ImageConfig config )
+    {
+        this.imageService = imageService;
+        this.contentService = contentService;
+        this.mediaInfoService = mediaInfoService;
+        this.nodeService = nodeService;
+
+        final ScaleParamsParser scaleParamsParser = new ScaleParamsParser();
+        this.scales = Splitter.on( ',' )
+            .trimResults()
+            .omitEmptyStrings()
+            .splitToList( config.renditions_prewarm() )
+            .stream()
+            .map( scaleParamsParser::parse )
+            .filter( Objects::nonNull )
+            .collect( Collectors.toUnmodifiableList() );
+
+        // prewarming is best effort, images changed faster than they are rendered are left to the first request
+        final Function<ThreadFactory, ExecutorService> executorServiceSupplier =
+            threadFactory -> new ThreadPoolExecutor( 1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>( MAX_QUEUED ),
+                                                     threadFactory, new ThreadPoolExecutor.DiscardPolicy() );
+
+        this.executor = new SimpleExecutor( executorServiceSupplier, "image-prewarm-thread",
+                                            e -> LOG.warn( "Image rendition prewarm failed", e ) );
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        this.executor.shutdownAndAwaitTermination( Duration.ZERO, neverCommenced -> {
+        } );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onEvent( final Event event )
+    {
+        if ( scales.isEmpty() || !event.isLocalOrigin() )
+        {
+            return;
+        }
+
+        if ( !"node.created".equals( event.getType() ) && !"node.updated".equals( event.getType() ) )
+        {
+            return;
+        }
+
+        final Object nodes = event.getData().get( "nodes" );
+        if ( !( nodes instanceof List ) )
+        {
+            return;
+        }
+
+        for ( Map<String, String> node : (List<Map<String, String>>) nodes )
+        {
+            final boolean draftContent =
+                ContentConstants.BRANCH_DRAFT.equals( Branch.from( node.get( "branch" ) ) ) && node.get( "path" ).startsWith( "/content/" );
+            if ( draftContent )
+            {
+                final ContentId contentId = ContentId.from( node.get( "id" ) );
+                final Context context = createAdminContext( RepositoryId.from( node.get( "repo" ) ) );
+                this.executor.execute( () -> context.runWith( () -> prewarm( contentId ) ) );
+            }
+        }
+    }
+
+    private void prewarm( final ContentId contentId )
+    {
+        final Content content;
+        try
+        {
+            // the content type of the node is checked first, so other contents are not loaded
+            final Node node = nodeService.getById( NodeId.from( contentId ) );
+            if ( !ContentTypeName.imageMedia().toString().equals( node.data().getString( ContentPropertyNames.TYPE ) ) )
+            {
+                return;
+            }
+            content = contentService.getById( contentId );
+        }
+        catch ( NodeNotFoundException | ContentNotFoundException e )
+        {
+            return;
+        }
+
+        if ( !( content instanceof Media ) || !content.getType().isImageMedia() )
+        {
+            return;
+        }
+
+        final Media media = (Media) content;
+        final Attachment attachment = media.getMediaAttachment();
+        if ( attachment == null )
+        {
+            return;
+        }
+
+        final ImageOrientation orientation = Objects.requireNonNullElseGet( media.getOrientation(), () -> Objects.requireNonNullElse(
+            mediaInfoService.getImageOrientation( contentService.getBinary( contentId, attachment.getBinaryReference() ), media ),
+            ImageOrientation.TopLeft ) );
+
+        for ( ScaleParams scale : scales )
+        {
+            final ReadImageParams readImageParams = ReadImageParams.newImageParams()
+                .contentId( contentId )
+                .binaryReference( attachment.getBinaryReference() )
+                .cropping( media.getCropping() )
+                .focalPoint( media.getFocalPoint() )
+                .orientation( orientation )
+                .scaleParams( scale )
+                .backgroundColor( ReadImageParams.DEFAULT_BACKGROUND_COLOR )
+                .quality( ReadImageParams.DEFAULT_QUALITY )
+                .mimeType( attachment.getMimeType() )
+                .build();
+            try
+            {
+                imageService.readImage( readImageParams );
+            }
+            catch ( Exception e )
+            {
+                LOG.debug( "Cannot prewarm {} of image {}", scale, contentId, e );
+                return;
+            }
+        }
+    }
+
+    private static Context createAdminContext( final RepositoryId repositoryId )
+    {
+        final AuthenticationInfo authInfo = AuthenticationInfo.create()
+            .principals( RoleKeys.ADMIN )
+            .user( User.create().key( PrincipalKey.ofSuperUser() ).login( PrincipalKey.ofSuperUser().getId() ).build() )
+            .build();
+        return ContextBuilder.from( ContextAccessor.current() )
+            .branch( ContentConstants.BRANCH_DRAFT )
+            .repositoryId( repositoryId )
+            .authInfo( authInfo )
+            .build();
+    }
+}
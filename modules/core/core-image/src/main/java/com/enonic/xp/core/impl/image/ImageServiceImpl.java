@@ -1,5 +1,6 @@
 package com.enonic.xp.core.impl.image;
 
+import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
@@ -9,10 +10,13 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.ImageTypeSpecifier;
 import javax.imageio.stream.ImageInputStream;
@@ -23,6 +27,7 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Meter;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSink;
@@ -37,8 +42,9 @@ import com.enonic.xp.image.ImageService;
 import com.enonic.xp.image.ReadImageParams;
 import com.enonic.xp.media.ImageOrientation;
 import com.enonic.xp.util.HexEncoder;
+import com.enonic.xp.util.Metrics;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.image")
 public class ImageServiceImpl
     implements ImageService
 {
@@ -54,6 +60,10 @@ public class ImageServiceImpl
 
     private final MemoryCircuitBreaker circuitBreaker;
 
+    private final ImageRenditionIndex renditionIndex;
+
+    private final Meter derived = Metrics.meter( ImageServiceImpl.class, "derived" );
+
     @Activate
     public ImageServiceImpl( @Reference final ContentService contentService,
                              @Reference final ImageScaleFunctionBuilder imageScaleFunctionBuilder,
@@ -65,6 +75,7 @@ public class ImageServiceImpl
 
         this.circuitBreaker = new MemoryCircuitBreaker(
             toMegaBytes( new MemoryLimitParser( Runtime.getRuntime()::maxMemory ).parse( config.memoryLimit() ) ) );
+        this.renditionIndex = new ImageRenditionIndex( config.renditions_indexSize() );
     }
 
     @Override
@@ -72,19 +83,30 @@ public class ImageServiceImpl
         throws IOException
     {
         NormalizedImageParams normalizedImageParams = new NormalizedImageParams( readImageParams );
-        final Path cachedImagePath = getCachedImagePath( normalizedImageParams );
-        return ImmutableFilesHelper.computeIfAbsent( cachedImagePath, sink -> writeImage( normalizedImageParams, sink ) );
+        //Source binary key
+        final String binaryKey =
+            contentService.getBinaryKey( normalizedImageParams.getContentId(), normalizedImageParams.getBinaryReference() );
+        final Path cachedImagePath = getCachedImagePath( normalizedImageParams, binaryKey );
+        final String renditionKey = isDerivable( normalizedImageParams ) ? getRenditionKey( normalizedImageParams, binaryKey ) : null;
+        return ImmutableFilesHelper.computeIfAbsent( cachedImagePath,
+                                                     sink -> writeImage( normalizedImageParams, renditionKey, cachedImagePath, sink ) );
     }
 
-    private boolean writeImage( final NormalizedImageParams readImageParams, final ByteSink sink )
+    private boolean writeImage( final NormalizedImageParams readImageParams, final String renditionKey, final Path path,
+                                final ByteSink sink )
     {
         try
         {
+            if ( renditionKey != null && deriveImage( readImageParams, renditionKey, path, sink ) )
+            {
+                return true;
+            }
+
             final ByteSource blob = contentService.getBinary( readImageParams.getContentId(), readImageParams.getBinaryReference() );
 
             if ( blob != null )
             {
-                return createImage( blob, readImageParams, sink );
+                return createImage( blob, readImageParams, renditionKey, path, sink );
             }
             return false;
         }
@@ -102,7 +124,32 @@ public class ImageServiceImpl
         return ImageHelper.getFormatByMimeType( mimeType );
     }
 
-    private Path getCachedImagePath( final NormalizedImageParams readImageParams )
+    private boolean isDerivable( final NormalizedImageParams readImageParams )
+    {
+        return renditionIndex.isEnabled() && readImageParams.getScaleParams() != null && readImageParams.getFilterParam().isEmpty();
+    }
+
+    /**
+     * Key of renditions that differ only in scale, so the larger ones can be scaled down to the smaller ones.
+     * Renditions are indexed by their lossless image, which is the same for any format, background and quality.
+     */
+    private static String getRenditionKey( final NormalizedImageParams readImageParams, final String binaryKey )
+    {
+        final String cropping = readImageParams.getCropping() == null ? "no-cropping" : readImageParams.getCropping().toString();
+        return String.join( "/", binaryKey, cropping, "orientation-" + readImageParams.getOrientation(),
+                            readImageParams.getBinaryReference().toString() );
+    }
+
+    /**
+     * Lossless image of a rendition, kept next to a rendition in a lossy format, so derived renditions do not scale up
+     * the compression artifacts of a larger one.
+     */
+    private static Path getLosslessPath( final NormalizedImageParams readImageParams, final Path path )
+    {
+        return "png".equals( readImageParams.getFormat() ) ? path : path.resolveSibling( path.getFileName() + ".png" );
+    }
+
+    private Path getCachedImagePath( final NormalizedImageParams readImageParams, final String binaryKey )
     {
         //Cropping string value
         final String cropping = readImageParams.getCropping() == null ? "no-cropping" : readImageParams.getCropping().toString();
@@ -124,8 +171,6 @@ public class ImageServiceImpl
 
         //Serialization string value
         final String quality = "quality-" + readImageParams.getQuality();
-        //Source binary key
-        final String binaryKey = contentService.getBinaryKey( readImageParams.getContentId(), readImageParams.getBinaryReference() );
 
         final String key = String.join( "/", binaryKey, cropping, scale, filter, format, background, orientation, quality,
                                         readImageParams.getBinaryReference().toString() );
@@ -137,7 +182,135 @@ public class ImageServiceImpl
             .resolve( hash );
     }
 
-    private boolean createImage( final ByteSource blob, final NormalizedImageParams readImageParams, ByteSink sink )
+    /**
+     * Scales down the smallest cached rendition that is at least twice as large as the requested image, if there is one.
+     */
+    private boolean deriveImage( final NormalizedImageParams readImageParams, final String renditionKey, final Path path,
+                                 final ByteSink sink )
+        throws IOException
+    {
+        final ImageScaleFunction imageScaleFunction =
+            imageScaleFunctionBuilder.build( readImageParams.getScaleParams(), readImageParams.getFocalPoint() );
+
+        final ImageRenditionIndex.Rendition rendition = renditionIndex.find( renditionKey, imageScaleFunction );
+        if ( rendition == null )
+        {
+            return false;
+        }
+
+        final int scaledResolution = imageScaleFunction.estimateResolution( rendition.sourceWidth, rendition.sourceHeight );
+        final int memoryRequirementsEstimate = Math.max( toMegaBytes( ( rendition.resolution() + scaledResolution * 2L ) * 4 ), 1 );
+
+        final int permitted = circuitBreaker.softTryAcquire( memoryRequirementsEstimate );
+        try
+        {
+            final BufferedImage source;
+            try (InputStream inputStream = Files.newInputStream( rendition.path ))
+            {
+                source = ImageIO.read( inputStream );
+            }
+            catch ( IOException e )
+            {
+                LOG.debug( "Cannot read cached rendition {}", rendition.path, e );
+                return false;
+            }
+
+            if ( source == null )
+            {
+                return false;
+            }
+
+            final BufferedImage scaled = imageScaleFunction.apply( source, rendition.sourceWidth, rendition.sourceHeight );
+
+            BufferedImage bufferedImage = scaled;
+            if ( !"png".equals( readImageParams.getFormat() ) && bufferedImage.getColorModel().hasAlpha() )
+            {
+                bufferedImage = ImageHelper.removeAlphaChannel( bufferedImage, readImageParams.getBackgroundColor() );
+            }
+
+            encodeImage( bufferedImage, readImageParams, sink );
+            derived.mark();
+
+            addRendition( renditionKey, readImageParams, path, rendition.sourceWidth, rendition.sourceHeight, scaled, scaledResolution );
+            return true;
+        }
+        finally
+        {
+            circuitBreaker.release( permitted );
+        }
+    }
+
+    /**
+     * @param image scaled image, before its background is removed for the requested format
+     */
+    private void addRendition( final String renditionKey, final NormalizedImageParams readImageParams, final Path path,
+                               final int sourceWidth, final int sourceHeight, final BufferedImage image, final int scaledResolution )
+    {
+        // only renditions of the whole cropped area can be scaled down to any other rendition
+        if ( (long) image.getWidth() * image.getHeight() != scaledResolution )
+        {
+            return;
+        }
+
+        final Path losslessPath = getLosslessPath( readImageParams, path );
+        if ( !losslessPath.equals( path ) && !writeLossless( image, losslessPath ) )
+        {
+            return;
+        }
+        renditionIndex.add( renditionKey, new ImageRenditionIndex.Rendition( losslessPath, sourceWidth, sourceHeight, image.getWidth(),
+                                                                             image.getHeight() ) );
+    }
+
+    private static boolean writeLossless( final BufferedImage image, final Path losslessPath )
+    {
+        if ( Files.exists( losslessPath ) )
+        {
+            return true;
+        }
+
+        // renditions are written under the lock of their own path, so the lossless image is replaced atomically instead
+        final Path tmp = losslessPath.resolveSibling( losslessPath.getFileName() + "." + Thread.currentThread().getId() + ".tmp" );
+        try
+        {
+            try (OutputStream outputStream = Files.newOutputStream( tmp ))
+            {
+                ImageHelper.writeImage( outputStream, image, "png", -1 );
+            }
+            Files.move( tmp, losslessPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+            return true;
+        }
+        catch ( IOException e )
+        {
+            LOG.debug( "Cannot write lossless rendition {}", losslessPath, e );
+            try
+            {
+                Files.deleteIfExists( tmp );
+            }
+            catch ( IOException ignore )
+            {
+                // best effort, only the index of renditions is affected
+            }
+            return false;
+        }
+    }
+
+    private static void encodeImage( final BufferedImage bufferedImage, final NormalizedImageParams readImageParams, final ByteSink sink )
+        throws IOException
+    {
+        // Previous ImageHelper implementation interpreted 0 as system default quality explicitly,
+        // and anything below 0 as system default due to Exception swallow
+        // New implementation supports 0 value (it means "best compression" for PNG),
+        // but 0 quality in image service need to be retrofitted to "system default", otherwise JPEG with 0 quality
+        // is over-compressed and looks way different from system default compressed image.
+        final int writeImageQuality = readImageParams.getQuality() == 0 ? -1 : readImageParams.getQuality();
+        try (OutputStream outputStream = sink.openBufferedStream())
+        {
+            ImageHelper.writeImage( outputStream, bufferedImage, readImageParams.getFormat(), writeImageQuality );
+        }
+    }
+
+    private boolean createImage( final ByteSource blob, final NormalizedImageParams readImageParams, final String renditionKey,
+                                 final Path path, final ByteSink sink )
         throws IOException
     {
         try (InputStream inputStream = blob.openStream(); ImageInputStream stream = ImageIO.createImageInputStream( inputStream ))
@@ -174,37 +347,62 @@ public class ImageServiceImpl
                     final boolean toScale = readImageParams.getScaleParams() != null;
                     final boolean toCrop = readImageParams.getCropping() != null;
 
+                    final boolean swapsSides = swapsSides( readImageParams.getOrientation() );
+                    final int orientedWidth = swapsSides ? height : width;
+                    final int orientedHeight = swapsSides ? width : height;
+
+                    final Rectangle cropArea = toCrop
+                        ? getCropArea( orientedWidth, orientedHeight, readImageParams.getCropping() )
+                        : new Rectangle( orientedWidth, orientedHeight );
+
+                    final ImageScaleFunction imageScaleFunction = toScale
+                        ? imageScaleFunctionBuilder.build( readImageParams.getScaleParams(), readImageParams.getFocalPoint() )
+                        : null;
+
+                    final int subsampling = toScale ? getSubsampling( imageScaleFunction, cropArea.width, cropArea.height ) : 1;
+
+                    final Rectangle sourceRegion = toSourceRegion( cropArea, readImageParams.getOrientation(), width, height );
+                    final long decodedWidth = ( sourceRegion.width + subsampling - 1 ) / subsampling;
+                    final long decodedHeight = ( sourceRegion.height + subsampling - 1 ) / subsampling;
+
                     final int originalMultiplier = 1 + ( toRotate || ( !toScale && ( toApplyFilters || toAddBackground ) ) ? 1 : 0 );
 
                     final int originalMemoryRequirements =
-                        Math.max( toMegaBytes( (long) width * height * pixelSize * originalMultiplier ), 1 );
+                        Math.max( toMegaBytes( decodedWidth * decodedHeight * pixelSize * originalMultiplier ), 1 );
 
-                    final ImageScaleFunction imageScaleFunction;
                     final int scaledMemoryRequirements;
                     if ( toScale )
                     {
-                        imageScaleFunction =
-                            imageScaleFunctionBuilder.build( readImageParams.getScaleParams(), readImageParams.getFocalPoint() );
                         final int scaledMultiplier = 1 + ( ( toApplyFilters || toAddBackground ) ? 1 : 0 );
-                        scaledMemoryRequirements = Math.max(
-                            toMegaBytes( (long) imageScaleFunction.estimateResolution( width, height ) * pixelSize * scaledMultiplier ),
-                            1 );
+                        scaledMemoryRequirements = Math.max( toMegaBytes(
+                            (long) imageScaleFunction.estimateResolution( cropArea.width, cropArea.height ) * pixelSize *
+                                scaledMultiplier ), 1 );
                     }
                     else
                     {
-                        imageScaleFunction = null;
                         scaledMemoryRequirements = 0;
                     }
 
                     final int totalMemoryRequirementsEstimate = originalMemoryRequirements + scaledMemoryRequirements;
 
-                    LOG.debug( "Estimated original {} scaled {} total {} requirements. With pixelSize {}", originalMemoryRequirements,
-                               scaledMemoryRequirements, totalMemoryRequirementsEstimate, pixelSize );
+                    LOG.debug( "Estimated original {} scaled {} total {} requirements. With pixelSize {}, subsampling {}",
+                               originalMemoryRequirements, scaledMemoryRequirements, totalMemoryRequirementsEstimate, pixelSize,
+                               subsampling );
 
                     final int permitted = circuitBreaker.softTryAcquire( totalMemoryRequirementsEstimate );
                     try
                     {
-                        BufferedImage bufferedImage = imageReader.read( 0, imageReader.getDefaultReadParam() );
+                        final ImageReadParam readParam = imageReader.getDefaultReadParam();
+                        if ( sourceRegion.width != width || sourceRegion.height != height )
+                        {
+                            readParam.setSourceRegion( sourceRegion );
+                        }
+                        if ( subsampling > 1 )
+                        {
+                            readParam.setSourceSubsampling( subsampling, subsampling, 0, 0 );
+                        }
+
+                        BufferedImage bufferedImage = imageReader.read( 0, readParam );
                         imageReader.dispose();
                         if ( bufferedImage != null )
                         {
@@ -213,14 +411,9 @@ public class ImageServiceImpl
                                 bufferedImage = applyRotation( bufferedImage, readImageParams.getOrientation() );
                             }
 
-                            if ( toCrop )
-                            {
-                                bufferedImage = applyCropping( bufferedImage, readImageParams.getCropping() );
-                            }
-
                             if ( toScale )
                             {
-                                bufferedImage = imageScaleFunction.apply( bufferedImage );
+                                bufferedImage = imageScaleFunction.apply( bufferedImage, cropArea.width, cropArea.height );
                             }
 
                             if ( toApplyFilters )
@@ -228,22 +421,21 @@ public class ImageServiceImpl
                                 bufferedImage = imageFilterBuilder.build( readImageParams.getFilterParam() ).apply( bufferedImage );
                             }
 
+                            final BufferedImage withoutBackground = bufferedImage;
+
                             if ( toAddBackground )
                             {
                                 bufferedImage = ImageHelper.removeAlphaChannel( bufferedImage, readImageParams.getBackgroundColor() );
                             }
 
-                            // Previous ImageHelper implementation interpreted 0 as system default quality explicitly,
-                            // and anything below 0 as system default due to Exception swallow
-                            // New implementation supports 0 value (it means "best compression" for PNG),
-                            // but 0 quality in image service need to be retrofitted to "system default", otherwise JPEG with 0 quality
-                            // is over-compressed and looks way different from system default compressed image.
-                            final int writeImageQuality = readImageParams.getQuality() == 0 ? -1 : readImageParams.getQuality();
-                            try (OutputStream outputStream = sink.openBufferedStream())
+                            encodeImage( bufferedImage, readImageParams, sink );
+                            LOG.debug( "Finish writing" );
+
+                            if ( renditionKey != null )
                             {
-                                ImageHelper.writeImage( outputStream, bufferedImage, readImageParams.getFormat(), writeImageQuality );
+                                addRendition( renditionKey, readImageParams, path, cropArea.width, cropArea.height, withoutBackground,
+                                              imageScaleFunction.estimateResolution( cropArea.width, cropArea.height ) );
                             }
-                            LOG.debug( "Finish writing" );
                             return true;
                         }
                     }
@@ -267,13 +459,69 @@ public class ImageServiceImpl
         return Math.toIntExact( bytesValue / 1024 / 1024 );
     }
 
-    private static BufferedImage applyCropping( final BufferedImage bufferedImage, final Cropping cropping )
+    private static Rectangle getCropArea( final int width, final int height, final Cropping cropping )
+    {
+        return new Rectangle( (int) ( width * cropping.left() ), (int) ( height * cropping.top() ), (int) ( width * cropping.width() ),
+                              (int) ( height * cropping.height() ) );
+    }
+
+    /**
+     * Largest subsampling that still decodes at least twice the scaled size, so the final resize has enough detail for a smooth result.
+     */
+    private static int getSubsampling( final ImageScaleFunction imageScaleFunction, final int width, final int height )
+    {
+        final long resolution = imageScaleFunction.estimateResolution( width, height );
+        if ( resolution <= 0 )
+        {
+            return 1;
+        }
+        final double scale = Math.sqrt( (double) resolution / ( (double) width * height ) );
+        return (int) Math.max( 1, Math.min( Math.min( width, height ), Math.floor( 1 / ( 2 * scale ) ) ) );
+    }
+
+    private static boolean swapsSides( final ImageOrientation orientation )
+    {
+        switch ( orientation )
+        {
+            case LeftTop:
+            case RightTop:
+            case RightBottom:
+            case LeftBottom:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Maps an area of the image as it looks after applying orientation back to the area of the stored image.
+     */
+    private static Rectangle toSourceRegion( final Rectangle area, final ImageOrientation orientation, final int width, final int height )
     {
-        final double width = bufferedImage.getWidth();
-        final double height = bufferedImage.getHeight();
-        return bufferedImage.getSubimage( (int) ( width * cropping.left() ), (int) ( height * cropping.top() ),
-                                          (int) ( width * cropping.width() ), (int) ( height * cropping.height() ) );
+        final int x = area.x;
+        final int y = area.y;
+        final int w = area.width;
+        final int h = area.height;
 
+        switch ( orientation )
+        {
+            case TopRight: // Flip X
+                return new Rectangle( width - x - w, y, w, h );
+            case BottomRight: // PI rotation
+                return new Rectangle( width - x - w, height - y - h, w, h );
+            case BottomLeft: // Flip Y
+                return new Rectangle( x, height - y - h, w, h );
+            case LeftTop: // -PI/2 and Flip X
+                return new Rectangle( y, x, h, w );
+            case RightTop: // -PI/2
+                return new Rectangle( y, height - x - w, h, w );
+            case RightBottom: // PI/2 and Flip X
+                return new Rectangle( width - y - h, height - x - w, h, w );
+            case LeftBottom: // PI/2
+                return new Rectangle( width - y - h, x, h, w );
+            default:
+                return area;
+        }
     }
 
     private static BufferedImage applyRotation( final BufferedImage bufferedImage, final ImageOrientation orientation )
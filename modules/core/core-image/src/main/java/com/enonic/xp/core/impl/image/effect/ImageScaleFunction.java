@@ -1,9 +1,16 @@
 package com.enonic.xp.core.impl.image.effect;
 
+import java.awt.image.BufferedImage;
+
 import com.enonic.xp.core.impl.image.ImageFunction;
 
 public interface ImageScaleFunction
     extends ImageFunction
 {
     int estimateResolution( int sourceWidth, int sourceHeight );
+
+    /**
+     * Scales an image that was decoded at reduced resolution, sizing the result as if the source had the given dimensions.
+     */
+    BufferedImage apply( BufferedImage source, int sourceWidth, int sourceHeight );
 }
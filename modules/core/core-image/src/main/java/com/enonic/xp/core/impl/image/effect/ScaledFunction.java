@@ -17,7 +17,13 @@ public class ScaledFunction
     @Override
     public BufferedImage apply( BufferedImage source )
     {
-        final ScaleCalculator.Values values = scaleCalculator.calc( source.getWidth(), source.getHeight() );
+        return apply( source, source.getWidth(), source.getHeight() );
+    }
+
+    @Override
+    public BufferedImage apply( final BufferedImage source, final int sourceWidth, final int sourceHeight )
+    {
+        final ScaleCalculator.Values values = scaleCalculator.calc( sourceWidth, sourceHeight );
 
         BufferedImage targetImage = ImageHelper.getScaledInstance( source, values.newWidth, values.newHeight );
         if ( values.subimage() )
@@ -1,9 +1,12 @@
 package com.enonic.xp.core.impl.image;
 
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 
+import javax.imageio.ImageIO;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -14,11 +17,13 @@ import com.enonic.xp.content.ContentId;
 import com.enonic.xp.content.ContentService;
 import com.enonic.xp.image.Cropping;
 import com.enonic.xp.image.ReadImageParams;
+import com.enonic.xp.image.ScaleParams;
 import com.enonic.xp.media.ImageOrientation;
 import com.enonic.xp.util.BinaryReference;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -169,4 +174,92 @@ class ImageServiceImplTest
 
         assertDoesNotThrow( () -> imageService.readImage( readImageParams ) );
     }
+
+    @Test
+    public void readImage_subsampled_keeps_size()
+        throws IOException
+    {
+        mockOriginalImage( "effect/source.jpg" );
+
+        final ReadImageParams readImageParams = ReadImageParams.newImageParams()
+            .contentId( contentId )
+            .binaryReference( binaryReference )
+            .scaleParams( new ScaleParams( "block", new Object[]{50, 30} ) )
+            .mimeType( "image/jpeg" )
+            .build();
+
+        final BufferedImage image = ImageIO.read( imageService.readImage( readImageParams ).openStream() );
+        assertEquals( 50, image.getWidth() );
+        assertEquals( 30, image.getHeight() );
+    }
+
+    @Test
+    public void readImage_cropped_region_with_orientation()
+        throws IOException
+    {
+        mockOriginalImage( "effect/source.jpg" );
+
+        final ReadImageParams readImageParams = ReadImageParams.newImageParams()
+            .contentId( contentId )
+            .binaryReference( binaryReference )
+            .cropping( Cropping.create().top( 0.1 ).bottom( 0.6 ).left( 0.2 ).right( 0.9 ).build() )
+            .mimeType( "image/png" )
+            .orientation( ImageOrientation.RightTop )
+            .build();
+
+        final BufferedImage image = ImageIO.read( imageService.readImage( readImageParams ).openStream() );
+        assertEquals( 210, image.getWidth() );
+        assertEquals( 200, image.getHeight() );
+    }
+
+    @Test
+    public void readImage_derived_from_larger_rendition()
+        throws IOException
+    {
+        mockOriginalImage( "effect/source.jpg" );
+
+        final ReadImageParams.Builder readImageParams =
+            ReadImageParams.newImageParams().contentId( contentId ).binaryReference( binaryReference ).mimeType( "image/png" );
+
+        final BufferedImage large =
+            ImageIO.read( imageService.readImage( readImageParams.scaleParams( new ScaleParams( "width", new Object[]{200} ) ).build() )
+                              .openStream() );
+        assertEquals( 200, large.getWidth() );
+        assertEquals( 150, large.getHeight() );
+
+        final BufferedImage derived =
+            ImageIO.read( imageService.readImage( readImageParams.scaleParams( new ScaleParams( "block", new Object[]{60, 40} ) ).build() )
+                              .openStream() );
+        assertEquals( 60, derived.getWidth() );
+        assertEquals( 40, derived.getHeight() );
+        verify( contentService ).getBinary( contentId, binaryReference );
+
+        // not small enough to be derived from the larger rendition with good quality
+        imageService.readImage( readImageParams.scaleParams( new ScaleParams( "width", new Object[]{150} ) ).build() );
+        verify( contentService, times( 2 ) ).getBinary( contentId, binaryReference );
+    }
+
+    @Test
+    public void readImage_jpeg_derived_from_lossless_rendition()
+        throws IOException
+    {
+        mockOriginalImage( "effect/source.jpg" );
+
+        final ReadImageParams.Builder readImageParams =
+            ReadImageParams.newImageParams().contentId( contentId ).binaryReference( binaryReference ).mimeType( "image/jpeg" );
+
+        // srcset renditions of the same image
+        imageService.readImage( readImageParams.scaleParams( new ScaleParams( "width", new Object[]{200} ) ).build() );
+        final BufferedImage derived =
+            ImageIO.read( imageService.readImage( readImageParams.scaleParams( new ScaleParams( "width", new Object[]{100} ) ).build() )
+                              .openStream() );
+        assertEquals( 100, derived.getWidth() );
+        assertEquals( 75, derived.getHeight() );
+
+        final BufferedImage derivedPng = ImageIO.read( imageService.readImage(
+            readImageParams.mimeType( "image/png" ).scaleParams( new ScaleParams( "width", new Object[]{50} ) ).build() ).openStream() );
+        assertEquals( 50, derivedPng.getWidth() );
+
+        verify( contentService ).getBinary( contentId, binaryReference );
+    }
 }
@@ -0,0 +1,110 @@
+package com.enonic.xp.core.internal.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bounded executor which runs tasks submitted with the same partition key sequentially, in submission order,
+ * while tasks with different partition keys may run in parallel.
+ */
+public final class PartitionedExecutor
+{
+    private final List<SimpleExecutor> partitions;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Constructs {@linkplain PartitionedExecutor} with a fixed number of single threaded partitions.
+     *
+     * @param partitionCount           number of partitions (threads). Must be positive.
+     * @param namePattern              Example {@code "my-service-%d"}
+     * @param uncaughtExceptionHandler should be used primarily for logging of uncaught Exceptions. Can't be null.
+     */
+    public PartitionedExecutor( final int partitionCount, final String namePattern, final Consumer<Throwable> uncaughtExceptionHandler )
+    {
+        if ( partitionCount <= 0 )
+        {
+            throw new IllegalArgumentException( "partitionCount must be positive" );
+        }
+        Objects.requireNonNull( uncaughtExceptionHandler, "uncaughtExceptionHandler is required" );
+
+        this.partitions = new ArrayList<>( partitionCount );
+        for ( int i = 0; i < partitionCount; i++ )
+        {
+            // each partition has a single thread, named after the partition
+            final String partitionName = String.format( Locale.ROOT, namePattern, i ).replace( "%", "%%" );
+            this.partitions.add( new SimpleExecutor( Executors::newSingleThreadExecutor, partitionName, uncaughtExceptionHandler ) );
+        }
+    }
+
+    /**
+     * Executes command in a partition selected by key.
+     * Commands with equal keys are guaranteed to be executed one at a time, in order they were submitted.
+     *
+     * @param key     partition key. Can't be null.
+     * @param command command to execute
+     */
+    public void execute( final Object key, final Runnable command )
+    {
+        Objects.requireNonNull( key, "key is required" );
+        pending.incrementAndGet();
+        try
+        {
+            partitions.get( Math.floorMod( key.hashCode(), partitions.size() ) ).execute( () -> {
+                try
+                {
+                    command.run();
+                }
+                finally
+                {
+                    pending.decrementAndGet();
+                }
+            } );
+        }
+        catch ( RuntimeException e )
+        {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of submitted commands that are either waiting for execution or running.
+     */
+    public int getPendingCount()
+    {
+        return pending.get();
+    }
+
+    /**
+     * @return number of partitions
+     */
+    public int getPartitionCount()
+    {
+        return partitions.size();
+    }
+
+    /**
+     * Shut downs all partitions and awaits their termination for specified duration.
+     *
+     * @param awaitTerminationDuration time to await termination of each partition.
+     * @param neverCommenced           consumer of tasks that never commenced execution. Called only if such tasks exist.
+     * @return Returns {@code true} if all tasks have completed following shut down.
+     * @see SimpleExecutor#shutdownAndAwaitTermination(Duration, Consumer)
+     */
+    public boolean shutdownAndAwaitTermination( final Duration awaitTerminationDuration, final Consumer<List<Runnable>> neverCommenced )
+    {
+        boolean terminated = true;
+        for ( SimpleExecutor partition : partitions )
+        {
+            terminated &= partition.shutdownAndAwaitTermination( awaitTerminationDuration, neverCommenced );
+        }
+        return terminated;
+    }
+}
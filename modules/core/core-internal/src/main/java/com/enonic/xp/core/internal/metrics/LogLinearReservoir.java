@@ -0,0 +1,301 @@
+package com.enonic.xp.core.internal.metrics;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+/**
+ * Reservoir that counts recent values in log-linear buckets, like HdrHistogram.
+ * <p>
+ * Values are counted in buckets of relative width 1/{@value #HALF_BUCKETS} (exact below {@value #SUB_BUCKETS}),
+ * so updates are lock-free, allocate nothing and use fixed memory. Snapshots cover the values of the current and the previous
+ * window. Minimum, maximum and mean are exact, quantiles are resolved to the middle of their bucket.
+ */
+public final class LogLinearReservoir
+    implements Reservoir
+{
+    private static final int SUB_BUCKET_BITS = 6;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int HALF_BUCKETS = SUB_BUCKETS / 2;
+
+    // values are capped at 2^40, about 18 minutes in nanoseconds
+    private static final int MAX_VALUE_BITS = 40;
+
+    private static final long MAX_VALUE = ( 1L << MAX_VALUE_BITS ) - 1;
+
+    static final int BUCKETS = ( MAX_VALUE_BITS - SUB_BUCKET_BITS + 2 ) * HALF_BUCKETS;
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMinutes( 1 );
+
+    private final long windowNanos;
+
+    private final Clock clock;
+
+    private volatile Interval current;
+
+    private volatile Interval previous;
+
+    public LogLinearReservoir()
+    {
+        this( DEFAULT_WINDOW, Clock.defaultClock() );
+    }
+
+    public LogLinearReservoir( final Duration window, final Clock clock )
+    {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+        this.current = new Interval( clock.getTick() );
+    }
+
+    @Override
+    public int size()
+    {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update( final long value )
+    {
+        current().update( Math.max( 0, Math.min( value, MAX_VALUE ) ) );
+    }
+
+    @Override
+    public Snapshot getSnapshot()
+    {
+        final Interval current = current();
+        final Interval previous = this.previous;
+
+        final long[] counts = new long[BUCKETS];
+        final long count = current.addCounts( counts ) + ( previous != null ? previous.addCounts( counts ) : 0 );
+        if ( count == 0 )
+        {
+            return new BucketSnapshot( counts, 0, 0, 0, 0 );
+        }
+
+        long min = current.min.get();
+        long max = current.max.get();
+        long sum = current.sum.sum();
+        if ( previous != null )
+        {
+            min = Math.min( min, previous.min.get() );
+            max = Math.max( max, previous.max.get() );
+            sum += previous.sum.sum();
+        }
+        return new BucketSnapshot( counts, count, min, max, sum );
+    }
+
+    private Interval current()
+    {
+        final long now = clock.getTick();
+        Interval current = this.current;
+        if ( now - current.start < windowNanos )
+        {
+            return current;
+        }
+
+        synchronized ( this )
+        {
+            current = this.current;
+            if ( now - current.start >= windowNanos )
+            {
+                this.previous = now - current.start < 2 * windowNanos ? current : null;
+                this.current = current = new Interval( now );
+            }
+            return current;
+        }
+    }
+
+    static int bucketIndex( final long value )
+    {
+        if ( value < SUB_BUCKETS )
+        {
+            return (int) value;
+        }
+        final int shift = 64 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+        return shift * HALF_BUCKETS + (int) ( value >>> shift );
+    }
+
+    static long bucketValue( final int index )
+    {
+        if ( index < SUB_BUCKETS )
+        {
+            return index;
+        }
+        final int shift = index / HALF_BUCKETS - 1;
+        final long lower = (long) ( index % HALF_BUCKETS + HALF_BUCKETS ) << shift;
+        return lower + ( ( 1L << shift ) - 1 ) / 2;
+    }
+
+    private static final class Interval
+    {
+        final long start;
+
+        final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+
+        final LongAdder sum = new LongAdder();
+
+        final LongAccumulator min = new LongAccumulator( Math::min, Long.MAX_VALUE );
+
+        final LongAccumulator max = new LongAccumulator( Math::max, Long.MIN_VALUE );
+
+        Interval( final long start )
+        {
+            this.start = start;
+        }
+
+        void update( final long value )
+        {
+            counts.incrementAndGet( bucketIndex( value ) );
+            sum.add( value );
+            min.accumulate( value );
+            max.accumulate( value );
+        }
+
+        long addCounts( final long[] target )
+        {
+            long count = 0;
+            for ( int i = 0; i < BUCKETS; i++ )
+            {
+                final long bucketCount = counts.get( i );
+                target[i] += bucketCount;
+                count += bucketCount;
+            }
+            return count;
+        }
+    }
+
+    private static final class BucketSnapshot
+        extends Snapshot
+    {
+        private final long[] counts;
+
+        private final long count;
+
+        private final long min;
+
+        private final long max;
+
+        private final long sum;
+
+        BucketSnapshot( final long[] counts, final long count, final long min, final long max, final long sum )
+        {
+            this.counts = counts;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+            this.sum = sum;
+        }
+
+        @Override
+        public double getValue( final double quantile )
+        {
+            if ( quantile < 0.0 || quantile > 1.0 || Double.isNaN( quantile ) )
+            {
+                throw new IllegalArgumentException( quantile + " is not in [0..1]" );
+            }
+            if ( count == 0 )
+            {
+                return 0;
+            }
+
+            final long rank = Math.max( 1, (long) Math.ceil( quantile * count ) );
+            long seen = 0;
+            for ( int i = 0; i < BUCKETS; i++ )
+            {
+                seen += counts[i];
+                if ( seen >= rank )
+                {
+                    return Math.max( min, Math.min( max, bucketValue( i ) ) );
+                }
+            }
+            return max;
+        }
+
+        /**
+         * @return one value for each non-empty bucket, in ascending order
+         */
+        @Override
+        public long[] getValues()
+        {
+            int size = 0;
+            final long[] values = new long[BUCKETS];
+            for ( int i = 0; i < BUCKETS; i++ )
+            {
+                if ( counts[i] > 0 )
+                {
+                    values[size++] = Math.max( min, Math.min( max, bucketValue( i ) ) );
+                }
+            }
+            return Arrays.copyOf( values, size );
+        }
+
+        @Override
+        public int size()
+        {
+            return (int) Math.min( count, Integer.MAX_VALUE );
+        }
+
+        @Override
+        public long getMax()
+        {
+            return max;
+        }
+
+        @Override
+        public double getMean()
+        {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        @Override
+        public long getMin()
+        {
+            return min;
+        }
+
+        @Override
+        public double getStdDev()
+        {
+            if ( count <= 1 )
+            {
+                return 0;
+            }
+
+            final double mean = getMean();
+            double variance = 0;
+            for ( int i = 0; i < BUCKETS; i++ )
+            {
+                if ( counts[i] > 0 )
+                {
+                    final double diff = bucketValue( i ) - mean;
+                    variance += counts[i] * diff * diff;
+                }
+            }
+            return Math.sqrt( variance / ( count - 1 ) );
+        }
+
+        @Override
+        public void dump( final OutputStream output )
+        {
+            try (PrintWriter out = new PrintWriter( new OutputStreamWriter( output, StandardCharsets.UTF_8 ) ))
+            {
+                for ( long value : getValues() )
+                {
+                    out.printf( "%d%n", value );
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.enonic.xp.core.internal.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * Latency timers of an endpoint by response status, registered as {@code <name>.<status>} on first use,
+ * with a {@link LogLinearReservoir}.
+ */
+public final class StatusTimers
+{
+    private static final int MAX_STATUS = 600;
+
+    private final MetricRegistry registry;
+
+    private final String name;
+
+    private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>( MAX_STATUS );
+
+    public StatusTimers( final MetricRegistry registry, final String name )
+    {
+        this.registry = registry;
+        this.name = name;
+    }
+
+    public void update( final int status, final long durationNanos )
+    {
+        timer( status ).update( durationNanos, TimeUnit.NANOSECONDS );
+    }
+
+    public Timer timer( final int status )
+    {
+        final int index = status > 0 && status < MAX_STATUS ? status : 0;
+        Timer timer = timers.get( index );
+        if ( timer == null )
+        {
+            timer = registry.timer( name + "." + ( index == 0 ? "other" : index ), () -> new Timer( new LogLinearReservoir() ) );
+            timers.set( index, timer );
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,93 @@
+package com.enonic.xp.core.internal.concurrent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedExecutorTest
+{
+    @Test
+    void sameKeyIsOrdered()
+        throws Exception
+    {
+        final AtomicReference<Throwable> unexpectedThrowable = new AtomicReference<>();
+        final PartitionedExecutor executor = new PartitionedExecutor( 4, "test-thread-%d", unexpectedThrowable::set );
+        try
+        {
+            final List<Integer> executed = new CopyOnWriteArrayList<>();
+            final CountDownLatch latch = new CountDownLatch( 100 );
+            for ( int i = 0; i < 100; i++ )
+            {
+                final int value = i;
+                executor.execute( "key", () -> {
+                    executed.add( value );
+                    latch.countDown();
+                } );
+            }
+
+            assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+            for ( int i = 0; i < 100; i++ )
+            {
+                assertEquals( i, executed.get( i ) );
+            }
+            assertNull( unexpectedThrowable.get(), "Throwable is not expected" );
+        }
+        finally
+        {
+            executor.shutdownAndAwaitTermination( Duration.ZERO, neverCommenced -> {
+            } );
+        }
+    }
+
+    @Test
+    void differentKeysRunInParallel()
+        throws Exception
+    {
+        final AtomicReference<Throwable> unexpectedThrowable = new AtomicReference<>();
+        final PartitionedExecutor executor = new PartitionedExecutor( 2, "test-thread-%d", unexpectedThrowable::set );
+        try
+        {
+            final CountDownLatch blocker = new CountDownLatch( 1 );
+            final CountDownLatch done = new CountDownLatch( 1 );
+
+            executor.execute( 0, () -> {
+                try
+                {
+                    blocker.await();
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            } );
+            executor.execute( 1, done::countDown );
+
+            assertTrue( done.await( 10, TimeUnit.SECONDS ) );
+            blocker.countDown();
+            assertNull( unexpectedThrowable.get(), "Throwable is not expected" );
+        }
+        finally
+        {
+            executor.shutdownAndAwaitTermination( Duration.ofSeconds( 10 ), neverCommenced -> {
+            } );
+        }
+        assertEquals( 0, executor.getPendingCount() );
+    }
+
+    @Test
+    void invalidPartitionCount()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new PartitionedExecutor( 0, "test-thread-%d", e -> {
+        } ) );
+    }
+}
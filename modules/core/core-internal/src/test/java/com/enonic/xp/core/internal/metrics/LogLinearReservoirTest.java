@@ -0,0 +1,78 @@
+package com.enonic.xp.core.internal.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogLinearReservoirTest
+{
+    private long tick;
+
+    private final Clock clock = new Clock()
+    {
+        @Override
+        public long getTick()
+        {
+            return tick;
+        }
+    };
+
+    @Test
+    void bucketIndexRoundTrip()
+    {
+        int previous = -1;
+        for ( long value = 0; value < 1L << 40; value += Math.max( 1, value / 1000 ) )
+        {
+            final int index = LogLinearReservoir.bucketIndex( value );
+            assertTrue( index >= previous && index < LogLinearReservoir.BUCKETS );
+            assertEquals( index, LogLinearReservoir.bucketIndex( LogLinearReservoir.bucketValue( index ) ) );
+            assertTrue( Math.abs( LogLinearReservoir.bucketValue( index ) - value ) <= value / 32 );
+            previous = index;
+        }
+    }
+
+    @Test
+    void snapshot()
+    {
+        final LogLinearReservoir reservoir = new LogLinearReservoir( Duration.ofMinutes( 1 ), clock );
+        for ( int i = 1; i <= 1000; i++ )
+        {
+            reservoir.update( TimeUnit.MILLISECONDS.toNanos( i ) );
+        }
+
+        final Snapshot snapshot = reservoir.getSnapshot();
+        assertEquals( 1000, snapshot.size() );
+        assertEquals( TimeUnit.MILLISECONDS.toNanos( 1 ), snapshot.getMin() );
+        assertEquals( TimeUnit.MILLISECONDS.toNanos( 1000 ), snapshot.getMax() );
+        assertEquals( TimeUnit.MICROSECONDS.toNanos( 500500 ), snapshot.getMean(), 1 );
+        assertEquals( TimeUnit.MILLISECONDS.toNanos( 500 ), snapshot.getMedian(), TimeUnit.MILLISECONDS.toNanos( 500 ) / 32.0 );
+        assertEquals( TimeUnit.MILLISECONDS.toNanos( 990 ), snapshot.get99thPercentile(), TimeUnit.MILLISECONDS.toNanos( 990 ) / 32.0 );
+    }
+
+    @Test
+    void window()
+    {
+        final LogLinearReservoir reservoir = new LogLinearReservoir( Duration.ofMinutes( 1 ), clock );
+        reservoir.update( 10 );
+
+        tick = TimeUnit.SECONDS.toNanos( 61 );
+        reservoir.update( 20 );
+        assertEquals( 2, reservoir.size() );
+
+        tick = TimeUnit.SECONDS.toNanos( 125 );
+        reservoir.update( 30 );
+        assertEquals( 2, reservoir.size() );
+        assertEquals( 20, reservoir.getSnapshot().getMin() );
+
+        tick = TimeUnit.MINUTES.toNanos( 10 );
+        assertEquals( 0, reservoir.size() );
+        assertEquals( 0, reservoir.getSnapshot().getMedian() );
+    }
+}
@@ -13,4 +13,20 @@ public @interface MailConfig
     String smtpPassword() default "";
 
     boolean smtpTLS() default false;
+
+    int smtpPoolSize() default 4;
+
+    int smtpIdleTimeout() default 60;
+
+    boolean outboxEnabled() default false;
+
+    int outboxConcurrency() default 2;
+
+    int outboxCapacity() default 10000;
+
+    int outboxMaxAttempts() default 5;
+
+    int outboxRetryDelay() default 30;
+
+    boolean outboxPersistent() default false;
 }
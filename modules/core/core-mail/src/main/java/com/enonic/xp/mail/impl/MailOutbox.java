@@ -0,0 +1,320 @@
+package com.enonic.xp.mail.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+
+import com.enonic.xp.core.internal.concurrent.ThreadFactoryImpl;
+import com.enonic.xp.mail.MailException;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Sends composed messages in the background with bounded concurrency, retrying failed sends with exponential backoff.
+ * Retries go only to the recipients the message was not sent to yet.
+ * <p>
+ * When a spool directory is given, every queued message is also written there until it is sent or given up on,
+ * and messages left in the directory are queued again on start.
+ */
+final class MailOutbox
+{
+    private static final Logger LOG = LoggerFactory.getLogger( MailOutbox.class );
+
+    private static final String SPOOL_SUFFIX = ".eml";
+
+    private static final long MAX_RETRY_DELAY = TimeUnit.HOURS.toMillis( 1 );
+
+    @FunctionalInterface
+    interface Sender
+    {
+        void send( MimeMessage message, Address[] recipients )
+            throws Exception;
+    }
+
+    private final Sender sender;
+
+    private final ScheduledExecutorService executor;
+
+    private final int capacity;
+
+    private final int maxAttempts;
+
+    private final long retryDelay;
+
+    private final Path spoolDir;
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Meter sent;
+
+    private final Meter retried;
+
+    private final Meter failed;
+
+    MailOutbox( final Sender sender, final int concurrency, final int capacity, final int maxAttempts, final long retryDelay,
+                final TimeUnit unit, final Path spoolDir )
+    {
+        this.sender = sender;
+        this.capacity = capacity;
+        this.maxAttempts = Math.max( maxAttempts, 1 );
+        this.retryDelay = unit.toMillis( retryDelay );
+        this.spoolDir = spoolDir;
+
+        this.executor = new ScheduledThreadPoolExecutor( Math.max( concurrency, 1 ), new ThreadFactoryImpl( "mail-outbox-%d" ) );
+
+        Metrics.removeAll( MailOutbox.class );
+        this.sent = Metrics.meter( MailOutbox.class, "sent" );
+        this.retried = Metrics.meter( MailOutbox.class, "retried" );
+        this.failed = Metrics.meter( MailOutbox.class, "failed" );
+        Metrics.register( MailOutbox.class, "queued", (Gauge<Integer>) this.queued::get );
+    }
+
+    /**
+     * Queues messages left in the spool directory by a previous run.
+     */
+    void recover( final Session session )
+    {
+        if ( spoolDir == null || !Files.isDirectory( spoolDir ) )
+        {
+            return;
+        }
+
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream( spoolDir, "*" + SPOOL_SUFFIX ))
+        {
+            stream.forEach( files::add );
+        }
+        catch ( IOException e )
+        {
+            LOG.error( "Cannot list mail outbox {}", spoolDir, e );
+            return;
+        }
+
+        files.sort( Comparator.comparing( MailOutbox::lastModified ) );
+        for ( Path file : files )
+        {
+            try (InputStream inputStream = Files.newInputStream( file ))
+            {
+                final MimeMessage message = new MimeMessage( session, inputStream );
+                final Address[] recipients = message.getAllRecipients();
+                queued.incrementAndGet();
+                executor.execute( () -> attempt( message, recipients, file, 1 ) );
+            }
+            catch ( IOException | MessagingException e )
+            {
+                LOG.error( "Cannot read queued mail {}", file, e );
+            }
+        }
+
+        if ( !files.isEmpty() )
+        {
+            LOG.info( "Queued {} mail messages from previous run", files.size() );
+        }
+    }
+
+    void submit( final MimeMessage message )
+    {
+        if ( queued.incrementAndGet() > capacity )
+        {
+            queued.decrementAndGet();
+            throw new MailException( "Mail outbox is full" );
+        }
+
+        final Address[] recipients;
+        final Path file;
+        try
+        {
+            recipients = message.getAllRecipients();
+            file = spool( message );
+        }
+        catch ( MessagingException e )
+        {
+            queued.decrementAndGet();
+            throw new MailException( e.getMessage(), e );
+        }
+        catch ( RuntimeException e )
+        {
+            queued.decrementAndGet();
+            throw e;
+        }
+        executor.execute( () -> attempt( message, recipients, file, 1 ) );
+    }
+
+    int getQueued()
+    {
+        return queued.get();
+    }
+
+    void shutdown()
+    {
+        final int remaining = queued.get();
+        executor.shutdownNow();
+        if ( remaining > 0 )
+        {
+            LOG.warn( "Mail outbox stopped with {} queued messages{}", remaining, spoolDir != null ? ", kept in " + spoolDir : "" );
+        }
+        Metrics.removeAll( MailOutbox.class );
+    }
+
+    private void attempt( final MimeMessage message, final Address[] recipients, final Path file, final int attempt )
+    {
+        try
+        {
+            sender.send( message, recipients );
+            sent.mark();
+            done( file );
+        }
+        catch ( Exception e )
+        {
+            if ( e instanceof InterruptedException )
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if ( executor.isShutdown() )
+            {
+                return;
+            }
+
+            if ( attempt >= maxAttempts || isPermanent( e ) )
+            {
+                failed.mark();
+                done( file );
+                LOG.error( "Failed to send mail after {} attempts", attempt, e );
+                return;
+            }
+
+            retried.mark();
+            final Address[] unsent = unsentRecipients( e, recipients );
+            final long delay = Math.min( retryDelay << Math.min( attempt - 1, 20 ), MAX_RETRY_DELAY );
+            LOG.warn( "Failed to send mail, attempt {} of {}. Retrying in {} ms: {}", attempt, maxAttempts, delay, e.getMessage() );
+            executor.schedule( () -> attempt( message, unsent, file, attempt + 1 ), delay, TimeUnit.MILLISECONDS );
+        }
+    }
+
+    private void done( final Path file )
+    {
+        queued.decrementAndGet();
+        if ( file != null )
+        {
+            try
+            {
+                Files.deleteIfExists( file );
+            }
+            catch ( IOException e )
+            {
+                LOG.warn( "Cannot delete queued mail {}", file, e );
+            }
+        }
+    }
+
+    /**
+     * Recipients were rejected and there is nobody left to retry for.
+     */
+    private static boolean isPermanent( final Exception e )
+    {
+        if ( e instanceof SendFailedException )
+        {
+            final SendFailedException sendFailed = (SendFailedException) e;
+            return sendFailed.getValidUnsentAddresses() == null || sendFailed.getValidUnsentAddresses().length == 0;
+        }
+        return false;
+    }
+
+    /**
+     * Recipients still to send to, without the ones the message was sent to or that were rejected.
+     */
+    private static Address[] unsentRecipients( final Exception e, final Address[] recipients )
+    {
+        if ( e instanceof SendFailedException )
+        {
+            return ( (SendFailedException) e ).getValidUnsentAddresses();
+        }
+        return recipients;
+    }
+
+    private Path spool( final MimeMessage message )
+    {
+        if ( spoolDir == null )
+        {
+            return null;
+        }
+
+        try
+        {
+            Files.createDirectories( spoolDir );
+            final String name = UUID.randomUUID().toString();
+            final Path tmp = spoolDir.resolve( name + ".tmp" );
+            try
+            {
+                try (OutputStream outputStream = Files.newOutputStream( tmp ))
+                {
+                    message.writeTo( outputStream );
+                }
+                return Files.move( tmp, spoolDir.resolve( name + SPOOL_SUFFIX ), StandardCopyOption.ATOMIC_MOVE );
+            }
+            catch ( IOException | MessagingException | RuntimeException e )
+            {
+                deleteQuietly( tmp );
+                throw e;
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+        catch ( MessagingException e )
+        {
+            throw new MailException( e.getMessage(), e );
+        }
+    }
+
+    private static void deleteQuietly( final Path file )
+    {
+        try
+        {
+            Files.deleteIfExists( file );
+        }
+        catch ( IOException e )
+        {
+            LOG.warn( "Cannot delete {}", file, e );
+        }
+    }
+
+    private static long lastModified( final Path file )
+    {
+        try
+        {
+            return Files.getLastModifiedTime( file ).toMillis();
+        }
+        catch ( IOException e )
+        {
+            return 0;
+        }
+    }
+}
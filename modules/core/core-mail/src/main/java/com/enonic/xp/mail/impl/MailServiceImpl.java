@@ -1,17 +1,19 @@
 package com.enonic.xp.mail.impl;
 
+import java.nio.file.Path;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
-import javax.mail.Address;
 import javax.mail.Authenticator;
 import javax.mail.PasswordAuthentication;
 import javax.mail.Session;
-import javax.mail.Transport;
 import javax.mail.internet.MimeMessage;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 
+import com.enonic.xp.home.HomeDir;
 import com.enonic.xp.mail.MailException;
 import com.enonic.xp.mail.MailMessage;
 import com.enonic.xp.mail.MailService;
@@ -22,6 +24,10 @@ public final class MailServiceImpl
 {
     private Session session;
 
+    private SmtpTransportPool transportPool;
+
+    private MailOutbox outbox;
+
     @Activate
     public void activate( final MailConfig config )
     {
@@ -45,6 +51,27 @@ public final class MailServiceImpl
         {
             Thread.currentThread().setContextClassLoader( oldLoader );
         }
+
+        this.transportPool = new SmtpTransportPool( this.session, config.smtpPoolSize(), config.smtpIdleTimeout(), TimeUnit.SECONDS );
+
+        if ( config.outboxEnabled() )
+        {
+            final Path spoolDir =
+                config.outboxPersistent() ? HomeDir.get().toPath().resolve( "work" ).resolve( "mail" ).resolve( "outbox" ) : null;
+            this.outbox = new MailOutbox( this.transportPool::send, config.outboxConcurrency(), config.outboxCapacity(),
+                                          config.outboxMaxAttempts(), config.outboxRetryDelay(), TimeUnit.SECONDS, spoolDir );
+            this.outbox.recover( this.session );
+        }
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        if ( this.outbox != null )
+        {
+            this.outbox.shutdown();
+        }
+        this.transportPool.close();
     }
 
     @Override
@@ -54,10 +81,22 @@ public final class MailServiceImpl
         {
             final MimeMessage mimeMessage = newMessage();
             message.compose( mimeMessage );
-            doSend( mimeMessage );
+            if ( this.outbox != null )
+            {
+                mimeMessage.saveChanges();
+                this.outbox.submit( mimeMessage );
+            }
+            else
+            {
+                this.transportPool.send( mimeMessage, mimeMessage.getAllRecipients() );
+            }
         }
         catch ( final Exception e )
         {
+            if ( e instanceof InterruptedException )
+            {
+                Thread.currentThread().interrupt();
+            }
             throw handleException( e );
         }
     }
@@ -72,25 +111,6 @@ public final class MailServiceImpl
         return new MailException( e.getMessage(), e );
     }
 
-    private void doSend( final MimeMessage message )
-        throws Exception
-    {
-        final Address[] to = message.getAllRecipients();
-        final Transport transport = this.session.getTransport();
-
-        final ClassLoader oldLoader = Thread.currentThread().getContextClassLoader();
-        Thread.currentThread().setContextClassLoader( Session.class.getClassLoader() );
-        try (transport)
-        {
-            transport.connect();
-            transport.sendMessage( message, to );
-        }
-        finally
-        {
-            Thread.currentThread().setContextClassLoader( oldLoader );
-        }
-    }
-
     private Authenticator createAuthenticator( final MailConfig config )
     {
         return new Authenticator()
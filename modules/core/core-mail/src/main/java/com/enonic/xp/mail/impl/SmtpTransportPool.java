@@ -0,0 +1,160 @@
+package com.enonic.xp.mail.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connected and authenticated SMTP transports, reused between messages.
+ * <p>
+ * At most {@code size} messages are sent at once, so bulk sends do not open more connections than the SMTP server allows.
+ * Transports idle for longer than the idle timeout, or no longer connected, are closed instead of reused.
+ */
+final class SmtpTransportPool
+{
+    private static final Logger LOG = LoggerFactory.getLogger( SmtpTransportPool.class );
+
+    private final Session session;
+
+    private final Semaphore permits;
+
+    private final long idleTimeoutNanos;
+
+    private final Deque<IdleTransport> idle = new ArrayDeque<>();
+
+    SmtpTransportPool( final Session session, final int size, final long idleTimeout, final TimeUnit unit )
+    {
+        this.session = session;
+        this.permits = new Semaphore( Math.max( size, 1 ), true );
+        this.idleTimeoutNanos = unit.toNanos( idleTimeout );
+    }
+
+    void send( final MimeMessage message, final Address[] recipients )
+        throws MessagingException, InterruptedException
+    {
+        this.permits.acquire();
+        final ClassLoader oldLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader( Session.class.getClassLoader() );
+        try
+        {
+            final Transport transport = borrow();
+            boolean reusable = false;
+            try
+            {
+                transport.sendMessage( message, recipients );
+                reusable = true;
+            }
+            catch ( SendFailedException e )
+            {
+                // rejected recipients, the connection itself is fine
+                reusable = true;
+                throw e;
+            }
+            finally
+            {
+                release( transport, reusable );
+            }
+        }
+        finally
+        {
+            Thread.currentThread().setContextClassLoader( oldLoader );
+            this.permits.release();
+        }
+    }
+
+    void close()
+    {
+        IdleTransport transport;
+        while ( ( transport = poll() ) != null )
+        {
+            closeQuietly( transport.transport );
+        }
+    }
+
+    private Transport borrow()
+        throws MessagingException
+    {
+        final long now = System.nanoTime();
+
+        IdleTransport candidate;
+        while ( ( candidate = poll() ) != null )
+        {
+            if ( now - candidate.since < idleTimeoutNanos && candidate.transport.isConnected() )
+            {
+                return candidate.transport;
+            }
+            closeQuietly( candidate.transport );
+        }
+
+        final Transport transport = this.session.getTransport();
+        try
+        {
+            transport.connect();
+        }
+        catch ( MessagingException | RuntimeException e )
+        {
+            closeQuietly( transport );
+            throw e;
+        }
+        return transport;
+    }
+
+    private void release( final Transport transport, final boolean reusable )
+    {
+        if ( reusable )
+        {
+            synchronized ( this.idle )
+            {
+                this.idle.push( new IdleTransport( transport, System.nanoTime() ) );
+            }
+        }
+        else
+        {
+            closeQuietly( transport );
+        }
+    }
+
+    private IdleTransport poll()
+    {
+        synchronized ( this.idle )
+        {
+            return this.idle.poll();
+        }
+    }
+
+    private static void closeQuietly( final Transport transport )
+    {
+        try
+        {
+            transport.close();
+        }
+        catch ( MessagingException e )
+        {
+            LOG.debug( "Cannot close SMTP transport", e );
+        }
+    }
+
+    private static final class IdleTransport
+    {
+        final Transport transport;
+
+        final long since;
+
+        IdleTransport( final Transport transport, final long since )
+        {
+            this.transport = transport;
+            this.since = since;
+        }
+    }
+}
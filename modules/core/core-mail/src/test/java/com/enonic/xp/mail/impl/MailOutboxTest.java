@@ -0,0 +1,214 @@
+package com.enonic.xp.mail.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.enonic.xp.mail.MailException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MailOutboxTest
+{
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Session session = Session.getInstance( new Properties() );
+
+    @Test
+    public void retryUntilSent()
+        throws Exception
+    {
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch sent = new CountDownLatch( 1 );
+
+        final MailOutbox outbox = new MailOutbox( ( message, recipients ) -> {
+            if ( attempts.incrementAndGet() < 3 )
+            {
+                throw new MessagingException( "Too many connections" );
+            }
+            sent.countDown();
+        }, 1, 10, 5, 1, TimeUnit.MILLISECONDS, null );
+
+        try
+        {
+            outbox.submit( newMessage( "Hello" ) );
+            assertTrue( sent.await( 5, TimeUnit.SECONDS ) );
+            assertEquals( 3, attempts.get() );
+            awaitEmpty( outbox );
+        }
+        finally
+        {
+            outbox.shutdown();
+        }
+    }
+
+    @Test
+    public void giveUpAfterMaxAttempts()
+        throws Exception
+    {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final MailOutbox outbox = new MailOutbox( ( message, recipients ) -> {
+            attempts.incrementAndGet();
+            throw new MessagingException( "Connection refused" );
+        }, 1, 10, 2, 1, TimeUnit.MILLISECONDS, null );
+
+        try
+        {
+            outbox.submit( newMessage( "Hello" ) );
+            awaitEmpty( outbox );
+            assertEquals( 2, attempts.get() );
+        }
+        finally
+        {
+            outbox.shutdown();
+        }
+    }
+
+    @Test
+    public void retryUnsentRecipientsOnly()
+        throws Exception
+    {
+        final InternetAddress sentTo = new InternetAddress( "sent@mockserver.com" );
+        final InternetAddress invalid = new InternetAddress( "invalid@mockserver.com" );
+        final InternetAddress unsent = new InternetAddress( "unsent@mockserver.com" );
+
+        final List<List<Address>> attempts = new CopyOnWriteArrayList<>();
+        final CountDownLatch sent = new CountDownLatch( 1 );
+
+        final MailOutbox outbox = new MailOutbox( ( message, recipients ) -> {
+            attempts.add( List.of( recipients ) );
+            if ( attempts.size() == 1 )
+            {
+                throw new SendFailedException( "Partially sent", null, new Address[]{sentTo}, new Address[]{unsent},
+                                               new Address[]{invalid} );
+            }
+            sent.countDown();
+        }, 1, 10, 5, 1, TimeUnit.MILLISECONDS, null );
+
+        try
+        {
+            final MimeMessage message = newMessage( "Hello" );
+            message.setRecipients( Message.RecipientType.TO, new Address[]{sentTo, invalid, unsent} );
+            message.saveChanges();
+
+            outbox.submit( message );
+            assertTrue( sent.await( 5, TimeUnit.SECONDS ) );
+            awaitEmpty( outbox );
+
+            assertEquals( List.of( List.of( sentTo, invalid, unsent ), List.of( unsent ) ), attempts );
+        }
+        finally
+        {
+            outbox.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectWhenFull()
+        throws Exception
+    {
+        final CountDownLatch release = new CountDownLatch( 1 );
+
+        final MailOutbox outbox = new MailOutbox( ( message, recipients ) -> release.await(), 1, 1, 1, 1, TimeUnit.MILLISECONDS, null );
+
+        try
+        {
+            outbox.submit( newMessage( "First" ) );
+            final MimeMessage second = newMessage( "Second" );
+            assertThrows( MailException.class, () -> outbox.submit( second ) );
+        }
+        finally
+        {
+            release.countDown();
+            outbox.shutdown();
+        }
+    }
+
+    @Test
+    public void recoverPersisted()
+        throws Exception
+    {
+        final Path spoolDir = temporaryFolder.resolve( "outbox" );
+
+        final MailOutbox failing = new MailOutbox( ( message, recipients ) -> {
+            throw new MessagingException( "Connection refused" );
+        }, 1, 10, 5, 1, TimeUnit.HOURS, spoolDir );
+        failing.submit( newMessage( "Persisted" ) );
+        failing.shutdown();
+
+        assertEquals( 1, countSpooled( spoolDir ) );
+
+        final AtomicReference<String> subject = new AtomicReference<>();
+        final CountDownLatch sent = new CountDownLatch( 1 );
+        final MailOutbox outbox = new MailOutbox( ( message, recipients ) -> {
+            subject.set( message.getSubject() );
+            sent.countDown();
+        }, 1, 10, 5, 1, TimeUnit.MILLISECONDS, spoolDir );
+
+        try
+        {
+            outbox.recover( session );
+            assertTrue( sent.await( 5, TimeUnit.SECONDS ) );
+            assertEquals( "Persisted", subject.get() );
+            awaitEmpty( outbox );
+            assertEquals( 0, countSpooled( spoolDir ) );
+        }
+        finally
+        {
+            outbox.shutdown();
+        }
+    }
+
+    private MimeMessage newMessage( final String subject )
+        throws MessagingException
+    {
+        final MimeMessage message = new MimeMessage( session );
+        message.setRecipients( Message.RecipientType.TO, "testuser@mockserver.com" );
+        message.setSubject( subject );
+        message.setText( "sometext" );
+        message.saveChanges();
+        return message;
+    }
+
+    private static void awaitEmpty( final MailOutbox outbox )
+        throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+        while ( outbox.getQueued() > 0 && System.nanoTime() < deadline )
+        {
+            Thread.sleep( 10 );
+        }
+        assertEquals( 0, outbox.getQueued() );
+    }
+
+    private static long countSpooled( final Path spoolDir )
+        throws Exception
+    {
+        try (Stream<Path> files = Files.list( spoolDir ))
+        {
+            return files.filter( file -> file.toString().endsWith( ".eml" ) ).count();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.enonic.xp.mail.impl;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.mail.Message;
 import javax.mail.internet.MimeMessage;
@@ -50,6 +51,43 @@ public class MailServiceImplTest
         assertEquals( 1, inbox.size() );
     }
 
+    @Test
+    public void sendTwiceTest()
+        throws Exception
+    {
+        this.mailService.send( this::createMockMessage );
+        this.mailService.send( this::createMockMessage );
+
+        List<Message> inbox = Mailbox.get( "testuser@mockserver.com" );
+        assertEquals( 2, inbox.size() );
+    }
+
+    @Test
+    public void sendWithOutboxTest()
+        throws Exception
+    {
+        final MailConfig config = Mockito.mock( MailConfig.class, invocation -> invocation.getMethod().getDefaultValue() );
+        Mockito.when( config.outboxEnabled() ).thenReturn( true );
+
+        final MailServiceImpl mailService = new MailServiceImpl();
+        mailService.activate( config );
+        try
+        {
+            mailService.send( this::createMockMessage );
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+            while ( Mailbox.get( "testuser@mockserver.com" ).isEmpty() && System.nanoTime() < deadline )
+            {
+                Thread.sleep( 10 );
+            }
+            assertEquals( 1, Mailbox.get( "testuser@mockserver.com" ).size() );
+        }
+        finally
+        {
+            mailService.deactivate();
+        }
+    }
+
     @Test
     public void sessionNotActivatedTest()
         throws Exception
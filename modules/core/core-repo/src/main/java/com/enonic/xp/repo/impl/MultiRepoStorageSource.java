@@ -0,0 +1,33 @@
+package com.enonic.xp.repo.impl;
+
+import com.enonic.xp.repo.impl.storage.StaticStorageType;
+import com.enonic.xp.repository.RepositoryIds;
+
+public class MultiRepoStorageSource
+    implements SearchSource
+{
+    private final RepositoryIds repositoryIds;
+
+    private final StaticStorageType type;
+
+    private MultiRepoStorageSource( final RepositoryIds repositoryIds, final StaticStorageType type )
+    {
+        this.repositoryIds = repositoryIds;
+        this.type = type;
+    }
+
+    public static MultiRepoStorageSource create( final RepositoryIds repositoryIds, final StaticStorageType type )
+    {
+        return new MultiRepoStorageSource( repositoryIds, type );
+    }
+
+    public RepositoryIds getRepositoryIds()
+    {
+        return repositoryIds;
+    }
+
+    public StaticStorageType getType()
+    {
+        return type;
+    }
+}
@@ -0,0 +1,6 @@
+package com.enonic.xp.repo.impl.binary;
+
+public @interface BinaryConfig
+{
+    boolean binary_shared() default false;
+}
@@ -0,0 +1,47 @@
+package com.enonic.xp.repo.impl.binary;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.blob.BlobStore;
+import com.enonic.xp.blob.Segment;
+import com.enonic.xp.blob.SegmentLevel;
+import com.enonic.xp.repo.impl.node.NodeConstants;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.repository.RepositorySegmentUtils;
+
+/**
+ * Segments of binary blobs.
+ * <p>
+ * Binaries are stored either in the segment of their repository, or in a segment shared by all repositories.
+ * The shared segment level is not a valid repository id, so it never clashes with a repository segment.
+ * Blob keys are content hashes, so a binary attached in many repositories is stored once in the shared segment.
+ */
+public final class BinarySegments
+{
+    public static final SegmentLevel SHARED_SEGMENT_LEVEL = SegmentLevel.from( "_shared" );
+
+    public static final Segment SHARED_SEGMENT = Segment.from( SHARED_SEGMENT_LEVEL, NodeConstants.BINARY_SEGMENT_LEVEL );
+
+    private BinarySegments()
+    {
+    }
+
+    public static Segment toSegment( final RepositoryId repositoryId )
+    {
+        return RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.BINARY_SEGMENT_LEVEL );
+    }
+
+    public static boolean isShared( final Segment segment )
+    {
+        return SHARED_SEGMENT_LEVEL.equals( segment.getLevel( RepositorySegmentUtils.REPOSITORY_LEVEL ) );
+    }
+
+    /**
+     * @return binary from the segment of the repository, or from the shared segment, or {@code null} if not found in either
+     */
+    public static BlobRecord getRecord( final BlobStore blobStore, final RepositoryId repositoryId, final BlobKey blobKey )
+    {
+        final BlobRecord record = blobStore.getRecord( toSegment( repositoryId ), blobKey );
+        return record != null ? record : blobStore.getRecord( SHARED_SEGMENT, blobKey );
+    }
+}
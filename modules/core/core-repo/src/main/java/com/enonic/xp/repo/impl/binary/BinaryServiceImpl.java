@@ -12,27 +12,28 @@ import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.Segment;
 import com.enonic.xp.node.AttachedBinary;
 import com.enonic.xp.node.BinaryAttachment;
-import com.enonic.xp.repo.impl.node.NodeConstants;
 import com.enonic.xp.repository.RepositoryExeption;
 import com.enonic.xp.repository.RepositoryId;
-import com.enonic.xp.repository.RepositorySegmentUtils;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.repo")
 public class BinaryServiceImpl
     implements BinaryService
 {
     private final BlobStore blobStore;
 
+    private final boolean shared;
+
     @Activate
-    public BinaryServiceImpl( @Reference final BlobStore blobStore )
+    public BinaryServiceImpl( @Reference final BlobStore blobStore, final BinaryConfig config )
     {
         this.blobStore = blobStore;
+        this.shared = config.binary_shared();
     }
 
     @Override
     public AttachedBinary store( final RepositoryId repositoryId, final BinaryAttachment binaryAttachment )
     {
-        final Segment segment = RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.BINARY_SEGMENT_LEVEL );
+        final Segment segment = shared ? BinarySegments.SHARED_SEGMENT : BinarySegments.toSegment( repositoryId );
         final BlobRecord blob = this.blobStore.addRecord( segment, binaryAttachment.getByteSource() );
         return new AttachedBinary( binaryAttachment.getReference(), blob.getKey().toString() );
     }
@@ -40,8 +41,7 @@ public class BinaryServiceImpl
     @Override
     public ByteSource get( final RepositoryId repositoryId, final AttachedBinary attachedBinary )
     {
-        final Segment segment = RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.BINARY_SEGMENT_LEVEL );
-        final BlobRecord record = blobStore.getRecord( segment, BlobKey.from( attachedBinary.getBlobKey() ) );
+        final BlobRecord record = BinarySegments.getRecord( blobStore, repositoryId, BlobKey.from( attachedBinary.getBlobKey() ) );
 
         if ( record == null )
         {
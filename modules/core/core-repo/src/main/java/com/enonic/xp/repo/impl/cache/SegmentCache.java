@@ -0,0 +1,229 @@
+package com.enonic.xp.repo.impl.cache;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Weight bounded cache of decoded blobs of a single segment level.
+ * <p>
+ * Entries are weighed by the length of their serialized form and are kept decoded, so hits neither copy nor decode.
+ */
+public final class SegmentCache<V>
+{
+    private static final String[] METRIC_NAMES =
+        {"hitRate", "hitCount", "missCount", "evictionCount", "size", "weight", "load"};
+
+    private final String name;
+
+    private final String metricPrefix;
+
+    private final long maxWeight;
+
+    private final Decoder<V> decoder;
+
+    private final Cache<BlobKey, Entry<V>> cache;
+
+    private final AtomicLong weight = new AtomicLong();
+
+    private final Timer loadTimer;
+
+    private SegmentCache( final Builder<V> builder )
+    {
+        this.name = builder.name;
+        this.metricPrefix = MetricRegistry.name( builder.metricPrefix, builder.name );
+        this.maxWeight = builder.maxWeight;
+        this.decoder = builder.decoder;
+
+        final RemovalListener<BlobKey, Entry<V>> removalListener =
+            notification -> weight.addAndGet( -notification.getValue().weight() );
+
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight( maxWeight )
+            .<BlobKey, Entry<V>>weigher( ( key, value ) -> value.weight() )
+            .removalListener( removalListener )
+            .recordStats()
+            .build();
+
+        this.loadTimer = new Timer();
+        registerMetrics();
+    }
+
+    public static <V> Builder<V> create()
+    {
+        return new Builder<>();
+    }
+
+    public V get( final BlobKey key, final Callable<BlobRecord> loader )
+        throws ExecutionException
+    {
+        return cache.get( key, () -> load( loader ) ).value();
+    }
+
+    public void invalidate( final BlobKey key )
+    {
+        cache.invalidate( key );
+    }
+
+    public void invalidateAll()
+    {
+        cache.invalidateAll();
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public long getMaxWeight()
+    {
+        return maxWeight;
+    }
+
+    public long getWeight()
+    {
+        return weight.get();
+    }
+
+    public long getSize()
+    {
+        return cache.size();
+    }
+
+    public CacheStats getStats()
+    {
+        return cache.stats();
+    }
+
+    public void removeMetrics()
+    {
+        for ( String metric : METRIC_NAMES )
+        {
+            Metrics.registry().remove( MetricRegistry.name( metricPrefix, metric ) );
+        }
+    }
+
+    private Entry<V> load( final Callable<BlobRecord> loader )
+        throws Exception
+    {
+        try (Timer.Context ignored = loadTimer.time())
+        {
+            final BlobRecord record = loader.call();
+            // decode before caching, so broken blobs never get into the cache
+            final V value = decoder.decode( record.getBytes() );
+            final Entry<V> entry = new Entry<>( value, (int) Math.min( record.getLength(), Integer.MAX_VALUE ) );
+            weight.addAndGet( entry.weight() );
+            return entry;
+        }
+    }
+
+    private void registerMetrics()
+    {
+        removeMetrics();
+        register( "hitRate", (Gauge<Double>) () -> cache.stats().hitRate() );
+        register( "hitCount", (Gauge<Long>) () -> cache.stats().hitCount() );
+        register( "missCount", (Gauge<Long>) () -> cache.stats().missCount() );
+        register( "evictionCount", (Gauge<Long>) () -> cache.stats().evictionCount() );
+        register( "size", (Gauge<Long>) cache::size );
+        register( "weight", (Gauge<Long>) weight::get );
+        Metrics.register( MetricRegistry.name( metricPrefix, "load" ), loadTimer );
+    }
+
+    private void register( final String metric, final Gauge<?> gauge )
+    {
+        Metrics.register( MetricRegistry.name( metricPrefix, metric ), gauge );
+    }
+
+    @FunctionalInterface
+    public interface Decoder<V>
+    {
+        V decode( ByteSource source )
+            throws IOException;
+    }
+
+    private static final class Entry<V>
+    {
+        private final V value;
+
+        private final int weight;
+
+        Entry( final V value, final int weight )
+        {
+            this.value = value;
+            this.weight = weight;
+        }
+
+        V value()
+        {
+            return value;
+        }
+
+        int weight()
+        {
+            return weight;
+        }
+    }
+
+    public static final class Builder<V>
+    {
+        private String name;
+
+        private String metricPrefix;
+
+        private long maxWeight;
+
+        private Decoder<V> decoder;
+
+        private Builder()
+        {
+        }
+
+        public Builder<V> name( final String name )
+        {
+            this.name = name;
+            return this;
+        }
+
+        public Builder<V> metricPrefix( final String metricPrefix )
+        {
+            this.metricPrefix = metricPrefix;
+            return this;
+        }
+
+        public Builder<V> maxWeight( final long maxWeight )
+        {
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        public Builder<V> decoder( final Decoder<V> decoder )
+        {
+            this.decoder = decoder;
+            return this;
+        }
+
+        public SegmentCache<V> build()
+        {
+            Preconditions.checkNotNull( name, "name is required" );
+            Preconditions.checkNotNull( metricPrefix, "metricPrefix is required" );
+            Preconditions.checkNotNull( decoder, "decoder is required" );
+            Preconditions.checkArgument( maxWeight >= 0, "maxWeight must not be negative" );
+            return new SegmentCache<>( this );
+        }
+    }
+}
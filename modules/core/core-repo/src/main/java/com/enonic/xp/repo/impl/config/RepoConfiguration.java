@@ -6,5 +6,9 @@ public interface RepoConfiguration
 {
     Path getSnapshotsDir();
 
-    int cacheSize();
+    long nodeDataCacheSize();
+
+    long indexConfigCacheSize();
+
+    long accessControlCacheSize();
 }
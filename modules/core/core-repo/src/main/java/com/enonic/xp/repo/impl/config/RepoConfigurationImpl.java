@@ -5,15 +5,20 @@ import java.util.Map;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.enonic.xp.config.ConfigBuilder;
 import com.enonic.xp.config.ConfigInterpolator;
 import com.enonic.xp.config.Configuration;
+import com.enonic.xp.util.ByteSizeParser;
 
 @Component(configurationPid = "com.enonic.xp.repo")
 public final class RepoConfigurationImpl
     implements RepoConfiguration
 {
+    private static final Logger LOG = LoggerFactory.getLogger( RepoConfigurationImpl.class );
+
     private final Configuration config;
 
     @Activate
@@ -23,6 +28,12 @@ public final class RepoConfigurationImpl
             load( getClass(), "default.properties" ).
             addAll( map ).
             build() );
+
+        if ( map.containsKey( "cache.size" ) )
+        {
+            LOG.warn( "cache.size is deprecated and ignored. " +
+                          "Use cache.nodeData.size, cache.indexConfig.size and cache.accessControl.size instead" );
+        }
     }
 
     @Override
@@ -32,8 +43,20 @@ public final class RepoConfigurationImpl
     }
 
     @Override
-    public int cacheSize()
+    public long nodeDataCacheSize()
+    {
+        return ByteSizeParser.parse( this.config.get( "cache.nodeData.size" ) );
+    }
+
+    @Override
+    public long indexConfigCacheSize()
+    {
+        return ByteSizeParser.parse( this.config.get( "cache.indexConfig.size" ) );
+    }
+
+    @Override
+    public long accessControlCacheSize()
     {
-        return Integer.parseInt( this.config.get( "cache.size" ) );
+        return ByteSizeParser.parse( this.config.get( "cache.accessControl.size" ) );
     }
 }
@@ -54,6 +54,12 @@ public class DefaultFilePaths
         return branchRootPath( repositoryId ).resolve( branch.toString() ).resolve( "meta.tar.gz" );
     }
 
+    @Override
+    public PathRef branchDeletionsPath( final RepositoryId repositoryId, final Branch branch )
+    {
+        return branchRootPath( repositoryId ).resolve( branch.toString() ).resolve( "deletions.tar.gz" );
+    }
+
     @Override
     public PathRef versionMetaPath( final RepositoryId repositoryId )
     {
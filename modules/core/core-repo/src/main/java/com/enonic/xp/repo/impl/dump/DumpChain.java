@@ -0,0 +1,149 @@
+package com.enonic.xp.repo.impl.dump;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.enonic.xp.branch.Branch;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.repo.impl.dump.model.BranchDumpEntry;
+import com.enonic.xp.repo.impl.dump.model.VersionMeta;
+import com.enonic.xp.repo.impl.dump.reader.DeletedEntryProcessor;
+import com.enonic.xp.repo.impl.dump.reader.DumpReader;
+import com.enonic.xp.repo.impl.dump.reader.EntryLoadResult;
+import com.enonic.xp.repo.impl.dump.reader.EntryProcessor;
+import com.enonic.xp.repo.impl.dump.serializer.json.JsonDumpSerializer;
+import com.enonic.xp.repository.RepositoryId;
+
+/**
+ * A dump together with the dumps it is based on, ordered from the full dump to the last incremental dump.
+ */
+final class DumpChain
+    implements Closeable
+{
+    private static final Logger LOG = LoggerFactory.getLogger( DumpChain.class );
+
+    private final List<DumpReader> readers;
+
+    private DumpChain( final List<DumpReader> readers )
+    {
+        this.readers = readers;
+    }
+
+    static DumpChain open( final String dumpName, final Function<String, DumpReader> opener )
+    {
+        final Deque<DumpReader> readers = new ArrayDeque<>();
+        final Set<String> visited = new HashSet<>();
+        try
+        {
+            String name = dumpName;
+            while ( name != null )
+            {
+                if ( !visited.add( name ) )
+                {
+                    throw new RepoDumpException( "Circular base dump reference to [" + name + "]" );
+                }
+                final DumpReader reader = opener.apply( name );
+                readers.addFirst( reader );
+                name = reader.getDumpMeta().getBaseDumpName();
+            }
+        }
+        catch ( RuntimeException e )
+        {
+            readers.forEach( DumpChain::closeQuietly );
+            throw e;
+        }
+        return new DumpChain( List.copyOf( readers ) );
+    }
+
+    List<DumpReader> getReaders()
+    {
+        return readers;
+    }
+
+    DumpReader getLast()
+    {
+        return readers.get( readers.size() - 1 );
+    }
+
+    Instant getTimestamp()
+    {
+        return getLast().getDumpMeta().getTimestamp();
+    }
+
+    /**
+     * Replays branch entries and deletions of all dumps in the chain.
+     *
+     * @return branch entry of each node present in the branch after the last dump
+     */
+    Map<NodeId, VersionMeta> getBranchState( final RepositoryId repositoryId, final Branch branch )
+    {
+        final Map<NodeId, VersionMeta> state = new ConcurrentHashMap<>();
+        for ( DumpReader reader : readers )
+        {
+            if ( !reader.getRepositories().contains( repositoryId ) || !reader.getBranches( repositoryId ).contains( branch ) )
+            {
+                state.clear();
+                continue;
+            }
+            reader.loadBranch( repositoryId, branch, new BranchStateProcessor( state ), Runnable::run );
+            reader.loadBranchDeletions( repositoryId, branch, new DeletedEntryProcessor( state::remove ), Runnable::run );
+        }
+        return state;
+    }
+
+    @Override
+    public void close()
+    {
+        readers.forEach( DumpChain::closeQuietly );
+    }
+
+    private static void closeQuietly( final DumpReader reader )
+    {
+        try
+        {
+            reader.close();
+        }
+        catch ( IOException e )
+        {
+            LOG.warn( "Cannot close dump reader", e );
+        }
+    }
+
+    private static final class BranchStateProcessor
+        implements EntryProcessor<BranchDumpEntry>
+    {
+        private final JsonDumpSerializer serializer = new JsonDumpSerializer();
+
+        private final Map<NodeId, VersionMeta> state;
+
+        BranchStateProcessor( final Map<NodeId, VersionMeta> state )
+        {
+            this.state = state;
+        }
+
+        @Override
+        public BranchDumpEntry parse( final String entry )
+        {
+            return serializer.toBranchMetaEntry( entry );
+        }
+
+        @Override
+        public EntryLoadResult load( final BranchDumpEntry entry )
+        {
+            state.put( entry.getNodeId(), entry.getMeta() );
+            return EntryLoadResult.create().successful().build();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.enonic.xp.repo.impl.dump;
+
+public @interface DumpConfig
+{
+    int dump_threads() default 4;
+
+    int dump_concurrentRepositories() default 1;
+}
@@ -4,10 +4,15 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -18,23 +23,32 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Throwables;
+
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.branch.Branches;
 import com.enonic.xp.context.Context;
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.context.ContextBuilder;
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
 import com.enonic.xp.data.PropertyTree;
 import com.enonic.xp.dump.DumpService;
 import com.enonic.xp.dump.DumpUpgradeResult;
 import com.enonic.xp.dump.DumpUpgradeStepResult;
 import com.enonic.xp.dump.RepoDumpResult;
+import com.enonic.xp.dump.SystemDumpListener;
 import com.enonic.xp.dump.SystemDumpParams;
 import com.enonic.xp.dump.SystemDumpResult;
 import com.enonic.xp.dump.SystemDumpUpgradeParams;
+import com.enonic.xp.dump.SystemLoadListener;
 import com.enonic.xp.dump.SystemLoadParams;
 import com.enonic.xp.dump.SystemLoadResult;
 import com.enonic.xp.event.EventPublisher;
 import com.enonic.xp.home.HomeDir;
+import com.enonic.xp.index.IndexType;
 import com.enonic.xp.node.AttachedBinaries;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeService;
@@ -58,6 +72,9 @@ import com.enonic.xp.repo.impl.dump.upgrade.indexaccesssegments.IndexAccessSegme
 import com.enonic.xp.repo.impl.dump.writer.DumpWriter;
 import com.enonic.xp.repo.impl.dump.writer.FileDumpWriter;
 import com.enonic.xp.repo.impl.dump.writer.ZipDumpWriter;
+import com.enonic.xp.repo.impl.index.IndexServiceInternal;
+import com.enonic.xp.repo.impl.index.UpdateIndexSettings;
+import com.enonic.xp.repo.impl.repository.IndexNameResolver;
 import com.enonic.xp.repo.impl.repository.RepositoryEntryService;
 import com.enonic.xp.repo.impl.storage.NodeStorageService;
 import com.enonic.xp.repository.CreateRepositoryParams;
@@ -73,7 +90,7 @@ import com.enonic.xp.util.Version;
 
 import static com.google.common.base.Strings.nullToEmpty;
 
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = "com.enonic.xp.repo")
 @SuppressWarnings("WeakerAccess")
 public class DumpServiceImpl
     implements DumpService
@@ -93,17 +110,25 @@ public class DumpServiceImpl
 
     private NodeStorageService nodeStorageService;
 
+    private IndexServiceInternal indexServiceInternal;
+
     private final EventPublisher eventPublisher;
 
     private final String xpVersion;
 
+    private final int threads;
+
+    private final int concurrentRepositories;
+
     private Path basePath = HomeDir.get().toPath().resolve( "data" ).resolve( "dump" );
 
     @Activate
-    public DumpServiceImpl( @Reference EventPublisher eventPublisher )
+    public DumpServiceImpl( @Reference EventPublisher eventPublisher, final DumpConfig config )
     {
         this.xpVersion = VersionInfo.get().getVersion();
         this.eventPublisher = eventPublisher;
+        this.threads = Math.max( 1, config.dump_threads() );
+        this.concurrentRepositories = Math.max( 1, config.dump_concurrentRepositories() );
     }
 
     @Override
@@ -217,10 +242,19 @@ public class DumpServiceImpl
 
         ensureBasePath();
 
+        if ( params.getBaseDumpName() != null && params.getBaseDumpName().equals( params.getDumpName() ) )
+        {
+            throw new RepoDumpException( "Dump cannot be based on itself" );
+        }
+
+        final Instant timestamp = Instant.now();
+        final DumpChain baseDump =
+            params.getBaseDumpName() != null ? DumpChain.open( params.getBaseDumpName(), name -> openReader( null, name ) ) : null;
+
         final DumpWriter writer = params.isArchive()
             ? ZipDumpWriter.create( basePath, params.getDumpName(), blobStore )
             : FileDumpWriter.create( basePath, params.getDumpName(), blobStore );
-        try (writer)
+        try (writer; baseDump)
         {
             final List<Repository> repositories = repositoryEntryService.findRepositoryEntryIds().stream().
                 map( repositoryEntryService::getRepositoryEntry ).filter( Objects::nonNull ).collect( Collectors.toList() );
@@ -237,28 +271,38 @@ public class DumpServiceImpl
 
             final SystemDumpResult.Builder dumpResults = SystemDumpResult.create();
 
-            for ( final Repository repository : repositories )
+            final SimpleExecutor executor = threads > 1 ? new SimpleExecutor( tf -> Executors.newFixedThreadPool( threads, tf ),
+                                                                              "dump-thread-%d", e -> LOG.error( "Dump task failed", e ) )
+                : null;
+            try
+            {
+                if ( params.isArchive() || concurrentRepositories == 1 || repositories.size() < 2 )
+                {
+                    for ( final Repository repository : repositories )
+                    {
+                        dumpResults.add( dumpRepository( repository, writer, executor, params, baseDump, params.getListener() ) );
+                    }
+                }
+                else
+                {
+                    dumpRepositoriesConcurrently( repositories, executor, params, baseDump ).forEach( dumpResults::add );
+                }
+            }
+            finally
             {
-                final RepoDumpResult result = RepoDumper.create().
-                    writer( writer ).
-                    includeVersions( params.isIncludeVersions() ).
-                    includeBinaries( params.isIncludeBinaries() ).
-                    nodeService( this.nodeService ).
-                    repository( repository ).
-                    maxVersions( params.getMaxVersions() ).
-                    maxAge( params.getMaxAge() ).
-                    listener( params.getListener() ).
-                    build().
-                    execute();
-
-                dumpResults.add( result );
+                if ( executor != null )
+                {
+                    executor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ),
+                                                          neverCommenced -> LOG.warn( "Dump tasks never commenced" ) );
+                }
             }
 
             final SystemDumpResult systemDumpResult = dumpResults.build();
             writer.writeDumpMetaData( DumpMeta.create().
                 xpVersion( this.xpVersion ).
                 modelVersion( DumpConstants.MODEL_VERSION ).
-                timestamp( Instant.now() ).
+                timestamp( timestamp ).
+                baseDumpName( params.getBaseDumpName() ).
                 systemDumpResult( systemDumpResult ).build() );
 
             LOG.info( "Dump completed" );
@@ -270,6 +314,69 @@ public class DumpServiceImpl
         }
     }
 
+    private List<RepoDumpResult> dumpRepositoriesConcurrently( final List<Repository> repositories, final SimpleExecutor executor,
+                                                              final SystemDumpParams params, final DumpChain baseDump )
+    {
+        final SimpleExecutor repositoryExecutor =
+            new SimpleExecutor( tf -> Executors.newFixedThreadPool( Math.min( concurrentRepositories, repositories.size() ), tf ),
+                                "dump-repository-thread-%d", e -> LOG.error( "Dump of repository failed", e ) );
+        try
+        {
+            final Context context = ContextAccessor.current();
+            final SystemDumpListener listener =
+                params.getListener() != null ? new SynchronizedSystemDumpListener( params.getListener() ) : null;
+
+            final List<CompletableFuture<RepoDumpResult>> futures = new ArrayList<>();
+            for ( final Repository repository : repositories )
+            {
+                futures.add( CompletableFuture.supplyAsync( () -> context.callWith( () -> {
+                    try (DumpWriter repositoryWriter = FileDumpWriter.create( basePath, params.getDumpName(), blobStore ))
+                    {
+                        return dumpRepository( repository, repositoryWriter, executor, params, baseDump, listener );
+                    }
+                } ), repositoryExecutor ) );
+            }
+
+            final List<RepoDumpResult> results = new ArrayList<>();
+            for ( CompletableFuture<RepoDumpResult> future : futures )
+            {
+                try
+                {
+                    results.add( future.join() );
+                }
+                catch ( CompletionException e )
+                {
+                    Throwables.throwIfUnchecked( e.getCause() );
+                    throw e;
+                }
+            }
+            return results;
+        }
+        finally
+        {
+            repositoryExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ),
+                                                            neverCommenced -> LOG.warn( "Repository dumps never commenced" ) );
+        }
+    }
+
+    private RepoDumpResult dumpRepository( final Repository repository, final DumpWriter writer, final SimpleExecutor executor,
+                                           final SystemDumpParams params, final DumpChain baseDump, final SystemDumpListener listener )
+    {
+        return RepoDumper.create().
+            writer( writer ).
+            includeVersions( params.isIncludeVersions() ).
+            includeBinaries( params.isIncludeBinaries() ).
+            nodeService( this.nodeService ).
+            repository( repository ).
+            maxVersions( params.getMaxVersions() ).
+            maxAge( params.getMaxAge() ).
+            listener( listener ).
+            executor( executor ).
+            baseDump( baseDump ).
+            build().
+            execute();
+    }
+
     @Override
     public SystemLoadResult load( final SystemLoadParams params )
     {
@@ -290,79 +397,44 @@ public class DumpServiceImpl
         {
             verifyOrUpdateDumpVersion( params, dumpReader );
 
-            final RepositoryIds dumpRepositories = dumpReader.getRepositories();
+            final DumpMeta dumpMeta = dumpReader.getDumpMeta();
 
-            if ( !dumpRepositories.contains( SystemConstants.SYSTEM_REPO_ID ) )
+            try (DumpChain baseDump = dumpMeta.isIncremental()
+                ? DumpChain.open( dumpMeta.getBaseDumpName(), name -> openReader( params.getListener(), name ) )
+                : null)
             {
-                throw new RepoLoadException( "Cannot load system-dump; dump does not contain system repository" );
-            }
-
-            this.eventPublisher.publish( RepositoryEvents.restoreInitialized() );
-
-            if ( params.getListener() != null )
-            {
-                final long branchesCount = dumpRepositories.
-                    stream().
-                    flatMap( repositoryId -> dumpReader.getBranches( repositoryId ).stream() ).
-                    count();
-
-                params.getListener().totalBranches( branchesCount );
-            }
-
-            final boolean includeVersions = params.isIncludeVersions();
-
-            final RepositorySettings currentSystemSettings =
-                repositoryEntryService.getRepositoryEntry( SystemConstants.SYSTEM_REPO_ID ).getSettings();
-
-            final Map<RepositoryId, RepositorySettings> repoSettings = SYSTEM_REPO_IDS.stream()
-                .collect(
-                    Collectors.toMap( Function.identity(), repo -> repositoryEntryService.getRepositoryEntry( repo ).getSettings() ) );
-
-            repositoryEntryService.findRepositoryEntryIds().
-                stream().
-                filter( Predicate.isEqual( SystemConstants.SYSTEM_REPO_ID ).
-                    or( SYSTEM_REPO_IDS::contains ).
-                    negate() ).
-                forEach( this::doDeleteRepository );
-
-            SYSTEM_REPO_IDS.forEach( this::doDeleteRepository );
-
-            // system-repo must be deleted last
-            doDeleteRepository( SystemConstants.SYSTEM_REPO_ID );
-
-            // Load system repo to be able to read repository settings and data
-            initAndLoad( includeVersions, results, dumpReader, SystemConstants.SYSTEM_REPO_ID, currentSystemSettings, null,
-                         AttachedBinaries.empty() );
+                final List<DumpReader> readers = new ArrayList<>();
+                if ( baseDump != null )
+                {
+                    baseDump.getReaders().forEach( this::verifyBaseDumpVersion );
+                    readers.addAll( baseDump.getReaders() );
+                }
+                readers.add( dumpReader );
 
-            SYSTEM_REPO_IDS.forEach( repositoryId -> {
-                if ( dumpRepositories.contains( repositoryId ) )
+                if ( !readers.get( 0 ).getRepositories().contains( SystemConstants.SYSTEM_REPO_ID ) )
                 {
-                    // Dump contains repository. Do a normal load.
-                    initAndLoad( includeVersions, results, dumpReader, repositoryId, repoSettings.get( repositoryId ), new PropertyTree(),
-                                 AttachedBinaries.empty() );
+                    throw new RepoLoadException( "Cannot load system-dump; dump does not contain system repository" );
                 }
-                else
+
+                this.eventPublisher.publish( RepositoryEvents.restoreInitialized() );
+
+                if ( params.getListener() != null )
                 {
-                    // If it is an old dump it does not contain repo. It should be recreated with current settings
-                    initializeRepo( repositoryId, repoSettings.get( repositoryId ), null, AttachedBinaries.empty() );
-                    createRootNode( repositoryId );
+                    final long branchesCount = readers.
+                        stream().
+                        flatMap( reader -> reader.getRepositories().
+                            stream().
+                            flatMap( repositoryId -> reader.getBranches( repositoryId ).stream() ) ).
+                        count();
+
+                    params.getListener().totalBranches( branchesCount );
                 }
 
-            } );
+                doLoad( readers.get( 0 ), params.isIncludeVersions(), results );
 
-            // Load non-system repositories
-            dumpRepositories.
-                stream().
-                filter( Predicate.isEqual( SystemConstants.SYSTEM_REPO_ID ).
-                    or( SYSTEM_REPO_IDS::contains ).
-                    negate() ).
-                forEach( repositoryId -> {
-                    final Repository repository = repositoryEntryService.getRepositoryEntry( repositoryId );
-                    final RepositorySettings settings = repository.getSettings();
-                    final PropertyTree data = repository.getData();
-                    final AttachedBinaries attachedBinaries = repository.getAttachments();
-                    initAndLoad( includeVersions, results, dumpReader, repositoryId, settings, data, attachedBinaries );
-                } );
+                // Incremental dumps are applied on top of the dump they are based on, oldest first
+                readers.stream().skip( 1 ).forEach( reader -> applyIncrement( reader, params.isIncludeVersions(), results ) );
+            }
 
             this.eventPublisher.publish( RepositoryEvents.restored() );
             LOG.info( "Dump Load completed" );
@@ -374,6 +446,96 @@ public class DumpServiceImpl
         return results.build();
     }
 
+    private void doLoad( final DumpReader dumpReader, final boolean includeVersions, final SystemLoadResult.Builder results )
+    {
+        final RepositoryIds dumpRepositories = dumpReader.getRepositories();
+
+        final RepositorySettings currentSystemSettings =
+            repositoryEntryService.getRepositoryEntry( SystemConstants.SYSTEM_REPO_ID ).getSettings();
+
+        final Map<RepositoryId, RepositorySettings> repoSettings = SYSTEM_REPO_IDS.stream()
+            .collect( Collectors.toMap( Function.identity(), repo -> repositoryEntryService.getRepositoryEntry( repo ).getSettings() ) );
+
+        repositoryEntryService.findRepositoryEntryIds().
+            stream().
+            filter( Predicate.isEqual( SystemConstants.SYSTEM_REPO_ID ).
+                or( SYSTEM_REPO_IDS::contains ).
+                negate() ).
+            forEach( this::doDeleteRepository );
+
+        SYSTEM_REPO_IDS.forEach( this::doDeleteRepository );
+
+        // system-repo must be deleted last
+        doDeleteRepository( SystemConstants.SYSTEM_REPO_ID );
+
+        // Load system repo to be able to read repository settings and data
+        initAndLoad( includeVersions, results, dumpReader, SystemConstants.SYSTEM_REPO_ID, currentSystemSettings, null,
+                     AttachedBinaries.empty() );
+
+        SYSTEM_REPO_IDS.forEach( repositoryId -> {
+            if ( dumpRepositories.contains( repositoryId ) )
+            {
+                // Dump contains repository. Do a normal load.
+                initAndLoad( includeVersions, results, dumpReader, repositoryId, repoSettings.get( repositoryId ), new PropertyTree(),
+                             AttachedBinaries.empty() );
+            }
+            else
+            {
+                // If it is an old dump it does not contain repo. It should be recreated with current settings
+                initializeRepo( repositoryId, repoSettings.get( repositoryId ), null, AttachedBinaries.empty() );
+                createRootNode( repositoryId );
+            }
+
+        } );
+
+        // Load non-system repositories
+        dumpRepositories.
+            stream().
+            filter( Predicate.isEqual( SystemConstants.SYSTEM_REPO_ID ).
+                or( SYSTEM_REPO_IDS::contains ).
+                negate() ).
+            forEach( repositoryId -> {
+                final Repository repository = repositoryEntryService.getRepositoryEntry( repositoryId );
+                final RepositorySettings settings = repository.getSettings();
+                final PropertyTree data = repository.getData();
+                final AttachedBinaries attachedBinaries = repository.getAttachments();
+                initAndLoad( includeVersions, results, dumpReader, repositoryId, settings, data, attachedBinaries );
+            } );
+    }
+
+    private void applyIncrement( final DumpReader dumpReader, final boolean includeVersions, final SystemLoadResult.Builder results )
+    {
+        final RepositoryIds dumpRepositories = dumpReader.getRepositories();
+
+        // An incremental dump lists every repository that existed when it was taken
+        repositoryEntryService.findRepositoryEntryIds().
+            stream().
+            filter( Predicate.isEqual( SystemConstants.SYSTEM_REPO_ID ).
+                or( SYSTEM_REPO_IDS::contains ).
+                or( dumpRepositories::contains ).
+                negate() ).
+            forEach( this::doDeleteRepository );
+
+        // Load system repo first, it holds entries of repositories created after the base dump
+        doLoadRepository( SystemConstants.SYSTEM_REPO_ID, includeVersions, dumpReader, results, true );
+
+        dumpRepositories.
+            stream().
+            filter( Predicate.isEqual( SystemConstants.SYSTEM_REPO_ID ).negate() ).
+            forEach( repositoryId -> {
+                if ( !this.nodeRepositoryService.isInitialized( repositoryId ) )
+                {
+                    final Repository repository = repositoryEntryService.getRepositoryEntry( repositoryId );
+                    this.nodeRepositoryService.create( CreateRepositoryParams.create().
+                        repositoryId( repositoryId ).
+                        repositorySettings( repository.getSettings() ).
+                        data( repository.getData() ).
+                        build() );
+                }
+                doLoadRepository( repositoryId, includeVersions, dumpReader, results, true );
+            } );
+    }
+
     void verifyOrUpdateDumpVersion( final SystemLoadParams params, final DumpReader dumpReader )
     {
         final Version modelVersion = Objects.requireNonNullElse( dumpReader.getDumpMeta().getModelVersion(), Version.emptyVersion );
@@ -400,11 +562,22 @@ public class DumpServiceImpl
         }
     }
 
+    private void verifyBaseDumpVersion( final DumpReader dumpReader )
+    {
+        final Version modelVersion = Objects.requireNonNullElse( dumpReader.getDumpMeta().getModelVersion(), Version.emptyVersion );
+
+        if ( modelVersion.getMajor() < DumpConstants.MODEL_VERSION.getMajor() )
+        {
+            throw new RepoLoadException(
+                "Cannot load system-dump; major model version of base dump previous to the current version; upgrade the base system-dump" );
+        }
+    }
+
     void initAndLoad( final boolean includeVersions, final SystemLoadResult.Builder results, final DumpReader dumpReader,
                       final RepositoryId repository, RepositorySettings settings, PropertyTree data, AttachedBinaries attachedBinaries )
     {
         initializeRepo( repository, settings, data, attachedBinaries );
-        doLoadRepository( repository, includeVersions, dumpReader, results );
+        doLoadRepository( repository, includeVersions, dumpReader, results, false );
     }
 
     private void doDeleteRepository( final RepositoryId repositoryId )
@@ -457,19 +630,109 @@ public class DumpServiceImpl
     }
 
     private void doLoadRepository( final RepositoryId repositoryId, final boolean includeVersions, final DumpReader dumpReader,
-                                   final SystemLoadResult.Builder builder )
+                                   final SystemLoadResult.Builder builder, final boolean incremental )
     {
         LOG.info( "Loading repository [" + repositoryId + "]" );
 
-        builder.add( RepoLoader.create().
-            reader( dumpReader ).
-            nodeService( this.nodeService ).
-            blobStore( this.blobStore ).
-            includeVersions( includeVersions ).
-            repositoryEntryService( this.repositoryEntryService ).
-            repositoryId( repositoryId ).
-            build().
-            execute() );
+        final SimpleExecutor executor = threads > 1 ? new SimpleExecutor( tf -> Executors.newFixedThreadPool( threads, tf ),
+                                                                          "load-thread-%d", e -> LOG.error( "Load task failed", e ) )
+            : null;
+        final Runnable restoreIndexing = suspendIndexing( repositoryId );
+        try
+        {
+            builder.add( RepoLoader.create().
+                reader( dumpReader ).
+                nodeService( this.nodeService ).
+                blobStore( this.blobStore ).
+                includeVersions( includeVersions ).
+                repositoryEntryService( this.repositoryEntryService ).
+                repositoryId( repositoryId ).
+                executor( executor ).
+                incremental( incremental ).
+                build().
+                execute() );
+        }
+        finally
+        {
+            if ( executor != null )
+            {
+                executor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ),
+                                                      neverCommenced -> LOG.warn( "Load tasks never commenced" ) );
+            }
+            restoreIndexing.run();
+        }
+    }
+
+    /**
+     * Disables refresh of the search index and replicas of both indices of a repository while it is loaded.
+     *
+     * @return action restoring the previous settings and refreshing the indices
+     */
+    private Runnable suspendIndexing( final RepositoryId repositoryId )
+    {
+        final String searchIndexName = IndexNameResolver.resolveSearchIndexName( repositoryId );
+        final String storageIndexName = IndexNameResolver.resolveStorageIndexName( repositoryId );
+        try
+        {
+            final JsonNode searchSettings = indexServiceInternal.getIndexSettings( repositoryId, IndexType.SEARCH ).getNode();
+            final JsonNode storageSettings = indexServiceInternal.getIndexSettings( repositoryId, IndexType.VERSION ).getNode();
+
+            final UpdateIndexSettings restoreSearchSettings =
+                indexSettings( settingValue( searchSettings, "index.refresh_interval", "1s" ),
+                               settingValue( searchSettings, "index.number_of_replicas", "0" ) );
+            final UpdateIndexSettings restoreStorageSettings =
+                indexSettings( null, settingValue( storageSettings, "index.number_of_replicas", "0" ) );
+
+            indexServiceInternal.updateIndex( searchIndexName, indexSettings( "-1", "0" ) );
+            indexServiceInternal.updateIndex( storageIndexName, indexSettings( null, "0" ) );
+
+            return () -> {
+                // runs in finally of the load, so a failure must not hide the outcome of the load
+                try
+                {
+                    indexServiceInternal.updateIndex( searchIndexName, restoreSearchSettings );
+                    indexServiceInternal.updateIndex( storageIndexName, restoreStorageSettings );
+                    indexServiceInternal.refresh( searchIndexName, storageIndexName );
+                }
+                catch ( Exception e )
+                {
+                    LOG.error( "Cannot restore indexing of repository [" + repositoryId + "] after load", e );
+                }
+            };
+        }
+        catch ( Exception e )
+        {
+            LOG.warn( "Cannot suspend indexing of repository [" + repositoryId + "] during load", e );
+            return () -> {
+            };
+        }
+    }
+
+    private static String settingValue( final JsonNode settings, final String name, final String defaultValue )
+    {
+        final JsonNode value = settings.get( name );
+        return value != null && value.isValueNode() ? value.asText() : defaultValue;
+    }
+
+    private static UpdateIndexSettings indexSettings( final String refreshInterval, final String numberOfReplicas )
+    {
+        final ObjectNode index = JsonNodeFactory.instance.objectNode();
+        if ( refreshInterval != null )
+        {
+            index.put( "refresh_interval", refreshInterval );
+        }
+        index.put( "number_of_replicas", numberOfReplicas );
+
+        final ObjectNode settings = JsonNodeFactory.instance.objectNode();
+        settings.set( "index", index );
+        return UpdateIndexSettings.from( settings.toString() );
+    }
+
+    private DumpReader openReader( final SystemLoadListener listener, final String dumpName )
+    {
+        return Files.exists( basePath.resolve( dumpName + ".zip" ) ) && !Files.isDirectory( basePath.resolve( dumpName ) )
+            ? ZipDumpReader.create( listener, basePath, dumpName )
+            : FileDumpReader.create( listener, basePath, dumpName );
     }
 
     private void ensureBasePath()
@@ -508,6 +771,12 @@ public class DumpServiceImpl
         this.nodeRepositoryService = nodeRepositoryService;
     }
 
+    @Reference
+    public void setIndexServiceInternal( final IndexServiceInternal indexServiceInternal )
+    {
+        this.indexServiceInternal = indexServiceInternal;
+    }
+
     @Reference
     public void setNodeStorageService( final NodeStorageService nodeStorageService )
     {
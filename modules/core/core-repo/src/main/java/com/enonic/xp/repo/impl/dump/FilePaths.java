@@ -15,6 +15,8 @@ public interface FilePaths
 
     PathRef branchMetaPath( RepositoryId repositoryId, Branch branch );
 
+    PathRef branchDeletionsPath( RepositoryId repositoryId, Branch branch );
+
     PathRef versionMetaPath( RepositoryId repositoryId );
 
     PathRef commitMetaPath( RepositoryId repositoryId );
@@ -2,16 +2,28 @@ package com.enonic.xp.repo.impl.dump;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterables;
+
 import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.blob.NodeVersionKey;
 import com.enonic.xp.branch.Branch;
@@ -42,8 +54,10 @@ import com.enonic.xp.node.NodeVersionQuery;
 import com.enonic.xp.node.NodeVersionQueryResult;
 import com.enonic.xp.node.RefreshMode;
 import com.enonic.xp.query.filter.RangeFilter;
+import com.enonic.xp.repo.impl.commit.storage.CommitIndexPath;
 import com.enonic.xp.repo.impl.dump.model.BranchDumpEntry;
 import com.enonic.xp.repo.impl.dump.model.CommitDumpEntry;
+import com.enonic.xp.repo.impl.dump.model.VersionMeta;
 import com.enonic.xp.repo.impl.dump.model.VersionsDumpEntry;
 import com.enonic.xp.repo.impl.dump.writer.DumpWriter;
 import com.enonic.xp.repo.impl.version.VersionIndexPath;
@@ -54,6 +68,8 @@ public class RepoDumper
 {
     private static final Logger LOG = LoggerFactory.getLogger( RepoDumper.class );
 
+    private static final int MAX_IN_FLIGHT = 256;
+
     private final Repository repository;
 
     private final boolean includeVersions;
@@ -72,6 +88,10 @@ public class RepoDumper
 
     private final SystemDumpListener listener;
 
+    private final Executor executor;
+
+    private final DumpChain baseDump;
+
     private RepoDumper( final Builder builder )
     {
         this.repository = builder.repository;
@@ -83,6 +103,8 @@ public class RepoDumper
         this.maxAge = builder.maxAge;
         this.maxVersions = builder.maxVersions;
         this.listener = Objects.requireNonNullElseGet( builder.listener, NullSystemDumpListener::new );
+        this.executor = Objects.requireNonNullElse( builder.executor, Runnable::run );
+        this.baseDump = builder.baseDump;
     }
 
     public RepoDumpResult execute()
@@ -113,11 +135,13 @@ public class RepoDumper
 
         final Branch branch = ContextAccessor.current().getBranch();
 
+        final Map<NodeId, VersionMeta> baseState = baseDump != null ? baseDump.getBranchState( repository.getId(), branch ) : null;
+
         final BranchDumpResult.Builder branchDumpResult = BranchDumpResult.create( branch );
         writer.openBranchMeta( repository.getId(), branch );
         try
         {
-            dumpBranch( branchDumpResult, nodeIdsAccumulator );
+            dumpBranch( branchDumpResult, nodeIdsAccumulator, baseState );
             this.dumpResult.add( branchDumpResult.build() );
         }
         catch ( Exception e )
@@ -128,9 +152,15 @@ public class RepoDumper
         {
             writer.closeMeta();
         }
+
+        if ( baseState != null && !baseState.isEmpty() )
+        {
+            dumpDeletions( branch, baseState.keySet() );
+        }
     }
 
-    private void dumpBranch( final BranchDumpResult.Builder dumpResult, Consumer<NodeId> nodeIdsAccumulator )
+    private void dumpBranch( final BranchDumpResult.Builder dumpResult, Consumer<NodeId> nodeIdsAccumulator,
+                             final Map<NodeId, VersionMeta> baseState )
     {
         final Node rootNode = this.nodeService.getRoot();
 
@@ -141,13 +171,29 @@ public class RepoDumper
         this.listener.dumpingBranch( repository.getId(), branch, children.getTotalHits() + 1 );
         LOG.info( "Dumping repository [{}], branch [{}]", repository.getId(), branch );
 
-        doDumpNode( rootNode.id(), dumpResult );
-        nodeIdsAccumulator.accept( rootNode.id() );
+        pipeline( Iterables.concat( List.of( rootNode.id() ), children.getNodeIds() ), nodeId -> fetchNode( nodeId, baseState ),
+                  dumpedNode -> {
+                      writeNode( dumpedNode, dumpResult );
+                      nodeIdsAccumulator.accept( dumpedNode.nodeId );
+                      if ( baseState != null )
+                      {
+                          baseState.remove( dumpedNode.nodeId );
+                      }
+                  } );
+    }
+
+    private void dumpDeletions( final Branch branch, final Collection<NodeId> deletedNodes )
+    {
+        LOG.info( "Dumping {} deletions in repository [{}], branch [{}]", deletedNodes.size(), repository.getId(), branch );
 
-        for ( final NodeId child : children.getNodeIds() )
+        writer.openBranchDeletionsMeta( repository.getId(), branch );
+        try
+        {
+            deletedNodes.forEach( writer::writeDeletedEntry );
+        }
+        finally
         {
-            doDumpNode( child, dumpResult );
-            nodeIdsAccumulator.accept( child );
+            writer.closeMeta();
         }
     }
 
@@ -156,19 +202,17 @@ public class RepoDumper
         writer.openVersionsMeta( repository.getId() );
         try
         {
-            for ( NodeId nodeId : dumpedNodes )
-            {
-                final VersionsDumpEntry.Builder builder = VersionsDumpEntry.create( nodeId );
-
-                final NodeVersionQueryResult versions = getVersions( nodeId );
-                for ( final NodeVersionMetadata metaData : versions.getNodeVersionsMetadata() )
+            pipeline( dumpedNodes, this::fetchVersions, dumpedVersions -> {
+                dumpedVersions.errors.forEach( this.dumpResult::error );
+                for ( int i = 0; i < dumpedVersions.versionCount; i++ )
                 {
-                    doStoreVersion( builder, metaData, this.dumpResult );
                     this.dumpResult.addedVersion();
                 }
-
-                writer.writeVersionsEntry( builder.build() );
-            }
+                if ( baseDump == null || dumpedVersions.versionCount > 0 )
+                {
+                    writer.writeVersionsEntry( dumpedVersions.entry );
+                }
+            } );
         }
         finally
         {
@@ -181,9 +225,17 @@ public class RepoDumper
         writer.openCommitsMeta( repository.getId() );
         try
         {
-            final NodeCommitQuery nodeCommitQuery = NodeCommitQuery.create().size( -1 ).build();
+            final NodeCommitQuery.Builder nodeCommitQuery = NodeCommitQuery.create().size( -1 );
+
+            if ( baseDump != null )
+            {
+                nodeCommitQuery.addQueryFilter( RangeFilter.create().
+                    fieldName( CommitIndexPath.TIMESTAMP.getPath() ).
+                    from( ValueFactory.newDateTime( baseDump.getTimestamp() ) ).
+                    build() );
+            }
 
-            final NodeCommitEntries nodeCommitEntries = this.nodeService.findCommits( nodeCommitQuery ).
+            final NodeCommitEntries nodeCommitEntries = this.nodeService.findCommits( nodeCommitQuery.build() ).
                 getNodeCommitEntries();
 
             nodeCommitEntries.stream().
@@ -201,8 +253,22 @@ public class RepoDumper
         }
     }
 
+    private DumpedVersions fetchVersions( final NodeId nodeId )
+    {
+        final VersionsDumpEntry.Builder builder = VersionsDumpEntry.create( nodeId );
+        final List<DumpError> errors = new ArrayList<>();
+
+        final NodeVersionQueryResult versions = getVersions( nodeId );
+        for ( final NodeVersionMetadata metaData : versions.getNodeVersionsMetadata() )
+        {
+            doStoreVersion( builder, metaData, errors );
+        }
+
+        return new DumpedVersions( builder.build(), versions.getNodeVersionsMetadata().size(), errors );
+    }
+
     private void doStoreVersion( final VersionsDumpEntry.Builder builder, final NodeVersionMetadata metaData,
-                                 final RepoDumpResult.Builder dumpResult )
+                                 final List<DumpError> errors )
     {
         try
         {
@@ -214,7 +280,7 @@ public class RepoDumper
         }
         catch ( Exception e )
         {
-            dumpResult.error( DumpError.error( e.getMessage() ) );
+            errors.add( DumpError.error( e.getMessage() ) );
         }
     }
 
@@ -254,24 +320,56 @@ public class RepoDumper
             build();
     }
 
-    private void doDumpNode( final NodeId nodeId, final BranchDumpResult.Builder dumpResult )
+    private DumpedNode fetchNode( final NodeId nodeId, final Map<NodeId, VersionMeta> baseState )
     {
+        final DumpedNode dumpedNode = new DumpedNode( nodeId );
         try
         {
-            final BranchDumpEntry branchDumpEntry = createDumpEntry( nodeId );
-            writer.writeBranchEntry( branchDumpEntry );
-            writer.writeNodeVersionBlobs( repository.getId(), branchDumpEntry.getMeta().getNodeVersionKey() );
-            writeBinaries( dumpResult, branchDumpEntry.getBinaryReferences() );
+            dumpedNode.entry = createDumpEntry( nodeId );
+            if ( baseState != null && dumpedNode.entry.getMeta().equals( baseState.get( nodeId ) ) )
+            {
+                dumpedNode.unchanged = true;
+                return dumpedNode;
+            }
+            writer.writeNodeVersionBlobs( repository.getId(), dumpedNode.entry.getMeta().getNodeVersionKey() );
+            writeBinaries( dumpedNode.errors, dumpedNode.entry.getBinaryReferences() );
+        }
+        catch ( Exception e )
+        {
+            dumpedNode.failure = e;
+        }
+        return dumpedNode;
+    }
+
+    private void writeNode( final DumpedNode dumpedNode, final BranchDumpResult.Builder dumpResult )
+    {
+        try
+        {
+            if ( dumpedNode.unchanged )
+            {
+                this.listener.nodeDumped();
+                return;
+            }
+            if ( dumpedNode.entry != null )
+            {
+                writer.writeBranchEntry( dumpedNode.entry );
+            }
+            dumpedNode.errors.forEach( dumpResult::error );
+
+            if ( dumpedNode.failure != null )
+            {
+                throw dumpedNode.failure;
+            }
             dumpResult.addedNode();
             this.listener.nodeDumped();
         }
         catch ( Exception e )
         {
-            dumpResult.error( DumpError.error( "Cannot dump node with id [" + nodeId + "]: " + e.getMessage() ) );
+            dumpResult.error( DumpError.error( "Cannot dump node with id [" + dumpedNode.nodeId + "]: " + e.getMessage() ) );
         }
     }
 
-    private void writeBinaries( final BranchDumpResult.Builder dumpResult, final Collection<String> binaryReferences )
+    private void writeBinaries( final List<DumpError> errors, final Collection<String> binaryReferences )
     {
         binaryReferences.forEach( ref -> {
             try
@@ -281,11 +379,48 @@ public class RepoDumper
             catch ( RepoDumpException e )
             {
                 LOG.error( "Cannot dump binary:", e );
-                dumpResult.error( DumpError.error( "Cannot dump binary: " + e.getMessage() ) );
+                errors.add( DumpError.error( "Cannot dump binary: " + e.getMessage() ) );
             }
         } );
     }
 
+    /**
+     * Fetches data for each node on the executor, keeping a bounded number of nodes in flight,
+     * and hands results to the consumer in the calling thread in the original node order.
+     */
+    private <T> void pipeline( final Iterable<NodeId> nodeIds, final Function<NodeId, T> fetcher, final Consumer<T> consumer )
+    {
+        final Context context = ContextAccessor.current();
+        final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+
+        for ( NodeId nodeId : nodeIds )
+        {
+            inFlight.add( CompletableFuture.supplyAsync( () -> context.callWith( () -> fetcher.apply( nodeId ) ), executor ) );
+            if ( inFlight.size() >= MAX_IN_FLIGHT )
+            {
+                consumer.accept( await( inFlight.poll() ) );
+            }
+        }
+
+        while ( !inFlight.isEmpty() )
+        {
+            consumer.accept( await( inFlight.poll() ) );
+        }
+    }
+
+    private static <T> T await( final CompletableFuture<T> future )
+    {
+        try
+        {
+            return future.join();
+        }
+        catch ( CompletionException e )
+        {
+            Throwables.throwIfUnchecked( e.getCause() );
+            throw e;
+        }
+    }
+
     private BranchDumpEntry createDumpEntry( final NodeId nodeId )
     {
         final BranchDumpEntry.Builder builder = BranchDumpEntry.create().
@@ -332,6 +467,14 @@ public class RepoDumper
                 build() );
         }
 
+        if ( this.baseDump != null )
+        {
+            queryBuilder.addQueryFilter( RangeFilter.create().
+                fieldName( VersionIndexPath.TIMESTAMP.getPath() ).
+                from( ValueFactory.newDateTime( this.baseDump.getTimestamp() ) ).
+                build() );
+        }
+
         return this.nodeService.findVersions( queryBuilder.build() );
     }
 
@@ -358,6 +501,10 @@ public class RepoDumper
 
         private SystemDumpListener listener;
 
+        private Executor executor;
+
+        private DumpChain baseDump;
+
         private Builder()
         {
         }
@@ -410,9 +557,55 @@ public class RepoDumper
             return this;
         }
 
+        public Builder executor( final Executor executor )
+        {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder baseDump( final DumpChain baseDump )
+        {
+            this.baseDump = baseDump;
+            return this;
+        }
+
         public RepoDumper build()
         {
             return new RepoDumper( this );
         }
     }
+
+    private static final class DumpedNode
+    {
+        final NodeId nodeId;
+
+        final List<DumpError> errors = new ArrayList<>();
+
+        BranchDumpEntry entry;
+
+        boolean unchanged;
+
+        Exception failure;
+
+        DumpedNode( final NodeId nodeId )
+        {
+            this.nodeId = nodeId;
+        }
+    }
+
+    private static final class DumpedVersions
+    {
+        final VersionsDumpEntry entry;
+
+        final int versionCount;
+
+        final List<DumpError> errors;
+
+        DumpedVersions( final VersionsDumpEntry entry, final int versionCount, final List<DumpError> errors )
+        {
+            this.entry = entry;
+            this.versionCount = versionCount;
+            this.errors = errors;
+        }
+    }
 }
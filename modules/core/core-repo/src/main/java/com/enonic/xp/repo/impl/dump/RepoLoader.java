@@ -1,5 +1,9 @@
 package com.enonic.xp.repo.impl.dump;
 
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.branch.Branch;
 import com.enonic.xp.branch.Branches;
@@ -7,11 +11,14 @@ import com.enonic.xp.context.Context;
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.context.ContextBuilder;
 import com.enonic.xp.dump.BranchLoadResult;
+import com.enonic.xp.dump.LoadError;
 import com.enonic.xp.dump.RepoLoadResult;
 import com.enonic.xp.node.NodeService;
 import com.enonic.xp.repo.impl.dump.reader.BranchEntryProcessor;
 import com.enonic.xp.repo.impl.dump.reader.CommitEntryProcessor;
+import com.enonic.xp.repo.impl.dump.reader.DeletedEntryProcessor;
 import com.enonic.xp.repo.impl.dump.reader.DumpReader;
+import com.enonic.xp.repo.impl.dump.reader.EntriesLoadResult;
 import com.enonic.xp.repo.impl.dump.reader.VersionEntryProcessor;
 import com.enonic.xp.repo.impl.repository.RepositoryEntryService;
 import com.enonic.xp.repository.Repository;
@@ -36,6 +43,10 @@ class RepoLoader
 
     private final CommitEntryProcessor commitEntryProcessor;
 
+    private final Executor executor;
+
+    private final boolean incremental;
+
     private RepoLoader( final Builder builder )
     {
         repositoryId = builder.repositoryId;
@@ -43,6 +54,8 @@ class RepoLoader
         nodeService = builder.nodeService;
         reader = builder.reader;
         this.includeVersions = builder.includeVersions;
+        this.executor = Objects.requireNonNullElse( builder.executor, Runnable::run );
+        this.incremental = builder.incremental;
         this.branchEntryProcessor = BranchEntryProcessor.create().
             dumpReader( this.reader ).
             nodeService( this.nodeService ).
@@ -102,18 +115,35 @@ class RepoLoader
     {
         final Branch currentBranch = ContextAccessor.current().getBranch();
         verifyOrCreateBranch( currentBranch );
-        final BranchLoadResult branchLoadResult = this.reader.loadBranch( repositoryId, currentBranch, this.branchEntryProcessor );
-        result.add( branchLoadResult );
+        final BranchLoadResult branchLoadResult =
+            this.reader.loadBranch( repositoryId, currentBranch, this.branchEntryProcessor, this.executor );
+
+        if ( !incremental )
+        {
+            result.add( branchLoadResult );
+            return;
+        }
+
+        // deleting a node removes its subtree, so deletions are applied one at a time
+        final EntriesLoadResult deletions =
+            this.reader.loadBranchDeletions( repositoryId, currentBranch, new DeletedEntryProcessor( nodeService::deleteById ),
+                                             Runnable::run );
+
+        result.add( BranchLoadResult.create( currentBranch ).
+            successful( branchLoadResult.getSuccessful() ).
+            errors( branchLoadResult.getErrors() ).
+            errors( deletions.getErrors().stream().map( error -> LoadError.error( error.getMessage() ) ).collect( Collectors.toList() ) ).
+            build() );
     }
 
     private void loadVersions( final RepoLoadResult.Builder result )
     {
-        result.versions( this.reader.loadVersions( repositoryId, this.versionEntryProcessor ) );
+        result.versions( this.reader.loadVersions( repositoryId, this.versionEntryProcessor, this.executor ) );
     }
 
     private void loadCommits( final RepoLoadResult.Builder result )
     {
-        result.commits( this.reader.loadCommits( repositoryId, this.commitEntryProcessor ) );
+        result.commits( this.reader.loadCommits( repositoryId, this.commitEntryProcessor, this.executor ) );
     }
 
     private void verifyOrCreateBranch( final Branch branch )
@@ -147,6 +177,10 @@ class RepoLoader
 
         private BlobStore blobStore;
 
+        private Executor executor;
+
+        private boolean incremental;
+
         private Builder()
         {
         }
@@ -187,6 +221,18 @@ class RepoLoader
             return this;
         }
 
+        public Builder executor( final Executor val )
+        {
+            executor = val;
+            return this;
+        }
+
+        public Builder incremental( final boolean val )
+        {
+            incremental = val;
+            return this;
+        }
+
         public RepoLoader build()
         {
             return new RepoLoader( this );
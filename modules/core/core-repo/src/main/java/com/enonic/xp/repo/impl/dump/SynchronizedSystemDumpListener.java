@@ -0,0 +1,34 @@
+package com.enonic.xp.repo.impl.dump;
+
+import com.enonic.xp.branch.Branch;
+import com.enonic.xp.dump.SystemDumpListener;
+import com.enonic.xp.repository.RepositoryId;
+
+final class SynchronizedSystemDumpListener
+    implements SystemDumpListener
+{
+    private final SystemDumpListener delegate;
+
+    SynchronizedSystemDumpListener( final SystemDumpListener delegate )
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized void totalBranches( final long total )
+    {
+        delegate.totalBranches( total );
+    }
+
+    @Override
+    public synchronized void dumpingBranch( final RepositoryId repositoryId, final Branch branch, final long total )
+    {
+        delegate.dumpingBranch( repositoryId, branch, total );
+    }
+
+    @Override
+    public synchronized void nodeDumped()
+    {
+        delegate.nodeDumped();
+    }
+}
@@ -6,6 +6,7 @@ import com.google.common.io.ByteSink;
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.BlobStoreException;
 import com.enonic.xp.blob.Segment;
 import com.enonic.xp.repo.impl.dump.PathRef;
@@ -43,6 +44,26 @@ public abstract class AbstractDumpBlobStore
         }
     }
 
+    @Override
+    public void addRecord( final Segment segment, final BlobRecord record )
+        throws BlobStoreException
+    {
+        try
+        {
+            writeRecord( segment, record );
+        }
+        catch ( final IOException e )
+        {
+            throw new BlobStoreException( "Failed to add blob", e );
+        }
+    }
+
+    protected void writeRecord( final Segment segment, final BlobRecord record )
+        throws IOException
+    {
+        writeRecord( segment, record.getKey(), record.getBytes() );
+    }
+
     protected abstract ByteSource getBytes( Segment segment, BlobKey key );
 
     protected abstract ByteSink getByteSink( Segment segment, BlobKey key );
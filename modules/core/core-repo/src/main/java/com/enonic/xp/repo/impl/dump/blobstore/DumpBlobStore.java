@@ -3,6 +3,7 @@ package com.enonic.xp.repo.impl.dump.blobstore;
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.Segment;
 
 public interface DumpBlobStore
@@ -10,4 +11,6 @@ public interface DumpBlobStore
     DumpBlobRecord getRecord( Segment segment, BlobKey key );
 
     BlobKey addRecord( Segment segment, ByteSource in );
+
+    void addRecord( Segment segment, BlobRecord record );
 }
@@ -1,22 +1,38 @@
 package com.enonic.xp.repo.impl.dump.blobstore;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.io.ByteSink;
 import com.google.common.io.ByteSource;
 import com.google.common.io.MoreFiles;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.Segment;
 import com.enonic.xp.repo.impl.dump.PathRef;
 
 public class FileDumpBlobStore
     extends AbstractDumpBlobStore
 {
+    private static final Logger LOG = LoggerFactory.getLogger( FileDumpBlobStore.class );
+
     private final Path baseDir;
 
+    private volatile boolean linkFiles = true;
+
     public FileDumpBlobStore( final Path baseDir )
     {
         super( PathRef.of() );
@@ -38,7 +54,7 @@ public class FileDumpBlobStore
     @Override
     protected ByteSink getByteSink( final Segment segment, final BlobKey key )
     {
-        return MoreFiles.asByteSink( getBlobRef( segment, key ).asPath( baseDir ) );
+        return new ReplacingByteSink( getBlobRef( segment, key ).asPath( baseDir ) );
     }
 
     @Override
@@ -49,7 +65,224 @@ public class FileDumpBlobStore
         if ( !Files.exists( file ) )
         {
             Files.createDirectories( file.getParent() );
-            in.copyTo( MoreFiles.asByteSink( file ) );
+            copy( in, file );
+        }
+    }
+
+    @Override
+    protected void writeRecord( final Segment segment, final BlobRecord record )
+        throws IOException
+    {
+        final Optional<Path> source = record.getFile();
+        if ( source.isEmpty() || !linkFiles )
+        {
+            super.writeRecord( segment, record );
+            return;
+        }
+
+        final Path file = getBlobRef( segment, record.getKey() ).asPath( baseDir );
+        if ( Files.exists( file ) )
+        {
+            return;
+        }
+
+        Files.createDirectories( file.getParent() );
+        try
+        {
+            Files.createLink( file, source.get() );
+        }
+        catch ( FileAlreadyExistsException e )
+        {
+            // written concurrently by another dump thread
+        }
+        catch ( UnsupportedOperationException e )
+        {
+            // links not supported: fall back to copying for the rest of the dump
+            LOG.debug( "Cannot link blob file [{}], copying instead", source.get(), e );
+            linkFiles = false;
+            copy( record.getBytes(), file );
+        }
+        catch ( FileSystemException e )
+        {
+            // different file system: fall back to copying for the rest of the dump, otherwise only for this file
+            LOG.debug( "Cannot link blob file [{}], copying instead", source.get(), e );
+            if ( isCrossDevice( e ) )
+            {
+                linkFiles = false;
+            }
+            copy( record.getBytes(), file );
+        }
+    }
+
+    private static boolean isCrossDevice( final FileSystemException e )
+    {
+        final String reason = e.getReason();
+        if ( reason == null )
+        {
+            return false;
+        }
+        final String lowerCaseReason = reason.toLowerCase( Locale.ROOT );
+        // EXDEV on Unix, ERROR_NOT_SAME_DEVICE on Windows
+        return lowerCaseReason.contains( "cross-device" ) || lowerCaseReason.contains( "different disk drive" );
+    }
+
+    private static void copy( final ByteSource in, final Path file )
+        throws IOException
+    {
+        final Path tempFile = Files.createTempFile( file.getParent(), file.getFileName().toString(), ".tmp" );
+        try
+        {
+            in.copyTo( MoreFiles.asByteSink( tempFile ) );
+            Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( tempFile );
+        }
+    }
+
+    /**
+     * Dump files may be links to the blob store files, so they are replaced instead of written in place.
+     */
+    private static final class ReplacingByteSink
+        extends ByteSink
+    {
+        private final Path file;
+
+        ReplacingByteSink( final Path file )
+        {
+            this.file = file;
+        }
+
+        @Override
+        public OutputStream openStream()
+            throws IOException
+        {
+            final Path tempFile = Files.createTempFile( file.getParent(), file.getFileName().toString(), ".tmp" );
+            try
+            {
+                return new ReplacingOutputStream( Files.newOutputStream( tempFile ), tempFile, file );
+            }
+            catch ( IOException | RuntimeException e )
+            {
+                Files.deleteIfExists( tempFile );
+                throw e;
+            }
+        }
+
+        @Override
+        public void write( final byte[] bytes )
+            throws IOException
+        {
+            copy( ByteSource.wrap( bytes ), file );
+        }
+
+        @Override
+        public long writeFrom( final InputStream input )
+            throws IOException
+        {
+            final Path tempFile = Files.createTempFile( file.getParent(), file.getFileName().toString(), ".tmp" );
+            try
+            {
+                final long written = MoreFiles.asByteSink( tempFile ).writeFrom( input );
+                Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+                return written;
+            }
+            finally
+            {
+                Files.deleteIfExists( tempFile );
+            }
+        }
+    }
+
+    /**
+     * Writes to a temp file that replaces the target file on close, unless writing to it failed.
+     */
+    private static final class ReplacingOutputStream
+        extends FilterOutputStream
+    {
+        private final Path tempFile;
+
+        private final Path file;
+
+        private boolean failed;
+
+        private boolean closed;
+
+        ReplacingOutputStream( final OutputStream out, final Path tempFile, final Path file )
+        {
+            super( out );
+            this.tempFile = tempFile;
+            this.file = file;
+        }
+
+        @Override
+        public void write( final int b )
+            throws IOException
+        {
+            try
+            {
+                out.write( b );
+            }
+            catch ( IOException | RuntimeException e )
+            {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write( final byte[] b, final int off, final int len )
+            throws IOException
+        {
+            try
+            {
+                out.write( b, off, len );
+            }
+            catch ( IOException | RuntimeException e )
+            {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush()
+            throws IOException
+        {
+            try
+            {
+                out.flush();
+            }
+            catch ( IOException | RuntimeException e )
+            {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            if ( closed )
+            {
+                return;
+            }
+            closed = true;
+
+            try
+            {
+                super.close();
+                if ( !failed )
+                {
+                    Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+                }
+            }
+            finally
+            {
+                Files.deleteIfExists( tempFile );
+            }
         }
     }
 }
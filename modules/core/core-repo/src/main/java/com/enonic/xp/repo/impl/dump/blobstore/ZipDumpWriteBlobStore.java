@@ -2,8 +2,8 @@ package com.enonic.xp.repo.impl.dump.blobstore;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
@@ -24,7 +24,7 @@ public class ZipDumpWriteBlobStore
 
     private final ZipArchiveOutputStream zipArchiveOutputStream;
 
-    private final Map<String, ByteSource> records = new HashMap<>();
+    private final Map<String, ByteSource> records = new ConcurrentHashMap<>();
 
     public ZipDumpWriteBlobStore( String dumpName, ZipArchiveOutputStream zipArchiveOutputStream )
     {
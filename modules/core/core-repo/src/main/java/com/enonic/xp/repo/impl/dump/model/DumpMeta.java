@@ -15,12 +15,15 @@ public class DumpMeta
 
     private final Version modelVersion;
 
+    private final String baseDumpName;
+
     public DumpMeta( final Builder builder )
     {
         this.timestamp = builder.timestamp;
         this.xpVersion = builder.xpVersion;
         this.systemDumpResult = builder.systemDumpResult;
         this.modelVersion = builder.modelVersion;
+        this.baseDumpName = builder.baseDumpName;
     }
 
     public String getXpVersion()
@@ -49,7 +52,8 @@ public class DumpMeta
             xpVersion( source.getXpVersion() ).
             modelVersion( source.getModelVersion() ).
             timestamp(source.getTimestamp() ).
-            systemDumpResult( source.getSystemDumpResult() );
+            systemDumpResult( source.getSystemDumpResult() ).
+            baseDumpName( source.getBaseDumpName() );
     }
 
     public Version getModelVersion()
@@ -57,6 +61,16 @@ public class DumpMeta
         return modelVersion;
     }
 
+    public String getBaseDumpName()
+    {
+        return baseDumpName;
+    }
+
+    public boolean isIncremental()
+    {
+        return baseDumpName != null;
+    }
+
     public static class Builder
     {
         private String xpVersion;
@@ -67,6 +81,8 @@ public class DumpMeta
 
         private Version modelVersion;
 
+        private String baseDumpName;
+
         public Builder xpVersion( final String xpVersion )
         {
             this.xpVersion = xpVersion;
@@ -91,6 +107,12 @@ public class DumpMeta
             return this;
         }
 
+        public Builder baseDumpName( final String baseDumpName )
+        {
+            this.baseDumpName = baseDumpName;
+            return this;
+        }
+
         public DumpMeta build()
         {
             return new DumpMeta( this );
@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
@@ -14,7 +15,6 @@ import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteSource;
-import com.google.common.io.LineProcessor;
 
 import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.blob.NodeVersionKey;
@@ -93,7 +93,7 @@ public abstract class AbstractDumpReader
 
     @Override
     public BranchLoadResult loadBranch( final RepositoryId repositoryId, final Branch branch,
-                                        final LineProcessor<EntryLoadResult> processor )
+                                        final EntryProcessor<?> processor, final Executor executor )
     {
         final PathRef tarFile = filePaths.branchMetaPath( repositoryId, branch );
 
@@ -106,7 +106,7 @@ public abstract class AbstractDumpReader
             return builder.build();
         }
 
-        final EntriesLoadResult result = doLoadEntries( processor, tarFile );
+        final EntriesLoadResult result = doLoadEntries( processor, executor, tarFile );
 
         return builder.
             successful( result.getSuccessful() ).
@@ -115,7 +115,21 @@ public abstract class AbstractDumpReader
     }
 
     @Override
-    public VersionsLoadResult loadVersions( final RepositoryId repositoryId, final LineProcessor<EntryLoadResult> processor )
+    public EntriesLoadResult loadBranchDeletions( final RepositoryId repositoryId, final Branch branch,
+                                                  final EntryProcessor<?> processor, final Executor executor )
+    {
+        final PathRef tarFile = filePaths.branchDeletionsPath( repositoryId, branch );
+
+        if ( !exists( tarFile ) )
+        {
+            return EntriesLoadResult.create().build();
+        }
+
+        return doLoadEntries( processor, executor, tarFile );
+    }
+
+    @Override
+    public VersionsLoadResult loadVersions( final RepositoryId repositoryId, final EntryProcessor<?> processor, final Executor executor )
     {
         final PathRef tarFile = filePaths.versionMetaPath( repositoryId );
 
@@ -128,7 +142,7 @@ public abstract class AbstractDumpReader
             return builder.build();
         }
 
-        final EntriesLoadResult result = doLoadEntries( processor, tarFile );
+        final EntriesLoadResult result = doLoadEntries( processor, executor, tarFile );
 
         return builder.
             successful( result.getSuccessful() ).
@@ -137,7 +151,7 @@ public abstract class AbstractDumpReader
     }
 
     @Override
-    public CommitsLoadResult loadCommits( final RepositoryId repositoryId, final LineProcessor<EntryLoadResult> processor )
+    public CommitsLoadResult loadCommits( final RepositoryId repositoryId, final EntryProcessor<?> processor, final Executor executor )
     {
         final PathRef tarFile = filePaths.commitMetaPath( repositoryId );
 
@@ -150,7 +164,7 @@ public abstract class AbstractDumpReader
             return builder.build();
         }
 
-        final EntriesLoadResult result = doLoadEntries( processor, tarFile );
+        final EntriesLoadResult result = doLoadEntries( processor, executor, tarFile );
 
         return builder.
             successful( result.getSuccessful() ).
@@ -228,17 +242,16 @@ public abstract class AbstractDumpReader
         }
     }
 
-    private EntriesLoadResult doLoadEntries( final LineProcessor<EntryLoadResult> processor, final PathRef tarFile )
+    private <T> EntriesLoadResult doLoadEntries( final EntryProcessor<T> processor, final Executor executor, final PathRef tarFile )
     {
-        final EntriesLoadResult.Builder result = EntriesLoadResult.create();
+        final EntryPipeline<T> pipeline = new EntryPipeline<>( processor, executor, listener );
 
         try (TarArchiveInputStream tarInputStream = openStream( tarFile ))
         {
             TarArchiveEntry entry = tarInputStream.getNextTarEntry();
             while ( entry != null )
             {
-                final EntryLoadResult entryLoadResult = handleEntry( processor, tarInputStream );
-                result.add( entryLoadResult );
+                pipeline.submit( readEntry( tarInputStream ) );
                 entry = tarInputStream.getNextTarEntry();
             }
         }
@@ -247,7 +260,7 @@ public abstract class AbstractDumpReader
             throw new RepoDumpException( "Cannot read meta-data", e );
         }
 
-        return result.build();
+        return pipeline.complete();
     }
 
     private TarArchiveInputStream openStream( final PathRef metaFile )
@@ -256,18 +269,6 @@ public abstract class AbstractDumpReader
         return new TarArchiveInputStream( new GZIPInputStream( openMetaFileStream( metaFile ) ) );
     }
 
-    private EntryLoadResult handleEntry( final LineProcessor<EntryLoadResult> processor, final TarArchiveInputStream tarInputStream )
-        throws IOException
-    {
-        String content = readEntry( tarInputStream );
-
-        processor.processLine( content );
-
-        this.listener.entryLoaded();
-
-        return processor.getResult();
-    }
-
     private String readEntry( final TarArchiveInputStream tarInputStream )
         throws IOException
     {
@@ -8,17 +8,15 @@ import com.google.common.io.ByteSource;
 import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.BlobStore;
-import com.enonic.xp.blob.Segment;
 import com.enonic.xp.node.AttachedBinary;
 import com.enonic.xp.node.NodeService;
 import com.enonic.xp.node.NodeVersion;
+import com.enonic.xp.repo.impl.binary.BinarySegments;
 import com.enonic.xp.repo.impl.dump.RepoLoadException;
 import com.enonic.xp.repo.impl.dump.model.VersionMeta;
 import com.enonic.xp.repo.impl.dump.serializer.DumpSerializer;
 import com.enonic.xp.repo.impl.dump.serializer.json.JsonDumpSerializer;
-import com.enonic.xp.repo.impl.node.NodeConstants;
 import com.enonic.xp.repository.RepositoryId;
-import com.enonic.xp.repository.RepositorySegmentUtils;
 
 class AbstractEntryProcessor
 {
@@ -47,15 +45,14 @@ class AbstractEntryProcessor
     {
         nodeVersion.getAttachedBinaries().forEach( binary -> {
 
-            final Segment segment = RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.BINARY_SEGMENT_LEVEL );
-            final BlobRecord existingRecord = this.blobStore.getRecord( segment, BlobKey.from( binary.getBlobKey() ) );
+            final BlobRecord existingRecord = BinarySegments.getRecord( this.blobStore, repositoryId, BlobKey.from( binary.getBlobKey() ) );
 
             if ( existingRecord == null )
             {
                 try
                 {
                     final ByteSource dumpBinary = this.dumpReader.getBinary( repositoryId, binary.getBlobKey() );
-                    this.blobStore.addRecord( segment, dumpBinary );
+                    this.blobStore.addRecord( BinarySegments.toSegment( repositoryId ), dumpBinary );
                 }
                 catch ( RepoLoadException e )
                 {
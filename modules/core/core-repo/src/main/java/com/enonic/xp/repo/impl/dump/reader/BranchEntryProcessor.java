@@ -1,15 +1,12 @@
 package com.enonic.xp.repo.impl.dump.reader;
 
-import java.io.IOException;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.io.LineProcessor;
-
 import com.enonic.xp.node.LoadNodeParams;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeBranchEntry;
+import com.enonic.xp.node.NodePath;
 import com.enonic.xp.node.NodeVersion;
 import com.enonic.xp.repo.impl.branch.storage.NodeFactory;
 import com.enonic.xp.repo.impl.dump.RepoLoadException;
@@ -18,10 +15,8 @@ import com.enonic.xp.repo.impl.dump.model.VersionMeta;
 
 public class BranchEntryProcessor
     extends AbstractEntryProcessor
-    implements LineProcessor<EntryLoadResult>
+    implements EntryProcessor<BranchDumpEntry>
 {
-    private EntryLoadResult result;
-
     private static final Logger LOG = LoggerFactory.getLogger( BranchEntryProcessor.class );
 
     private BranchEntryProcessor( final Builder builder )
@@ -30,19 +25,32 @@ public class BranchEntryProcessor
     }
 
     @Override
-    public boolean processLine( final String line )
-        throws IOException
+    public BranchDumpEntry parse( final String entry )
+    {
+        return this.serializer.toBranchMetaEntry( entry );
+    }
+
+    @Override
+    public EntryLoadResult load( final BranchDumpEntry branchDumpEntry )
     {
         final EntryLoadResult.Builder result = EntryLoadResult.create();
 
-        final BranchDumpEntry branchDumpEntry = this.serializer.toBranchMetaEntry( line );
+        addNode( result, branchDumpEntry, branchDumpEntry.getMeta() );
 
-        final VersionMeta meta = branchDumpEntry.getMeta();
+        return result.build();
+    }
 
-        addNode( result, branchDumpEntry, meta );
+    @Override
+    public Object key( final BranchDumpEntry entry )
+    {
+        return entry.getMeta().getNodePath();
+    }
 
-        this.result = result.build();
-        return true;
+    @Override
+    public Object dependency( final BranchDumpEntry entry )
+    {
+        final NodePath nodePath = entry.getMeta().getNodePath();
+        return nodePath.isRoot() ? null : nodePath.getParentPath();
     }
 
     private void addNode( final EntryLoadResult.Builder result, final BranchDumpEntry branchDumpEntry, final VersionMeta meta )
@@ -94,12 +102,6 @@ public class BranchEntryProcessor
         }
     }
 
-    @Override
-    public EntryLoadResult getResult()
-    {
-        return result;
-    }
-
     public static Builder create()
     {
         return new Builder();
@@ -1,40 +1,36 @@
 package com.enonic.xp.repo.impl.dump.reader;
 
-import java.io.IOException;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.io.LineProcessor;
-
 import com.enonic.xp.node.ImportNodeCommitParams;
 import com.enonic.xp.repo.impl.dump.model.CommitDumpEntry;
 
 public class CommitEntryProcessor
     extends AbstractEntryProcessor
-    implements LineProcessor<EntryLoadResult>
+    implements EntryProcessor<CommitDumpEntry>
 {
     private static final Logger LOG = LoggerFactory.getLogger( CommitEntryProcessor.class );
 
-    private EntryLoadResult result;
-
     private CommitEntryProcessor( final Builder builder )
     {
         super( builder );
     }
 
     @Override
-    public boolean processLine( final String line )
-        throws IOException
+    public CommitDumpEntry parse( final String entry )
     {
-        final EntryLoadResult.Builder result = EntryLoadResult.create();
+        return this.serializer.toCommitDumpEntry( entry );
+    }
 
-        final CommitDumpEntry commitDumpEntry = this.serializer.toCommitDumpEntry( line );
+    @Override
+    public EntryLoadResult load( final CommitDumpEntry commitDumpEntry )
+    {
+        final EntryLoadResult.Builder result = EntryLoadResult.create();
 
         addCommit( result, commitDumpEntry );
 
-        this.result = result.build();
-        return true;
+        return result.build();
     }
 
     private void addCommit( final EntryLoadResult.Builder result, final CommitDumpEntry commitDumpEntry )
@@ -59,12 +55,6 @@ public class CommitEntryProcessor
         }
     }
 
-    @Override
-    public EntryLoadResult getResult()
-    {
-        return result;
-    }
-
     public static Builder create()
     {
         return new Builder();
@@ -0,0 +1,45 @@
+package com.enonic.xp.repo.impl.dump.reader;
+
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.enonic.xp.node.NodeId;
+
+public class DeletedEntryProcessor
+    implements EntryProcessor<NodeId>
+{
+    private static final Logger LOG = LoggerFactory.getLogger( DeletedEntryProcessor.class );
+
+    private final Consumer<NodeId> deleter;
+
+    public DeletedEntryProcessor( final Consumer<NodeId> deleter )
+    {
+        this.deleter = deleter;
+    }
+
+    @Override
+    public NodeId parse( final String entry )
+    {
+        return NodeId.from( entry.trim() );
+    }
+
+    @Override
+    public EntryLoadResult load( final NodeId nodeId )
+    {
+        final EntryLoadResult.Builder result = EntryLoadResult.create();
+        try
+        {
+            deleter.accept( nodeId );
+            result.successful();
+        }
+        catch ( Exception e )
+        {
+            final String message = String.format( "Cannot delete node with id %s: %s", nodeId, e.getMessage() );
+            result.error( EntryLoadError.error( message ) );
+            LOG.error( message, e );
+        }
+        return result.build();
+    }
+}
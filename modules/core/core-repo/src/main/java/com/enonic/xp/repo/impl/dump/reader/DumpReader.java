@@ -1,9 +1,9 @@
 package com.enonic.xp.repo.impl.dump.reader;
 
 import java.io.Closeable;
+import java.util.concurrent.Executor;
 
 import com.google.common.io.ByteSource;
-import com.google.common.io.LineProcessor;
 
 import com.enonic.xp.blob.NodeVersionKey;
 import com.enonic.xp.branch.Branch;
@@ -23,11 +23,13 @@ public interface DumpReader
 
     Branches getBranches( RepositoryId repositoryId );
 
-    BranchLoadResult loadBranch( RepositoryId repositoryId, Branch branch, LineProcessor<EntryLoadResult> processor );
+    BranchLoadResult loadBranch( RepositoryId repositoryId, Branch branch, EntryProcessor<?> processor, Executor executor );
 
-    VersionsLoadResult loadVersions( RepositoryId repositoryId, LineProcessor<EntryLoadResult> processor );
+    EntriesLoadResult loadBranchDeletions( RepositoryId repositoryId, Branch branch, EntryProcessor<?> processor, Executor executor );
 
-    CommitsLoadResult loadCommits( RepositoryId repositoryId, LineProcessor<EntryLoadResult> processor );
+    VersionsLoadResult loadVersions( RepositoryId repositoryId, EntryProcessor<?> processor, Executor executor );
+
+    CommitsLoadResult loadCommits( RepositoryId repositoryId, EntryProcessor<?> processor, Executor executor );
 
     NodeVersion get( RepositoryId repositoryId, NodeVersionKey blobKey );
 
@@ -0,0 +1,152 @@
+package com.enonic.xp.repo.impl.dump.reader;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.enonic.xp.context.Context;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.dump.SystemLoadListener;
+import com.enonic.xp.repo.impl.dump.RepoLoadException;
+
+/**
+ * Parses entries in the calling thread and loads them on the executor, keeping a bounded number of entries in flight.
+ * An entry with a dependency is loaded only after the entry it depends on, when that entry is still in flight.
+ * Listener callbacks are always made from the calling thread.
+ */
+final class EntryPipeline<T>
+{
+    private static final Logger LOG = LoggerFactory.getLogger( EntryPipeline.class );
+
+    private static final int MAX_IN_FLIGHT = 256;
+
+    private final EntryProcessor<T> processor;
+
+    private final Executor executor;
+
+    private final SystemLoadListener listener;
+
+    private final Context context;
+
+    private final Semaphore permits = new Semaphore( MAX_IN_FLIGHT );
+
+    private final Map<Object, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final EntriesLoadResult.Builder result = EntriesLoadResult.create();
+
+    private final AtomicLong loaded = new AtomicLong();
+
+    private final long startTime = System.nanoTime();
+
+    private long reported;
+
+    EntryPipeline( final EntryProcessor<T> processor, final Executor executor, final SystemLoadListener listener )
+    {
+        this.processor = processor;
+        this.executor = executor;
+        this.listener = listener;
+        this.context = ContextAccessor.current();
+    }
+
+    void submit( final String content )
+        throws IOException
+    {
+        final T entry = processor.parse( content );
+
+        acquire( 1 );
+
+        final Object dependency = processor.dependency( entry );
+        final CompletableFuture<Void> dependencyFuture = dependency != null ? inFlight.get( dependency ) : null;
+
+        final CompletableFuture<Void> future = ( dependencyFuture != null ? dependencyFuture : CompletableFuture.<Void>completedFuture(
+            null ) ).handleAsync( ( r, e ) -> {
+            load( entry );
+            return null;
+        }, executor );
+
+        final Object key = processor.key( entry );
+        if ( key != null )
+        {
+            inFlight.put( key, future );
+            future.whenComplete( ( r, e ) -> inFlight.remove( key, future ) );
+        }
+
+        reportLoaded();
+    }
+
+    EntriesLoadResult complete()
+    {
+        acquire( MAX_IN_FLIGHT );
+        permits.release( MAX_IN_FLIGHT );
+        reportLoaded();
+
+        listener.entriesLoaded( loaded.get(), Duration.ofNanos( System.nanoTime() - startTime ) );
+
+        synchronized ( result )
+        {
+            return result.build();
+        }
+    }
+
+    private void load( final T entry )
+    {
+        try
+        {
+            EntryLoadResult entryLoadResult;
+            try
+            {
+                entryLoadResult = context.callWith( () -> processor.load( entry ) );
+            }
+            catch ( RuntimeException e )
+            {
+                LOG.error( "Cannot load entry", e );
+                entryLoadResult = EntryLoadResult.create().error( EntryLoadError.error( e.getMessage() ) ).build();
+            }
+
+            synchronized ( result )
+            {
+                result.add( entryLoadResult );
+            }
+        }
+        finally
+        {
+            // complete() waits for all permits
+            loaded.incrementAndGet();
+            permits.release();
+        }
+    }
+
+    private void acquire( final int count )
+    {
+        try
+        {
+            while ( !permits.tryAcquire( count, 100, TimeUnit.MILLISECONDS ) )
+            {
+                reportLoaded();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new RepoLoadException( "Interrupted while loading entries" );
+        }
+    }
+
+    private void reportLoaded()
+    {
+        final long current = loaded.get();
+        for ( ; reported < current; reported++ )
+        {
+            listener.entryLoaded();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.enonic.xp.repo.impl.dump.reader;
+
+import java.io.IOException;
+
+/**
+ * Loads dump meta entries. Entries are parsed sequentially in the reading thread and may be loaded concurrently.
+ *
+ * @param <T> parsed entry type
+ */
+public interface EntryProcessor<T>
+{
+    T parse( String entry )
+        throws IOException;
+
+    EntryLoadResult load( T entry );
+
+    /**
+     * @return key other entries may depend on, or {@code null}
+     */
+    default Object key( final T entry )
+    {
+        return null;
+    }
+
+    /**
+     * @return key of an entry that must be loaded before this one, or {@code null}
+     */
+    default Object dependency( final T entry )
+    {
+        return null;
+    }
+}
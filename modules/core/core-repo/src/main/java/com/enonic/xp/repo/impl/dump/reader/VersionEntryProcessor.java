@@ -1,13 +1,10 @@
 package com.enonic.xp.repo.impl.dump.reader;
 
-import java.io.IOException;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.io.LineProcessor;
-
 import com.enonic.xp.node.ImportNodeVersionParams;
 import com.enonic.xp.node.NodeVersion;
 import com.enonic.xp.repo.impl.dump.RepoLoadException;
@@ -16,10 +13,8 @@ import com.enonic.xp.repo.impl.dump.model.VersionsDumpEntry;
 
 public class VersionEntryProcessor
     extends AbstractEntryProcessor
-    implements LineProcessor<EntryLoadResult>
+    implements EntryProcessor<VersionsDumpEntry>
 {
-    private EntryLoadResult result;
-
     private static final Logger LOG = LoggerFactory.getLogger( VersionEntryProcessor.class );
 
     private VersionEntryProcessor( final Builder builder )
@@ -28,19 +23,19 @@ public class VersionEntryProcessor
     }
 
     @Override
-    public boolean processLine( final String line )
-        throws IOException
+    public VersionsDumpEntry parse( final String entry )
     {
-        final EntryLoadResult.Builder result = EntryLoadResult.create();
-
-        final VersionsDumpEntry nodeVersionsEntry = this.serializer.toNodeVersionsEntry( line );
+        return this.serializer.toNodeVersionsEntry( entry );
+    }
 
-        final Set<VersionMeta> versions = nodeVersionsEntry.getVersions();
+    @Override
+    public EntryLoadResult load( final VersionsDumpEntry nodeVersionsEntry )
+    {
+        final EntryLoadResult.Builder result = EntryLoadResult.create();
 
-        addVersions( result, nodeVersionsEntry, versions );
+        addVersions( result, nodeVersionsEntry, nodeVersionsEntry.getVersions() );
 
-        this.result = result.build();
-        return true;
+        return result.build();
     }
 
     private void addVersions( final EntryLoadResult.Builder result, final VersionsDumpEntry versionsDumpEntry,
@@ -94,12 +89,6 @@ public class VersionEntryProcessor
         }
     }
 
-    @Override
-    public EntryLoadResult getResult()
-    {
-        return result;
-    }
-
     public static Builder create()
     {
         return new Builder();
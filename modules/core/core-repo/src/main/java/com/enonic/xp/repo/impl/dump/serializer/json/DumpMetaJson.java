@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import com.enonic.xp.dump.SystemDumpResult;
@@ -27,6 +28,10 @@ public class DumpMetaJson
     @JsonProperty("modelVersion")
     private String modelVersion;
 
+    @JsonProperty("baseDump")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String baseDump;
+
     @SuppressWarnings("unused")
     public DumpMetaJson()
     {
@@ -39,6 +44,7 @@ public class DumpMetaJson
         this.timestamp = builder.timestamp;
         this.result = builder.result;
         this.modelVersion = builder.modelVersion.toShortestString();
+        this.baseDump = builder.baseDump;
     }
 
     public static DumpMetaJson from( final DumpMeta dumpMeta )
@@ -54,6 +60,7 @@ public class DumpMetaJson
             modelVersion(dumpMeta.getModelVersion()).
             timestamp( dumpMeta.getTimestamp().toString() ).
             result(result ).
+            baseDump( dumpMeta.getBaseDumpName() ).
             build();
     }
 
@@ -61,7 +68,8 @@ public class DumpMetaJson
     {
         final DumpMeta.Builder dumpMeta = DumpMeta.create().
             xpVersion( dumpMetaJson.getXpVersion() ).
-            timestamp( Instant.parse( dumpMetaJson.getTimestamp() ) );
+            timestamp( Instant.parse( dumpMetaJson.getTimestamp() ) ).
+            baseDumpName( dumpMetaJson.getBaseDump() );
 
         if ( dumpMetaJson.getResult() != null )
         {
@@ -128,6 +136,17 @@ public class DumpMetaJson
         return this;
     }
 
+    public String getBaseDump()
+    {
+        return baseDump;
+    }
+
+    @SuppressWarnings("unused")
+    public void setBaseDump( final String baseDump )
+    {
+        this.baseDump = baseDump;
+    }
+
     public static class Builder
     {
         private String xpVersion;
@@ -138,6 +157,8 @@ public class DumpMetaJson
 
         private Version modelVersion = DumpConstants.MODEL_VERSION;
 
+        private String baseDump;
+
         private Builder()
         {
         }
@@ -166,6 +187,12 @@ public class DumpMetaJson
             return this;
         }
 
+        public Builder baseDump( final String baseDump )
+        {
+            this.baseDump = baseDump;
+            return this;
+        }
+
         public DumpMetaJson build()
         {
             return new DumpMetaJson( this );
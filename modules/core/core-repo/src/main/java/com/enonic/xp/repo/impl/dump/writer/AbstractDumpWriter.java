@@ -2,6 +2,7 @@ package com.enonic.xp.repo.impl.dump.writer;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
@@ -15,6 +16,8 @@ import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.NodeVersionKey;
 import com.enonic.xp.blob.Segment;
 import com.enonic.xp.branch.Branch;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.repo.impl.binary.BinarySegments;
 import com.enonic.xp.repo.impl.dump.DumpConstants;
 import com.enonic.xp.repo.impl.dump.FilePaths;
 import com.enonic.xp.repo.impl.dump.PathRef;
@@ -76,6 +79,13 @@ public abstract class AbstractDumpWriter
         openTarStream( branchMetaPath );
     }
 
+    @Override
+    public void openBranchDeletionsMeta( final RepositoryId repositoryId, final Branch branch )
+    {
+        final PathRef branchDeletionsPath = filePaths.branchDeletionsPath( repositoryId, branch );
+        openTarStream( branchDeletionsPath );
+    }
+
     @Override
     public void openVersionsMeta( final RepositoryId repositoryId )
     {
@@ -111,6 +121,12 @@ public abstract class AbstractDumpWriter
         storeTarEntry( serializedEntry, entryName );
     }
 
+    @Override
+    public void writeDeletedEntry( final NodeId nodeId )
+    {
+        storeTarEntry( nodeId.toString().getBytes( StandardCharsets.UTF_8 ), nodeId + ".txt" );
+    }
+
     @Override
     public void writeVersionsEntry( final VersionsDumpEntry versionsDumpEntry )
     {
@@ -159,20 +175,19 @@ public abstract class AbstractDumpWriter
         }
 
         final Segment nodeSegment = RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.NODE_SEGMENT_LEVEL );
-        this.dumpBlobStore.addRecord( nodeSegment, existingNodeBlobRecord.getBytes() );
+        this.dumpBlobStore.addRecord( nodeSegment, existingNodeBlobRecord );
 
         final Segment indexConfigSegment = RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.INDEX_CONFIG_SEGMENT_LEVEL );
-        this.dumpBlobStore.addRecord( indexConfigSegment, existingIndexConfigBlobRecord.getBytes() );
+        this.dumpBlobStore.addRecord( indexConfigSegment, existingIndexConfigBlobRecord );
 
         final Segment accessControlSegment = RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.ACCESS_CONTROL_SEGMENT_LEVEL );
-        this.dumpBlobStore.addRecord( accessControlSegment, existingAccessControlBlobRecord.getBytes() );
+        this.dumpBlobStore.addRecord( accessControlSegment, existingAccessControlBlobRecord );
     }
 
     @Override
     public void writeBinaryBlob( final RepositoryId repositoryId, final BlobKey blobKey )
     {
-        final Segment dumpSegment = RepositorySegmentUtils.toSegment( repositoryId, DumpConstants.DUMP_BINARY_SEGMENT_LEVEL );
-        final BlobRecord binaryRecord = blobStore.getRecord( dumpSegment, blobKey );
+        final BlobRecord binaryRecord = BinarySegments.getRecord( blobStore, repositoryId, blobKey );
 
         if ( binaryRecord == null )
         {
@@ -180,7 +195,7 @@ public abstract class AbstractDumpWriter
         }
 
         final Segment segment = RepositorySegmentUtils.toSegment( repositoryId, NodeConstants.BINARY_SEGMENT_LEVEL );
-        this.dumpBlobStore.addRecord( segment, binaryRecord.getBytes() );
+        this.dumpBlobStore.addRecord( segment, binaryRecord );
     }
 
     @Override
@@ -5,6 +5,7 @@ import java.io.Closeable;
 import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.blob.NodeVersionKey;
 import com.enonic.xp.branch.Branch;
+import com.enonic.xp.node.NodeId;
 import com.enonic.xp.repo.impl.dump.model.BranchDumpEntry;
 import com.enonic.xp.repo.impl.dump.model.CommitDumpEntry;
 import com.enonic.xp.repo.impl.dump.model.DumpMeta;
@@ -18,6 +19,8 @@ public interface DumpWriter
 
     void openBranchMeta( RepositoryId repositoryId, Branch branch );
 
+    void openBranchDeletionsMeta( RepositoryId repositoryId, Branch branch );
+
     void openVersionsMeta( RepositoryId repositoryId );
 
     void openCommitsMeta( RepositoryId repositoryId );
@@ -26,6 +29,8 @@ public interface DumpWriter
 
     void writeBranchEntry( BranchDumpEntry branchDumpEntry );
 
+    void writeDeletedEntry( NodeId nodeId );
+
     void writeVersionsEntry( VersionsDumpEntry versionsDumpEntry );
 
     void writeCommitEntry( CommitDumpEntry commitDumpEntry );
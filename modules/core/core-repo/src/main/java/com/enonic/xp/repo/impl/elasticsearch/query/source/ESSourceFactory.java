@@ -1,6 +1,7 @@
 package com.enonic.xp.repo.impl.elasticsearch.query.source;
 
 import com.enonic.xp.repo.impl.MultiRepoSearchSource;
+import com.enonic.xp.repo.impl.MultiRepoStorageSource;
 import com.enonic.xp.repo.impl.SearchSource;
 import com.enonic.xp.repo.impl.SingleRepoSearchSource;
 import com.enonic.xp.repo.impl.SingleRepoStorageSource;
@@ -24,6 +25,11 @@ public class ESSourceFactory
             return MultiRepoSearchSourceAdaptor.adapt( (MultiRepoSearchSource) searchSource );
         }
 
+        if ( searchSource instanceof MultiRepoStorageSource )
+        {
+            return MultiRepoStorageSourceAdaptor.adapt( (MultiRepoStorageSource) searchSource );
+        }
+
         throw new IllegalArgumentException( "Not able to adapt datasource of type " + searchSource.getClass().getName() );
     }
 
@@ -0,0 +1,18 @@
+package com.enonic.xp.repo.impl.elasticsearch.query.source;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.enonic.xp.repo.impl.MultiRepoStorageSource;
+
+class MultiRepoStorageSourceAdaptor
+    extends AbstractSourceAdapter
+{
+    public static ESSource adapt( final MultiRepoStorageSource source )
+    {
+        final Set<String> indexNames =
+            source.getRepositoryIds().stream().map( AbstractSourceAdapter::createStorageIndexName ).collect( Collectors.toSet() );
+
+        return ESSource.create().addIndexType( source.getType().getName() ).indexNames( indexNames ).build();
+    }
+}
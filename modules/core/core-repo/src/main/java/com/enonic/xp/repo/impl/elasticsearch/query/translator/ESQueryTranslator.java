@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.aggregations.AbstractAggregationBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.suggest.SuggestBuilder;
@@ -12,6 +13,7 @@ import com.enonic.xp.node.NodeCommitQuery;
 import com.enonic.xp.node.NodeQuery;
 import com.enonic.xp.node.NodeVersionQuery;
 import com.enonic.xp.query.Query;
+import com.enonic.xp.repo.impl.MultiRepoSearchSource;
 import com.enonic.xp.repo.impl.branch.search.NodeBranchQuery;
 import com.enonic.xp.repo.impl.elasticsearch.aggregation.query.AggregationQueryBuilderFactory;
 import com.enonic.xp.repo.impl.elasticsearch.highlight.ElasticHighlightQueryBuilderFactory;
@@ -20,8 +22,10 @@ import com.enonic.xp.repo.impl.elasticsearch.query.ElasticsearchQuery;
 import com.enonic.xp.repo.impl.elasticsearch.query.source.ESSource;
 import com.enonic.xp.repo.impl.elasticsearch.query.source.ESSourceFactory;
 import com.enonic.xp.repo.impl.elasticsearch.query.translator.factory.FilterBuilderFactory;
+import com.enonic.xp.repo.impl.elasticsearch.query.translator.factory.SearchAfterQueryBuilderFactory;
 import com.enonic.xp.repo.impl.elasticsearch.query.translator.factory.SortQueryBuilderFactory;
 import com.enonic.xp.repo.impl.elasticsearch.suggistion.query.SuggestionQueryBuilderFactory;
+import com.enonic.xp.repo.impl.search.SearchCursor;
 import com.enonic.xp.repo.impl.search.SearchRequest;
 import com.enonic.xp.repo.impl.version.search.NodeVersionDiffQuery;
 
@@ -62,7 +66,7 @@ public class ESQueryTranslator
     private static ElasticsearchQuery doTranslate( final SearchRequest request, final QueryTypeTranslator queryTypeTranslator )
     {
         final ESSource esSource = ESSourceFactory.create( request.getSearchSource() );
-        final QueryBuilder queryBuilder = queryTypeTranslator.createQueryBuilder( esSource.getFilters() );
+        QueryBuilder queryBuilder = queryTypeTranslator.createQueryBuilder( esSource.getFilters() );
 
         final Query query = request.getQuery();
 
@@ -80,6 +84,26 @@ public class ESQueryTranslator
         final QueryBuilder filterBuilder =
             new FilterBuilderFactory( queryTypeTranslator.getFieldNameResolver() ).create( query.getPostFilters() );
 
+        final String cursor = query instanceof NodeQuery ? ( (NodeQuery) query ).getCursor() : null;
+        if ( cursor != null )
+        {
+            // the tie-breaker is only unique within an index
+            if ( request.getSearchSource() instanceof MultiRepoSearchSource )
+            {
+                throw new IllegalArgumentException( "Cursor is not supported for multi-repository queries" );
+            }
+
+            final SearchAfterQueryBuilderFactory searchAfterFactory =
+                new SearchAfterQueryBuilderFactory( queryTypeTranslator.getFieldNameResolver() );
+            sortBuilders.add( searchAfterFactory.createTieBreakerSort() );
+
+            final QueryBuilder searchAfter = searchAfterFactory.create( query.getOrderBys(), SearchCursor.decode( cursor ) );
+            if ( searchAfter != null )
+            {
+                queryBuilder = QueryBuilders.boolQuery().must( queryBuilder ).filter( searchAfter );
+            }
+        }
+
         return ElasticsearchQuery.create()
             .addIndexNames( esSource.getIndexNames() )
             .addIndexTypes( esSource.getIndexTypes() )
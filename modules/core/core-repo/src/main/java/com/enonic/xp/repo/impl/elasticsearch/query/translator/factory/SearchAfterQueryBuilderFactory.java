@@ -0,0 +1,157 @@
+package com.enonic.xp.repo.impl.elasticsearch.query.translator.factory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.query.RangeQueryBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+
+import com.enonic.xp.query.expr.DslOrderExpr;
+import com.enonic.xp.query.expr.FieldOrderExpr;
+import com.enonic.xp.query.expr.OrderExpr;
+import com.enonic.xp.repo.impl.elasticsearch.query.translator.resolver.QueryFieldNameResolver;
+import com.enonic.xp.repo.impl.index.IndexValueType;
+import com.enonic.xp.repo.impl.index.IndexValueTypeInterface;
+
+/**
+ * Emulates {@code search_after}, which the bundled Elasticsearch does not support, with filters on the sort fields.
+ * <p>
+ * Sort values of order-by fields are the indexed terms, so hits after a sort value are selected with range filters directly.
+ * Hits with the same sort values are ordered by {@code _uid}, which is unique within an index.
+ * Hits without a value of a sort field are sorted last in both directions.
+ */
+public class SearchAfterQueryBuilderFactory
+    extends AbstractBuilderFactory
+{
+    private static final String TIE_BREAKER_FIELD = "_uid";
+
+    // sort value of hits without a value of an ascending string sort field
+    private static final String MISSING_LAST = new String( Character.toChars( Character.MAX_CODE_POINT ) );
+
+    private static final String ORDER_BY_POSTFIX = IndexValueTypeInterface.INDEX_VALUE_TYPE_SEPARATOR + IndexValueType.ORDERBY.getPostfix();
+
+    public SearchAfterQueryBuilderFactory( final QueryFieldNameResolver fieldNameResolver )
+    {
+        super( fieldNameResolver );
+    }
+
+    public SortBuilder createTieBreakerSort()
+    {
+        return new FieldSortBuilder( TIE_BREAKER_FIELD ).order( SortOrder.ASC );
+    }
+
+    /**
+     * @param sortValues sort values of the last hit of the previous page, tie-breaker included
+     * @return filter of the hits after the sort values, or {@code null} for the first page
+     */
+    public QueryBuilder create( final Collection<OrderExpr> orderExpressions, final List<Object> sortValues )
+    {
+        final List<SortField> sortFields = new ArrayList<>();
+        for ( OrderExpr orderExpr : orderExpressions )
+        {
+            sortFields.add( toSortField( orderExpr ) );
+        }
+
+        if ( sortValues.isEmpty() )
+        {
+            return null;
+        }
+
+        if ( sortValues.size() != sortFields.size() + 1 )
+        {
+            throw new IllegalArgumentException( "Cursor does not match the sort of the query" );
+        }
+
+        // hits after (v1, .. vn, uid) are: f1 after v1, or f1 = v1 and f2 after v2, .. or f1 = v1 .. fn = vn and uid after uid
+        final BoolQueryBuilder after = QueryBuilders.boolQuery().minimumNumberShouldMatch( 1 );
+        final List<QueryBuilder> equal = new ArrayList<>();
+
+        for ( int i = 0; i < sortFields.size(); i++ )
+        {
+            final SortField sortField = sortFields.get( i );
+            final Object value = sortValues.get( i );
+
+            // missing values are sorted last, and unmapped fields have numeric sort values for all hits
+            if ( value instanceof String && !MISSING_LAST.equals( value ) )
+            {
+                final RangeQueryBuilder range = QueryBuilders.rangeQuery( sortField.name );
+                final QueryBuilder afterValue = QueryBuilders.boolQuery()
+                    .should( sortField.descending ? range.lt( value ) : range.gt( value ) )
+                    .should( missing( sortField.name ) )
+                    .minimumNumberShouldMatch( 1 );
+
+                after.should( allOf( equal, afterValue ) );
+                equal.add( QueryBuilders.termQuery( sortField.name, value ) );
+            }
+            else
+            {
+                equal.add( missing( sortField.name ) );
+            }
+        }
+
+        final Object tieBreaker = sortValues.get( sortFields.size() );
+        if ( !( tieBreaker instanceof String ) )
+        {
+            throw new IllegalArgumentException( "Cursor does not match the sort of the query" );
+        }
+        after.should( allOf( equal, QueryBuilders.rangeQuery( TIE_BREAKER_FIELD ).gt( tieBreaker ) ) );
+
+        return after;
+    }
+
+    private SortField toSortField( final OrderExpr orderExpr )
+    {
+        final String field;
+        if ( orderExpr instanceof FieldOrderExpr )
+        {
+            field = ( (FieldOrderExpr) orderExpr ).getField().getFieldPath();
+        }
+        else if ( orderExpr instanceof DslOrderExpr && ( (DslOrderExpr) orderExpr ).getType() == null &&
+            ( (DslOrderExpr) orderExpr ).getLat() == null )
+        {
+            field = ( (DslOrderExpr) orderExpr ).getField();
+        }
+        else
+        {
+            throw new IllegalArgumentException( "Only field sort can be paged with cursor: " + orderExpr );
+        }
+
+        final String fieldName = fieldNameResolver.resolveOrderByFieldName( field );
+        if ( !fieldName.endsWith( ORDER_BY_POSTFIX ) )
+        {
+            throw new IllegalArgumentException( "Sort by " + fieldName + " cannot be paged with cursor" );
+        }
+        return new SortField( fieldName, orderExpr.getDirection() == OrderExpr.Direction.DESC );
+    }
+
+    private static QueryBuilder missing( final String fieldName )
+    {
+        return QueryBuilders.boolQuery().mustNot( QueryBuilders.existsQuery( fieldName ) );
+    }
+
+    private static QueryBuilder allOf( final List<QueryBuilder> equal, final QueryBuilder last )
+    {
+        final BoolQueryBuilder builder = QueryBuilders.boolQuery();
+        equal.forEach( builder::filter );
+        return builder.filter( last );
+    }
+
+    private static final class SortField
+    {
+        final String name;
+
+        final boolean descending;
+
+        SortField( final String name, final boolean descending )
+        {
+            this.name = name;
+            this.descending = descending;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.enonic.xp.repo.impl.node;
+
+import org.osgi.service.component.annotations.Component;
+
+import com.enonic.xp.security.acl.AccessControlEvaluator;
+import com.enonic.xp.security.acl.AccessControlList;
+import com.enonic.xp.security.acl.Permission;
+import com.enonic.xp.security.auth.AuthenticationInfo;
+
+@Component
+public final class AccessControlEvaluatorImpl
+    implements AccessControlEvaluator
+{
+    @Override
+    public boolean isAllowed( final AuthenticationInfo authInfo, final AccessControlList acl, final Permission permission )
+    {
+        return PermissionEvaluator.of( authInfo.getPrincipals() ).isAllowed( acl, permission );
+    }
+}
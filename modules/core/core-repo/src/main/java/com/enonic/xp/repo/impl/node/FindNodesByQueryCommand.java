@@ -38,7 +38,7 @@ public class FindNodesByQueryCommand
         final SearchResult result =
             nodeSearchService.query( this.query, returnFields, SingleRepoSearchSource.from( ContextAccessor.current() ) );
 
-        return FindNodesByQueryResultFactory.create( result );
+        return FindNodesByQueryResultFactory.create( result, this.query.getCursor() != null ? this.query.getSize() : -1 );
     }
 
     public static final class Builder
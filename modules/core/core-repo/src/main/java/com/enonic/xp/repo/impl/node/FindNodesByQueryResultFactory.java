@@ -5,12 +5,16 @@ import com.enonic.xp.node.NodeHit;
 import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodeIndexPath;
 import com.enonic.xp.node.NodePath;
+import com.enonic.xp.repo.impl.search.SearchCursor;
 import com.enonic.xp.repo.impl.search.result.SearchHit;
 import com.enonic.xp.repo.impl.search.result.SearchResult;
 
 class FindNodesByQueryResultFactory
 {
-    static FindNodesByQueryResult create( final SearchResult result )
+    /**
+     * @param pageSize size of the page of a query with a cursor, or -1 for queries without
+     */
+    static FindNodesByQueryResult create( final SearchResult result, final int pageSize )
     {
         final FindNodesByQueryResult.Builder resultBuilder = FindNodesByQueryResult.create().
             hits( result.getNumberOfHits() ).
@@ -18,8 +22,11 @@ class FindNodesByQueryResultFactory
             aggregations( result.getAggregations() ).
             suggestions( result.getSuggestions() );
 
+        SearchHit lastHit = null;
         for ( final SearchHit hit : result.getHits() )
         {
+            lastHit = hit;
+
             final NodeHit.Builder nodeHit = NodeHit.create().
                 nodeId( NodeId.from( hit.getId() ) ).
                 score( hit.getScore() ).
@@ -38,6 +45,12 @@ class FindNodesByQueryResultFactory
 
         }
 
+        // a page with fewer hits than requested is the last one
+        if ( pageSize > 0 && lastHit != null && result.getNumberOfHits() == pageSize )
+        {
+            resultBuilder.cursor( SearchCursor.encode( lastHit.getSortValues().getValues() ) );
+        }
+
         return resultBuilder.build();
     }
 }
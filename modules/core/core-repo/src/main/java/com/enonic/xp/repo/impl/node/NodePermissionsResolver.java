@@ -1,5 +1,7 @@
 package com.enonic.xp.repo.impl.node;
 
+import java.util.function.Predicate;
+
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeAccessException;
@@ -26,6 +28,21 @@ public final class NodePermissionsResolver
         return userHasPermission( ContextAccessor.current().getAuthInfo(), permission, nodePermissions );
     }
 
+    /**
+     * Resolves the context user once, to check the permission of many nodes.
+     */
+    public static Predicate<AccessControlList> contextUserPermissionOrAdmin( final Permission permission )
+    {
+        final AuthenticationInfo authInfo = ContextAccessor.current().getAuthInfo();
+        if ( authInfo.hasRole( RoleKeys.ADMIN ) )
+        {
+            return nodePermissions -> true;
+        }
+
+        final PermissionEvaluator evaluator = PermissionEvaluator.of( authInfo.getPrincipals() );
+        return nodePermissions -> evaluator.isAllowed( nodePermissions, permission );
+    }
+
     public static boolean userHasPermission( final AuthenticationInfo authInfo, final Permission permission,
                                              final AccessControlList nodePermissions )
     {
@@ -34,6 +51,6 @@ public final class NodePermissionsResolver
             return true;
         }
 
-        return nodePermissions.isAllowedFor( authInfo.getPrincipals(), permission );
+        return PermissionEvaluator.of( authInfo.getPrincipals() ).isAllowed( nodePermissions, permission );
     }
 }
@@ -0,0 +1,75 @@
+package com.enonic.xp.repo.impl.node;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.PrincipalKeys;
+import com.enonic.xp.security.acl.AccessControlEntry;
+import com.enonic.xp.security.acl.AccessControlList;
+import com.enonic.xp.security.acl.Permission;
+
+/**
+ * Evaluates permissions of a set of principals, with the same result as {@link AccessControlList#isAllowedFor(PrincipalKeys, Permission)}.
+ * <p>
+ * Permissions allowed to the principals are computed into a bitset per access control list instance. Node versions share the list
+ * instance decoded from their access control blob, so repeated checks of nodes with the same permissions cost a map lookup.
+ * Evaluators are shared by all threads and kept per set of principals, so requests of the same user reuse the computed bitsets.
+ */
+final class PermissionEvaluator
+{
+    private static final int MAX_PRINCIPAL_SETS = 1_000;
+
+    private static final int MAX_LISTS = 1_000;
+
+    private static final Cache<PrincipalKeys, PermissionEvaluator> EVALUATORS =
+        CacheBuilder.newBuilder().maximumSize( MAX_PRINCIPAL_SETS ).build();
+
+    private final PrincipalKeys principals;
+
+    // weak keys are compared by identity, and do not keep lists of removed node versions
+    private final Cache<AccessControlList, Integer> allowed = CacheBuilder.newBuilder().weakKeys().maximumSize( MAX_LISTS ).build();
+
+    private PermissionEvaluator( final PrincipalKeys principals )
+    {
+        this.principals = principals;
+    }
+
+    static PermissionEvaluator of( final PrincipalKeys principals )
+    {
+        return EVALUATORS.asMap().computeIfAbsent( principals, PermissionEvaluator::new );
+    }
+
+    boolean isAllowed( final AccessControlList acl, final Permission permission )
+    {
+        Integer permissions = allowed.getIfPresent( acl );
+        if ( permissions == null )
+        {
+            permissions = allowedPermissions( acl );
+            allowed.put( acl, permissions );
+        }
+        return ( permissions & bit( permission ) ) != 0;
+    }
+
+    private int allowedPermissions( final AccessControlList acl )
+    {
+        int permissions = 0;
+        for ( PrincipalKey principal : principals )
+        {
+            final AccessControlEntry entry = acl.getEntry( principal );
+            if ( entry != null )
+            {
+                for ( Permission permission : entry.getAllowedPermissions() )
+                {
+                    permissions |= bit( permission );
+                }
+            }
+        }
+        return permissions;
+    }
+
+    private static int bit( final Permission permission )
+    {
+        return 1 << permission.ordinal();
+    }
+}
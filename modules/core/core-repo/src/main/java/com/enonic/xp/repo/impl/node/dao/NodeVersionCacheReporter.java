@@ -0,0 +1,55 @@
+package com.enonic.xp.repo.impl.node.dao;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.CacheStats;
+
+import com.enonic.xp.repo.impl.cache.SegmentCache;
+import com.enonic.xp.status.JsonStatusReporter;
+import com.enonic.xp.status.StatusReporter;
+
+@Component(immediate = true, service = StatusReporter.class)
+public final class NodeVersionCacheReporter
+    extends JsonStatusReporter
+{
+    private final NodeVersionCaches caches;
+
+    @Activate
+    public NodeVersionCacheReporter( @Reference final NodeVersionCaches caches )
+    {
+        this.caches = caches;
+    }
+
+    @Override
+    public String getName()
+    {
+        return "repo.cache";
+    }
+
+    @Override
+    public JsonNode getReport()
+    {
+        final ObjectNode json = JsonNodeFactory.instance.objectNode();
+        for ( SegmentCache<?> cache : caches.all() )
+        {
+            final CacheStats stats = cache.getStats();
+            final ObjectNode cacheJson = json.putObject( cache.getName() );
+            cacheJson.put( "maxWeight", cache.getMaxWeight() );
+            cacheJson.put( "weight", cache.getWeight() );
+            cacheJson.put( "size", cache.getSize() );
+            cacheJson.put( "hitCount", stats.hitCount() );
+            cacheJson.put( "missCount", stats.missCount() );
+            cacheJson.put( "hitRate", stats.hitRate() );
+            cacheJson.put( "evictionCount", stats.evictionCount() );
+            cacheJson.put( "loadCount", stats.loadCount() );
+            cacheJson.put( "loadExceptionCount", stats.loadExceptionCount() );
+            cacheJson.put( "averageLoadPenaltyMs", stats.averageLoadPenalty() / 1_000_000d );
+        }
+        return json;
+    }
+}
@@ -0,0 +1,82 @@
+package com.enonic.xp.repo.impl.node.dao;
+
+import java.util.List;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+import com.codahale.metrics.MetricRegistry;
+
+import com.enonic.xp.index.IndexConfigDocument;
+import com.enonic.xp.node.NodeVersion;
+import com.enonic.xp.repo.impl.cache.SegmentCache;
+import com.enonic.xp.repo.impl.config.RepoConfiguration;
+import com.enonic.xp.repo.impl.node.json.NodeVersionAccessControl;
+import com.enonic.xp.repo.impl.node.json.NodeVersionJsonSerializer;
+
+@Component(service = NodeVersionCaches.class)
+public final class NodeVersionCaches
+{
+    private static final String METRIC_PREFIX = MetricRegistry.name( NodeVersionService.class, "cache" );
+
+    private final SegmentCache<NodeVersion> nodeData;
+
+    private final SegmentCache<IndexConfigDocument> indexConfig;
+
+    private final SegmentCache<NodeVersionAccessControl> accessControl;
+
+    @Activate
+    public NodeVersionCaches( @Reference final RepoConfiguration repoConfiguration )
+    {
+        this.nodeData = SegmentCache.<NodeVersion>create()
+            .name( "nodeData" )
+            .metricPrefix( METRIC_PREFIX )
+            .maxWeight( repoConfiguration.nodeDataCacheSize() )
+            .decoder( NodeVersionJsonSerializer::toNodeVersionData )
+            .build();
+        this.indexConfig = SegmentCache.<IndexConfigDocument>create()
+            .name( "indexConfig" )
+            .metricPrefix( METRIC_PREFIX )
+            .maxWeight( repoConfiguration.indexConfigCacheSize() )
+            .decoder( NodeVersionJsonSerializer::toIndexConfigDocument )
+            .build();
+        this.accessControl = SegmentCache.<NodeVersionAccessControl>create()
+            .name( "accessControl" )
+            .metricPrefix( METRIC_PREFIX )
+            .maxWeight( repoConfiguration.accessControlCacheSize() )
+            .decoder( NodeVersionJsonSerializer::toNodeVersionAccessControl )
+            .build();
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        for ( SegmentCache<?> cache : all() )
+        {
+            cache.invalidateAll();
+            cache.removeMetrics();
+        }
+    }
+
+    SegmentCache<NodeVersion> nodeData()
+    {
+        return nodeData;
+    }
+
+    SegmentCache<IndexConfigDocument> indexConfig()
+    {
+        return indexConfig;
+    }
+
+    SegmentCache<NodeVersionAccessControl> accessControl()
+    {
+        return accessControl;
+    }
+
+    List<SegmentCache<?>> all()
+    {
+        return List.of( nodeData, indexConfig, accessControl );
+    }
+}
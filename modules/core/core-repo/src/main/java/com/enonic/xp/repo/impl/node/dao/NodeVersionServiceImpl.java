@@ -6,8 +6,6 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.io.ByteSource;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 
@@ -21,7 +19,7 @@ import com.enonic.xp.blob.SegmentLevel;
 import com.enonic.xp.index.IndexConfigDocument;
 import com.enonic.xp.node.NodeVersion;
 import com.enonic.xp.repo.impl.InternalContext;
-import com.enonic.xp.repo.impl.config.RepoConfiguration;
+import com.enonic.xp.repo.impl.cache.SegmentCache;
 import com.enonic.xp.repo.impl.node.NodeConstants;
 import com.enonic.xp.repo.impl.node.json.NodeVersionAccessControl;
 import com.enonic.xp.repo.impl.node.json.NodeVersionJsonSerializer;
@@ -34,19 +32,19 @@ public class NodeVersionServiceImpl
 {
     private final BlobStore blobStore;
 
-    private final Cache<BlobKey, NodeVersion> nodeDataCache;
+    private final SegmentCache<NodeVersion> nodeDataCache;
 
-    private final Cache<BlobKey, IndexConfigDocument> indexConfigCache;
+    private final SegmentCache<IndexConfigDocument> indexConfigCache;
 
-    private final Cache<BlobKey, NodeVersionAccessControl> accessControlCache;
+    private final SegmentCache<NodeVersionAccessControl> accessControlCache;
 
     @Activate
-    public NodeVersionServiceImpl( @Reference final BlobStore blobStore, @Reference final RepoConfiguration repoConfiguration )
+    public NodeVersionServiceImpl( @Reference final BlobStore blobStore, @Reference final NodeVersionCaches caches )
     {
         this.blobStore = blobStore;
-        this.nodeDataCache = CacheBuilder.newBuilder().maximumSize( repoConfiguration.cacheSize() ).build();
-        this.indexConfigCache = CacheBuilder.newBuilder().maximumSize( repoConfiguration.cacheSize() ).build();
-        this.accessControlCache = CacheBuilder.newBuilder().maximumSize( repoConfiguration.cacheSize() ).build();
+        this.nodeDataCache = caches.nodeData();
+        this.indexConfigCache = caches.indexConfig();
+        this.accessControlCache = caches.accessControl();
     }
 
     @Override
@@ -78,23 +76,14 @@ public class NodeVersionServiceImpl
 
         try
         {
-            final NodeVersion nodeVersion = nodeDataCache.get( nodeBlobKey, () -> {
-                final BlobRecord nodeBlobRecord = getBlobRecord( NodeConstants.NODE_SEGMENT_LEVEL, context.getRepositoryId(), nodeBlobKey );
-                return NodeVersionJsonSerializer.toNodeVersionData( nodeBlobRecord.getBytes() );
-            } );
-
-            final IndexConfigDocument indexConfigDocument = indexConfigCache.get( indexConfigBlobKey, () -> {
-                final BlobRecord indexConfigBlobRecord =
-                    getBlobRecord( NodeConstants.INDEX_CONFIG_SEGMENT_LEVEL, context.getRepositoryId(), indexConfigBlobKey );
-                return NodeVersionJsonSerializer.toIndexConfigDocument( indexConfigBlobRecord.getBytes() );
-
-            } );
-
-            final NodeVersionAccessControl accessControl = accessControlCache.get( accessControlBlobKey, () -> {
-                final BlobRecord accessControlBlobRecord =
-                    getBlobRecord( NodeConstants.ACCESS_CONTROL_SEGMENT_LEVEL, context.getRepositoryId(), accessControlBlobKey );
-                return NodeVersionJsonSerializer.toNodeVersionAccessControl( accessControlBlobRecord.getBytes() );
-            } );
+            final NodeVersion nodeVersion = nodeDataCache.get( nodeBlobKey, () -> getBlobRecord( NodeConstants.NODE_SEGMENT_LEVEL,
+                                                                                                 context.getRepositoryId(), nodeBlobKey ) );
+
+            final IndexConfigDocument indexConfigDocument = indexConfigCache.get( indexConfigBlobKey, () -> getBlobRecord(
+                NodeConstants.INDEX_CONFIG_SEGMENT_LEVEL, context.getRepositoryId(), indexConfigBlobKey ) );
+
+            final NodeVersionAccessControl accessControl = accessControlCache.get( accessControlBlobKey, () -> getBlobRecord(
+                NodeConstants.ACCESS_CONTROL_SEGMENT_LEVEL, context.getRepositoryId(), accessControlBlobKey ) );
 
 
             return NodeVersion.create( nodeVersion )
@@ -9,6 +9,7 @@ import com.enonic.xp.repo.impl.branch.search.NodeBranchQuery;
 import com.enonic.xp.repo.impl.search.result.SearchResult;
 import com.enonic.xp.repo.impl.version.search.NodeVersionDiffQuery;
 import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.repository.RepositoryIds;
 
 public interface NodeSearchService
 {
@@ -20,6 +21,8 @@ public interface NodeSearchService
 
     SearchResult query( NodeVersionQuery query, RepositoryId repositoryId );
 
+    SearchResult query( NodeVersionQuery query, RepositoryIds repositoryIds );
+
     SearchResult query( NodeCommitQuery query, RepositoryId repositoryId );
 
     SearchResult query( NodeBranchQuery nodeBranchQuery, RepositoryId repositoryId );
@@ -8,6 +8,7 @@ import com.enonic.xp.node.NodeCommitQuery;
 import com.enonic.xp.node.NodeIndexPath;
 import com.enonic.xp.node.NodeQuery;
 import com.enonic.xp.node.NodeVersionQuery;
+import com.enonic.xp.repo.impl.MultiRepoStorageSource;
 import com.enonic.xp.repo.impl.ReturnFields;
 import com.enonic.xp.repo.impl.SearchSource;
 import com.enonic.xp.repo.impl.SingleRepoStorageSource;
@@ -19,6 +20,7 @@ import com.enonic.xp.repo.impl.storage.StaticStorageType;
 import com.enonic.xp.repo.impl.version.VersionIndexPath;
 import com.enonic.xp.repo.impl.version.search.NodeVersionDiffQuery;
 import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.repository.RepositoryIds;
 
 @Component
 public class NodeSearchServiceImpl
@@ -95,6 +97,18 @@ public class NodeSearchServiceImpl
         return searchDao.search( searchRequest );
     }
 
+    @Override
+    public SearchResult query( final NodeVersionQuery query, final RepositoryIds repositoryIds )
+    {
+        final SearchRequest searchRequest = SearchRequest.create()
+            .searchSource( MultiRepoStorageSource.create( repositoryIds, StaticStorageType.VERSION ) )
+            .returnFields( VERSION_RETURN_FIELDS )
+            .query( query )
+            .build();
+
+        return searchDao.search( searchRequest );
+    }
+
     @Override
     public SearchResult query( final NodeCommitQuery query, final RepositoryId repositoryId )
     {
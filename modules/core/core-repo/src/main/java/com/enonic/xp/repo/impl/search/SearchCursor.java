@@ -0,0 +1,74 @@
+package com.enonic.xp.repo.impl.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cursor of a query page: sort values of the last hit of the page, as url-safe base64 encoded json.
+ * <p>
+ * Callers only pass the cursor back with the query of the next page, so its format is not part of any API.
+ */
+public final class SearchCursor
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final TypeReference<List<Object>> VALUES_TYPE = new TypeReference<>()
+    {
+    };
+
+    private SearchCursor()
+    {
+    }
+
+    public static String encode( final List<Object> sortValues )
+    {
+        final List<Object> values = new ArrayList<>( sortValues.size() );
+        for ( Object value : sortValues )
+        {
+            values.add( value == null || value instanceof Number || value instanceof Boolean ? value : value.toString() );
+        }
+
+        try
+        {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString( MAPPER.writeValueAsBytes( values ) );
+        }
+        catch ( JsonProcessingException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * @return sort values of the cursor, empty for the cursor of the first page
+     */
+    public static List<Object> decode( final String cursor )
+    {
+        if ( cursor.isEmpty() )
+        {
+            return List.of();
+        }
+
+        final List<Object> values;
+        try
+        {
+            values = MAPPER.readValue( Base64.getUrlDecoder().decode( cursor ), VALUES_TYPE );
+        }
+        catch ( IllegalArgumentException | IOException e )
+        {
+            throw new IllegalArgumentException( "Invalid cursor: " + cursor, e );
+        }
+
+        if ( values == null || values.isEmpty() )
+        {
+            throw new IllegalArgumentException( "Invalid cursor: " + cursor );
+        }
+        return values;
+    }
+}
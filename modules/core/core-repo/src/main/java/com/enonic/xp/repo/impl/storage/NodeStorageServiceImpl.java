@@ -3,6 +3,7 @@ package com.enonic.xp.repo.impl.storage;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -368,10 +369,11 @@ public class NodeStorageServiceImpl
     private Nodes doReturnNodes( final Stream<NodeBranchEntry> nodeBranchEntries, final InternalContext context )
     {
         final Nodes.Builder filteredNodes = Nodes.create();
+        final Predicate<AccessControlList> canRead = NodePermissionsResolver.contextUserPermissionOrAdmin( Permission.READ );
 
         nodeBranchEntries
             .map( nodeBranchEntry -> Map.entry( nodeBranchEntry, nodeVersionService.get( nodeBranchEntry.getNodeVersionKey(), context ) ) )
-            .filter( entry -> canRead( entry.getValue().getPermissions() ) )
+            .filter( entry -> canRead.test( entry.getValue().getPermissions() ) )
             .map( entry -> NodeFactory.create( entry.getValue(), entry.getKey() ) )
             .forEach( filteredNodes::add );
 
@@ -101,7 +101,7 @@ public abstract class AbstractBlobVacuumCommand
         return System.currentTimeMillis() - blobRecord.lastModified() >= params.getAgeThreshold();
     }
 
-    private boolean isUsedByVersion( final Segment segment, final BlobKey blobKey )
+    protected boolean isUsedByVersion( final Segment segment, final BlobKey blobKey )
     {
         final RepositoryId repositoryId = RepositorySegmentUtils.toRepositoryId( segment );
         return ContextBuilder.from( ContextAccessor.current() ).
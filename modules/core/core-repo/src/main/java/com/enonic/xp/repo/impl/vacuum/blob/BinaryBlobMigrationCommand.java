@@ -0,0 +1,122 @@
+package com.enonic.xp.repo.impl.vacuum.blob;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.blob.BlobStore;
+import com.enonic.xp.blob.Segment;
+import com.enonic.xp.repo.impl.binary.BinarySegments;
+import com.enonic.xp.repo.impl.node.NodeConstants;
+import com.enonic.xp.repo.impl.vacuum.VacuumTaskParams;
+import com.enonic.xp.repository.RepositorySegmentUtils;
+import com.enonic.xp.vacuum.VacuumTaskResult;
+
+/**
+ * Moves binaries of repository segments to the shared binary segment.
+ * <p>
+ * A binary is added to the shared segment before it is removed from the repository segment, so it can always be read.
+ * File blob stores add records of the same store as hard links, so no binary is copied.
+ */
+public class BinaryBlobMigrationCommand
+{
+    private static final Logger LOG = LoggerFactory.getLogger( BinaryBlobMigrationCommand.class );
+
+    private final BlobStore blobStore;
+
+    private final VacuumTaskParams params;
+
+    private final VacuumTaskResult.Builder result;
+
+    private BinaryBlobMigrationCommand( final Builder builder )
+    {
+        blobStore = builder.blobStore;
+        params = builder.params;
+        result = VacuumTaskResult.create();
+    }
+
+    public static Builder create()
+    {
+        return new Builder();
+    }
+
+    public VacuumTaskResult.Builder execute()
+    {
+        this.blobStore.listSegments()
+            .filter( segment -> RepositorySegmentUtils.hasBlobTypeLevel( segment, NodeConstants.BINARY_SEGMENT_LEVEL ) )
+            .filter( segment -> !BinarySegments.isShared( segment ) )
+            .forEach( this::processBinarySegment );
+        return result;
+    }
+
+    private void processBinarySegment( final Segment segment )
+    {
+        if ( params.hasListener() )
+        {
+            params.getListener().stepBegin( segment.toString(), null );
+        }
+
+        final List<BlobRecord> records;
+        try (Stream<BlobRecord> list = blobStore.list( segment ))
+        {
+            records = list.collect( Collectors.toList() );
+        }
+        records.forEach( record -> moveToShared( segment, record ) );
+    }
+
+    private void moveToShared( final Segment segment, final BlobRecord record )
+    {
+        result.processed();
+        if ( params.hasListener() )
+        {
+            params.getListener().processed( 1L );
+        }
+
+        try
+        {
+            if ( blobStore.getRecord( BinarySegments.SHARED_SEGMENT, record.getKey() ) == null )
+            {
+                blobStore.addRecord( BinarySegments.SHARED_SEGMENT, record );
+            }
+            blobStore.removeRecord( segment, record.getKey() );
+            result.deleted();
+        }
+        catch ( Exception e )
+        {
+            LOG.error( "Failed to move binary [{}] of segment [{}] to the shared segment", record.getKey(), segment, e );
+            result.failed();
+        }
+    }
+
+    public static final class Builder
+    {
+        private BlobStore blobStore;
+
+        private VacuumTaskParams params;
+
+        private Builder()
+        {
+        }
+
+        public Builder blobStore( final BlobStore blobStore )
+        {
+            this.blobStore = blobStore;
+            return this;
+        }
+
+        public Builder params( final VacuumTaskParams params )
+        {
+            this.params = params;
+            return this;
+        }
+
+        public BinaryBlobMigrationCommand build()
+        {
+            return new BinaryBlobMigrationCommand( this );
+        }
+    }
+}
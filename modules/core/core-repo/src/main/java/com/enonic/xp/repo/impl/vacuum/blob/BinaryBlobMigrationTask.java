@@ -0,0 +1,69 @@
+package com.enonic.xp.repo.impl.vacuum.blob;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import com.enonic.xp.blob.BlobStore;
+import com.enonic.xp.repo.impl.binary.BinaryConfig;
+import com.enonic.xp.repo.impl.vacuum.VacuumTask;
+import com.enonic.xp.repo.impl.vacuum.VacuumTaskParams;
+import com.enonic.xp.vacuum.VacuumTaskResult;
+
+@Component(immediate = true, configurationPid = "com.enonic.xp.repo")
+public class BinaryBlobMigrationTask
+    implements VacuumTask
+{
+    private static final int ORDER = 150;
+
+    private static final String NAME = "BinaryBlobMigrationTask";
+
+    private BlobStore blobStore;
+
+    private boolean shared;
+
+    @Activate
+    public void activate( final BinaryConfig config )
+    {
+        this.shared = config.binary_shared();
+    }
+
+    @Override
+    public VacuumTaskResult execute( final VacuumTaskParams params )
+    {
+        if ( !shared )
+        {
+            return VacuumTaskResult.create().taskName( NAME ).build();
+        }
+
+        if ( params.hasListener() )
+        {
+            params.getListener().taskBegin( NAME, null );
+        }
+        return BinaryBlobMigrationCommand.create().
+            blobStore( blobStore ).
+            params( params ).
+            build().
+            execute().
+            taskName( NAME ).
+            build();
+    }
+
+    @Override
+    public int order()
+    {
+        return ORDER;
+    }
+
+    @Override
+    public String name()
+    {
+        return NAME;
+    }
+
+    @Reference
+    public void setBlobStore( final BlobStore blobStore )
+    {
+        this.blobStore = blobStore;
+    }
+}
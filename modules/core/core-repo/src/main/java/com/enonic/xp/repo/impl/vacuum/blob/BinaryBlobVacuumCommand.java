@@ -1,16 +1,38 @@
 package com.enonic.xp.repo.impl.vacuum.blob;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.Segment;
 import com.enonic.xp.blob.SegmentLevel;
+import com.enonic.xp.content.ContentConstants;
 import com.enonic.xp.index.IndexPath;
+import com.enonic.xp.node.NodeVersionQuery;
+import com.enonic.xp.repo.impl.binary.BinarySegments;
 import com.enonic.xp.repo.impl.node.NodeConstants;
+import com.enonic.xp.repo.impl.search.NodeSearchService;
 import com.enonic.xp.repo.impl.version.VersionIndexPath;
+import com.enonic.xp.repository.Repository;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.repository.RepositoryIds;
+import com.enonic.xp.repository.RepositoryService;
+import com.enonic.xp.security.SystemConstants;
 
 public class BinaryBlobVacuumCommand
     extends AbstractBlobVacuumCommand
 {
+    private final RepositoryService repositoryService;
+
+    private final NodeSearchService nodeSearchService;
+
+    private RepositoryIds repositoryIds;
+
     private BinaryBlobVacuumCommand( final Builder builder )
     {
         super( builder );
+        repositoryService = builder.repositoryService;
+        nodeSearchService = builder.nodeSearchService;
     }
 
     public static Builder create()
@@ -30,13 +52,58 @@ public class BinaryBlobVacuumCommand
         return VersionIndexPath.BINARY_BLOB_KEYS;
     }
 
+    /**
+     * A binary of the shared segment is in use as long as a version of any repository references it,
+     * so the version indices of all repositories are searched at once.
+     */
+    @Override
+    protected boolean isUsedByVersion( final Segment segment, final BlobKey blobKey )
+    {
+        if ( !BinarySegments.isShared( segment ) )
+        {
+            return super.isUsedByVersion( segment, blobKey );
+        }
+
+        final NodeVersionQuery query = IsBlobUsedByVersionCommand.createQuery( getFieldIndexPath(), blobKey );
+        return nodeSearchService.query( query, getRepositoryIds() ).getTotalHits() > 0;
+    }
+
+    private RepositoryIds getRepositoryIds()
+    {
+        if ( repositoryIds == null )
+        {
+            final Set<RepositoryId> ids = new LinkedHashSet<>();
+            ids.add( SystemConstants.SYSTEM_REPO_ID );
+            ids.add( ContentConstants.CONTENT_REPO_ID );
+            repositoryService.list().stream().map( Repository::getId ).forEach( ids::add );
+            repositoryIds = RepositoryIds.from( ids );
+        }
+        return repositoryIds;
+    }
+
     public static final class Builder
         extends AbstractBlobVacuumCommand.Builder<Builder>
     {
+        private RepositoryService repositoryService;
+
+        private NodeSearchService nodeSearchService;
+
         private Builder()
         {
         }
 
+        public Builder repositoryService( final RepositoryService repositoryService )
+        {
+            this.repositoryService = repositoryService;
+            return this;
+        }
+
+        public Builder nodeSearchService( final NodeSearchService nodeSearchService )
+        {
+            this.nodeSearchService = nodeSearchService;
+            return this;
+        }
+
         public BinaryBlobVacuumCommand build()
         {
             return new BinaryBlobVacuumCommand( this );
@@ -5,8 +5,10 @@ import org.osgi.service.component.annotations.Reference;
 
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.node.NodeService;
+import com.enonic.xp.repo.impl.search.NodeSearchService;
 import com.enonic.xp.repo.impl.vacuum.VacuumTask;
 import com.enonic.xp.repo.impl.vacuum.VacuumTaskParams;
+import com.enonic.xp.repository.RepositoryService;
 import com.enonic.xp.vacuum.VacuumTaskResult;
 
 @Component(immediate = true)
@@ -21,6 +23,10 @@ public class BinaryBlobVacuumTask
 
     private BlobStore blobStore;
 
+    private RepositoryService repositoryService;
+
+    private NodeSearchService nodeSearchService;
+
     @Override
     public VacuumTaskResult execute( final VacuumTaskParams params )
     {
@@ -31,6 +37,8 @@ public class BinaryBlobVacuumTask
         return BinaryBlobVacuumCommand.create().
             blobStore( blobStore ).
             nodeService( nodeService ).
+            repositoryService( repositoryService ).
+            nodeSearchService( nodeSearchService ).
             params( params ).
             build().
             execute().
@@ -61,4 +69,16 @@ public class BinaryBlobVacuumTask
     {
         this.nodeService = nodeService;
     }
+
+    @Reference
+    public void setRepositoryService( final RepositoryService repositoryService )
+    {
+        this.repositoryService = repositoryService;
+    }
+
+    @Reference
+    public void setNodeSearchService( final NodeSearchService nodeSearchService )
+    {
+        this.nodeSearchService = nodeSearchService;
+    }
 }
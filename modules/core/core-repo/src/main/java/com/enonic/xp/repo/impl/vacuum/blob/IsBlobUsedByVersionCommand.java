@@ -27,12 +27,12 @@ public class IsBlobUsedByVersionCommand
 
     public boolean execute()
     {
-        final NodeVersionQuery query = createQuery();
+        final NodeVersionQuery query = createQuery( fieldPath, blobKey );
         final NodeVersionQueryResult versions = nodeService.findVersions( query );
         return versions.getTotalHits() > 0;
     }
 
-    private NodeVersionQuery createQuery()
+    static NodeVersionQuery createQuery( final IndexPath fieldPath, final BlobKey blobKey )
     {
         final ValueFilter mustHaveBinaryBlobKey = ValueFilter.create().
             fieldName( fieldPath.getPath() ).
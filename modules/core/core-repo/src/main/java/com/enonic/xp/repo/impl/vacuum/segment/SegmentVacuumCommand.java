@@ -22,6 +22,7 @@ import com.enonic.xp.node.NodeVersionQueryResult;
 import com.enonic.xp.query.expr.FieldOrderExpr;
 import com.enonic.xp.query.expr.OrderExpr;
 import com.enonic.xp.query.filter.RangeFilter;
+import com.enonic.xp.repo.impl.binary.BinarySegments;
 import com.enonic.xp.repo.impl.vacuum.VacuumTaskParams;
 import com.enonic.xp.repo.impl.version.VersionIndexPath;
 import com.enonic.xp.repository.RepositoryId;
@@ -71,8 +72,7 @@ public class SegmentVacuumCommand
     {
         List<Segment> toBeRemoved = new ArrayList<>();
         blobStore.listSegments().forEach( segment -> {
-            final RepositoryId repositoryId = RepositorySegmentUtils.toRepositoryId( segment );
-            if ( isRepositoryToKeep( repositoryId ) )
+            if ( BinarySegments.isShared( segment ) || isRepositoryToKeep( RepositorySegmentUtils.toRepositoryId( segment ) ) )
             {
                 result.inUse();
             }
@@ -0,0 +1,95 @@
+package com.enonic.xp.repo.impl.binary;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.internal.blobstore.MemoryBlobStore;
+import com.enonic.xp.node.AttachedBinary;
+import com.enonic.xp.node.BinaryAttachment;
+import com.enonic.xp.repository.RepositoryExeption;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.util.BinaryReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BinaryServiceImplTest
+{
+    private static final RepositoryId REPOSITORY_ID = RepositoryId.from( "repo" );
+
+    private MemoryBlobStore blobStore;
+
+    private BinaryConfig config;
+
+    @BeforeEach
+    void setUp()
+    {
+        blobStore = new MemoryBlobStore();
+        config = mock( BinaryConfig.class );
+    }
+
+    @Test
+    void store_in_repository_segment()
+        throws Exception
+    {
+        final AttachedBinary attachedBinary = new BinaryServiceImpl( blobStore, config ).store( REPOSITORY_ID, attachment( "hello" ) );
+
+        final BlobKey blobKey = BlobKey.from( attachedBinary.getBlobKey() );
+        assertNotNull( blobStore.getRecord( BinarySegments.toSegment( REPOSITORY_ID ), blobKey ) );
+        assertNull( blobStore.getRecord( BinarySegments.SHARED_SEGMENT, blobKey ) );
+    }
+
+    @Test
+    void store_in_shared_segment()
+        throws Exception
+    {
+        when( config.binary_shared() ).thenReturn( true );
+        final BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore, config );
+
+        final AttachedBinary attachedBinary = binaryService.store( REPOSITORY_ID, attachment( "hello" ) );
+        final AttachedBinary otherAttachedBinary = binaryService.store( RepositoryId.from( "other" ), attachment( "hello" ) );
+
+        assertEquals( attachedBinary.getBlobKey(), otherAttachedBinary.getBlobKey() );
+        final BlobKey blobKey = BlobKey.from( attachedBinary.getBlobKey() );
+        assertNotNull( blobStore.getRecord( BinarySegments.SHARED_SEGMENT, blobKey ) );
+        assertNull( blobStore.getRecord( BinarySegments.toSegment( REPOSITORY_ID ), blobKey ) );
+        assertEquals( "hello", binaryService.get( REPOSITORY_ID, attachedBinary ).asCharSource( StandardCharsets.UTF_8 ).read() );
+    }
+
+    @Test
+    void get_from_either_segment()
+        throws Exception
+    {
+        final AttachedBinary repositoryBinary = new BinaryServiceImpl( blobStore, config ).store( REPOSITORY_ID, attachment( "repo" ) );
+
+        when( config.binary_shared() ).thenReturn( true );
+        final BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore, config );
+        final AttachedBinary sharedBinary = binaryService.store( REPOSITORY_ID, attachment( "shared" ) );
+
+        assertEquals( "repo", binaryService.get( REPOSITORY_ID, repositoryBinary ).asCharSource( StandardCharsets.UTF_8 ).read() );
+        assertEquals( "shared", binaryService.get( REPOSITORY_ID, sharedBinary ).asCharSource( StandardCharsets.UTF_8 ).read() );
+    }
+
+    @Test
+    void get_not_found()
+    {
+        final AttachedBinary attachedBinary =
+            new AttachedBinary( BinaryReference.from( "missing" ), "aaf4c61ddcc5e8a2dabede0f3b482cd9aea9434d" );
+
+        assertThrows( RepositoryExeption.class, () -> new BinaryServiceImpl( blobStore, config ).get( REPOSITORY_ID, attachedBinary ) );
+    }
+
+    private static BinaryAttachment attachment( final String content )
+    {
+        return new BinaryAttachment( BinaryReference.from( content ), ByteSource.wrap( content.getBytes( StandardCharsets.UTF_8 ) ) );
+    }
+}
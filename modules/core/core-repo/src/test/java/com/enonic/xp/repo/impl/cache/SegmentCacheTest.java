@@ -0,0 +1,108 @@
+package com.enonic.xp.repo.impl.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.internal.blobstore.MemoryBlobRecord;
+import com.enonic.xp.util.Metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentCacheTest
+{
+    private SegmentCache<String> cache;
+
+    @AfterEach
+    void tearDown()
+    {
+        cache.removeMetrics();
+    }
+
+    @Test
+    void get()
+        throws Exception
+    {
+        cache = newCache( 1024 );
+
+        final AtomicInteger loads = new AtomicInteger();
+        assertEquals( "value", cache.get( BlobKey.from( "a" ), () -> {
+            loads.incrementAndGet();
+            return record( "a", "value" );
+        } ) );
+        assertEquals( "value", cache.get( BlobKey.from( "a" ), () -> {
+            loads.incrementAndGet();
+            return record( "a", "value" );
+        } ) );
+
+        assertEquals( 1, loads.get() );
+        assertEquals( 1, cache.getStats().hitCount() );
+        assertEquals( 1, cache.getStats().missCount() );
+        assertEquals( 5, cache.getWeight() );
+        assertEquals( 0.5d, getGauge( "hitRate" ) );
+
+        cache.invalidateAll();
+        assertEquals( 0, cache.getWeight() );
+    }
+
+    @Test
+    void evictsByWeight()
+        throws Exception
+    {
+        cache = newCache( 10 );
+
+        cache.get( BlobKey.from( "a" ), () -> record( "a", "123456" ) );
+        cache.get( BlobKey.from( "b" ), () -> record( "b", "123456" ) );
+
+        assertEquals( 1, cache.getSize() );
+        assertEquals( 6, cache.getWeight() );
+        assertEquals( 1L, getGauge( "evictionCount" ) );
+    }
+
+    @Test
+    void failedDecodeIsNotCached()
+    {
+        cache = SegmentCache.<String>create()
+            .name( "test" )
+            .metricPrefix( SegmentCacheTest.class.getName() )
+            .maxWeight( 1024 )
+            .decoder( source -> {
+                throw new IOException( "corrupted" );
+            } )
+            .build();
+
+        assertThrows( ExecutionException.class, () -> cache.get( BlobKey.from( "a" ), () -> record( "a", "value" ) ) );
+        assertEquals( 0, cache.getSize() );
+        assertFalse( cache.getWeight() > 0 );
+    }
+
+    private SegmentCache<String> newCache( final long maxWeight )
+    {
+        return SegmentCache.<String>create()
+            .name( "test" )
+            .metricPrefix( SegmentCacheTest.class.getName() )
+            .maxWeight( maxWeight )
+            .decoder( source -> source.asCharSource( StandardCharsets.UTF_8 ).read() )
+            .build();
+    }
+
+    private static MemoryBlobRecord record( final String key, final String value )
+    {
+        return new MemoryBlobRecord( BlobKey.from( key ), ByteSource.wrap( value.getBytes( StandardCharsets.UTF_8 ) ) );
+    }
+
+    private static Object getGauge( final String name )
+    {
+        return ( (Gauge<?>) Metrics.registry().getMetrics().get( SegmentCacheTest.class.getName() + ".test." + name ) ).getValue();
+    }
+}
@@ -38,4 +38,18 @@ public class RepoConfigurationTest
         assertEquals( Path.of( "a/b" ), config.getSnapshotsDir() );
     }
 
+    @Test
+    public void testCacheSizes()
+    {
+        final RepoConfiguration defaults = createConfig();
+        assertEquals( 128 * 1024 * 1024, defaults.nodeDataCacheSize() );
+
+        this.map.put( "cache.nodeData.size", "1gb" );
+        this.map.put( "cache.accessControl.size", "2mb" );
+
+        final RepoConfiguration config = createConfig();
+        assertEquals( 1024L * 1024 * 1024, config.nodeDataCacheSize() );
+        assertEquals( 2 * 1024 * 1024, config.accessControlCacheSize() );
+        assertEquals( 16 * 1024 * 1024, config.indexConfigCacheSize() );
+    }
 }
@@ -0,0 +1,140 @@
+package com.enonic.xp.repo.impl.dump.blobstore;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.io.ByteSource;
+import com.google.common.io.MoreFiles;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.blob.Segment;
+import com.enonic.xp.repo.impl.node.NodeConstants;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.repository.RepositorySegmentUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileDumpBlobStoreTest
+{
+    @TempDir
+    Path temporaryFolder;
+
+    private Segment segment;
+
+    private FileDumpBlobStore dumpBlobStore;
+
+    @BeforeEach
+    void setUp()
+    {
+        segment = RepositorySegmentUtils.toSegment( RepositoryId.from( "my-repo" ), NodeConstants.BINARY_SEGMENT_LEVEL );
+        dumpBlobStore = new FileDumpBlobStore( temporaryFolder.resolve( "dump" ) );
+    }
+
+    @Test
+    void addFileRecordIsLinked()
+        throws Exception
+    {
+        final ByteSource bytes = ByteSource.wrap( "binary".getBytes( StandardCharsets.UTF_8 ) );
+        final Path source = Files.write( temporaryFolder.resolve( "source" ), bytes.read() );
+
+        final BlobRecord record = mock( BlobRecord.class );
+        when( record.getKey() ).thenReturn( BlobKey.from( bytes ) );
+        when( record.getFile() ).thenReturn( Optional.of( source ) );
+
+        dumpBlobStore.addRecord( segment, record );
+
+        final Path dumped = dumpBlobStore.getBlobRef( segment, BlobKey.from( bytes ) ).asPath( temporaryFolder.resolve( "dump" ) );
+        assertTrue( Files.isSameFile( source, dumped ) );
+        assertEquals( bytes.read().length, dumpBlobStore.getRecord( segment, BlobKey.from( bytes ) ).getLength() );
+    }
+
+    @Test
+    void upgradeOfLinkedRecordKeepsSource()
+        throws Exception
+    {
+        final ByteSource bytes = ByteSource.wrap( "binary".getBytes( StandardCharsets.UTF_8 ) );
+        final Path source = Files.write( temporaryFolder.resolve( "source" ), bytes.read() );
+
+        final BlobRecord record = mock( BlobRecord.class );
+        when( record.getKey() ).thenReturn( BlobKey.from( bytes ) );
+        when( record.getFile() ).thenReturn( Optional.of( source ) );
+
+        dumpBlobStore.addRecord( segment, record );
+
+        // dump upgraders rewrite records in place through the record sink
+        final ByteSource upgraded = ByteSource.wrap( "upgraded".getBytes( StandardCharsets.UTF_8 ) );
+        dumpBlobStore.getRecord( segment, BlobKey.from( bytes ) ).getByteSink().write( upgraded.read() );
+
+        assertTrue( MoreFiles.asByteSource( source ).contentEquals( bytes ) );
+        assertTrue( dumpBlobStore.getRecord( segment, BlobKey.from( bytes ) ).getBytes().contentEquals( upgraded ) );
+
+        try (OutputStream out = dumpBlobStore.getRecord( segment, BlobKey.from( bytes ) ).getByteSink().openStream())
+        {
+            out.write( "streamed".getBytes( StandardCharsets.UTF_8 ) );
+        }
+
+        assertTrue( MoreFiles.asByteSource( source ).contentEquals( bytes ) );
+        assertEquals( "streamed", dumpBlobStore.getRecord( segment, BlobKey.from( bytes ) )
+            .getBytes()
+            .asCharSource( StandardCharsets.UTF_8 )
+            .read() );
+    }
+
+    @Test
+    void failedStreamWriteKeepsDumpFile()
+        throws Exception
+    {
+        final ByteSource bytes = ByteSource.wrap( "binary".getBytes( StandardCharsets.UTF_8 ) );
+
+        final BlobRecord record = mock( BlobRecord.class );
+        when( record.getKey() ).thenReturn( BlobKey.from( bytes ) );
+        when( record.getBytes() ).thenReturn( bytes );
+        when( record.getFile() ).thenReturn( Optional.empty() );
+
+        dumpBlobStore.addRecord( segment, record );
+
+        try (OutputStream out = dumpBlobStore.getRecord( segment, BlobKey.from( bytes ) ).getByteSink().openStream())
+        {
+            out.write( "partial".getBytes( StandardCharsets.UTF_8 ) );
+            assertThrows( IndexOutOfBoundsException.class, () -> out.write( new byte[1], 0, 2 ) );
+        }
+
+        final Path dumped = dumpBlobStore.getBlobRef( segment, BlobKey.from( bytes ) ).asPath( temporaryFolder.resolve( "dump" ) );
+        assertTrue( MoreFiles.asByteSource( dumped ).contentEquals( bytes ) );
+        try (Stream<Path> files = Files.list( dumped.getParent() ))
+        {
+            assertEquals( List.of( dumped ), files.collect( Collectors.toList() ) );
+        }
+    }
+
+    @Test
+    void addRecordIsCopied()
+        throws Exception
+    {
+        final ByteSource bytes = ByteSource.wrap( "binary".getBytes( StandardCharsets.UTF_8 ) );
+
+        final BlobRecord record = mock( BlobRecord.class );
+        when( record.getKey() ).thenReturn( BlobKey.from( bytes ) );
+        when( record.getBytes() ).thenReturn( bytes );
+        when( record.getFile() ).thenReturn( Optional.empty() );
+
+        dumpBlobStore.addRecord( segment, record );
+
+        assertTrue( dumpBlobStore.getRecord( segment, BlobKey.from( bytes ) ).getBytes().contentEquals( bytes ) );
+    }
+}
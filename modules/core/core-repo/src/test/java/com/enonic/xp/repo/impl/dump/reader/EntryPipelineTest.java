@@ -0,0 +1,138 @@
+package com.enonic.xp.repo.impl.dump.reader;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.dump.SystemLoadListener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EntryPipelineTest
+{
+    private ExecutorService executor;
+
+    private SystemLoadListener listener;
+
+    private final List<String> loaded = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp()
+    {
+        executor = Executors.newFixedThreadPool( 4 );
+        listener = mock( SystemLoadListener.class );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void dependentEntriesLoadedInOrder()
+        throws Exception
+    {
+        final EntryPipeline<String> pipeline = new EntryPipeline<>( new PathProcessor(), executor, listener );
+        pipeline.submit( "/a" );
+        pipeline.submit( "/b" );
+        pipeline.submit( "/a/c" );
+        pipeline.submit( "/a/c/d" );
+
+        final EntriesLoadResult result = pipeline.complete();
+
+        assertEquals( 3, result.getSuccessful() );
+        assertEquals( 1, result.getErrors().size() );
+        assertEquals( 4, loaded.size() );
+        assertTrue( loaded.indexOf( "/a" ) < loaded.indexOf( "/a/c" ) );
+        assertTrue( loaded.indexOf( "/a/c" ) < loaded.indexOf( "/a/c/d" ) );
+
+        verify( listener, times( 4 ) ).entryLoaded();
+        verify( listener ).entriesLoaded( eq( 4L ), any() );
+    }
+
+    @Test
+    void sequentialWithDirectExecutor()
+        throws Exception
+    {
+        final EntryPipeline<String> pipeline = new EntryPipeline<>( new PathProcessor(), Runnable::run, listener );
+        pipeline.submit( "/b" );
+        pipeline.submit( "/a" );
+
+        assertEquals( List.of( "/b", "/a" ), loaded );
+        assertEquals( 1, pipeline.complete().getSuccessful() );
+    }
+
+    @Test
+    void completesWhenLoadFailsWithError()
+    {
+        final EntryPipeline<String> pipeline = new EntryPipeline<>( new PathProcessor(), executor, listener );
+
+        assertTimeoutPreemptively( Duration.ofSeconds( 10 ), () -> {
+            pipeline.submit( "/error" );
+            pipeline.submit( "/c" );
+            assertEquals( 1, pipeline.complete().getSuccessful() );
+        } );
+    }
+
+    private final class PathProcessor
+        implements EntryProcessor<String>
+    {
+        @Override
+        public String parse( final String entry )
+        {
+            return entry;
+        }
+
+        @Override
+        public EntryLoadResult load( final String entry )
+        {
+            if ( entry.equals( "/error" ) )
+            {
+                throw new AssertionError( "failed" );
+            }
+            if ( entry.equals( "/a" ) )
+            {
+                try
+                {
+                    Thread.sleep( 100 );
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            loaded.add( entry );
+
+            return entry.equals( "/b" )
+                ? EntryLoadResult.create().error( EntryLoadError.error( "failed" ) ).build()
+                : EntryLoadResult.create().successful().build();
+        }
+
+        @Override
+        public Object key( final String entry )
+        {
+            return entry;
+        }
+
+        @Override
+        public Object dependency( final String entry )
+        {
+            final int index = entry.lastIndexOf( '/' );
+            return index > 0 ? entry.substring( 0, index ) : null;
+        }
+    }
+}
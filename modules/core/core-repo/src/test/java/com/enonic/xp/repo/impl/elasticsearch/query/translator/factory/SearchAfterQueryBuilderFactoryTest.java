@@ -0,0 +1,79 @@
+package com.enonic.xp.repo.impl.elasticsearch.query.translator.factory;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.query.expr.DynamicOrderExpr;
+import com.enonic.xp.query.expr.FieldOrderExpr;
+import com.enonic.xp.query.expr.FunctionExpr;
+import com.enonic.xp.query.expr.OrderExpr;
+import com.enonic.xp.query.expr.ValueExpr;
+import com.enonic.xp.repo.impl.elasticsearch.query.translator.resolver.SearchQueryFieldNameResolver;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchAfterQueryBuilderFactoryTest
+    extends BaseTestBuilderFactory
+{
+    private final SearchAfterQueryBuilderFactory factory = new SearchAfterQueryBuilderFactory( SearchQueryFieldNameResolver.INSTANCE );
+
+    @Test
+    public void first_page()
+    {
+        assertNull( factory.create( List.of( FieldOrderExpr.create( "title", OrderExpr.Direction.ASC ) ), List.of() ) );
+    }
+
+    @Test
+    public void after_sort_values()
+    {
+        final List<OrderExpr> orderExprs = List.of( FieldOrderExpr.create( "title", OrderExpr.Direction.ASC ),
+                                                    FieldOrderExpr.create( "modifiedTime", OrderExpr.Direction.DESC ) );
+
+        final String json = cleanString( factory.create( orderExprs, List.of( "b", "2020", "draft#a1b2" ) ).toString() );
+
+        assertTrue( json.contains(
+            "\"range\":{\"title._orderby\":{\"from\":\"b\",\"to\":null,\"include_lower\":false,\"include_upper\":true}}" ) );
+        assertTrue( json.contains(
+            "\"range\":{\"modifiedtime._orderby\":{\"from\":null,\"to\":\"2020\",\"include_lower\":true,\"include_upper\":false}}" ) );
+        assertTrue( json.contains( "\"term\":{\"title._orderby\"" ) );
+        assertTrue( json.contains( "\"term\":{\"modifiedtime._orderby\"" ) );
+        assertTrue( json.contains( "\"range\":{\"_uid\":{\"from\":\"draft#a1b2\"" ) );
+    }
+
+    @Test
+    public void after_missing_value()
+    {
+        final String json = cleanString(
+            factory.create( List.of( FieldOrderExpr.create( "title", OrderExpr.Direction.ASC ) ), Arrays.asList( null, "draft#a1b2" ) )
+                .toString() );
+
+        assertFalse( json.contains( "\"range\":{\"title._orderby\"" ) );
+        assertTrue( json.contains( "\"exists\":{\"field\":\"title._orderby\"}" ) );
+        assertTrue( json.contains( "\"range\":{\"_uid\":{\"from\":\"draft#a1b2\"" ) );
+    }
+
+    @Test
+    public void cursor_of_other_sort()
+    {
+        final List<OrderExpr> orderExprs = List.of( FieldOrderExpr.create( "title", OrderExpr.Direction.ASC ) );
+
+        assertThrows( IllegalArgumentException.class, () -> factory.create( orderExprs, List.of( "draft#a1b2" ) ) );
+    }
+
+    @Test
+    public void unsupported_sort()
+    {
+        assertThrows( IllegalArgumentException.class,
+                      () -> factory.create( List.of( FieldOrderExpr.create( "_score", OrderExpr.Direction.DESC ) ), List.of() ) );
+
+        final DynamicOrderExpr geoDistance = new DynamicOrderExpr(
+            new FunctionExpr( "geoDistance", List.of( ValueExpr.string( "myField" ), ValueExpr.geoPoint( "-50,40" ) ) ),
+            OrderExpr.Direction.ASC );
+        assertThrows( IllegalArgumentException.class, () -> factory.create( List.of( geoDistance ), List.of() ) );
+    }
+}
@@ -0,0 +1,70 @@
+package com.enonic.xp.repo.impl.node;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.security.IdProviderKey;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.PrincipalKeys;
+import com.enonic.xp.security.acl.AccessControlEntry;
+import com.enonic.xp.security.acl.AccessControlList;
+import com.enonic.xp.security.acl.Permission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PermissionEvaluatorTest
+{
+    private static final PrincipalKey USER = PrincipalKey.ofUser( IdProviderKey.system(), "evaluator-user" );
+
+    private static final PrincipalKey GROUP = PrincipalKey.ofGroup( IdProviderKey.system(), "evaluator-group" );
+
+    private static final PrincipalKey ROLE = PrincipalKey.ofRole( "evaluator-role" );
+
+    @Test
+    public void isAllowed()
+    {
+        final AccessControlList acl = AccessControlList.of( AccessControlEntry.create().principal( USER ).allow( Permission.READ ).build(),
+                                                            AccessControlEntry.create()
+                                                                .principal( GROUP )
+                                                                .allow( Permission.CREATE, Permission.MODIFY )
+                                                                .deny( Permission.DELETE )
+                                                                .build(),
+                                                            AccessControlEntry.create()
+                                                                .principal( ROLE )
+                                                                .allow( Permission.DELETE )
+                                                                .build() );
+
+        final PrincipalKeys principals = PrincipalKeys.from( USER, GROUP );
+        final PermissionEvaluator evaluator = PermissionEvaluator.of( principals );
+
+        for ( Permission permission : Permission.values() )
+        {
+            assertEquals( acl.isAllowedFor( principals, permission ), evaluator.isAllowed( acl, permission ), permission.name() );
+        }
+        assertTrue( evaluator.isAllowed( acl, Permission.MODIFY ) );
+        assertFalse( evaluator.isAllowed( acl, Permission.DELETE ) );
+        assertFalse( evaluator.isAllowed( AccessControlList.empty(), Permission.READ ) );
+    }
+
+    @Test
+    public void sharedByThreads()
+        throws Exception
+    {
+        final PermissionEvaluator evaluator = PermissionEvaluator.of( PrincipalKeys.from( USER, ROLE ) );
+
+        assertSame( evaluator, PermissionEvaluator.of( PrincipalKeys.from( USER, ROLE ) ) );
+        final PermissionEvaluator otherThread =
+            CompletableFuture.supplyAsync( () -> PermissionEvaluator.of( PrincipalKeys.from( USER, ROLE ) ) ).get();
+        assertSame( evaluator, otherThread );
+
+        final AccessControlList acl =
+            AccessControlList.of( AccessControlEntry.create().principal( ROLE ).allow( Permission.READ ).build() );
+        assertTrue( evaluator.isAllowed( acl, Permission.READ ) );
+        assertFalse( PermissionEvaluator.of( PrincipalKeys.from( USER ) ).isAllowed( acl, Permission.READ ) );
+        assertTrue( PermissionEvaluator.of( PrincipalKeys.from( USER, ROLE ) ).isAllowed( acl, Permission.READ ) );
+    }
+}
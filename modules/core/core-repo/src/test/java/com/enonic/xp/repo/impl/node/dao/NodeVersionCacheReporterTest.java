@@ -0,0 +1,49 @@
+package com.enonic.xp.repo.impl.node.dao;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.enonic.xp.repo.impl.config.RepoConfigurationImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NodeVersionCacheReporterTest
+{
+    private NodeVersionCaches caches;
+
+    private NodeVersionCacheReporter reporter;
+
+    @BeforeEach
+    void setUp()
+    {
+        this.caches = new NodeVersionCaches( new RepoConfigurationImpl( Map.of( "cache.indexConfig.size", "1mb" ) ) );
+        this.reporter = new NodeVersionCacheReporter( caches );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        this.caches.deactivate();
+    }
+
+    @Test
+    void testName()
+    {
+        assertEquals( "repo.cache", this.reporter.getName() );
+    }
+
+    @Test
+    void testReport()
+    {
+        final JsonNode report = this.reporter.getReport();
+
+        assertEquals( 1024 * 1024, report.get( "indexConfig" ).get( "maxWeight" ).asLong() );
+        assertEquals( 128 * 1024 * 1024, report.get( "nodeData" ).get( "maxWeight" ).asLong() );
+        assertEquals( 0, report.get( "accessControl" ).get( "hitCount" ).asLong() );
+    }
+}
@@ -43,12 +43,13 @@ class NodeVersionServiceImplTest
 {
     private static final MemoryBlobStore BLOB_STORE = new MemoryBlobStore();
 
-    private NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( BLOB_STORE, new RepoConfigurationImpl( Map.of() ) );
+    private NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( BLOB_STORE,
+                                                                         new NodeVersionCaches( new RepoConfigurationImpl( Map.of() ) ) );
 
     @BeforeEach
     void setUp()
     {
-        this.nodeDao = new NodeVersionServiceImpl( BLOB_STORE, new RepoConfigurationImpl( Map.of() ) );
+        this.nodeDao = new NodeVersionServiceImpl( BLOB_STORE, new NodeVersionCaches( new RepoConfigurationImpl( Map.of() ) ) );
     }
 
     @Test
@@ -0,0 +1,38 @@
+package com.enonic.xp.repo.impl.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchCursorTest
+{
+    @Test
+    public void encode_decode()
+    {
+        final List<Object> sortValues = Arrays.asList( "my title", null, 5, "draft#a1b2" );
+
+        final String cursor = SearchCursor.encode( sortValues );
+
+        assertFalse( cursor.contains( "=" ) || cursor.contains( "+" ) || cursor.contains( "/" ) );
+        assertEquals( sortValues, SearchCursor.decode( cursor ) );
+    }
+
+    @Test
+    public void first_page()
+    {
+        assertTrue( SearchCursor.decode( "" ).isEmpty() );
+    }
+
+    @Test
+    public void invalid()
+    {
+        assertThrows( IllegalArgumentException.class, () -> SearchCursor.decode( "not a cursor" ) );
+        assertThrows( IllegalArgumentException.class, () -> SearchCursor.decode( SearchCursor.encode( List.of() ) ) );
+    }
+}
@@ -123,7 +123,7 @@ public abstract class AbstractBlobVacuumTaskTest
 
     protected abstract VacuumTask createTask();
 
-    private MemoryBlobRecord createBlobRecord( final char id )
+    protected MemoryBlobRecord createBlobRecord( final char id )
     {
         return new MemoryBlobRecord( createBlobKey( id ), ByteSource.wrap( "stuff".getBytes() ) );
     }
@@ -0,0 +1,82 @@
+package com.enonic.xp.repo.impl.vacuum.blob;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.Segment;
+import com.enonic.xp.internal.blobstore.MemoryBlobStore;
+import com.enonic.xp.repo.impl.binary.BinaryConfig;
+import com.enonic.xp.repo.impl.binary.BinarySegments;
+import com.enonic.xp.repo.impl.node.NodeConstants;
+import com.enonic.xp.repo.impl.vacuum.VacuumTaskParams;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.repository.RepositorySegmentUtils;
+import com.enonic.xp.vacuum.VacuumTaskResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BinaryBlobMigrationTaskTest
+{
+    private MemoryBlobStore blobStore;
+
+    private Segment segment;
+
+    private Segment otherSegment;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.blobStore = new MemoryBlobStore();
+        this.segment = BinarySegments.toSegment( RepositoryId.from( "test" ) );
+        this.otherSegment = BinarySegments.toSegment( RepositoryId.from( "other" ) );
+    }
+
+    @Test
+    public void move_to_shared()
+    {
+        final BlobKey hello = blobStore.addRecord( segment, ByteSource.wrap( "hello".getBytes() ) ).getKey();
+        final BlobKey bye = blobStore.addRecord( segment, ByteSource.wrap( "bye".getBytes() ) ).getKey();
+        blobStore.addRecord( otherSegment, ByteSource.wrap( "hello".getBytes() ) );
+        final Segment nodeSegment = RepositorySegmentUtils.toSegment( RepositoryId.from( "test" ), NodeConstants.NODE_SEGMENT_LEVEL );
+        final BlobKey node = blobStore.addRecord( nodeSegment, ByteSource.wrap( "node".getBytes() ) ).getKey();
+
+        final VacuumTaskResult result = createTask( true ).execute( VacuumTaskParams.create().build() );
+
+        assertEquals( 3, result.getProcessed() );
+        assertEquals( 3, result.getDeleted() );
+        assertNotNull( blobStore.getRecord( BinarySegments.SHARED_SEGMENT, hello ) );
+        assertNotNull( blobStore.getRecord( BinarySegments.SHARED_SEGMENT, bye ) );
+        assertNull( blobStore.getRecord( segment, hello ) );
+        assertNull( blobStore.getRecord( otherSegment, hello ) );
+        assertNotNull( blobStore.getRecord( nodeSegment, node ) );
+    }
+
+    @Test
+    public void not_shared()
+    {
+        final BlobKey hello = blobStore.addRecord( segment, ByteSource.wrap( "hello".getBytes() ) ).getKey();
+
+        final VacuumTaskResult result = createTask( false ).execute( VacuumTaskParams.create().build() );
+
+        assertEquals( 0, result.getProcessed() );
+        assertNotNull( blobStore.getRecord( segment, hello ) );
+        assertNull( blobStore.getRecord( BinarySegments.SHARED_SEGMENT, hello ) );
+    }
+
+    private BinaryBlobMigrationTask createTask( final boolean shared )
+    {
+        final BinaryConfig config = Mockito.mock( BinaryConfig.class );
+        Mockito.when( config.binary_shared() ).thenReturn( shared );
+
+        final BinaryBlobMigrationTask task = new BinaryBlobMigrationTask();
+        task.setBlobStore( blobStore );
+        task.activate( config );
+        return task;
+    }
+}
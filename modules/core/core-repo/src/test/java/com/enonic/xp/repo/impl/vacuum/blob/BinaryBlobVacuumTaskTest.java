@@ -2,15 +2,37 @@ package com.enonic.xp.repo.impl.vacuum.blob;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import com.enonic.xp.blob.Segment;
 import com.enonic.xp.blob.SegmentLevel;
+import com.enonic.xp.branch.Branch;
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.node.NodeVersionQuery;
+import com.enonic.xp.repo.impl.binary.BinarySegments;
 import com.enonic.xp.repo.impl.node.NodeConstants;
+import com.enonic.xp.repo.impl.search.NodeSearchService;
+import com.enonic.xp.repo.impl.search.result.SearchResult;
 import com.enonic.xp.repo.impl.vacuum.VacuumTask;
+import com.enonic.xp.repo.impl.vacuum.VacuumTaskParams;
+import com.enonic.xp.repository.Repositories;
+import com.enonic.xp.repository.Repository;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.repository.RepositoryIds;
+import com.enonic.xp.repository.RepositoryService;
+import com.enonic.xp.security.SystemConstants;
+import com.enonic.xp.vacuum.VacuumTaskResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 
 public class BinaryBlobVacuumTaskTest extends AbstractBlobVacuumTaskTest
 {
+    private RepositoryService repositoryService;
+
+    private NodeSearchService nodeSearchService;
+
     @Override
     @BeforeEach
     public void setUp()
@@ -18,6 +40,8 @@ public class BinaryBlobVacuumTaskTest extends AbstractBlobVacuumTaskTest
     {
         super.setUp();
         this.segment = Segment.from( SegmentLevel.from( "test" ), NodeConstants.BINARY_SEGMENT_LEVEL );
+        this.repositoryService = Mockito.mock( RepositoryService.class );
+        this.nodeSearchService = Mockito.mock( NodeSearchService.class );
     }
 
     @Override
@@ -44,12 +68,41 @@ public class BinaryBlobVacuumTaskTest extends AbstractBlobVacuumTaskTest
         super.age_threshold();
     }
 
+    @Test
+    public void shared_segment_used_by_any_repository()
+    {
+        this.blobStore.addRecord( BinarySegments.SHARED_SEGMENT, createBlobRecord( 'a' ) );
+        this.blobStore.addRecord( BinarySegments.SHARED_SEGMENT, createBlobRecord( 'b' ) );
+
+        final Repository repository = Repository.create().id( RepositoryId.from( "test" ) ).branches( Branch.from( "master" ) ).build();
+        Mockito.when( repositoryService.list() ).thenReturn( Repositories.from( repository ) );
+
+        final RepositoryIds repositoryIds =
+            RepositoryIds.from( SystemConstants.SYSTEM_REPO_ID, ContentConstants.CONTENT_REPO_ID, RepositoryId.from( "test" ) );
+        Mockito.when( nodeSearchService.query( Mockito.any( NodeVersionQuery.class ), Mockito.eq( repositoryIds ) ) )
+            .thenAnswer( invocation -> SearchResult.create()
+                .totalHits( nodeService.findVersions( invocation.<NodeVersionQuery>getArgument( 0 ) ).getTotalHits() )
+                .build() );
+
+        final VacuumTaskResult result = createTask().execute( VacuumTaskParams.create().ageThreshold( 0 ).build() );
+
+        assertEquals( 2, result.getProcessed() );
+        assertEquals( 1, result.getDeleted() );
+        assertEquals( 1, result.getInUse() );
+        assertNotNull( this.blobStore.getRecord( BinarySegments.SHARED_SEGMENT, createBlobRecord( 'a' ).getKey() ) );
+
+        // each blob is looked up once in the version indices of system, content and test repositories
+        Mockito.verify( nodeSearchService, Mockito.times( 2 ) ).query( Mockito.any( NodeVersionQuery.class ), Mockito.eq( repositoryIds ) );
+    }
+
     @Override
     protected VacuumTask createTask()
     {
         final BinaryBlobVacuumTask task = new BinaryBlobVacuumTask();
         task.setBlobStore( this.blobStore );
         task.setNodeService( this.nodeService );
+        task.setRepositoryService( this.repositoryService );
+        task.setNodeSearchService( this.nodeSearchService );
         return task;
     }
 }
@@ -0,0 +1,127 @@
+package com.enonic.xp.impl.scheduler;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+import com.enonic.xp.node.NodeName;
+import com.enonic.xp.node.NodeNotFoundException;
+import com.enonic.xp.node.NodePath;
+import com.enonic.xp.node.RefreshMode;
+import com.enonic.xp.node.UpdateNodeParams;
+import com.enonic.xp.scheduler.ScheduledJobName;
+import com.enonic.xp.task.TaskId;
+
+public class UpdateLastRunsCommand
+    extends AbstractSchedulerCommand
+{
+    private static final Logger LOG = LoggerFactory.getLogger( UpdateLastRunsCommand.class );
+
+    private final Map<ScheduledJobName, LastRun> lastRuns;
+
+    private UpdateLastRunsCommand( final Builder builder )
+    {
+        super( builder );
+        lastRuns = builder.lastRuns;
+    }
+
+    public static Builder create()
+    {
+        return new Builder();
+    }
+
+    public int execute()
+    {
+        if ( lastRuns.isEmpty() )
+        {
+            return 0;
+        }
+        return SchedulerContext.createContext().callWith( this::doExecute );
+    }
+
+    private int doExecute()
+    {
+        int updated = 0;
+        for ( Map.Entry<ScheduledJobName, LastRun> entry : lastRuns.entrySet() )
+        {
+            final LastRun lastRun = entry.getValue();
+
+            final UpdateNodeParams updateNodeParams = UpdateNodeParams.create().
+                path( new NodePath( NodePath.ROOT, NodeName.from( entry.getKey().getValue() ) ) ).
+                editor( toBeEdited -> {
+                    toBeEdited.data.setInstant( ScheduledJobPropertyNames.LAST_RUN, lastRun.time );
+                    toBeEdited.data.setString( ScheduledJobPropertyNames.LAST_TASK_ID,
+                                               lastRun.taskId != null ? lastRun.taskId.toString() : null );
+                } ).
+                build();
+
+            try
+            {
+                nodeService.update( updateNodeParams );
+                updated++;
+            }
+            catch ( NodeNotFoundException e )
+            {
+                LOG.debug( "Scheduled job [{}] was removed before its last run was stored", entry.getKey() );
+            }
+            catch ( Exception e )
+            {
+                LOG.error( "Failed to store last run of scheduled job [{}]", entry.getKey(), e );
+            }
+        }
+
+        if ( updated > 0 )
+        {
+            nodeService.refresh( RefreshMode.ALL );
+        }
+        return updated;
+    }
+
+    private static final class LastRun
+    {
+        final Instant time;
+
+        final TaskId taskId;
+
+        LastRun( final Instant time, final TaskId taskId )
+        {
+            this.time = time;
+            this.taskId = taskId;
+        }
+    }
+
+    public static final class Builder
+        extends AbstractSchedulerCommand.Builder<Builder>
+    {
+        private final Map<ScheduledJobName, LastRun> lastRuns = new LinkedHashMap<>();
+
+        private Builder()
+        {
+        }
+
+        public Builder add( final ScheduledJobName name, final Instant lastRun, final TaskId lastTaskId )
+        {
+            Preconditions.checkNotNull( name, "name cannot be null." );
+            Preconditions.checkNotNull( lastRun, "lastRun cannot be null." );
+            this.lastRuns.put( name, new LastRun( lastRun, lastTaskId ) );
+            return this;
+        }
+
+        public boolean isEmpty()
+        {
+            return lastRuns.isEmpty();
+        }
+
+        @Override
+        public UpdateLastRunsCommand build()
+        {
+            validate();
+            return new UpdateLastRunsCommand( this );
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -19,7 +20,7 @@ import com.enonic.xp.context.Context;
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.context.ContextBuilder;
 import com.enonic.xp.core.internal.osgi.OsgiSupport;
-import com.enonic.xp.impl.scheduler.UpdateLastRunCommand;
+import com.enonic.xp.impl.scheduler.UpdateLastRunsCommand;
 import com.enonic.xp.node.NodeService;
 import com.enonic.xp.scheduler.ScheduleCalendarType;
 import com.enonic.xp.scheduler.ScheduledJob;
@@ -59,10 +60,11 @@ public class RescheduleTask
     {
         final Instant now = Instant.now();
 
-        final Predicate<ScheduledJob> filterAlreadyScheduled =
-            job -> !QUEUE.stream().map( entity -> entity.name ).collect( Collectors.toSet() ).contains( job.getName() );
-
         unscheduleModifiedJobs( jobs );
+
+        final Set<ScheduledJobName> alreadyScheduled = QUEUE.stream().map( entity -> entity.name ).collect( Collectors.toSet() );
+        final Predicate<ScheduledJob> filterAlreadyScheduled = job -> !alreadyScheduled.contains( job.getName() );
+
         scheduleCronJobs( jobs, now, filterAlreadyScheduled );
         scheduleOneTimeJobs( jobs, now, filterAlreadyScheduled );
     }
@@ -144,12 +146,32 @@ public class RescheduleTask
 
         fillJobsToSchedule( jobs );
 
-        final List<FailedJob> failedJobs = scheduleJobs( jobs );
+        final UpdateLastRunsCommand.Builder lastRuns = UpdateLastRunsCommand.create();
+
+        try
+        {
+            final List<FailedJob> failedJobs = scheduleJobs( jobs, lastRuns );
+
+            retryFailedJobs( failedJobs, lastRuns );
+        }
+        finally
+        {
+            storeLastRuns( lastRuns );
+        }
+    }
+
+    private void storeLastRuns( final UpdateLastRunsCommand.Builder lastRuns )
+    {
+        if ( lastRuns.isEmpty() )
+        {
+            return;
+        }
 
-        retryFailedJobs( failedJobs );
+        adminContext().runWith(
+            () -> OsgiSupport.withService( NodeService.class, nodeService -> lastRuns.nodeService( nodeService ).build().execute() ) );
     }
 
-    private List<FailedJob> scheduleJobs( final Map<ScheduledJobName, ScheduledJob> jobs )
+    private List<FailedJob> scheduleJobs( final Map<ScheduledJobName, ScheduledJob> jobs, final UpdateLastRunsCommand.Builder lastRuns )
     {
         final ImmutableList.Builder<FailedJob> failedJobs = ImmutableList.builder();
 
@@ -177,13 +199,7 @@ public class RescheduleTask
                     final TaskId taskId =
                         taskContext( job.getUser() ).callWith( () -> OsgiSupport.withService( TaskService.class, submitTask ) );
 
-                    adminContext().runWith( () -> OsgiSupport.withService( NodeService.class, nodeService -> UpdateLastRunCommand.create()
-                        .nodeService( nodeService )
-                        .name( job.getName() )
-                        .lastRun( Instant.now() )
-                        .lastTaskId( taskId )
-                        .build()
-                        .execute() ) );
+                    lastRuns.add( job.getName(), Instant.now(), taskId );
                 }
                 catch ( Exception e )
                 {
@@ -199,7 +215,7 @@ public class RescheduleTask
         return failedJobs.build();
     }
 
-    private void retryFailedJobs( final List<FailedJob> failedJobs )
+    private void retryFailedJobs( final List<FailedJob> failedJobs, final UpdateLastRunsCommand.Builder lastRuns )
     {
         failedJobs.forEach( failedJob -> {
             if ( failedJob.job.attempts < 10 )
@@ -210,13 +226,7 @@ public class RescheduleTask
             }
             else
             {
-                adminContext().runWith( () -> OsgiSupport.withService( NodeService.class, nodeService -> UpdateLastRunCommand.create()
-                    .nodeService( nodeService )
-                    .name( failedJob.job.name )
-                    .lastRun( Instant.now() )
-                    .lastTaskId( null )
-                    .build()
-                    .execute() ) );
+                lastRuns.add( failedJob.job.name, Instant.now(), null );
 
                 LOG.error( "Error while running job [{}], no further attempts will be made", failedJob.job.name, failedJob.reason );
             }
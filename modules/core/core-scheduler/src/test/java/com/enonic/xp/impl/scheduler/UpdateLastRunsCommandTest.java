@@ -0,0 +1,113 @@
+package com.enonic.xp.impl.scheduler;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.node.EditableNode;
+import com.enonic.xp.node.Node;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeNotFoundException;
+import com.enonic.xp.node.NodePath;
+import com.enonic.xp.node.NodeService;
+import com.enonic.xp.node.RefreshMode;
+import com.enonic.xp.node.UpdateNodeParams;
+import com.enonic.xp.scheduler.ScheduledJobName;
+import com.enonic.xp.task.TaskId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateLastRunsCommandTest
+{
+    @Mock
+    private NodeService nodeService;
+
+    @Captor
+    private ArgumentCaptor<UpdateNodeParams> captor;
+
+    @Test
+    public void updatesAreRefreshedOnce()
+    {
+        final Instant lastRun = Instant.parse( "2021-02-25T10:44:33.170079900Z" );
+
+        when( nodeService.update( isA( UpdateNodeParams.class ) ) ).thenReturn( mockNode() );
+
+        final int updated = UpdateLastRunsCommand.create()
+            .add( ScheduledJobName.from( "job1" ), lastRun, TaskId.from( "task1" ) )
+            .add( ScheduledJobName.from( "job2" ), lastRun, null )
+            .nodeService( nodeService )
+            .build()
+            .execute();
+
+        assertEquals( 2, updated );
+        verify( nodeService, times( 2 ) ).update( captor.capture() );
+        verify( nodeService, times( 1 ) ).refresh( RefreshMode.ALL );
+
+        assertNull( captor.getAllValues().get( 0 ).getRefresh() );
+        assertEquals( "/job1", captor.getAllValues().get( 0 ).getPath().toString() );
+
+        final EditableNode editableNode = new EditableNode( mockNode() );
+        captor.getAllValues().get( 1 ).getEditor().edit( editableNode );
+
+        assertEquals( lastRun, editableNode.data.getProperty( ScheduledJobPropertyNames.LAST_RUN ).getInstant() );
+        assertNull( editableNode.data.getString( ScheduledJobPropertyNames.LAST_TASK_ID ) );
+    }
+
+    @Test
+    public void removedJobIsSkipped()
+    {
+        when( nodeService.update( isA( UpdateNodeParams.class ) ) ).thenThrow( new NodeNotFoundException( "not found" ) );
+
+        final int updated = UpdateLastRunsCommand.create()
+            .add( ScheduledJobName.from( "job1" ), Instant.now(), null )
+            .nodeService( nodeService )
+            .build()
+            .execute();
+
+        assertEquals( 0, updated );
+        verify( nodeService, never() ).refresh( isA( RefreshMode.class ) );
+    }
+
+    @Test
+    public void failedJobDoesNotStopOthers()
+    {
+        when( nodeService.update( isA( UpdateNodeParams.class ) ) ).thenThrow( new IllegalStateException( "failed" ) )
+            .thenReturn( mockNode() );
+
+        final int updated = UpdateLastRunsCommand.create()
+            .add( ScheduledJobName.from( "job1" ), Instant.now(), null )
+            .add( ScheduledJobName.from( "job2" ), Instant.now(), null )
+            .nodeService( nodeService )
+            .build()
+            .execute();
+
+        assertEquals( 1, updated );
+        verify( nodeService, times( 2 ) ).update( isA( UpdateNodeParams.class ) );
+        verify( nodeService, times( 1 ) ).refresh( RefreshMode.ALL );
+    }
+
+    @Test
+    public void empty()
+    {
+        assertEquals( 0, UpdateLastRunsCommand.create().nodeService( nodeService ).build().execute() );
+        verify( nodeService, never() ).update( isA( UpdateNodeParams.class ) );
+    }
+
+    private Node mockNode()
+    {
+        return Node.create().id( NodeId.from( "abc" ) ).name( "test" ).parentPath( NodePath.ROOT ).data( new PropertyTree() ).build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.enonic.xp.impl.shared;
+
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.cache.CacheBuilder;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryMergedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
+
+/**
+ * Local copy of recently read entries of a Hazelcast map.
+ * Entries are invalidated by map events, so changes made on any cluster member are picked up.
+ * A reservation is placed before a remote read and the read value is stored only if no invalidation happened meanwhile.
+ * Least recently used entries are evicted when the cache is full.
+ */
+final class HazelcastNearCache<K, V>
+    implements EntryAddedListener<K, V>, EntryUpdatedListener<K, V>, EntryRemovedListener<K, V>, EntryEvictedListener<K, V>,
+    EntryExpiredListener<K, V>, EntryMergedListener<K, V>, MapClearedListener, MapEvictedListener
+{
+    private final ConcurrentMap<K, Entry<V>> entries;
+
+    private final IMap<K, V> map;
+
+    private final String registrationId;
+
+    HazelcastNearCache( final IMap<K, V> map, final int maxSize )
+    {
+        this.map = map;
+        this.entries = CacheBuilder.newBuilder().maximumSize( maxSize ).<K, Entry<V>>build().asMap();
+        this.registrationId = map.addEntryListener( this, false );
+    }
+
+    V get( final K key, final SharedMapMetrics metrics )
+    {
+        final Entry<V> entry = entries.get( key );
+        if ( entry != null && entry.isValid( System.currentTimeMillis() ) )
+        {
+            metrics.nearCacheHit();
+            return entry.value;
+        }
+        metrics.nearCacheMiss();
+
+        final Entry<V> reservation = new Entry<>( null, Long.MIN_VALUE );
+        entries.put( key, reservation );
+        try
+        {
+            final EntryView<K, V> entryView = map.getEntryView( key );
+            final V value = entryView != null ? entryView.getValue() : null;
+            final long expirationTime = entryView != null ? entryView.getExpirationTime() : Long.MAX_VALUE;
+
+            entries.replace( key, reservation, new Entry<>( value, expirationTime ) );
+            return value;
+        }
+        finally
+        {
+            entries.remove( key, reservation );
+        }
+    }
+
+    V getIfPresent( final K key )
+    {
+        final Entry<V> entry = entries.get( key );
+        return entry != null && entry.isValid( System.currentTimeMillis() ) ? entry.value : null;
+    }
+
+    void invalidate( final Object key )
+    {
+        entries.remove( key );
+    }
+
+    void destroy()
+    {
+        map.removeEntryListener( registrationId );
+        entries.clear();
+    }
+
+    int size()
+    {
+        return entries.size();
+    }
+
+    @Override
+    public void entryAdded( final EntryEvent<K, V> event )
+    {
+        invalidate( event.getKey() );
+    }
+
+    @Override
+    public void entryUpdated( final EntryEvent<K, V> event )
+    {
+        invalidate( event.getKey() );
+    }
+
+    @Override
+    public void entryRemoved( final EntryEvent<K, V> event )
+    {
+        invalidate( event.getKey() );
+    }
+
+    @Override
+    public void entryEvicted( final EntryEvent<K, V> event )
+    {
+        invalidate( event.getKey() );
+    }
+
+    @Override
+    public void entryExpired( final EntryEvent<K, V> event )
+    {
+        invalidate( event.getKey() );
+    }
+
+    @Override
+    public void entryMerged( final EntryEvent<K, V> event )
+    {
+        invalidate( event.getKey() );
+    }
+
+    @Override
+    public void mapCleared( final MapEvent event )
+    {
+        entries.clear();
+    }
+
+    @Override
+    public void mapEvicted( final MapEvent event )
+    {
+        entries.clear();
+    }
+
+    private static final class Entry<V>
+    {
+        final V value;
+
+        final long expirationTime;
+
+        Entry( final V value, final long expirationTime )
+        {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isValid( final long now )
+        {
+            return now < expirationTime;
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.enonic.xp.impl.shared;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import com.codahale.metrics.Timer;
 import com.hazelcast.core.IMap;
+import com.hazelcast.util.ExceptionUtil;
 
 import com.enonic.xp.shared.SharedMap;
 
@@ -12,21 +23,86 @@ public final class HazelcastSharedMap<K, V>
 {
     private final IMap<K, V> map;
 
+    private final SharedMapMetrics metrics;
+
+    private final HazelcastNearCache<K, V> nearCache;
+
     public HazelcastSharedMap( final IMap<K, V> map )
+    {
+        this( map, new SharedMapMetrics( map.getName() ), null );
+    }
+
+    HazelcastSharedMap( final IMap<K, V> map, final SharedMapMetrics metrics, final HazelcastNearCache<K, V> nearCache )
     {
         this.map = map;
+        this.metrics = metrics;
+        this.nearCache = nearCache;
     }
 
     @Override
     public V get( final K key )
     {
-        return map.get( key );
+        if ( nearCache != null )
+        {
+            return metrics.timeGet( () -> nearCache.get( key, metrics ) );
+        }
+        return metrics.timeGet( () -> map.get( key ) );
+    }
+
+    @Override
+    public Map<K, V> getAll( final Collection<? extends K> keys )
+    {
+        try (Timer.Context ignored = metrics.timeGet())
+        {
+            final Map<K, V> result = new HashMap<>();
+            final Set<K> remoteKeys = new HashSet<>();
+            for ( K key : keys )
+            {
+                final V value = nearCache != null ? nearCache.getIfPresent( key ) : null;
+                if ( value != null )
+                {
+                    metrics.nearCacheHit();
+                    result.put( key, value );
+                }
+                else
+                {
+                    remoteKeys.add( key );
+                }
+            }
+
+            if ( !remoteKeys.isEmpty() )
+            {
+                result.putAll( map.getAll( remoteKeys ) );
+            }
+
+            metrics.markFound( result.size(), keys.size() );
+            return result;
+        }
     }
 
     @Override
     public void delete( final K key )
     {
-        map.delete( key );
+        try (Timer.Context ignored = metrics.timeDelete())
+        {
+            map.delete( key );
+        }
+        invalidate( key );
+    }
+
+    @Override
+    public void deleteAll( final Collection<? extends K> keys )
+    {
+        try (Timer.Context ignored = metrics.timeDelete())
+        {
+            final List<Future<?>> futures = new ArrayList<>( keys.size() );
+            for ( K key : keys )
+            {
+                futures.add( map.removeAsync( key ) );
+            }
+            awaitAll( futures );
+        }
+        keys.forEach( this::invalidate );
     }
 
     @Override
@@ -38,7 +114,42 @@ public final class HazelcastSharedMap<K, V>
     @Override
     public void set( final K key, final V value, int ttlSeconds )
     {
-        setInternal( key, value, ttlSeconds );
+        try (Timer.Context ignored = metrics.timeSet())
+        {
+            setInternal( key, value, ttlSeconds );
+        }
+    }
+
+    @Override
+    public void setAll( final Map<? extends K, ? extends V> entries, final int ttlSeconds )
+    {
+        try (Timer.Context ignored = metrics.timeSet())
+        {
+            final List<Future<?>> futures = new ArrayList<>( entries.size() );
+            final Map<K, V> toPut = new HashMap<>();
+            for ( Map.Entry<? extends K, ? extends V> entry : entries.entrySet() )
+            {
+                if ( entry.getValue() == null )
+                {
+                    futures.add( map.removeAsync( entry.getKey() ) );
+                }
+                else if ( ttlSeconds < 0 )
+                {
+                    toPut.put( entry.getKey(), entry.getValue() );
+                }
+                else
+                {
+                    futures.add( map.setAsync( entry.getKey(), entry.getValue(), ttlSeconds, TimeUnit.SECONDS ) );
+                }
+            }
+
+            if ( !toPut.isEmpty() )
+            {
+                map.putAll( toPut );
+            }
+            awaitAll( futures );
+        }
+        entries.keySet().forEach( this::invalidate );
     }
 
     @Override
@@ -50,16 +161,19 @@ public final class HazelcastSharedMap<K, V>
     @Override
     public V modify( K key, Function<V, V> modifier, int ttlSeconds )
     {
-        map.lock( key );
-        try
-        {
-            final V value = modifier.apply( map.get( key ) );
-            setInternal( key, value, ttlSeconds );
-            return value;
-        }
-        finally
+        try (Timer.Context ignored = metrics.timeModify())
         {
-            map.unlock( key );
+            map.lock( key );
+            try
+            {
+                final V value = modifier.apply( map.get( key ) );
+                setInternal( key, value, ttlSeconds );
+                return value;
+            }
+            finally
+            {
+                map.unlock( key );
+            }
         }
     }
 
@@ -73,5 +187,34 @@ public final class HazelcastSharedMap<K, V>
         {
             map.delete( key );
         }
+        invalidate( key );
+    }
+
+    private void invalidate( final K key )
+    {
+        if ( nearCache != null )
+        {
+            nearCache.invalidate( key );
+        }
+    }
+
+    private static void awaitAll( final List<Future<?>> futures )
+    {
+        try
+        {
+            for ( Future<?> future : futures )
+            {
+                future.get();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.rethrow( e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw ExceptionUtil.rethrow( e.getCause() );
+        }
     }
 }
@@ -1,32 +1,65 @@
 package com.enonic.xp.impl.shared;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.propertytypes.ServiceRanking;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
 
+import com.enonic.xp.shared.SharedMapOptions;
 import com.enonic.xp.shared.SharedMapService;
 
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = "com.enonic.xp.shared")
 @ServiceRanking(1)
 public class HazelcastSharedMapService
     implements SharedMapService
 {
     private final HazelcastInstance hazelcastInstance;
 
+    private final int nearCacheMaxSize;
+
+    private final ConcurrentMap<String, SharedMapMetrics> metrics = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, HazelcastNearCache<?, ?>> nearCaches = new ConcurrentHashMap<>();
+
     @Activate
-    public HazelcastSharedMapService( @Reference final HazelcastInstance hazelcastInstance )
+    public HazelcastSharedMapService( @Reference final HazelcastInstance hazelcastInstance, final SharedMapConfig config )
     {
         this.hazelcastInstance = hazelcastInstance;
+        this.nearCacheMaxSize = config.nearCache_maxSize();
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        nearCaches.values().forEach( HazelcastNearCache::destroy );
+        nearCaches.clear();
     }
 
     @Override
     public <K, V> HazelcastSharedMap<K, V> getSharedMap( final String name )
+    {
+        return getSharedMap( name, SharedMapOptions.defaults() );
+    }
+
+    @Override
+    public <K, V> HazelcastSharedMap<K, V> getSharedMap( final String name, final SharedMapOptions options )
     {
         final IMap<K, V> iMap = hazelcastInstance.getMap( name );
-        return new HazelcastSharedMap<>( iMap );
+        final HazelcastNearCache<K, V> nearCache = options.isNearCache() ? castNearCache(
+            nearCaches.computeIfAbsent( name, k -> new HazelcastNearCache<>( iMap, nearCacheMaxSize ) ) ) : null;
+        return new HazelcastSharedMap<>( iMap, metrics.computeIfAbsent( name, SharedMapMetrics::new ), nearCache );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> HazelcastNearCache<K, V> castNearCache( final HazelcastNearCache<?, ?> nearCache )
+    {
+        return (HazelcastNearCache<K, V>) nearCache;
     }
 }
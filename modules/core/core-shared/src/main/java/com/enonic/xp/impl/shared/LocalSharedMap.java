@@ -12,6 +12,8 @@ import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import com.codahale.metrics.Timer;
+
 import com.enonic.xp.shared.SharedMap;
 
 public final class LocalSharedMap<K, V>
@@ -23,16 +25,35 @@ public final class LocalSharedMap<K, V>
 
     private final DelayQueue<Entry<K, V>> expirationQueue = new DelayQueue<>();
 
+    private final SharedMapMetrics metrics;
+
+    public LocalSharedMap()
+    {
+        this( null );
+    }
+
+    LocalSharedMap( final SharedMapMetrics metrics )
+    {
+        this.metrics = metrics;
+    }
+
     @Override
     public V get( final K key )
     {
+        if ( metrics != null )
+        {
+            return metrics.timeGet( () -> Entry.extractValue( map.get( key ) ) );
+        }
         return Entry.extractValue( map.get( key ) );
     }
 
     @Override
     public void delete( final K key )
     {
-        map.remove( key );
+        try (Timer.Context ignored = metrics != null ? metrics.timeDelete() : null)
+        {
+            map.remove( key );
+        }
     }
 
     @Override
@@ -44,15 +65,18 @@ public final class LocalSharedMap<K, V>
     @Override
     public void set( final K key, final V value, final int ttlSeconds )
     {
-        if ( value != null )
-        {
-            map.put( key, newEntry( key, value, ttlSeconds ) );
-        }
-        else
+        try (Timer.Context ignored = metrics != null ? metrics.timeSet() : null)
         {
-            map.remove( key );
+            if ( value != null )
+            {
+                map.put( key, newEntry( key, value, ttlSeconds ) );
+            }
+            else
+            {
+                map.remove( key );
+            }
+            cleanUp();
         }
-        cleanUp();
     }
 
     @Override
@@ -64,19 +88,22 @@ public final class LocalSharedMap<K, V>
     @Override
     public V modify( final K key, final Function<V, V> modifier, final int ttlSeconds )
     {
-        final Entry<K, V> computed = map.compute( key, ( k, v ) -> {
-            final V value = modifier.apply( Entry.extractValue( v ) );
-            if ( value != null )
-            {
-                return newEntry( k, value, ttlSeconds );
-            }
-            else
-            {
-                return null;
-            }
-        } );
-        cleanUp();
-        return computed != null ? computed.value : null;
+        try (Timer.Context ignored = metrics != null ? metrics.timeModify() : null)
+        {
+            final Entry<K, V> computed = map.compute( key, ( k, v ) -> {
+                final V value = modifier.apply( Entry.extractValue( v ) );
+                if ( value != null )
+                {
+                    return newEntry( k, value, ttlSeconds );
+                }
+                else
+                {
+                    return null;
+                }
+            } );
+            cleanUp();
+            return computed != null ? computed.value : null;
+        }
     }
 
     int cleanUp()
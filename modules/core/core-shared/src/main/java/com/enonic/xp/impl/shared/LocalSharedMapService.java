@@ -19,7 +19,7 @@ public class LocalSharedMapService
     @Override
     public <K, V> SharedMap<K, V> getSharedMap( final String name )
     {
-        return castSharedMap( sharedMaps.computeIfAbsent( name, k -> new LocalSharedMap<>() ) );
+        return castSharedMap( sharedMaps.computeIfAbsent( name, k -> new LocalSharedMap<>( new SharedMapMetrics( k ) ) ) );
     }
 
     @SuppressWarnings("unchecked")
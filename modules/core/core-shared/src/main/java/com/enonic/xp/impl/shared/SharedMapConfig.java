@@ -0,0 +1,6 @@
+package com.enonic.xp.impl.shared;
+
+public @interface SharedMapConfig
+{
+    int nearCache_maxSize() default 10_000;
+}
@@ -0,0 +1,95 @@
+package com.enonic.xp.impl.shared;
+
+import java.util.function.Supplier;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+
+import com.enonic.xp.util.Metrics;
+
+import static com.enonic.xp.shared.SharedMapMetricNames.DELETE;
+import static com.enonic.xp.shared.SharedMapMetricNames.GET;
+import static com.enonic.xp.shared.SharedMapMetricNames.HIT;
+import static com.enonic.xp.shared.SharedMapMetricNames.MISS;
+import static com.enonic.xp.shared.SharedMapMetricNames.MODIFY;
+import static com.enonic.xp.shared.SharedMapMetricNames.NEAR_CACHE_HIT;
+import static com.enonic.xp.shared.SharedMapMetricNames.NEAR_CACHE_MISS;
+import static com.enonic.xp.shared.SharedMapMetricNames.SET;
+import static com.enonic.xp.shared.SharedMapMetricNames.name;
+
+/**
+ * Per-map metrics, registered under {@link com.enonic.xp.shared.SharedMapMetricNames}.
+ */
+final class SharedMapMetrics
+{
+    private final Meter hit;
+
+    private final Meter miss;
+
+    private final Meter nearCacheHit;
+
+    private final Meter nearCacheMiss;
+
+    private final Timer get;
+
+    private final Timer set;
+
+    private final Timer delete;
+
+    private final Timer modify;
+
+    SharedMapMetrics( final String mapName )
+    {
+        this.hit = Metrics.meter( name( mapName, HIT ) );
+        this.miss = Metrics.meter( name( mapName, MISS ) );
+        this.nearCacheHit = Metrics.meter( name( mapName, NEAR_CACHE_HIT ) );
+        this.nearCacheMiss = Metrics.meter( name( mapName, NEAR_CACHE_MISS ) );
+        this.get = Metrics.timer( name( mapName, GET ) );
+        this.set = Metrics.timer( name( mapName, SET ) );
+        this.delete = Metrics.timer( name( mapName, DELETE ) );
+        this.modify = Metrics.timer( name( mapName, MODIFY ) );
+    }
+
+    <V> V timeGet( final Supplier<V> supplier )
+    {
+        final V value = Metrics.time( get, supplier );
+        ( value != null ? hit : miss ).mark();
+        return value;
+    }
+
+    void markFound( final int found, final int requested )
+    {
+        hit.mark( found );
+        miss.mark( requested - found );
+    }
+
+    Timer.Context timeGet()
+    {
+        return get.time();
+    }
+
+    Timer.Context timeSet()
+    {
+        return set.time();
+    }
+
+    Timer.Context timeDelete()
+    {
+        return delete.time();
+    }
+
+    Timer.Context timeModify()
+    {
+        return modify.time();
+    }
+
+    void nearCacheHit()
+    {
+        nearCacheHit.mark();
+    }
+
+    void nearCacheMiss()
+    {
+        nearCacheMiss.mark();
+    }
+}
@@ -0,0 +1,128 @@
+package com.enonic.xp.impl.shared;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.core.IMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HazelcastNearCacheTest
+{
+    @Mock
+    IMap<Object, Object> map;
+
+    @Mock
+    EntryView<Object, Object> entryView;
+
+    private final SharedMapMetrics metrics = new SharedMapMetrics( "nearCacheTest" );
+
+    @Test
+    void getIsCached()
+    {
+        when( map.addEntryListener( any( HazelcastNearCache.class ), eq( false ) ) ).thenReturn( "registration" );
+        when( map.getEntryView( "key" ) ).thenReturn( entryView );
+        when( entryView.getValue() ).thenReturn( "value" );
+        when( entryView.getExpirationTime() ).thenReturn( Long.MAX_VALUE );
+
+        final HazelcastNearCache<Object, Object> nearCache = new HazelcastNearCache<>( map, 10 );
+
+        assertEquals( "value", nearCache.get( "key", metrics ) );
+        assertEquals( "value", nearCache.get( "key", metrics ) );
+        assertEquals( "value", nearCache.getIfPresent( "key" ) );
+
+        verify( map, times( 1 ) ).getEntryView( "key" );
+    }
+
+    @Test
+    void remoteUpdateInvalidates()
+    {
+        when( map.addEntryListener( any( HazelcastNearCache.class ), eq( false ) ) ).thenReturn( "registration" );
+        when( map.getEntryView( "key" ) ).thenReturn( entryView );
+        when( entryView.getValue() ).thenReturn( "value1", "value2" );
+        when( entryView.getExpirationTime() ).thenReturn( Long.MAX_VALUE );
+
+        final HazelcastNearCache<Object, Object> nearCache = new HazelcastNearCache<>( map, 10 );
+
+        assertEquals( "value1", nearCache.get( "key", metrics ) );
+
+        final EntryEvent<Object, Object> event = mock( EntryEvent.class );
+        when( event.getKey() ).thenReturn( "key" );
+        nearCache.entryUpdated( event );
+
+        assertNull( nearCache.getIfPresent( "key" ) );
+        assertEquals( "value2", nearCache.get( "key", metrics ) );
+    }
+
+    @Test
+    void expiredEntryIsNotServed()
+    {
+        when( map.addEntryListener( any( HazelcastNearCache.class ), eq( false ) ) ).thenReturn( "registration" );
+        when( map.getEntryView( "key" ) ).thenReturn( entryView );
+        when( entryView.getValue() ).thenReturn( "value" );
+        when( entryView.getExpirationTime() ).thenReturn( System.currentTimeMillis() - 1 );
+
+        final HazelcastNearCache<Object, Object> nearCache = new HazelcastNearCache<>( map, 10 );
+
+        assertEquals( "value", nearCache.get( "key", metrics ) );
+        assertEquals( "value", nearCache.get( "key", metrics ) );
+
+        verify( map, times( 2 ) ).getEntryView( "key" );
+    }
+
+    @Test
+    void failedReadReleasesReservation()
+    {
+        when( map.addEntryListener( any( HazelcastNearCache.class ), eq( false ) ) ).thenReturn( "registration" );
+        when( map.getEntryView( "key" ) ).thenThrow( new IllegalStateException( "failed" ) ).thenReturn( entryView );
+        when( entryView.getValue() ).thenReturn( "value" );
+        when( entryView.getExpirationTime() ).thenReturn( Long.MAX_VALUE );
+
+        final HazelcastNearCache<Object, Object> nearCache = new HazelcastNearCache<>( map, 10 );
+
+        assertThrows( IllegalStateException.class, () -> nearCache.get( "key", metrics ) );
+        assertEquals( 0, nearCache.size() );
+
+        assertEquals( "value", nearCache.get( "key", metrics ) );
+        assertEquals( "value", nearCache.getIfPresent( "key" ) );
+    }
+
+    @Test
+    void sizeIsBounded()
+    {
+        when( map.addEntryListener( any( HazelcastNearCache.class ), eq( false ) ) ).thenReturn( "registration" );
+
+        final HazelcastNearCache<Object, Object> nearCache = new HazelcastNearCache<>( map, 10 );
+        for ( int i = 0; i < 100; i++ )
+        {
+            nearCache.get( i, metrics );
+        }
+
+        assertTrue( nearCache.size() <= 10 );
+    }
+
+    @Test
+    void destroy()
+    {
+        when( map.addEntryListener( any( HazelcastNearCache.class ), eq( false ) ) ).thenReturn( "registration" );
+
+        final HazelcastNearCache<Object, Object> nearCache = new HazelcastNearCache<>( map, 10 );
+        nearCache.destroy();
+
+        verify( map ).removeEntryListener( "registration" );
+    }
+}
@@ -8,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,7 +25,8 @@ class HazelcastSharedMapServiceTest
     void getSharedMap()
     {
         when( hazelcastInstance.getMap( "map" ) ).thenReturn( map );
-        final HazelcastSharedMapService hazelcastSharedMapService = new HazelcastSharedMapService( hazelcastInstance );
+        final SharedMapConfig config = mock( SharedMapConfig.class, invocation -> invocation.getMethod().getDefaultValue() );
+        final HazelcastSharedMapService hazelcastSharedMapService = new HazelcastSharedMapService( hazelcastInstance, config );
 
         hazelcastSharedMapService.getSharedMap( "map" );
         verify( hazelcastInstance ).getMap( "map" );
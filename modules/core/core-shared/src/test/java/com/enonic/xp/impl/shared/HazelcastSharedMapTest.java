@@ -1,5 +1,9 @@
 package com.enonic.xp.impl.shared;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
@@ -8,10 +12,14 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.hazelcast.core.ICompletableFuture;
 import com.hazelcast.core.IMap;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class HazelcastSharedMapTest
@@ -87,4 +95,57 @@ class HazelcastSharedMapTest
 
         verify( map ).set( "key", "value", 11, TimeUnit.SECONDS );
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAll()
+    {
+        when( map.getAll( Set.of( "key1", "key2" ) ) ).thenReturn( Map.of( "key1", "value1" ) );
+
+        final HazelcastSharedMap<Object, Object> sharedMap = new HazelcastSharedMap<>( map );
+
+        assertEquals( Map.of( "key1", "value1" ), sharedMap.getAll( List.of( "key1", "key2" ) ) );
+    }
+
+    @Test
+    void setAll()
+    {
+        final ICompletableFuture<Object> future = mock( ICompletableFuture.class );
+        when( map.removeAsync( "key2" ) ).thenReturn( future );
+
+        final Map<Object, Object> entries = new HashMap<>();
+        entries.put( "key1", "value1" );
+        entries.put( "key2", null );
+
+        final HazelcastSharedMap<Object, Object> sharedMap = new HazelcastSharedMap<>( map );
+        sharedMap.setAll( entries );
+
+        verify( map ).putAll( Map.of( "key1", "value1" ) );
+        verify( map ).removeAsync( "key2" );
+    }
+
+    @Test
+    void setAllWithTtl()
+    {
+        final ICompletableFuture<Void> future = mock( ICompletableFuture.class );
+        when( map.setAsync( "key1", "value1", 11, TimeUnit.SECONDS ) ).thenReturn( future );
+
+        final HazelcastSharedMap<Object, Object> sharedMap = new HazelcastSharedMap<>( map );
+        sharedMap.setAll( Map.of( "key1", "value1" ), 11 );
+
+        verify( map ).setAsync( "key1", "value1", 11, TimeUnit.SECONDS );
+    }
+
+    @Test
+    void deleteAll()
+    {
+        final ICompletableFuture<Object> future = mock( ICompletableFuture.class );
+        when( map.removeAsync( "key1" ) ).thenReturn( future );
+        when( map.removeAsync( "key2" ) ).thenReturn( future );
+
+        final HazelcastSharedMap<Object, Object> sharedMap = new HazelcastSharedMap<>( map );
+        sharedMap.deleteAll( List.of( "key1", "key2" ) );
+
+        verify( map ).removeAsync( "key1" );
+        verify( map ).removeAsync( "key2" );
+    }
+}
@@ -3,9 +3,13 @@ package com.enonic.xp.impl.shared;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.enonic.xp.shared.SharedMapMetricNames;
+import com.enonic.xp.util.Metrics;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -30,6 +34,23 @@ class LocalSharedMapTest
         assertEquals( 1, map.cleanUp() );
     }
 
+    @Test
+    void metrics()
+    {
+        final LocalSharedMap<String, String> map = new LocalSharedMap<>( new SharedMapMetrics( "localSharedMapTest" ) );
+
+        map.set( "key", "value" );
+        map.modify( "key", value -> value + "2" );
+        assertEquals( "value2", map.get( "key" ) );
+        map.delete( "key" );
+
+        for ( String metric : List.of( SharedMapMetricNames.SET, SharedMapMetricNames.MODIFY, SharedMapMetricNames.GET,
+                                       SharedMapMetricNames.DELETE ) )
+        {
+            assertEquals( 1, Metrics.registry().timer( SharedMapMetricNames.name( "localSharedMapTest", metric ) ).getCount(), metric );
+        }
+    }
+
     @Test
     void enormous_ttl()
     {
@@ -0,0 +1,224 @@
+package com.enonic.xp.impl.task;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+
+import com.enonic.xp.app.ApplicationKey;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Admits tasks to the underlying executor while limiting the total number of running tasks and the number of running tasks
+ * per application. Tasks over the limits wait in per-application FIFO queues and are started, oldest first,
+ * by the worker thread that finishes a task.
+ */
+final class BoundedTaskQueue
+{
+    private static final Logger LOG = LoggerFactory.getLogger( BoundedTaskQueue.class );
+
+    private final Executor executor;
+
+    private final Map<ApplicationKey, Deque<Entry>> waiting = new LinkedHashMap<>();
+
+    private final Map<ApplicationKey, Integer> runningPerApp = new HashMap<>();
+
+    private final Timer waitTime;
+
+    private int running;
+
+    private int queued;
+
+    private int maxRunning = 1;
+
+    private int maxRunningPerApp = 1;
+
+    private boolean shutdown;
+
+    BoundedTaskQueue( final Executor executor, final String metricsPrefix )
+    {
+        this.executor = executor;
+        this.waitTime = Metrics.timer( TaskManagerExecutor.class, metricsPrefix + ".wait" );
+        Metrics.register( TaskManagerExecutor.class, metricsPrefix + ".queued", (Gauge<Integer>) this::getQueued );
+        Metrics.register( TaskManagerExecutor.class, metricsPrefix + ".running", (Gauge<Integer>) this::getRunning );
+    }
+
+    void setLimits( final int maxRunning, final int maxRunningPerApp )
+    {
+        synchronized ( this )
+        {
+            this.maxRunning = Math.max( 1, maxRunning );
+            this.maxRunningPerApp = Math.max( 1, maxRunningPerApp );
+        }
+        startWaiting();
+    }
+
+    void submit( final ApplicationKey applicationKey, final Runnable command )
+    {
+        final Entry entry = new Entry( applicationKey, command );
+        synchronized ( this )
+        {
+            if ( shutdown )
+            {
+                throw new RejectedExecutionException( "Task queue is shut down" );
+            }
+            if ( !canStart( applicationKey ) )
+            {
+                waiting.computeIfAbsent( applicationKey, key -> new ArrayDeque<>() ).addLast( entry );
+                queued++;
+                return;
+            }
+            started( applicationKey );
+        }
+        dispatch( entry );
+    }
+
+    synchronized int getQueued()
+    {
+        return queued;
+    }
+
+    synchronized int getRunning()
+    {
+        return running;
+    }
+
+    /**
+     * Stops starting queued tasks and rejects new ones. Tasks already running are not affected.
+     *
+     * @return number of queued tasks that were discarded without being started
+     */
+    synchronized int shutdown()
+    {
+        shutdown = true;
+        final int discarded = queued;
+        waiting.clear();
+        queued = 0;
+        return discarded;
+    }
+
+    private void startWaiting()
+    {
+        Entry entry;
+        while ( ( entry = pollNext( null ) ) != null )
+        {
+            dispatch( entry );
+        }
+    }
+
+    private void dispatch( final Entry entry )
+    {
+        try
+        {
+            executor.execute( () -> work( entry ) );
+        }
+        catch ( RuntimeException e )
+        {
+            synchronized ( this )
+            {
+                finished( entry.applicationKey );
+            }
+            throw e;
+        }
+    }
+
+    private void work( final Entry first )
+    {
+        Entry current = first;
+        while ( current != null )
+        {
+            waitTime.update( System.nanoTime() - current.submittedNanos, TimeUnit.NANOSECONDS );
+            try
+            {
+                current.command.run();
+            }
+            catch ( Throwable t )
+            {
+                LOG.error( "Task execution failed", t );
+            }
+            current = pollNext( current );
+        }
+    }
+
+    private synchronized Entry pollNext( final Entry done )
+    {
+        if ( done != null )
+        {
+            finished( done.applicationKey );
+        }
+
+        if ( shutdown || running >= maxRunning )
+        {
+            return null;
+        }
+
+        Deque<Entry> oldest = null;
+        final Iterator<Deque<Entry>> iterator = waiting.values().iterator();
+        while ( iterator.hasNext() )
+        {
+            final Deque<Entry> appQueue = iterator.next();
+            final Entry head = appQueue.peekFirst();
+            if ( canStart( head.applicationKey ) && ( oldest == null || head.submittedNanos - oldest.peekFirst().submittedNanos < 0 ) )
+            {
+                oldest = appQueue;
+            }
+        }
+
+        if ( oldest == null )
+        {
+            return null;
+        }
+
+        final Entry next = oldest.pollFirst();
+        if ( oldest.isEmpty() )
+        {
+            waiting.remove( next.applicationKey );
+        }
+        queued--;
+        started( next.applicationKey );
+        return next;
+    }
+
+    private boolean canStart( final ApplicationKey applicationKey )
+    {
+        return running < maxRunning && runningPerApp.getOrDefault( applicationKey, 0 ) < maxRunningPerApp;
+    }
+
+    private void started( final ApplicationKey applicationKey )
+    {
+        running++;
+        runningPerApp.merge( applicationKey, 1, Integer::sum );
+    }
+
+    private void finished( final ApplicationKey applicationKey )
+    {
+        running--;
+        runningPerApp.computeIfPresent( applicationKey, ( key, count ) -> count > 1 ? count - 1 : null );
+    }
+
+    private static final class Entry
+    {
+        final ApplicationKey applicationKey;
+
+        final Runnable command;
+
+        final long submittedNanos = System.nanoTime();
+
+        Entry( final ApplicationKey applicationKey, final Runnable command )
+        {
+            this.applicationKey = applicationKey;
+            this.command = command;
+        }
+    }
+}
@@ -7,7 +7,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
@@ -45,7 +44,7 @@ public final class LocalTaskManagerImpl
 
     private final TaskManagerCleanupScheduler cleanupScheduler;
 
-    private final Executor executor;
+    private final TaskManagerExecutor executor;
 
     private Clock clock;
 
@@ -54,7 +53,7 @@ public final class LocalTaskManagerImpl
     private volatile ClusterConfig clusterConfig;
 
     @Activate
-    public LocalTaskManagerImpl( @Reference(service = TaskManagerExecutor.class) final Executor executor,
+    public LocalTaskManagerImpl( @Reference final TaskManagerExecutor executor,
                                  @Reference TaskManagerCleanupScheduler cleanupScheduler, @Reference final EventPublisher eventPublisher )
     {
         this.executor = executor;
@@ -189,7 +188,7 @@ public final class LocalTaskManagerImpl
 
         eventPublisher.publish( TaskEvents.submitted( info ) );
 
-        executor.execute( new TaskRunnable( runnableTask, new ProgressReporterAdapter( id ) ) );
+        executor.execute( runnableTask.getApplicationKey(), new TaskRunnable( runnableTask, new ProgressReporterAdapter( id ) ) );
     }
 
     private void removeExpiredTasks()
@@ -7,4 +7,10 @@ public @interface TaskConfig
     boolean distributable_acceptSystem() default true;
 
     String clustered_timeout() default "PT5S";
+
+    int executor_maxThreads() default 32;
+
+    int executor_maxSystemThreads() default 4;
+
+    int executor_maxThreadsPerApp() default 8;
 }
@@ -2,7 +2,13 @@ package com.enonic.xp.impl.task;
 
 import java.util.concurrent.Executor;
 
+import com.enonic.xp.app.ApplicationKey;
+
 public interface TaskManagerExecutor
     extends Executor
 {
+    default void execute( final ApplicationKey applicationKey, final Runnable command )
+    {
+        execute( command );
+    }
 }
@@ -3,36 +3,77 @@ package com.enonic.xp.impl.task;
 import java.time.Duration;
 import java.util.concurrent.Executors;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
+import com.enonic.xp.util.Metrics;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.task")
 public class TaskManagerExecutorImpl
     implements TaskManagerExecutor
 {
     private static final Logger LOG = LoggerFactory.getLogger( TaskManagerExecutorImpl.class );
 
+    private static final String SYSTEM_APPLICATION_PREFIX = "com.enonic.xp.";
+
     private final SimpleExecutor simpleExecutor;
 
-    public TaskManagerExecutorImpl()
+    private final BoundedTaskQueue systemQueue;
+
+    private final BoundedTaskQueue appQueue;
+
+    @Activate
+    public TaskManagerExecutorImpl( final TaskConfig config )
     {
         simpleExecutor =
             new SimpleExecutor( Executors::newCachedThreadPool, "task-manager-thread-%d", e -> LOG.error( "Task execution failed", e ) );
+
+        Metrics.removeAll( TaskManagerExecutor.class );
+        systemQueue = new BoundedTaskQueue( simpleExecutor, "system" );
+        appQueue = new BoundedTaskQueue( simpleExecutor, "app" );
+        modify( config );
+    }
+
+    @Modified
+    public void modify( final TaskConfig config )
+    {
+        systemQueue.setLimits( config.executor_maxSystemThreads(), config.executor_maxSystemThreads() );
+        appQueue.setLimits( config.executor_maxThreads(), config.executor_maxThreadsPerApp() );
     }
 
     @Deactivate
     public void deactivate()
     {
+        final int notStarted = systemQueue.shutdown() + appQueue.shutdown();
+        if ( notStarted > 0 )
+        {
+            LOG.warn( "{} queued tasks were never started", notStarted );
+        }
         simpleExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ), neverCommenced -> LOG.warn( "Not all tasks were executed" ) );
+        Metrics.removeAll( TaskManagerExecutor.class );
     }
 
     @Override
     public void execute( final Runnable command )
     {
-        simpleExecutor.execute( command );
+        execute( ApplicationKey.SYSTEM, command );
+    }
+
+    @Override
+    public void execute( final ApplicationKey applicationKey, final Runnable command )
+    {
+        ( isSystem( applicationKey ) ? systemQueue : appQueue ).submit( applicationKey, command );
+    }
+
+    private static boolean isSystem( final ApplicationKey applicationKey )
+    {
+        return applicationKey == null || ApplicationKey.SYSTEM.equals( applicationKey ) ||
+            applicationKey.getName().startsWith( SYSTEM_APPLICATION_PREFIX );
     }
 }
@@ -0,0 +1,133 @@
+package com.enonic.xp.impl.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.app.ApplicationKey;
+import com.enonic.xp.util.Metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedTaskQueueTest
+{
+    private static final ApplicationKey APP1 = ApplicationKey.from( "app1" );
+
+    private static final ApplicationKey APP2 = ApplicationKey.from( "app2" );
+
+    private final List<Runnable> dispatched = new ArrayList<>();
+
+    private final List<String> executed = new ArrayList<>();
+
+    @AfterEach
+    void tearDown()
+    {
+        Metrics.removeAll( TaskManagerExecutor.class );
+    }
+
+    @Test
+    void perApplicationLimit()
+    {
+        final BoundedTaskQueue queue = newQueue( 2, 1 );
+
+        queue.submit( APP1, () -> executed.add( "app1-1" ) );
+        queue.submit( APP1, () -> executed.add( "app1-2" ) );
+        queue.submit( APP2, () -> executed.add( "app2-1" ) );
+
+        assertEquals( 2, dispatched.size() );
+        assertEquals( 2, queue.getRunning() );
+        assertEquals( 1, queue.getQueued() );
+
+        dispatched.get( 0 ).run();
+
+        assertEquals( List.of( "app1-1", "app1-2" ), executed );
+        assertEquals( 1, queue.getRunning() );
+        assertEquals( 0, queue.getQueued() );
+
+        dispatched.get( 1 ).run();
+
+        assertEquals( List.of( "app1-1", "app1-2", "app2-1" ), executed );
+        assertEquals( 0, queue.getRunning() );
+    }
+
+    @Test
+    void totalLimitStartsOldestFirst()
+    {
+        final BoundedTaskQueue queue = newQueue( 1, 1 );
+
+        queue.submit( APP1, () -> executed.add( "app1-1" ) );
+        queue.submit( APP2, () -> executed.add( "app2-1" ) );
+        queue.submit( APP1, () -> executed.add( "app1-2" ) );
+
+        assertEquals( 1, dispatched.size() );
+        assertEquals( 2, queue.getQueued() );
+
+        dispatched.get( 0 ).run();
+
+        assertEquals( List.of( "app1-1", "app2-1", "app1-2" ), executed );
+        assertEquals( 0, queue.getQueued() );
+        assertEquals( 0, queue.getRunning() );
+    }
+
+    @Test
+    void raisingLimitsStartsWaiting()
+    {
+        final BoundedTaskQueue queue = newQueue( 1, 1 );
+
+        queue.submit( APP1, () -> executed.add( "app1-1" ) );
+        queue.submit( APP2, () -> executed.add( "app2-1" ) );
+
+        assertEquals( 1, dispatched.size() );
+
+        queue.setLimits( 2, 1 );
+
+        assertEquals( 2, dispatched.size() );
+        assertEquals( 0, queue.getQueued() );
+    }
+
+    @Test
+    void failingTaskDoesNotBlockQueue()
+    {
+        final BoundedTaskQueue queue = newQueue( 1, 1 );
+
+        queue.submit( APP1, () -> {
+            throw new RuntimeException( "expected" );
+        } );
+        queue.submit( APP1, () -> executed.add( "app1-2" ) );
+
+        dispatched.get( 0 ).run();
+
+        assertEquals( List.of( "app1-2" ), executed );
+        assertEquals( 0, queue.getRunning() );
+    }
+
+    @Test
+    void shutdownStopsStartingQueuedTasks()
+    {
+        final BoundedTaskQueue queue = newQueue( 1, 1 );
+
+        queue.submit( APP1, () -> executed.add( "app1-1" ) );
+        queue.submit( APP1, () -> executed.add( "app1-2" ) );
+        queue.submit( APP2, () -> executed.add( "app2-1" ) );
+
+        assertEquals( 2, queue.shutdown() );
+
+        dispatched.get( 0 ).run();
+
+        assertEquals( List.of( "app1-1" ), executed );
+        assertEquals( 0, queue.getRunning() );
+        assertEquals( 0, queue.getQueued() );
+        assertThrows( RejectedExecutionException.class, () -> queue.submit( APP1, () -> executed.add( "app1-3" ) ) );
+    }
+
+    private BoundedTaskQueue newQueue( final int maxRunning, final int maxRunningPerApp )
+    {
+        final BoundedTaskQueue queue = new BoundedTaskQueue( dispatched::add, "test" );
+        queue.setLimits( maxRunning, maxRunningPerApp );
+        return queue;
+    }
+}
@@ -4,16 +4,33 @@ import java.util.concurrent.Phaser;
 
 import org.junit.jupiter.api.Test;
 
+import com.enonic.xp.app.ApplicationKey;
+
+import static org.mockito.Mockito.mock;
+
 class TaskManagerExecutorImplTest
 {
     @Test
     void lifecycle()
     {
         Phaser phaser = new Phaser( 2 );
-        final TaskManagerExecutorImpl taskManagerExecutor = new TaskManagerExecutorImpl();
+        final TaskManagerExecutorImpl taskManagerExecutor =
+            new TaskManagerExecutorImpl( mock( TaskConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
         taskManagerExecutor.execute( phaser::arriveAndAwaitAdvance );
 
         phaser.arriveAndAwaitAdvance();
         taskManagerExecutor.deactivate();
     }
-}
\ No newline at end of file
+
+    @Test
+    void applicationTask()
+    {
+        Phaser phaser = new Phaser( 2 );
+        final TaskManagerExecutorImpl taskManagerExecutor =
+            new TaskManagerExecutorImpl( mock( TaskConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
+        taskManagerExecutor.execute( ApplicationKey.from( "myapp" ), phaser::arriveAndAwaitAdvance );
+
+        phaser.arriveAndAwaitAdvance();
+        taskManagerExecutor.deactivate();
+    }
+}
@@ -41,6 +41,7 @@ import com.enonic.xp.node.Nodes;
 import com.enonic.xp.node.PushNodesResult;
 import com.enonic.xp.node.UpdateNodeParams;
 import com.enonic.xp.query.parser.QueryParser;
+import com.enonic.xp.repo.impl.binary.BinaryConfig;
 import com.enonic.xp.repo.impl.binary.BinaryServiceImpl;
 import com.enonic.xp.repo.impl.branch.storage.BranchServiceImpl;
 import com.enonic.xp.repo.impl.commit.CommitServiceImpl;
@@ -62,6 +63,7 @@ import com.enonic.xp.repo.impl.node.MoveNodeCommand;
 import com.enonic.xp.repo.impl.node.NodeServiceImpl;
 import com.enonic.xp.repo.impl.node.PushNodesCommand;
 import com.enonic.xp.repo.impl.node.UpdateNodeCommand;
+import com.enonic.xp.repo.impl.node.dao.NodeVersionCaches;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionServiceImpl;
 import com.enonic.xp.repo.impl.repository.IndexNameResolver;
 import com.enonic.xp.repo.impl.repository.NodeRepositoryServiceImpl;
@@ -223,9 +225,10 @@ public abstract class AbstractNodeTest
 
         System.setProperty( "xp.home", temporaryFolder.toFile().getPath() );
 
-        this.binaryService = new BinaryServiceImpl( BLOB_STORE );
+        this.binaryService = new BinaryServiceImpl( BLOB_STORE, mock( BinaryConfig.class ) );
 
-        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( BLOB_STORE, new RepoConfigurationImpl( Map.of() ) );
+        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( BLOB_STORE,
+                                                                     new NodeVersionCaches( new RepoConfigurationImpl( Map.of() ) ) );
 
         this.storageDao = new StorageDaoImpl( client );
 
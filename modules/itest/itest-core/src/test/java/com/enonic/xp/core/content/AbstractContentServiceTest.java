@@ -82,6 +82,7 @@ import com.enonic.xp.project.CreateProjectParams;
 import com.enonic.xp.project.ProjectName;
 import com.enonic.xp.region.LayoutDescriptorService;
 import com.enonic.xp.region.PartDescriptorService;
+import com.enonic.xp.repo.impl.binary.BinaryConfig;
 import com.enonic.xp.repo.impl.binary.BinaryServiceImpl;
 import com.enonic.xp.repo.impl.branch.storage.BranchServiceImpl;
 import com.enonic.xp.repo.impl.commit.CommitServiceImpl;
@@ -92,6 +93,7 @@ import com.enonic.xp.repo.impl.elasticsearch.search.SearchDaoImpl;
 import com.enonic.xp.repo.impl.elasticsearch.storage.StorageDaoImpl;
 import com.enonic.xp.repo.impl.index.IndexServiceImpl;
 import com.enonic.xp.repo.impl.node.NodeServiceImpl;
+import com.enonic.xp.repo.impl.node.dao.NodeVersionCaches;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionServiceImpl;
 import com.enonic.xp.repo.impl.repository.NodeRepositoryServiceImpl;
 import com.enonic.xp.repo.impl.repository.RepositoryEntryServiceImpl;
@@ -216,7 +218,7 @@ public abstract class AbstractContentServiceTest
         initialContext = ContextAccessor.current();
         ContextAccessor.INSTANCE.set( ctxDraft() );
 
-        final BinaryServiceImpl binaryService = new BinaryServiceImpl( BLOB_STORE );
+        final BinaryServiceImpl binaryService = new BinaryServiceImpl( BLOB_STORE, mock( BinaryConfig.class ) );
 
         final StorageDaoImpl storageDao = new StorageDaoImpl( client );
 
@@ -232,7 +234,8 @@ public abstract class AbstractContentServiceTest
 
         IndexServiceInternalImpl indexServiceInternal = new IndexServiceInternalImpl( client );
 
-        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( BLOB_STORE, new RepoConfigurationImpl( Map.of() ) );
+        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( BLOB_STORE,
+                                                                     new NodeVersionCaches( new RepoConfigurationImpl( Map.of() ) ) );
 
         IndexDataServiceImpl indexedDataService = new IndexDataServiceImpl( storageDao );
 
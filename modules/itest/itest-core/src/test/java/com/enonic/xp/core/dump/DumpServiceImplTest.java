@@ -46,6 +46,7 @@ import com.enonic.xp.index.IndexConfig;
 import com.enonic.xp.node.AttachedBinaries;
 import com.enonic.xp.node.BinaryAttachment;
 import com.enonic.xp.node.CreateNodeParams;
+import com.enonic.xp.node.FindNodesByParentParams;
 import com.enonic.xp.node.GetActiveNodeVersionsParams;
 import com.enonic.xp.node.GetActiveNodeVersionsResult;
 import com.enonic.xp.node.GetNodeVersionsParams;
@@ -66,6 +67,7 @@ import com.enonic.xp.node.NodeVersionQueryResult;
 import com.enonic.xp.node.RefreshMode;
 import com.enonic.xp.node.UpdateNodeParams;
 import com.enonic.xp.repo.impl.InternalContext;
+import com.enonic.xp.repo.impl.dump.DumpConfig;
 import com.enonic.xp.repo.impl.dump.DumpConstants;
 import com.enonic.xp.repo.impl.dump.DumpServiceImpl;
 import com.enonic.xp.repo.impl.dump.FileUtils;
@@ -99,6 +101,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DumpServiceImplTest
     extends AbstractNodeTest
@@ -116,13 +119,20 @@ public class DumpServiceImplTest
     public void setUp()
         throws Exception
     {
-        this.dumpService = new DumpServiceImpl( eventPublisher );
-        this.dumpService.setBlobStore( BLOB_STORE );
-        this.dumpService.setNodeService( this.nodeService );
-        this.dumpService.setNodeRepositoryService( this.nodeRepositoryService );
-        this.dumpService.setNodeStorageService( this.storageService );
-        this.dumpService.setRepositoryEntryService( this.repositoryEntryService );
-        this.dumpService.setBasePath( temporaryFolder );
+        this.dumpService = createDumpService( mock( DumpConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
+    }
+
+    private DumpServiceImpl createDumpService( final DumpConfig config )
+    {
+        final DumpServiceImpl dumpService = new DumpServiceImpl( eventPublisher, config );
+        dumpService.setBlobStore( BLOB_STORE );
+        dumpService.setNodeService( this.nodeService );
+        dumpService.setNodeRepositoryService( this.nodeRepositoryService );
+        dumpService.setNodeStorageService( this.storageService );
+        dumpService.setIndexServiceInternal( this.indexServiceInternal );
+        dumpService.setRepositoryEntryService( this.repositoryEntryService );
+        dumpService.setBasePath( temporaryFolder );
+        return dumpService;
     }
 
     @Test
@@ -253,6 +263,58 @@ public class DumpServiceImplTest
         assertEquals( node.data(), currentStoredNode.data() );
     }
 
+    @Test
+    public void dumpRepositoriesConcurrently()
+        throws Exception
+    {
+        final DumpConfig config = mock( DumpConfig.class );
+        when( config.dump_threads() ).thenReturn( 2 );
+        when( config.dump_concurrentRepositories() ).thenReturn( 2 );
+        this.dumpService = createDumpService( config );
+
+        final Node node = createNode( NodePath.ROOT, "myNode" );
+        createNode( node.path(), "myChild" );
+
+        final SystemDumpResult systemDumpResult = NodeHelper.runAsAdmin(
+            () -> this.dumpService.dump( SystemDumpParams.create().dumpName( "testDump" ).includeVersions( true ).build() ) );
+
+        assertEquals( 3, systemDumpResult.get( testRepoId ).get( WS_DEFAULT ).getSuccessful() );
+        assertNotNull( systemDumpResult.get( RepositoryId.from( "system-repo" ) ) );
+
+        NodeHelper.runAsAdmin( () -> dumpDeleteAndLoad( true ) );
+
+        final Node currentStoredNode = this.nodeService.getById( node.id() );
+        assertEquals( node.path(), currentStoredNode.path() );
+        assertEquals( 1, this.nodeService.findByParent( FindNodesByParentParams.create().parentId( node.id() ).build() ).getHits() );
+    }
+
+    @Test
+    public void incrementalDumpAndLoad()
+        throws Exception
+    {
+        final Node node = createNode( NodePath.ROOT, "myNode" );
+        final Node deletedNode = createNode( NodePath.ROOT, "deletedNode" );
+        refresh();
+
+        NodeHelper.runAsAdmin( () -> doDump( SystemDumpParams.create().dumpName( "baseDump" ).includeVersions( true ).build() ) );
+
+        final Node updatedNode = updateNode( node );
+        final Node addedNode = createNode( NodePath.ROOT, "addedNode" );
+        this.nodeService.deleteById( deletedNode.id() );
+        refresh();
+
+        NodeHelper.runAsAdmin( () -> dumpDeleteAndLoad( true, SystemDumpParams.create()
+            .dumpName( "myTestDump" )
+            .baseDumpName( "baseDump" )
+            .includeVersions( true )
+            .build() ) );
+
+        assertEquals( updatedNode.data(), this.nodeService.getById( node.id() ).data() );
+        assertEquals( addedNode.path(), this.nodeService.getById( addedNode.id() ).path() );
+        assertFalse( this.nodeService.nodeExists( deletedNode.id() ) );
+        assertEquals( 2, this.nodeService.findVersions( GetNodeVersionsParams.create().nodeId( node.id() ).build() ).getTotalHits() );
+    }
+
     @Test
     public void dumpAndLoadWithAttachments()
         throws Exception
@@ -62,6 +62,7 @@ import com.enonic.xp.page.PageDescriptor;
 import com.enonic.xp.region.ComponentDescriptor;
 import com.enonic.xp.region.LayoutDescriptor;
 import com.enonic.xp.region.PartDescriptor;
+import com.enonic.xp.repo.impl.binary.BinaryConfig;
 import com.enonic.xp.repo.impl.binary.BinaryServiceImpl;
 import com.enonic.xp.repo.impl.branch.storage.BranchServiceImpl;
 import com.enonic.xp.repo.impl.commit.CommitServiceImpl;
@@ -72,6 +73,7 @@ import com.enonic.xp.repo.impl.elasticsearch.search.SearchDaoImpl;
 import com.enonic.xp.repo.impl.elasticsearch.storage.StorageDaoImpl;
 import com.enonic.xp.repo.impl.index.IndexServiceImpl;
 import com.enonic.xp.repo.impl.node.NodeServiceImpl;
+import com.enonic.xp.repo.impl.node.dao.NodeVersionCaches;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionServiceImpl;
 import com.enonic.xp.repo.impl.repository.NodeRepositoryServiceImpl;
 import com.enonic.xp.repo.impl.repository.RepositoryEntryServiceImpl;
@@ -162,7 +164,7 @@ public class DynamicSchemaServiceImplTest
 
         final MemoryBlobStore blobStore = new MemoryBlobStore();
 
-        BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore );
+        BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore, mock( BinaryConfig.class ) );
 
         final StorageDaoImpl storageDao = new StorageDaoImpl( client );
 
@@ -178,7 +180,8 @@ public class DynamicSchemaServiceImplTest
 
         IndexServiceInternalImpl indexServiceInternal = new IndexServiceInternalImpl( client );
 
-        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( blobStore, new RepoConfigurationImpl( Map.of() ) );
+        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( blobStore,
+                                                                     new NodeVersionCaches( new RepoConfigurationImpl( Map.of() ) ) );
 
         IndexDataServiceImpl indexedDataService = new IndexDataServiceImpl( storageDao );
 
@@ -230,7 +233,7 @@ public class DynamicSchemaServiceImplTest
 
         ResourceServiceImpl resourceService = new ResourceServiceImpl( applicationFactoryService );
 
-        this.dynamicSchemaService = new DynamicSchemaServiceImpl( nodeService, resourceService );
+        this.dynamicSchemaService = new DynamicSchemaServiceImpl( nodeService, resourceService, resourceService );
 
         AppFilterService appFilterService = new AppFilterServiceImpl( appConfig );
 
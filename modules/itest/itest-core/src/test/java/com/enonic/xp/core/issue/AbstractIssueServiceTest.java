@@ -18,6 +18,7 @@ import com.enonic.xp.core.impl.project.init.IssueInitializer;
 import com.enonic.xp.internal.blobstore.MemoryBlobStore;
 import com.enonic.xp.issue.CreateIssueParams;
 import com.enonic.xp.issue.Issue;
+import com.enonic.xp.repo.impl.binary.BinaryConfig;
 import com.enonic.xp.repo.impl.binary.BinaryServiceImpl;
 import com.enonic.xp.repo.impl.branch.storage.BranchServiceImpl;
 import com.enonic.xp.repo.impl.commit.CommitServiceImpl;
@@ -28,6 +29,7 @@ import com.enonic.xp.repo.impl.elasticsearch.search.SearchDaoImpl;
 import com.enonic.xp.repo.impl.elasticsearch.storage.StorageDaoImpl;
 import com.enonic.xp.repo.impl.index.IndexServiceImpl;
 import com.enonic.xp.repo.impl.node.NodeServiceImpl;
+import com.enonic.xp.repo.impl.node.dao.NodeVersionCaches;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionServiceImpl;
 import com.enonic.xp.repo.impl.repository.NodeRepositoryServiceImpl;
 import com.enonic.xp.repo.impl.repository.RepositoryEntryServiceImpl;
@@ -44,6 +46,8 @@ import com.enonic.xp.security.RoleKeys;
 import com.enonic.xp.security.User;
 import com.enonic.xp.security.auth.AuthenticationInfo;
 
+import static org.mockito.Mockito.mock;
+
 public abstract class AbstractIssueServiceTest
     extends AbstractElasticsearchIntegrationTest
 {
@@ -92,7 +96,7 @@ public abstract class AbstractIssueServiceTest
 
         final MemoryBlobStore blobStore = new MemoryBlobStore();
 
-        final BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore );
+        final BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore, mock( BinaryConfig.class ) );
 
         final StorageDaoImpl storageDao = new StorageDaoImpl( client );
 
@@ -108,7 +112,8 @@ public abstract class AbstractIssueServiceTest
 
         IndexServiceInternalImpl indexServiceInternal = new IndexServiceInternalImpl( client );
 
-        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( blobStore, new RepoConfigurationImpl( Map.of() ) );
+        NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( blobStore,
+                                                                     new NodeVersionCaches( new RepoConfigurationImpl( Map.of() ) ) );
 
         issueService = new IssueServiceImpl();
 
@@ -36,6 +36,7 @@ import com.enonic.xp.security.auth.AuthenticationInfo;
 
 import static com.enonic.xp.repository.RepositoryConstants.MASTER_BRANCH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -263,6 +264,27 @@ public class FindNodesByMultiRepoQueryCommandTest
         }
     }
 
+    @Test
+    public void cursor_not_supported()
+        throws Exception
+    {
+        final Repository repo1 = createRepo( REPO_USER_1, "repo1" );
+        final Repository repo2 = createRepo( REPO_USER_2, "repo2" );
+
+        final SearchTargets targets = SearchTargets.create().
+            add( createTarget( MASTER_BRANCH, REPO_USER_1, repo1.getId() ) ).
+            add( createTarget( MASTER_BRANCH, REPO_USER_2, repo2.getId() ) ).
+            build();
+
+        final NodeQuery query = NodeQuery.create().
+            parent( NodePath.ROOT ).
+            size( 10 ).
+            cursor( "" ).
+            build();
+
+        assertThrows( IllegalArgumentException.class, () -> doQuery( query, targets ) );
+    }
+
     private FindNodesByMultiRepoQueryResult doQuery( final NodeQuery query, final SearchTargets targets )
     {
         return FindNodesByMultiRepoQueryCommand.create().
@@ -0,0 +1,155 @@
+package com.enonic.xp.core.node;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.core.AbstractNodeTest;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.node.CreateNodeParams;
+import com.enonic.xp.node.FindNodesByQueryResult;
+import com.enonic.xp.node.Node;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodePath;
+import com.enonic.xp.node.NodeQuery;
+import com.enonic.xp.node.RefreshMode;
+import com.enonic.xp.query.expr.FieldOrderExpr;
+import com.enonic.xp.query.expr.OrderExpr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FindNodesByQueryCommandTest_cursor
+    extends AbstractNodeTest
+{
+    private static final String FIELD_STRING = "fieldString";
+
+    private static final String FIELD_LONG = "fieldLong";
+
+    private static final int PAGE_SIZE = 3;
+
+    private final List<NodeId> created = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp()
+        throws Exception
+    {
+        this.createDefaultRootNode();
+
+        // ties on every page boundary, and nodes without a value of one or both fields
+        final String[] strings = {"a", "a", "a", "b", "b", "c", "c", "c", "c", null, null, null, "b", null};
+        final Long[] longs = {1L, 2L, 2L, null, 3L, 1L, 1L, null, 2L, 1L, null, null, 3L, 2L};
+        for ( int i = 0; i < strings.length; i++ )
+        {
+            created.add( createNode( "node" + i, strings[i], longs[i] ).id() );
+        }
+        nodeService.refresh( RefreshMode.ALL );
+    }
+
+    @Test
+    public void ascending()
+    {
+        assertPaged( FieldOrderExpr.create( FIELD_STRING, OrderExpr.Direction.ASC ) );
+    }
+
+    @Test
+    public void descending()
+    {
+        assertPaged( FieldOrderExpr.create( FIELD_STRING, OrderExpr.Direction.DESC ) );
+    }
+
+    @Test
+    public void ascending_then_descending()
+    {
+        assertPaged( FieldOrderExpr.create( FIELD_STRING, OrderExpr.Direction.ASC ),
+                     FieldOrderExpr.create( FIELD_LONG, OrderExpr.Direction.DESC ) );
+    }
+
+    @Test
+    public void descending_then_ascending()
+    {
+        assertPaged( FieldOrderExpr.create( FIELD_STRING, OrderExpr.Direction.DESC ),
+                     FieldOrderExpr.create( FIELD_LONG, OrderExpr.Direction.ASC ) );
+    }
+
+    @Test
+    public void same_cursor_same_page()
+    {
+        final FindNodesByQueryResult first = doFindByQuery( query( "", FieldOrderExpr.create( FIELD_STRING, OrderExpr.Direction.ASC ) ) );
+
+        final FindNodesByQueryResult second =
+            doFindByQuery( query( first.getCursor(), FieldOrderExpr.create( FIELD_STRING, OrderExpr.Direction.ASC ) ) );
+        final FindNodesByQueryResult secondAgain =
+            doFindByQuery( query( first.getCursor(), FieldOrderExpr.create( FIELD_STRING, OrderExpr.Direction.ASC ) ) );
+
+        assertEquals( second.getNodeIds(), secondAgain.getNodeIds() );
+    }
+
+    private void assertPaged( final OrderExpr... orderExprs )
+    {
+        final List<NodeId> paged = new ArrayList<>();
+
+        String cursor = "";
+        for ( int page = 0; cursor != null && page <= created.size(); page++ )
+        {
+            final FindNodesByQueryResult result = doFindByQuery( query( cursor, orderExprs ) );
+            assertTrue( result.getNodeIds().getSize() <= PAGE_SIZE );
+            result.getNodeIds().forEach( paged::add );
+            cursor = result.getCursor();
+        }
+
+        // every node is returned exactly once, in the order of the sort values
+        assertEquals( created.size(), paged.size() );
+        assertEquals( new HashSet<>( created ), new HashSet<>( paged ) );
+
+        final FindNodesByQueryResult all = doFindByQuery( ordered( orderExprs ).size( created.size() ).build() );
+        assertEquals( sortValues( all.getNodeIds(), orderExprs.length ), sortValues( paged, orderExprs.length ) );
+    }
+
+    private NodeQuery query( final String cursor, final OrderExpr... orderExprs )
+    {
+        return ordered( orderExprs ).size( PAGE_SIZE ).cursor( cursor ).build();
+    }
+
+    private NodeQuery.Builder ordered( final OrderExpr... orderExprs )
+    {
+        final NodeQuery.Builder builder = NodeQuery.create().parent( NodePath.ROOT );
+        for ( OrderExpr orderExpr : orderExprs )
+        {
+            builder.addOrderBy( orderExpr );
+        }
+        return builder;
+    }
+
+    private List<String> sortValues( final Iterable<NodeId> nodeIds, final int sortFields )
+    {
+        // hits with the same sort values may come in any order
+        final List<String> values = new ArrayList<>();
+        for ( NodeId nodeId : nodeIds )
+        {
+            final Node node = getNodeById( nodeId );
+            values.add( sortFields == 1
+                            ? node.data().getString( FIELD_STRING )
+                            : node.data().getString( FIELD_STRING ) + "/" + node.data().getLong( FIELD_LONG ) );
+        }
+        return values;
+    }
+
+    private Node createNode( final String name, final String stringValue, final Long longValue )
+    {
+        final PropertyTree data = new PropertyTree();
+        if ( stringValue != null )
+        {
+            data.addString( FIELD_STRING, stringValue );
+        }
+        if ( longValue != null )
+        {
+            data.addLong( FIELD_LONG, longValue );
+        }
+
+        return createNode( CreateNodeParams.create().parent( NodePath.ROOT ).name( name ).data( data ).build() );
+    }
+}
@@ -26,7 +26,7 @@ import com.enonic.xp.impl.scheduler.SchedulerExecutorService;
 import com.enonic.xp.impl.scheduler.SchedulerExecutorServiceImpl;
 import com.enonic.xp.impl.scheduler.SchedulerRepoInitializer;
 import com.enonic.xp.impl.scheduler.SchedulerServiceImpl;
-import com.enonic.xp.impl.scheduler.UpdateLastRunCommand;
+import com.enonic.xp.impl.scheduler.UpdateLastRunsCommand;
 import com.enonic.xp.node.NodeAccessException;
 import com.enonic.xp.node.NodeAlreadyExistAtPathException;
 import com.enonic.xp.node.NodeNotFoundException;
@@ -352,10 +352,8 @@ class SchedulerServiceImplTest
         final TaskId lastTaskId = TaskId.from( "task-id" );
         final Instant lastRun = Instant.parse( "2021-02-25T10:44:33.170079900Z" );
 
-        adminContext().runWith( () -> UpdateLastRunCommand.create().
-            name( name ).
-            lastTaskId( lastTaskId ).
-            lastRun( lastRun ).
+        adminContext().runWith( () -> UpdateLastRunsCommand.create().
+            add( name, lastRun, lastTaskId ).
             nodeService( nodeService ).
             build().
             execute() );
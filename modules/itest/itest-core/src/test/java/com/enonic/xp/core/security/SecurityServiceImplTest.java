@@ -17,6 +17,7 @@ import com.enonic.xp.core.impl.security.SecurityInitializer;
 import com.enonic.xp.core.impl.security.SecurityServiceImpl;
 import com.enonic.xp.event.EventPublisher;
 import com.enonic.xp.internal.blobstore.MemoryBlobStore;
+import com.enonic.xp.repo.impl.binary.BinaryConfig;
 import com.enonic.xp.repo.impl.binary.BinaryServiceImpl;
 import com.enonic.xp.repo.impl.branch.storage.BranchServiceImpl;
 import com.enonic.xp.repo.impl.commit.CommitServiceImpl;
@@ -27,6 +28,7 @@ import com.enonic.xp.repo.impl.elasticsearch.search.SearchDaoImpl;
 import com.enonic.xp.repo.impl.elasticsearch.storage.StorageDaoImpl;
 import com.enonic.xp.repo.impl.index.IndexServiceImpl;
 import com.enonic.xp.repo.impl.node.NodeServiceImpl;
+import com.enonic.xp.repo.impl.node.dao.NodeVersionCaches;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionServiceImpl;
 import com.enonic.xp.repo.impl.repository.NodeRepositoryServiceImpl;
 import com.enonic.xp.repo.impl.repository.RepositoryEntryServiceImpl;
@@ -102,7 +104,7 @@ public class SecurityServiceImplTest
         deleteAllIndices();
         final MemoryBlobStore blobStore = new MemoryBlobStore();
 
-        final BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore );
+        final BinaryServiceImpl binaryService = new BinaryServiceImpl( blobStore, mock( BinaryConfig.class ) );
 
         final StorageDaoImpl storageDao = new StorageDaoImpl( client );
 
@@ -114,7 +116,8 @@ public class SecurityServiceImplTest
 
         final CommitServiceImpl commitService = new CommitServiceImpl( storageDao );
 
-        final NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( blobStore, new RepoConfigurationImpl( Map.of() ) );
+        final NodeVersionServiceImpl nodeDao = new NodeVersionServiceImpl( blobStore,
+                                                                           new NodeVersionCaches( new RepoConfigurationImpl( Map.of() ) ) );
 
         IndexServiceInternalImpl indexServiceInternal = new IndexServiceInternalImpl( client );
 
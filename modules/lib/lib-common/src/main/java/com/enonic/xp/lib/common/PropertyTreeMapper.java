@@ -35,7 +35,7 @@ public final class PropertyTreeMapper
     private void serialize( final MapGenerator gen, final PropertyTree value )
     {
         final Map<String, Object> map = value.toMap();
-        serializeMap( gen, map );
+        serializeRootMap( gen, map );
     }
 
     private void serializeMap( final MapGenerator gen, final Map<?, ?> map )
@@ -46,6 +46,24 @@ public final class PropertyTreeMapper
         }
     }
 
+    private void serializeRootMap( final MapGenerator gen, final Map<?, ?> map )
+    {
+        for ( final Map.Entry<?, ?> entry : map.entrySet() )
+        {
+            final String key = entry.getKey().toString();
+            final Object value = entry.getValue();
+            final Object singleValue = value instanceof List && ( (List<?>) value ).size() == 1 ? ( (List<?>) value ).get( 0 ) : value;
+            if ( singleValue instanceof Map )
+            {
+                gen.lazyMap( key, setGen -> serializeMap( setGen, (Map<?, ?>) singleValue ) );
+            }
+            else
+            {
+                serializeKeyValue( gen, key, value );
+            }
+        }
+    }
+
     private void serializeKeyValue( final MapGenerator gen, final String key, final Object value )
     {
         if ( value instanceof List )
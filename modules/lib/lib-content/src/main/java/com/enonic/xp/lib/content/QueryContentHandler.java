@@ -48,6 +48,8 @@ public final class QueryContentHandler
 
     private List<Map<String, Object>> filters;
 
+    private String cursor;
+
     @Override
     protected Object doExecute()
     {
@@ -69,7 +71,8 @@ public final class QueryContentHandler
             .aggregationQueries( aggregations )
             .highlight( highlight )
             .addContentTypeNames( contentTypeNames )
-            .queryExpr( queryExpr );
+            .queryExpr( queryExpr )
+            .cursor( cursor );
 
         for ( final Filter filter : filters )
         {
@@ -149,7 +152,8 @@ public final class QueryContentHandler
         }
 
         return new ContentsResultMapper( contents, findQueryResult.getTotalHits(), findQueryResult.getAggregations(),
-                                         findQueryResult.getHighlight(), findQueryResult.getSort(), findQueryResult.getScore() );
+                                         findQueryResult.getHighlight(), findQueryResult.getSort(), findQueryResult.getScore(),
+                                         findQueryResult.getCursor() );
     }
 
     public void setStart( final Integer start )
@@ -192,6 +196,11 @@ public final class QueryContentHandler
         this.highlight = value != null ? value.getMap() : null;
     }
 
+    public void setCursor( final String cursor )
+    {
+        this.cursor = cursor;
+    }
+
     private List<Map<String, Object>> doSetFilters( final ScriptValue filters )
     {
         List<Map<String, Object>> filterList = new ArrayList<>();
@@ -88,9 +88,7 @@ public final class ContentMapper
 
     private void serializeData( final MapGenerator gen, final PropertyTree value )
     {
-        gen.map( "data" );
-        new PropertyTreeMapper( value ).serialize( gen );
-        gen.end();
+        gen.lazyMap( "data", new PropertyTreeMapper( value ) );
     }
 
     private void serializePublishInfo( final MapGenerator gen, final ContentPublishInfo info )
@@ -123,8 +121,11 @@ public final class ContentMapper
 
     private void serializeExtraData( final MapGenerator gen, final Iterable<ExtraData> values )
     {
-        gen.map( "x" );
+        gen.lazyMap( "x", xGen -> serializeExtraDataEntries( xGen, values ) );
+    }
 
+    private void serializeExtraDataEntries( final MapGenerator gen, final Iterable<ExtraData> values )
+    {
         final ListMultimap<ApplicationKey, ExtraData> extradatasByModule = ArrayListMultimap.create();
         for ( ExtraData extraData : values )
         {
@@ -147,7 +148,6 @@ public final class ContentMapper
             }
             gen.end();
         }
-        gen.end();
     }
 
     private void serializePage( final MapGenerator gen, final Page value )
@@ -165,12 +165,12 @@ public final class ContentMapper
 
     private void serializeAttachments( final MapGenerator gen, final Attachments value )
     {
-        gen.map( "attachments" );
-        if ( value != null )
-        {
-            new AttachmentsMapper( value ).serialize( gen );
-        }
-        gen.end();
+        gen.lazyMap( "attachments", attachmentsGen -> {
+            if ( value != null )
+            {
+                new AttachmentsMapper( value ).serialize( attachmentsGen );
+            }
+        } );
     }
 
     private void serializeInherit( final MapGenerator gen, final Set<ContentInheritType> value )
@@ -26,6 +26,8 @@ public final class ContentsResultMapper
 
     private final ImmutableMap<ContentId, Float> scoreValues;
 
+    private final String cursor;
+
     public ContentsResultMapper( final Contents contents, final long total )
     {
         this.contents = contents;
@@ -34,12 +36,13 @@ public final class ContentsResultMapper
         this.highlight = null;
         this.sortValues = null;
         this.scoreValues = null;
+        this.cursor = null;
     }
 
     public ContentsResultMapper( final Contents contents, final long total, final Aggregations aggregations,
                                  final ImmutableMap<ContentId, HighlightedProperties> highlight,
                                  final ImmutableMap<ContentId, SortValuesProperty> sortValues,
-                                 final ImmutableMap<ContentId, Float> scoreValues)
+                                 final ImmutableMap<ContentId, Float> scoreValues, final String cursor )
     {
         this.contents = contents;
         this.total = total;
@@ -47,6 +50,7 @@ public final class ContentsResultMapper
         this.highlight = highlight;
         this.sortValues = sortValues;
         this.scoreValues = scoreValues;
+        this.cursor = cursor;
     }
 
     @Override
@@ -57,6 +61,10 @@ public final class ContentsResultMapper
         serialize( gen, this.contents );
         serialize( gen, aggregations );
         serialize( gen, highlight );
+        if ( this.cursor != null )
+        {
+            gen.value( "cursor", this.cursor );
+        }
     }
 
     private void serialize( final MapGenerator gen, final Contents contents )
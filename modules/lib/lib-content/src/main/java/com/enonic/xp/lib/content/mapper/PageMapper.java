@@ -68,9 +68,7 @@ public final class PageMapper
 
         if ( value.hasConfig() )
         {
-            gen.map( CONFIG );
-            new PropertyTreeMapper( value.getConfig() ).serialize( gen );
-            gen.end();
+            gen.lazyMap( CONFIG, new PropertyTreeMapper( value.getConfig() ) );
         }
         if ( value.hasRegions() )
         {
@@ -82,16 +80,14 @@ public final class PageMapper
 
     private void serializeRegions( final MapGenerator gen, final PageRegions values )
     {
-        gen.map( REGIONS );
-
-        if ( values != null )
-        {
-            for ( final Region region : values )
+        gen.lazyMap( REGIONS, regionsGen -> {
+            if ( values != null )
             {
-                new RegionMapper( region ).serialize( gen );
+                for ( final Region region : values )
+                {
+                    new RegionMapper( region ).serialize( regionsGen );
+                }
             }
-        }
-
-        gen.end();
+        } );
     }
 }
@@ -439,6 +439,7 @@ export interface ContentsResult<
     hits: Hit[];
     aggregations: AggregationOutput;
     highlight?: Record<string, HighlightResult>;
+    cursor?: string;
 }
 
 export interface GetChildContentParams {
@@ -617,6 +618,7 @@ export interface QueryContentParams<AggregationInput extends Aggregations = neve
     aggregations?: AggregationInput;
     contentTypes?: string[];
     highlight?: Highlight;
+    cursor?: string | null;
 }
 
 interface QueryContentHandler {
@@ -636,6 +638,8 @@ interface QueryContentHandler {
 
     setHighlight(value: ScriptValue): void;
 
+    setCursor(value?: string | null): void;
+
     execute<
         Hit extends Content<unknown>,
         AggregationInput extends Aggregations = never
@@ -655,8 +659,10 @@ interface QueryContentHandler {
  * @param {string|object|object[]} [params.sort] Sorting expression.
  * @param {object} [params.aggregations] Aggregations expression.
  * @param {string[]} [params.contentTypes] Content types to filter on.
+ * @param {string} [params.cursor] Cursor returned with the previous page, or an empty string for the first page.
+ * Pages with a cursor cost the same at any depth, but only support field sort and cannot be combined with start.
  *
- * @returns {object} Result of query.
+ * @returns {object} Result of query, with the cursor of the next page when paging with a cursor.
  */
 
 export function query<
@@ -673,6 +679,7 @@ export function query<
     bean.setContentTypes(__.toScriptValue(params.contentTypes));
     bean.setFilters(__.toScriptValue(params.filters));
     bean.setHighlight(__.toScriptValue(params.highlight));
+    bean.setCursor(__.nullOrValue(params.cursor));
 
     return __.toNativeObject(bean.execute<Hit, AggregationInput>());
 }
@@ -5,6 +5,7 @@ import java.util.function.Supplier;
 import com.enonic.xp.script.bean.BeanContext;
 import com.enonic.xp.script.bean.ScriptBean;
 import com.enonic.xp.shared.SharedMap;
+import com.enonic.xp.shared.SharedMapOptions;
 import com.enonic.xp.shared.SharedMapService;
 
 public class SharedMapHandler
@@ -22,4 +23,14 @@ public class SharedMapHandler
     {
         return sharedMapService.get().getSharedMap( mapId );
     }
+
+    public <K, V> SharedMap<K, V> getMap( String mapId, boolean nearCache )
+    {
+        return sharedMapService.get().getSharedMap( mapId, SharedMapOptions.create().nearCache( nearCache ).build() );
+    }
+
+    public SharedMapStatsMapper getStats( String mapId )
+    {
+        return new SharedMapStatsMapper( mapId );
+    }
 }
@@ -0,0 +1,67 @@
+package com.enonic.xp.lib.grid;
+
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Metered;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+import com.enonic.xp.script.serializer.MapGenerator;
+import com.enonic.xp.script.serializer.MapSerializable;
+import com.enonic.xp.shared.SharedMapMetricNames;
+import com.enonic.xp.util.Metrics;
+
+public final class SharedMapStatsMapper
+    implements MapSerializable
+{
+    private final String mapId;
+
+    public SharedMapStatsMapper( final String mapId )
+    {
+        this.mapId = mapId;
+    }
+
+    @Override
+    public void serialize( final MapGenerator gen )
+    {
+        gen.value( "hits", count( SharedMapMetricNames.HIT ) );
+        gen.value( "misses", count( SharedMapMetricNames.MISS ) );
+        gen.value( "nearCacheHits", count( SharedMapMetricNames.NEAR_CACHE_HIT ) );
+        gen.value( "nearCacheMisses", count( SharedMapMetricNames.NEAR_CACHE_MISS ) );
+        serializeTimer( gen, SharedMapMetricNames.GET );
+        serializeTimer( gen, SharedMapMetricNames.SET );
+        serializeTimer( gen, SharedMapMetricNames.DELETE );
+        serializeTimer( gen, SharedMapMetricNames.MODIFY );
+    }
+
+    private void serializeTimer( final MapGenerator gen, final String name )
+    {
+        final Metric metric = metric( name );
+        final Timer timer = metric instanceof Timer ? (Timer) metric : null;
+        final Snapshot snapshot = timer != null ? timer.getSnapshot() : null;
+
+        gen.map( name );
+        gen.value( "count", timer != null ? timer.getCount() : 0L );
+        gen.value( "meanMs", snapshot != null ? toMillis( snapshot.getMean() ) : 0d );
+        gen.value( "p95Ms", snapshot != null ? toMillis( snapshot.get95thPercentile() ) : 0d );
+        gen.value( "p99Ms", snapshot != null ? toMillis( snapshot.get99thPercentile() ) : 0d );
+        gen.end();
+    }
+
+    private long count( final String name )
+    {
+        final Metric metric = metric( name );
+        return metric instanceof Metered ? ( (Metered) metric ).getCount() : 0L;
+    }
+
+    private Metric metric( final String name )
+    {
+        return Metrics.registry().getMetrics().get( SharedMapMetricNames.name( mapId, name ) );
+    }
+
+    private static double toMillis( final double nanos )
+    {
+        return nanos / TimeUnit.MILLISECONDS.toNanos( 1 );
+    }
+}
@@ -29,10 +29,40 @@ interface JavaSharedMap<Map extends GridMap> {
     set<Key extends keyof Map>(key: Key, value: ConvertedType, ttlSeconds?: number | null): void;
 
     modify<Key extends keyof Map>(key: Key, modifier: SharedMapModifierFn<Map, Key>, ttlSeconds?: number | null): Map[Key];
+
+    getAll(keys: ConvertedType): Partial<Map>;
+
+    setAll(items: ConvertedType, ttlSeconds?: number | null): void;
+
+    deleteAll(keys: ConvertedType): void;
 }
 
 interface SharedMapHandler<Map extends GridMap> {
-    getMap(mapId: string): JavaSharedMap<Map>;
+    getMap(mapId: string, nearCache?: boolean): JavaSharedMap<Map>;
+
+    getStats(mapId: string): SharedMapStats;
+}
+
+export interface GetMapOptions {
+    nearCache?: boolean;
+}
+
+export interface SharedMapTimerStats {
+    count: number;
+    meanMs: number;
+    p95Ms: number;
+    p99Ms: number;
+}
+
+export interface SharedMapStats {
+    hits: number;
+    misses: number;
+    nearCacheHits: number;
+    nearCacheMisses: number;
+    get: SharedMapTimerStats;
+    set: SharedMapTimerStats;
+    delete: SharedMapTimerStats;
+    modify: SharedMapTimerStats;
 }
 
 export interface SetParams<Map extends GridMap, Key extends keyof Map> {
@@ -47,6 +77,11 @@ export interface ModifyParams<Map extends GridMap, Key extends keyof Map> {
     ttlSeconds?: number;
 }
 
+export interface SetAllParams<Map extends GridMap> {
+    items: Partial<Map>;
+    ttlSeconds?: number;
+}
+
 export interface SharedMap<Map extends GridMap> {
     get<Key extends keyof Map>(key: Key): Map[Key];
 
@@ -55,6 +90,14 @@ export interface SharedMap<Map extends GridMap> {
     modify<Key extends keyof Map>(params: ModifyParams<Map, Key>): Map[Key];
 
     delete(key: keyof Map): void;
+
+    getAll<Key extends keyof Map>(keys: Key[]): Partial<Pick<Map, Key>>;
+
+    setAll(params: SetAllParams<Map>): void;
+
+    deleteAll(keys: (keyof Map)[]): void;
+
+    getStats(): SharedMapStats;
 }
 
 /**
@@ -73,9 +116,14 @@ class SharedMapImpl<Map extends GridMap>
 
     private map: JavaSharedMap<Map>;
 
-    constructor(mapId: string) {
-        const bean = __.newBean<SharedMapHandler<Map>>('com.enonic.xp.lib.grid.SharedMapHandler');
-        this.map = bean.getMap(mapId);
+    private bean: SharedMapHandler<Map>;
+
+    private mapId: string;
+
+    constructor(mapId: string, options?: GetMapOptions) {
+        this.bean = __.newBean<SharedMapHandler<Map>>('com.enonic.xp.lib.grid.SharedMapHandler');
+        this.mapId = mapId;
+        this.map = options?.nearCache ? this.bean.getMap(mapId, true) : this.bean.getMap(mapId);
     }
 
     /**
@@ -147,6 +195,59 @@ class SharedMapImpl<Map extends GridMap>
     delete(key: keyof Map): void {
         this.map.delete(key);
     }
+
+    /**
+     * Returns the values mapped to the specified keys. Keys with no mapping are absent from the result.
+     *
+     * @param {string[]} keys keys whose associated values are to be returned
+     * @returns {object} JSON with found keys and their values
+     */
+    getAll<Key extends keyof Map>(keys: Key[]): Partial<Pick<Map, Key>> {
+        requireNotNull(keys, 'keys');
+        return __.toNativeObject(this.map.getAll(__.toScriptValue(keys).getList())) as Partial<Pick<Map, Key>>;
+    }
+
+    /**
+     * Puts all entries into this map with a given time to live (TTL) in a single batch.
+     * Entries with null values are removed.
+     *
+     * @param {object} params JSON with the parameters.
+     * @param {object} params.items JSON with keys and values of the entries
+     * @param {number} [params.ttlSeconds] maximum time to live in seconds for these entries to stay in the map. (0 means infinite, negative means map config default or infinite if map config is not available)
+     */
+    setAll(params: SetAllParams<Map>): void {
+        const items = requireNotNull(params.items, 'items');
+        const ttlSeconds = __.nullOrValue(params.ttlSeconds);
+        const converted: Record<string, ConvertedType> = {};
+        Object.keys(items).forEach((key) => {
+            converted[key] = convertValue(items[key] as SharedMapValueType);
+        });
+        const value = __.toScriptValue(converted).getMap();
+        if (ttlSeconds === null) {
+            this.map.setAll(value);
+        } else {
+            this.map.setAll(value, ttlSeconds);
+        }
+    }
+
+    /**
+     * Removes the mappings for the keys from this map if they are present.
+     *
+     * @param {string[]} keys the keys whose associated values are to be removed
+     */
+    deleteAll(keys: (keyof Map)[]): void {
+        requireNotNull(keys, 'keys');
+        this.map.deleteAll(__.toScriptValue(keys).getList());
+    }
+
+    /**
+     * Returns hit/miss counters and latency statistics of this map on the current cluster node.
+     *
+     * @returns {object} statistics of this map
+     */
+    getStats(): SharedMapStats {
+        return __.toNativeObject(this.bean.getStats(this.mapId));
+    }
 }
 
 function requireNotNull<T>(value: T, parameterName: string): T {
@@ -172,9 +273,11 @@ function convertValue(value: SharedMapValueType): ConvertedType {
  * Returns an instance of SharedMap by the specified map identifier.
  *
  * @param {string} mapId map identifier
+ * @param {object} [options] JSON with the options.
+ * @param {boolean} [options.nearCache=false] keep a local copy of read entries on this cluster node. Invalidated on every change in the cluster.
  * @returns {SharedMap} an instance of SharedMap
  */
-export function getMap<Map extends GridMap>(mapId: string): SharedMap<Map> {
-    return new SharedMapImpl<Map>(requireNotNull(mapId, 'mapId'));
+export function getMap<Map extends GridMap>(mapId: string, options?: GetMapOptions): SharedMap<Map> {
+    return new SharedMapImpl<Map>(requireNotNull(mapId, 'mapId'), options);
 }
 
@@ -1,12 +1,18 @@
 package com.enonic.xp.lib.grid;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.enonic.xp.shared.SharedMap;
+import com.enonic.xp.shared.SharedMapOptions;
 import com.enonic.xp.shared.SharedMapService;
 import com.enonic.xp.testing.ScriptTestSupport;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -138,4 +144,56 @@ public class SharedMapHandlerTest
 
         verify( sharedMapService, times( 1 ) ).getSharedMap( "mapId" );
     }
+
+    @Test
+    public void testGetMapWithNearCache()
+    {
+        when( sharedMapService.<String, String>getSharedMap( eq( "mapId" ), any( SharedMapOptions.class ) ) ).thenReturn( sharedMap );
+        when( sharedMap.get( "key" ) ).thenReturn( "value" );
+
+        runFunction( "/test/grid-test.js", "testGetMapWithNearCache" );
+
+        verify( sharedMapService, times( 1 ) ).getSharedMap( eq( "mapId" ), any( SharedMapOptions.class ) );
+        verify( sharedMap, times( 1 ) ).get( "key" );
+    }
+
+    @Test
+    public void testGetAll()
+    {
+        when( sharedMap.getAll( List.of( "key1", "key2" ) ) ).thenReturn( Map.of( "key1", "value1" ) );
+
+        runFunction( "/test/grid-test.js", "testGetAll" );
+
+        verify( sharedMap, times( 1 ) ).getAll( List.of( "key1", "key2" ) );
+    }
+
+    @Test
+    public void testSetAll()
+    {
+        runFunction( "/test/grid-test.js", "testSetAll" );
+
+        verify( sharedMap, times( 1 ) ).setAll( Map.of( "key1", "value1", "key2", "value2" ), 60 );
+    }
+
+    @Test
+    public void testSetAllWithoutItems()
+    {
+        runFunction( "/test/grid-test.js", "testSetAllWithoutItems" );
+
+        verify( sharedMapService, times( 1 ) ).getSharedMap( "mapId" );
+    }
+
+    @Test
+    public void testDeleteAll()
+    {
+        runFunction( "/test/grid-test.js", "testDeleteAll" );
+
+        verify( sharedMap, times( 1 ) ).deleteAll( List.of( "key1", "key2" ) );
+    }
+
+    @Test
+    public void testGetStats()
+    {
+        runFunction( "/test/grid-test.js", "testGetStats" );
+    }
 }
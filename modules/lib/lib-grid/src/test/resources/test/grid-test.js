@@ -98,3 +98,48 @@ exports.testModifyWithWrongArgumentFunc = function () {
         assert.assertEquals('Parameter "func" is not a function', e);
     }
 };
+
+exports.testGetMapWithNearCache = function () {
+    var sharedMap = gridLib.getMap('mapId', {nearCache: true});
+    assert.assertEquals('value', sharedMap.get('key'));
+};
+
+exports.testGetAll = function () {
+    var sharedMap = gridLib.getMap('mapId');
+    var result = sharedMap.getAll(['key1', 'key2']);
+    assert.assertEquals('value1', result.key1);
+    assert.assertEquals(undefined, result.key2);
+};
+
+exports.testSetAll = function () {
+    var sharedMap = gridLib.getMap('mapId');
+
+    sharedMap.setAll({
+        items: {
+            key1: 'value1',
+            key2: 'value2'
+        },
+        ttlSeconds: 60
+    });
+};
+
+exports.testSetAllWithoutItems = function () {
+    var sharedMap = gridLib.getMap('mapId');
+    try {
+        sharedMap.setAll({});
+    } catch (e) {
+        assert.assertEquals('Parameter "items" is required', e);
+    }
+};
+
+exports.testDeleteAll = function () {
+    var sharedMap = gridLib.getMap('mapId');
+    sharedMap.deleteAll(['key1', 'key2']);
+};
+
+exports.testGetStats = function () {
+    var sharedMap = gridLib.getMap('mapId');
+    var stats = sharedMap.getStats();
+    assert.assertEquals(0, stats.hits);
+    assert.assertEquals(0, stats.get.count);
+};
@@ -41,6 +41,8 @@ abstract class AbstractFindNodesQueryHandler
 
     private final boolean explain;
 
+    private final String cursor;
+
     AbstractFindNodesQueryHandler( final Builder builder )
     {
         super( builder );
@@ -53,6 +55,7 @@ abstract class AbstractFindNodesQueryHandler
         this.suggestions = builder.suggestions;
         this.highlight = builder.highlight;
         this.explain = builder.explain;
+        this.cursor = builder.cursor;
     }
 
     NodeQuery createNodeQuery()
@@ -77,6 +80,7 @@ abstract class AbstractFindNodesQueryHandler
             .query( queryExpr )
             .addQueryFilters( filters )
             .explain( this.explain )
+            .cursor( this.cursor )
             .build();
     }
 
@@ -146,6 +150,8 @@ abstract class AbstractFindNodesQueryHandler
 
         private boolean explain = false;
 
+        private String cursor;
+
         Builder()
         {
         }
@@ -212,6 +218,13 @@ abstract class AbstractFindNodesQueryHandler
             this.explain = explain;
             return (B) this;
         }
+
+        @SuppressWarnings("unchecked")
+        public B cursor( final String cursor )
+        {
+            this.cursor = cursor;
+            return (B) this;
+        }
     }
 
 }
@@ -124,6 +124,7 @@ public class NodeHandler
             sort( params.getSort() ).
             filters( params.getFilters() ).
             explain( params.isExplain() ).
+            cursor( params.getCursor() ).
             nodeService( this.nodeService ).
             build() );
     }
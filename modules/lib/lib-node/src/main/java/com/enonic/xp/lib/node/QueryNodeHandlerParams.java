@@ -28,6 +28,8 @@ public class QueryNodeHandlerParams
 
     private boolean explain;
 
+    private String cursor;
+
     List<Map<String, Object>> getFilters()
     {
         return filters;
@@ -153,4 +155,15 @@ public class QueryNodeHandlerParams
     {
         this.explain = explain;
     }
+
+    String getCursor()
+    {
+        return cursor;
+    }
+
+    @SuppressWarnings("unused")
+    public void setCursor( final String cursor )
+    {
+        this.cursor = cursor;
+    }
 }
@@ -52,9 +52,7 @@ public class NodeMapper
 
     private void serializeIndexConfigDocument( final MapGenerator gen, final IndexConfigDocument value )
     {
-        gen.map( NodePropertyConstants.INDEX_CONFIG );
-        new IndexConfigDocMapper( value ).serialize( gen );
-        gen.end();
+        gen.lazyMap( NodePropertyConstants.INDEX_CONFIG, new IndexConfigDocMapper( value ) );
     }
 
     private void serializePermissions( final MapGenerator gen, final Node node )
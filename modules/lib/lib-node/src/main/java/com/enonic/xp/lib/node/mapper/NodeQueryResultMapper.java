@@ -18,12 +18,15 @@ public final class NodeQueryResultMapper
 
     private final Suggestions suggestions;
 
+    private final String cursor;
+
     public NodeQueryResultMapper( final FindNodesByQueryResult result )
     {
         this.nodeHits = result.getNodeHits();
         this.total = result.getTotalHits();
         this.aggregations = result.getAggregations();
         this.suggestions = result.getSuggestions();
+        this.cursor = result.getCursor();
     }
 
     @Override
@@ -34,6 +37,10 @@ public final class NodeQueryResultMapper
         serialize( gen, this.nodeHits );
         serialize( gen, aggregations );
         serialize( gen, suggestions );
+        if ( this.cursor != null )
+        {
+            gen.value( "cursor", this.cursor );
+        }
     }
 
     private void serialize( final MapGenerator gen, final NodeHits nodeHits )
@@ -144,6 +144,7 @@ export interface NodeQueryResult<AggregationOutput extends Record<string, Aggreg
     hits: NodeQueryResultHit[];
     aggregations: AggregationOutput;
     suggestions?: Record<string, SuggestionResult[]>;
+    cursor?: string;
 }
 
 export interface NodeMultiRepoQueryResult<AggregationOutput extends Record<string, AggregationsResult> | undefined = undefined> {
@@ -356,6 +357,7 @@ export interface QueryNodeParams<AggregationInput extends Aggregations = never>
     suggestions?: Record<string, TermSuggestion>;
     highlight?: Highlight;
     explain?: boolean;
+    cursor?: string | null;
 }
 
 interface QueryNodeHandlerParams {
@@ -376,6 +378,8 @@ interface QueryNodeHandlerParams {
     setFilters(value: ScriptValue): void;
 
     setExplain(value: boolean): void;
+
+    setCursor(value?: string | null): void;
 }
 
 export interface FindVersionsParams {
@@ -847,7 +851,9 @@ class RepoConnectionImpl
      * @param {string} [params.aggregations] Aggregations expression.
      * @param {string} [params.highlight] Highlighting parameters.
      * @param {boolean} [params.explain=false] Return score calculation explanation.
-     * @returns {object} Result of query.
+     * @param {string} [params.cursor] Cursor returned with the previous page, or an empty string for the first page.
+     * Pages with a cursor cost the same at any depth, but only support field sort and cannot be combined with start.
+     * @returns {object} Result of query, with the cursor of the next page when paging with a cursor.
      */
     query<
         AggregationInput extends Aggregations = never
@@ -862,6 +868,7 @@ class RepoConnectionImpl
             highlight,
             filters,
             explain = false,
+            cursor,
         } = params ?? {};
 
         const handlerParams = __.newBean<QueryNodeHandlerParams>('com.enonic.xp.lib.node.QueryNodeHandlerParams');
@@ -875,6 +882,7 @@ class RepoConnectionImpl
         handlerParams.setHighlight(__.toScriptValue(highlight));
         handlerParams.setFilters(__.toScriptValue(filters));
         handlerParams.setExplain(explain);
+        handlerParams.setCursor(__.nullOrValue(cursor));
 
         return __.toNativeObject(this.nodeHandler.query<AggregationInput>(handlerParams));
     }
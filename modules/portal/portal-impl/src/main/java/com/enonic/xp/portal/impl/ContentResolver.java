@@ -13,6 +13,7 @@ import com.enonic.xp.context.ContextBuilder;
 import com.enonic.xp.portal.PortalRequest;
 import com.enonic.xp.portal.RenderMode;
 import com.enonic.xp.security.RoleKeys;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.security.acl.Permission;
 import com.enonic.xp.security.auth.AuthenticationInfo;
 import com.enonic.xp.site.Site;
@@ -21,9 +22,12 @@ public class ContentResolver
 {
     private final ContentService contentService;
 
-    public ContentResolver( final ContentService contentService )
+    private final AccessControlEvaluator accessControlEvaluator;
+
+    public ContentResolver( final ContentService contentService, final AccessControlEvaluator accessControlEvaluator )
     {
         this.contentService = contentService;
+        this.accessControlEvaluator = accessControlEvaluator;
     }
 
     public ContentResolverResult resolve( final PortalRequest request )
@@ -102,7 +106,7 @@ public class ContentResolver
     private Content visibleContent( final Content content )
     {
         return content == null || ContentPath.ROOT.equals( content.getPath() ) ||
-            !content.getPermissions().isAllowedFor( ContextAccessor.current().getAuthInfo().getPrincipals(), Permission.READ )
+            !accessControlEvaluator.isAllowed( ContextAccessor.current().getAuthInfo(), content.getPermissions(), Permission.READ )
             ? null
             : content;
     }
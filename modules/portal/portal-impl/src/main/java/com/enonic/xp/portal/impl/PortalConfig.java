@@ -4,6 +4,8 @@ public @interface PortalConfig
 {
     String asset_cacheControl() default "public, max-age=31536000, immutable";
 
+    String asset_compressedCacheSize() default "32mb";
+
     String media_public_cacheControl() default "public, max-age=31536000, immutable";
 
     String media_private_cacheControl() default "private, max-age=31536000, immutable";
@@ -13,4 +15,22 @@ public @interface PortalConfig
     String media_contentSecurityPolicy_svg() default "default-src 'none'; base-uri 'none'; form-action 'none'; style-src 'self' 'unsafe-inline'";
 
     String draftBranchAllowedFor() default "role:system.admin.login";
+
+    int postprocess_parallelism() default 0;
+
+    int componentCache_size() default 10000;
+
+    boolean pageCache_enabled() default false;
+
+    String pageCache_size() default "64mb";
+
+    long pageCache_ttl() default 60;
+
+    long pageCache_staleWhileRevalidate() default 30;
+
+    int websocket_maxQueuedMessages() default 1000;
+
+    String websocket_slowConsumer() default "drop";
+
+    boolean websocket_clusterBroadcast() default false;
 }
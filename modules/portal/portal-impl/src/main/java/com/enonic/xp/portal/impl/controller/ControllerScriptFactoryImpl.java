@@ -1,14 +1,21 @@
 package com.enonic.xp.portal.impl.controller;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import com.codahale.metrics.MetricRegistry;
+
+import com.enonic.xp.core.internal.metrics.StatusTimers;
 import com.enonic.xp.portal.controller.ControllerScript;
 import com.enonic.xp.portal.controller.ControllerScriptFactory;
 import com.enonic.xp.portal.script.PortalScriptService;
 import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.script.ScriptExports;
+import com.enonic.xp.util.Metrics;
 
 @Component
 public final class ControllerScriptFactoryImpl
@@ -16,6 +23,8 @@ public final class ControllerScriptFactoryImpl
 {
     private final PortalScriptService scriptService;
 
+    private final ConcurrentMap<ResourceKey, StatusTimers> timers = new ConcurrentHashMap<>();
+
     @Activate
     public ControllerScriptFactoryImpl( @Reference final PortalScriptService scriptService )
     {
@@ -32,6 +41,7 @@ public final class ControllerScriptFactoryImpl
     public ControllerScript fromScript( final ResourceKey script )
     {
         final ScriptExports exports = this.scriptService.execute( script );
-        return new ControllerScriptImpl( exports );
+        return new ControllerScriptImpl( exports, timers.computeIfAbsent( script, key -> new StatusTimers(
+            Metrics.registry(), MetricRegistry.name( ControllerScript.class, "controller", key.toString() ) ) ) );
     }
 }
@@ -1,5 +1,6 @@
 package com.enonic.xp.portal.impl.controller;
 
+import com.enonic.xp.core.internal.metrics.StatusTimers;
 import com.enonic.xp.portal.PortalRequest;
 import com.enonic.xp.portal.PortalRequestAccessor;
 import com.enonic.xp.portal.PortalResponse;
@@ -20,9 +21,12 @@ final class ControllerScriptImpl
 
     private final ScriptExports scriptExports;
 
-    ControllerScriptImpl( final ScriptExports scriptExports )
+    private final StatusTimers timers;
+
+    ControllerScriptImpl( final ScriptExports scriptExports, final StatusTimers timers )
     {
         this.scriptExports = scriptExports;
+        this.timers = timers;
     }
 
     @Override
@@ -30,14 +34,20 @@ final class ControllerScriptImpl
     {
         PortalRequestAccessor.set( portalRequest );
 
+        final long start = System.nanoTime();
+        int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
         try
         {
-            return Tracer.trace( "controllerScript", trace -> trace.put( "script", this.scriptExports.getScript().toString() ),
-                                 () -> doExecute( portalRequest ) );
+            final PortalResponse response =
+                Tracer.trace( "controllerScript", trace -> trace.put( "script", this.scriptExports.getScript().toString() ),
+                              () -> doExecute( portalRequest ) );
+            status = response.getStatus().value();
+            return response;
         }
         finally
         {
             PortalRequestAccessor.remove();
+            this.timers.update( status, System.nanoTime() - start );
         }
     }
 
@@ -14,6 +14,7 @@ import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.handler.EndpointHandler;
 import com.enonic.xp.portal.impl.PortalConfig;
 import com.enonic.xp.resource.ResourceService;
+import com.enonic.xp.util.ByteSizeParser;
 import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.WebException;
 import com.enonic.xp.web.WebRequest;
@@ -31,6 +32,8 @@ public final class AssetHandler
 
     private volatile String cacheControlHeader;
 
+    private volatile CompressedAssetCache compressedAssetCache;
+
     @Activate
     public AssetHandler( @Reference final ResourceService resourceService )
     {
@@ -43,6 +46,7 @@ public final class AssetHandler
     public void activate( final PortalConfig config )
     {
         cacheControlHeader = config.asset_cacheControl();
+        compressedAssetCache = new CompressedAssetCache( ByteSizeParser.parse( config.asset_compressedCacheSize() ) );
     }
 
     @Override
@@ -64,6 +68,7 @@ public final class AssetHandler
         assetHandlerWorker.fingerprint = matcher.group( 2 );
         assetHandlerWorker.path = matcher.group( 3 );
         assetHandlerWorker.cacheControlHeaderConfig = cacheControlHeader;
+        assetHandlerWorker.compressedAssetCache = compressedAssetCache;
 
         return assetHandlerWorker.execute();
     }
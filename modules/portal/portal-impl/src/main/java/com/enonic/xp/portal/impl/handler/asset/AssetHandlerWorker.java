@@ -1,6 +1,8 @@
 package com.enonic.xp.portal.impl.handler.asset;
 
+import com.google.common.io.ByteSource;
 import com.google.common.net.HttpHeaders;
+import com.google.common.net.MediaType;
 
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.core.internal.HexCoder;
@@ -31,6 +33,8 @@ final class AssetHandlerWorker
 
     String cacheControlHeaderConfig;
 
+    CompressedAssetCache compressedAssetCache;
+
     AssetHandlerWorker( final WebRequest request )
     {
         super( request );
@@ -52,18 +56,66 @@ final class AssetHandlerWorker
         final ResourceKey resourceKey = ResourceKey.from( applicationKey, assetPath );
 
         final Resource resource = resolveResource( resourceKey );
+        final MediaType contentType = MediaTypes.instance().fromFile( resource.getKey().getName() );
 
-        final PortalResponse.Builder portalResponse =
-            PortalResponse.create().contentType( MediaTypes.instance().fromFile( resource.getKey().getName() ) ).body( resource );
+        final PortalResponse.Builder portalResponse = PortalResponse.create().contentType( contentType ).body( resource );
 
         if ( !nullToEmpty( this.fingerprint ).isBlank() && !nullToEmpty( cacheControlHeaderConfig ).isBlank() &&
             RunMode.get() != RunMode.DEV && resourceKey.getPath().equals( assetPath ) && fingerprintMatches( fingerprint ) )
         {
             portalResponse.header( HttpHeaders.CACHE_CONTROL, cacheControlHeaderConfig );
         }
+
+        // Same resource timestamp and size means same bytes within an application bundle
+        String etag = Long.toHexString( resource.getTimestamp() ) + "-" + Long.toHexString( resource.getSize() );
+
+        if ( compressedAssetCache != null && CompressedAssetCache.isCompressible( contentType ) )
+        {
+            portalResponse.header( HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING );
+            final ByteSource gzipped = acceptsGzip() ? compressedAssetCache.gzip( resource ) : null;
+            if ( gzipped != null )
+            {
+                portalResponse.body( gzipped ).header( HttpHeaders.CONTENT_ENCODING, "gzip" );
+                etag = etag + "-gzip";
+            }
+        }
+
+        etag = "\"" + etag + "\"";
+        portalResponse.header( HttpHeaders.ETAG, etag );
+
+        if ( ifNoneMatch( etag ) )
+        {
+            portalResponse.status( HttpStatus.NOT_MODIFIED ).body( null );
+        }
         return portalResponse.build();
     }
 
+    private boolean acceptsGzip()
+    {
+        for ( String coding : nullToEmpty( request.getHeaders().get( HttpHeaders.ACCEPT_ENCODING ) ).split( "," ) )
+        {
+            final String[] parts = coding.trim().split( ";" );
+            if ( parts[0].trim().equalsIgnoreCase( "gzip" ) )
+            {
+                return parts.length == 1 || !parts[1].trim().matches( "q=0(\\.0*)?" );
+            }
+        }
+        return false;
+    }
+
+    private boolean ifNoneMatch( final String etag )
+    {
+        for ( String tag : nullToEmpty( request.getHeaders().get( HttpHeaders.IF_NONE_MATCH ) ).split( "," ) )
+        {
+            final String trimmed = tag.trim();
+            if ( trimmed.equals( "*" ) || trimmed.equals( etag ) || trimmed.equals( "W/" + etag ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Resource resolveResource( final ResourceKey resourceKey )
     {
         final Resource resource = resourceService.getResource( resourceKey );
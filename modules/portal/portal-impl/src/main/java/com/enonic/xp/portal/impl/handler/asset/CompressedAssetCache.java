@@ -0,0 +1,84 @@
+package com.enonic.xp.portal.impl.handler.asset;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import com.codahale.metrics.Meter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteSource;
+import com.google.common.net.MediaType;
+
+import com.enonic.xp.resource.Resource;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Gzip-compressed copies of compressible app assets.
+ * <p>
+ * Entries are keyed by resource key and resource timestamp, so every asset of an application version is compressed once
+ * and a redeployed application gets fresh entries while the old ones are evicted by size.
+ */
+final class CompressedAssetCache
+{
+    private static final int MIN_SIZE = 256;
+
+    private static final byte[] NOT_COMPRESSIBLE = new byte[0];
+
+    private final Cache<String, byte[]> cache;
+
+    private final Meter compressions = Metrics.meter( CompressedAssetCache.class, "compress" );
+
+    CompressedAssetCache( final long maxWeight )
+    {
+        this.cache = maxWeight > 0 ? CacheBuilder.newBuilder()
+            .maximumWeight( maxWeight )
+            .weigher( ( String key, byte[] value ) -> key.length() * 2 + value.length )
+            .build() : null;
+    }
+
+    static boolean isCompressible( final MediaType mediaType )
+    {
+        final String subtype = mediaType.subtype();
+        return mediaType.type().equals( "text" ) || subtype.endsWith( "javascript" ) || subtype.endsWith( "json" ) ||
+            subtype.endsWith( "xml" );
+    }
+
+    /**
+     * @return gzip-compressed resource content, or {@code null} if compression does not make the resource smaller
+     */
+    ByteSource gzip( final Resource resource )
+    {
+        if ( cache == null || resource.getSize() < MIN_SIZE )
+        {
+            return null;
+        }
+
+        final String key = resource.getKey() + "@" + resource.getTimestamp();
+        byte[] compressed = cache.getIfPresent( key );
+        if ( compressed == null )
+        {
+            compressed = compress( resource.getBytes() );
+            compressions.mark();
+            cache.put( key, compressed.length < resource.getSize() ? compressed : NOT_COMPRESSIBLE );
+        }
+
+        return compressed == NOT_COMPRESSIBLE || compressed.length >= resource.getSize() ? null : ByteSource.wrap( compressed );
+    }
+
+    private static byte[] compress( final ByteSource source )
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream( bytes ))
+        {
+            source.copyTo( gzip );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+        return bytes.toByteArray();
+    }
+}
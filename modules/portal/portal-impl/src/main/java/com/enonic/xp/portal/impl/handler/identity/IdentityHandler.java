@@ -18,6 +18,7 @@ import com.enonic.xp.portal.handler.EndpointHandler;
 import com.enonic.xp.portal.idprovider.IdProviderControllerService;
 import com.enonic.xp.portal.impl.ContentResolver;
 import com.enonic.xp.security.IdProviderKey;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.trace.Trace;
 import com.enonic.xp.trace.Tracer;
 import com.enonic.xp.web.WebException;
@@ -38,6 +39,8 @@ public class IdentityHandler
 
     private ContentService contentService;
 
+    private AccessControlEvaluator accessControlEvaluator;
+
     protected IdProviderControllerService idProviderControllerService;
 
     public IdentityHandler()
@@ -87,7 +90,7 @@ public class IdentityHandler
         final IdentityHandlerWorker worker = new IdentityHandlerWorker( portalRequest );
         worker.idProviderKey = idProviderKey;
         worker.idProviderFunction = idProviderFunction;
-        worker.contentResolver =  new ContentResolver( contentService );
+        worker.contentResolver =  new ContentResolver( contentService, accessControlEvaluator );
         worker.idProviderControllerService = this.idProviderControllerService;
         final Trace trace = Tracer.newTrace( "portalRequest" );
         if ( trace == null )
@@ -168,6 +171,12 @@ public class IdentityHandler
         this.contentService = contentService;
     }
 
+    @Reference
+    public void setAccessControlEvaluator( final AccessControlEvaluator accessControlEvaluator )
+    {
+        this.accessControlEvaluator = accessControlEvaluator;
+    }
+
     @Reference
     public void setIdProviderControllerService( final IdProviderControllerService idProviderControllerService )
     {
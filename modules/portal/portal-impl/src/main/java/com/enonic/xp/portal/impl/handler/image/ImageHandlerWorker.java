@@ -33,10 +33,6 @@ import static com.google.common.base.Strings.nullToEmpty;
 final class ImageHandlerWorker
     extends AbstractAttachmentHandlerWorker<Media>
 {
-    private static final int DEFAULT_BACKGROUND = 0xFFFFFF;
-
-    private static final int DEFAULT_QUALITY = 85;
-
     private final ImageService imageService;
 
     private final MediaInfoService mediaInfoService;
@@ -95,10 +91,11 @@ final class ImageHandlerWorker
         final ImageOrientation imageOrientation = Objects.requireNonNullElseGet( content.getOrientation(), () -> Objects.requireNonNullElse(
             mediaInfoService.getImageOrientation( binary ), ImageOrientation.TopLeft ) );
 
-        final int imageQuality = nullToEmpty( this.qualityParam ).isEmpty() ? DEFAULT_QUALITY : Integer.parseInt( this.qualityParam );
+        final int imageQuality =
+            nullToEmpty( this.qualityParam ).isEmpty() ? ReadImageParams.DEFAULT_QUALITY : Integer.parseInt( this.qualityParam );
 
         final int backgroundColor = nullToEmpty( this.backgroundParam ).isEmpty()
-            ? DEFAULT_BACKGROUND
+            ? ReadImageParams.DEFAULT_BACKGROUND_COLOR
             : Integer.parseInt( this.backgroundParam.startsWith( "0x" ) ? this.backgroundParam.substring( 2 ) : this.backgroundParam, 16 );
         try
         {
@@ -14,6 +14,7 @@ import com.enonic.xp.portal.impl.ContentResolver;
 import com.enonic.xp.portal.impl.rendering.RendererDelegate;
 import com.enonic.xp.project.ProjectService;
 import com.enonic.xp.resource.ResourceService;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.site.SiteService;
 import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.WebRequest;
@@ -33,13 +34,15 @@ public final class AttachmentServiceMappingHandler
                                             @Reference final ControllerScriptFactory controllerScriptFactory,
                                             @Reference final FilterScriptFactory filterScriptFactory,
                                             @Reference final RendererDelegate rendererDelegate, @Reference final SiteService siteService,
-                                            @Reference final ContentService contentService )
+                                            @Reference final ContentService contentService,
+                                            @Reference final AccessControlEvaluator accessControlEvaluator )
     {
         super( EnumSet.of( HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS ), "attachment" );
 
         this.mappingHandlerHelper =
             new MappingHandlerHelper( projectService, resourceService, controllerScriptFactory, filterScriptFactory, rendererDelegate,
-                                      new ControllerMappingsResolver( siteService ), new ContentResolver( contentService ) );
+                                      new ControllerMappingsResolver( siteService ),
+                                      new ContentResolver( contentService, accessControlEvaluator ) );
     }
 
     @Override
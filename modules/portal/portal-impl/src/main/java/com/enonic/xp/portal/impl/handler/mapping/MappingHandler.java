@@ -11,6 +11,7 @@ import com.enonic.xp.portal.impl.ContentResolver;
 import com.enonic.xp.portal.impl.rendering.RendererDelegate;
 import com.enonic.xp.project.ProjectService;
 import com.enonic.xp.resource.ResourceService;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.site.SiteService;
 import com.enonic.xp.web.WebRequest;
 import com.enonic.xp.web.WebResponse;
@@ -28,11 +29,13 @@ public final class MappingHandler
                            @Reference final ResourceService resourceService,
                            @Reference final ControllerScriptFactory controllerScriptFactory,
                            @Reference final FilterScriptFactory filterScriptFactory, @Reference final RendererDelegate rendererDelegate,
-                           @Reference final ProjectService projectService )
+                           @Reference final ProjectService projectService,
+                           @Reference final AccessControlEvaluator accessControlEvaluator )
     {
         this.mappingHandlerHelper =
             new MappingHandlerHelper( projectService, resourceService, controllerScriptFactory, filterScriptFactory, rendererDelegate,
-                                      new ControllerMappingsResolver( siteService ), new ContentResolver( contentService ) );
+                                      new ControllerMappingsResolver( siteService ),
+                                      new ContentResolver( contentService, accessControlEvaluator ) );
     }
 
     @Override
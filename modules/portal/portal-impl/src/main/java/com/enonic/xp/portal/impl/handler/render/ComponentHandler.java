@@ -16,6 +16,7 @@ import com.enonic.xp.portal.impl.rendering.RendererDelegate;
 import com.enonic.xp.portal.postprocess.PostProcessor;
 import com.enonic.xp.region.ComponentPath;
 import com.enonic.xp.region.LayoutDescriptorService;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.trace.Trace;
 import com.enonic.xp.trace.Tracer;
 import com.enonic.xp.web.WebRequest;
@@ -39,11 +40,14 @@ public final class ComponentHandler
 
     private final LayoutDescriptorService layoutDescriptorService;
 
+    private final AccessControlEvaluator accessControlEvaluator;
+
     @Activate
     public ComponentHandler( @Reference final ContentService contentService, @Reference final RendererDelegate rendererDelegate,
                              @Reference final PageTemplateService pageTemplateService, @Reference final PostProcessor postProcessor,
                              @Reference final PageDescriptorService pageDescriptorService,
-                             @Reference final LayoutDescriptorService layoutDescriptorService )
+                             @Reference final LayoutDescriptorService layoutDescriptorService,
+                             @Reference final AccessControlEvaluator accessControlEvaluator )
     {
         super( "component" );
         this.contentService = contentService;
@@ -52,6 +56,7 @@ public final class ComponentHandler
         this.postProcessor = postProcessor;
         this.pageDescriptorService = pageDescriptorService;
         this.layoutDescriptorService = layoutDescriptorService;
+        this.accessControlEvaluator = accessControlEvaluator;
     }
 
     @Override
@@ -71,7 +76,7 @@ public final class ComponentHandler
         final ComponentHandlerWorker worker = new ComponentHandlerWorker( (PortalRequest) webRequest );
         worker.componentPath = ComponentPath.from( restPath );
         worker.contentService = contentService;
-        worker.contentResolver = new ContentResolver( contentService );
+        worker.contentResolver = new ContentResolver( contentService, accessControlEvaluator );
         worker.rendererDelegate = rendererDelegate;
         worker.pageResolver = new PageResolver( pageTemplateService, pageDescriptorService, layoutDescriptorService );
         worker.postProcessor = postProcessor;
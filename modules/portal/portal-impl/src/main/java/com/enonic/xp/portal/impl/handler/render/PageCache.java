@@ -0,0 +1,333 @@
+package com.enonic.xp.portal.impl.handler.render;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+import com.codahale.metrics.Meter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableListMultimap;
+
+import com.enonic.xp.content.Content;
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.RenderMode;
+import com.enonic.xp.portal.impl.ContentResolverResult;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.site.Site;
+import com.enonic.xp.util.ByteSizeParser;
+import com.enonic.xp.util.Metrics;
+import com.enonic.xp.web.HttpMethod;
+import com.enonic.xp.web.HttpStatus;
+
+/**
+ * In-process cache of fully rendered pages for anonymous traffic.
+ * <p>
+ * Only LIVE mode GET requests without an HTTP session and without an authenticated user are served from the cache.
+ * Entries are keyed by virtual host, path, query parameters, repository and branch, and are only reused while the
+ * requested content is unchanged. Responses that vary by request headers other than {@code Accept-Encoding} are not cached.
+ * Changes to nodes inside a site subtree evict every cached page of that site.
+ * Expired entries are served for an additional stale-while-revalidate period while a single request re-renders the page.
+ */
+@Component(immediate = true, service = {PageCache.class, EventListener.class}, configurationPid = "com.enonic.xp.portal")
+public final class PageCache
+    implements EventListener
+{
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private final Cache<Key, Entry> cache;
+
+    private final Duration ttl;
+
+    private final Duration staleWhileRevalidate;
+
+    private final Meter hits = Metrics.meter( PageCache.class, "hit" );
+
+    private final Meter staleHits = Metrics.meter( PageCache.class, "stale" );
+
+    private final Meter misses = Metrics.meter( PageCache.class, "miss" );
+
+    @Activate
+    public PageCache( final PortalConfig config )
+    {
+        this.ttl = Duration.ofSeconds( Math.max( 0, config.pageCache_ttl() ) );
+        this.staleWhileRevalidate = Duration.ofSeconds( Math.max( 0, config.pageCache_staleWhileRevalidate() ) );
+
+        final long maxWeight = ByteSizeParser.parse( config.pageCache_size() );
+        this.cache = config.pageCache_enabled() && maxWeight > 0 && !ttl.isZero() ? CacheBuilder.newBuilder()
+            .maximumWeight( maxWeight )
+            .weigher( ( Key key, Entry entry ) -> entry.weight )
+            .expireAfterWrite( ttl.plus( staleWhileRevalidate ).toMillis(), TimeUnit.MILLISECONDS )
+            .build() : null;
+    }
+
+    public boolean isCacheable( final PortalRequest portalRequest )
+    {
+        return cache != null && portalRequest.getMode() == RenderMode.LIVE && portalRequest.getMethod() == HttpMethod.GET &&
+            !hasSession( portalRequest ) && !ContextAccessor.current().getAuthInfo().isAuthenticated();
+    }
+
+    /**
+     * @param resolved content of the request, also used by the renderer, so content is resolved once per request
+     */
+    public PortalResponse getOrRender( final PortalRequest portalRequest, final ContentResolverResult resolved,
+                                       final Callable<PortalResponse> renderer )
+        throws Exception
+    {
+        if ( !isCacheable( portalRequest ) )
+        {
+            return renderer.call();
+        }
+
+        final Content content = resolved.getContent();
+        final Site site = resolved.getNearestSite();
+        if ( content == null || site == null )
+        {
+            return renderer.call();
+        }
+
+        final Key key = new Key( portalRequest );
+        final String fingerprint = fingerprint( content );
+        final Instant now = Instant.now();
+
+        final Entry cached = cache.getIfPresent( key );
+        boolean revalidating = false;
+        if ( cached != null && cached.fingerprint.equals( fingerprint ) )
+        {
+            if ( now.isBefore( cached.expires ) )
+            {
+                hits.mark();
+                return serve( portalRequest, site, content, cached );
+            }
+            if ( now.isBefore( cached.staleUntil ) )
+            {
+                revalidating = cached.revalidating.compareAndSet( false, true );
+                if ( !revalidating )
+                {
+                    staleHits.mark();
+                    return serve( portalRequest, site, content, cached );
+                }
+            }
+        }
+
+        misses.mark();
+        try
+        {
+            final PortalResponse response = renderer.call();
+            if ( isCacheable( portalRequest, response ) )
+            {
+                final Instant expires = Instant.now().plus( ttl );
+                cache.put( key, new Entry( response, fingerprint, siteNodePath( site ), expires, expires.plus( staleWhileRevalidate ) ) );
+            }
+            return response;
+        }
+        finally
+        {
+            if ( revalidating )
+            {
+                cached.revalidating.set( false );
+            }
+        }
+    }
+
+    @Override
+    public void onEvent( final Event event )
+    {
+        if ( cache == null )
+        {
+            return;
+        }
+
+        if ( event.isSubType( "node" ) )
+        {
+            invalidateNodes( event );
+        }
+        else if ( event.isSubType( "repository" ) || event.isType( "application" ) )
+        {
+            cache.invalidateAll();
+        }
+    }
+
+    public void invalidateAll()
+    {
+        if ( cache != null )
+        {
+            cache.invalidateAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void invalidateNodes( final Event event )
+    {
+        final Object nodes = event.getData().get( "nodes" );
+        if ( !( nodes instanceof List ) )
+        {
+            return;
+        }
+
+        final Set<String> repoBranches = new HashSet<>();
+        final Set<String> paths = new HashSet<>();
+        for ( Map<String, String> node : (List<Map<String, String>>) nodes )
+        {
+            repoBranches.add( node.get( "repo" ) + ":" + node.get( "branch" ) );
+            addPath( paths, node.get( "path" ) );
+            addPath( paths, node.get( "newPath" ) );
+            addPath( paths, node.get( "currentTargetPath" ) );
+        }
+
+        cache.asMap().entrySet().removeIf( entry -> repoBranches.contains( entry.getKey().repositoryId + ":" + entry.getKey().branch ) &&
+            paths.stream().anyMatch( path -> isInSubtree( path, entry.getValue().siteNodePath ) ) );
+    }
+
+    private static void addPath( final Set<String> paths, final String path )
+    {
+        if ( path != null )
+        {
+            paths.add( path );
+        }
+    }
+
+    private static boolean isInSubtree( final String path, final String siteNodePath )
+    {
+        return path.equals( siteNodePath ) || path.startsWith( siteNodePath + "/" ) || siteNodePath.startsWith( path + "/" );
+    }
+
+    private static PortalResponse serve( final PortalRequest portalRequest, final Site site, final Content content, final Entry entry )
+    {
+        portalRequest.setSite( site );
+        portalRequest.setContent( content );
+        return entry.response;
+    }
+
+    private static boolean hasSession( final PortalRequest portalRequest )
+    {
+        final HttpServletRequest rawRequest = portalRequest.getRawRequest();
+        return rawRequest != null && rawRequest.getSession( false ) != null;
+    }
+
+    private static boolean isCacheable( final PortalRequest portalRequest, final PortalResponse response )
+    {
+        if ( response == null || response.getStatus() != HttpStatus.OK || !( response.getBody() instanceof String ) ||
+            !response.getCookies().isEmpty() || hasSession( portalRequest ) )
+        {
+            return false;
+        }
+
+        final String cacheControl = response.getHeaders().get( "Cache-Control" );
+        if ( cacheControl != null && ( cacheControl.contains( "private" ) || cacheControl.contains( "no-store" ) ) )
+        {
+            return false;
+        }
+
+        // the key has no request headers, so only responses that vary by encoding alone are cached
+        final String vary = response.getHeaders().get( "Vary" );
+        return vary == null || Arrays.stream( vary.split( "," ) ).map( String::trim ).allMatch( "Accept-Encoding"::equalsIgnoreCase );
+    }
+
+    private static String fingerprint( final Content content )
+    {
+        return content.getId() + "@" + content.getModifiedTime();
+    }
+
+    private static String siteNodePath( final Site site )
+    {
+        return ContentConstants.CONTENT_ROOT_PATH + site.getPath().toString();
+    }
+
+    private static final class Entry
+    {
+        final PortalResponse response;
+
+        final String fingerprint;
+
+        final String siteNodePath;
+
+        final Instant expires;
+
+        final Instant staleUntil;
+
+        final int weight;
+
+        final AtomicBoolean revalidating = new AtomicBoolean();
+
+        Entry( final PortalResponse response, final String fingerprint, final String siteNodePath, final Instant expires,
+               final Instant staleUntil )
+        {
+            this.response = response;
+            this.fingerprint = fingerprint;
+            this.siteNodePath = siteNodePath;
+            this.expires = expires;
+            this.staleUntil = staleUntil;
+            this.weight = ENTRY_OVERHEAD + ( (String) response.getBody() ).length() * 2;
+        }
+    }
+
+    private static final class Key
+    {
+        final String scheme;
+
+        final String host;
+
+        final int port;
+
+        final String path;
+
+        final ImmutableListMultimap<String, String> params;
+
+        final String repositoryId;
+
+        final String branch;
+
+        Key( final PortalRequest portalRequest )
+        {
+            this.scheme = portalRequest.getScheme();
+            this.host = portalRequest.getHost();
+            this.port = portalRequest.getPort();
+            this.path = portalRequest.getRawPath();
+            this.params = ImmutableListMultimap.copyOf( portalRequest.getParams() );
+            this.repositoryId = portalRequest.getRepositoryId().toString();
+            this.branch = portalRequest.getBranch().getValue();
+        }
+
+        @Override
+        public boolean equals( final Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() )
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return port == key.port && Objects.equals( scheme, key.scheme ) && Objects.equals( host, key.host ) &&
+                Objects.equals( path, key.path ) && params.equals( key.params ) && repositoryId.equals( key.repositoryId ) &&
+                branch.equals( key.branch );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash( scheme, host, port, path, params, repositoryId, branch );
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.enonic.xp.portal.impl.ContentResolver;
 import com.enonic.xp.portal.impl.rendering.RendererDelegate;
 import com.enonic.xp.portal.url.PortalUrlService;
 import com.enonic.xp.region.LayoutDescriptorService;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.trace.Trace;
 import com.enonic.xp.trace.Tracer;
 import com.enonic.xp.web.WebRequest;
@@ -27,6 +28,8 @@ public final class PageHandler
 {
     private ContentService contentService;
 
+    private AccessControlEvaluator accessControlEvaluator;
+
     private RendererDelegate rendererDelegate;
 
     private PageDescriptorService pageDescriptorService;
@@ -37,6 +40,8 @@ public final class PageHandler
 
     private PortalUrlService portalUrlService;
 
+    private PageCache pageCache;
+
     public PageHandler()
     {
         super( 50 );
@@ -54,12 +59,25 @@ public final class PageHandler
     {
         WebHandlerHelper.checkAdminAccess( webRequest );
 
-        final PageHandlerWorker worker = new PageHandlerWorker( (PortalRequest) webRequest );
-        worker.contentResolver = new ContentResolver( contentService );
+        final PortalRequest portalRequest = (PortalRequest) webRequest;
+        final PageHandlerWorker worker = new PageHandlerWorker( portalRequest );
+        worker.contentResolver = new ContentResolver( contentService, accessControlEvaluator );
         worker.rendererDelegate = rendererDelegate;
         worker.pageDescriptorService = pageDescriptorService;
         worker.pageResolver = new PageResolver( pageTemplateService, pageDescriptorService, layoutDescriptorService );
         worker.portalUrlService = portalUrlService;
+
+        if ( pageCache != null && pageCache.isCacheable( portalRequest ) )
+        {
+            worker.resolvedContent = worker.contentResolver.resolve( portalRequest );
+            return pageCache.getOrRender( portalRequest, worker.resolvedContent, () -> render( worker ) );
+        }
+        return render( worker );
+    }
+
+    private PortalResponse render( final PageHandlerWorker worker )
+        throws Exception
+    {
         final Trace trace = Tracer.newTrace( "renderComponent" );
         if ( trace == null )
         {
@@ -74,6 +92,12 @@ public final class PageHandler
         this.contentService = contentService;
     }
 
+    @Reference
+    public void setAccessControlEvaluator( final AccessControlEvaluator accessControlEvaluator )
+    {
+        this.accessControlEvaluator = accessControlEvaluator;
+    }
+
     @Reference
     public void setRendererDelegate( final RendererDelegate rendererDelegate )
     {
@@ -103,4 +127,10 @@ public final class PageHandler
     {
         this.portalUrlService = portalUrlService;
     }
+
+    @Reference
+    public void setPageCache( final PageCache pageCache )
+    {
+        this.pageCache = pageCache;
+    }
 }
@@ -34,6 +34,8 @@ final class PageHandlerWorker
 
     ContentResolver contentResolver;
 
+    ContentResolverResult resolvedContent;
+
     PageResolver pageResolver;
 
     PageDescriptorService pageDescriptorService;
@@ -47,7 +49,8 @@ final class PageHandlerWorker
     public PortalResponse execute()
         throws Exception
     {
-        final ContentResolverResult resolvedContent = contentResolver.resolve( this.request );
+        final ContentResolverResult resolvedContent =
+            this.resolvedContent != null ? this.resolvedContent : contentResolver.resolve( this.request );
 
         final Content content = resolvedContent.getContentOrElseThrow();
 
@@ -13,6 +13,7 @@ import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.controller.ControllerScriptFactory;
 import com.enonic.xp.portal.handler.EndpointHandler;
 import com.enonic.xp.portal.impl.ContentResolver;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.service.ServiceDescriptorService;
 import com.enonic.xp.web.WebException;
 import com.enonic.xp.web.WebRequest;
@@ -28,6 +29,8 @@ public final class ServiceHandler
 
     private ContentService contentService;
 
+    private AccessControlEvaluator accessControlEvaluator;
+
     private ServiceDescriptorService serviceDescriptorService;
 
     private ControllerScriptFactory controllerScriptFactory;
@@ -55,7 +58,7 @@ public final class ServiceHandler
         final ServiceHandlerWorker worker = new ServiceHandlerWorker( portalRequest );
         worker.applicationKey = ApplicationKey.from( matcher.group( 1 ) );
         worker.name = matcher.group( 2 );
-        worker.contentResolver = new ContentResolver( this.contentService );
+        worker.contentResolver = new ContentResolver( this.contentService, this.accessControlEvaluator );
         worker.serviceDescriptorService = this.serviceDescriptorService;
         worker.controllerScriptFactory = this.controllerScriptFactory;
         return worker.execute();
@@ -67,6 +70,12 @@ public final class ServiceHandler
         this.contentService = contentService;
     }
 
+    @Reference
+    public void setAccessControlEvaluator( final AccessControlEvaluator accessControlEvaluator )
+    {
+        this.accessControlEvaluator = accessControlEvaluator;
+    }
+
     @Reference
     public void setServiceDescriptorService( final ServiceDescriptorService serviceDescriptorService )
     {
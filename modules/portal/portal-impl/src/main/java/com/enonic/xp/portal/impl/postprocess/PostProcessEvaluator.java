@@ -2,8 +2,14 @@ package com.enonic.xp.portal.impl.postprocess;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import com.enonic.xp.context.Context;
+import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalRequestAccessor;
 import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.impl.parser.HtmlBlock;
 import com.enonic.xp.portal.impl.parser.HtmlBlockParser;
@@ -14,11 +20,15 @@ import com.enonic.xp.portal.impl.parser.TagMarker;
 import com.enonic.xp.portal.postprocess.HtmlTag;
 import com.enonic.xp.portal.postprocess.PostProcessInjection;
 import com.enonic.xp.portal.postprocess.PostProcessInstruction;
+import com.enonic.xp.trace.Trace;
+import com.enonic.xp.trace.Tracer;
 
 import static java.util.stream.Collectors.joining;
 
 final class PostProcessEvaluator
 {
+    private static final ThreadLocal<Boolean> IN_PARALLEL_WORKER = ThreadLocal.withInitial( () -> Boolean.FALSE );
+
     PortalRequest portalRequest;
 
     PortalResponse portalResponse;
@@ -27,6 +37,8 @@ final class PostProcessEvaluator
 
     List<PostProcessInjection> injections;
 
+    Executor executor;
+
     public PortalResponse evaluate()
     {
         HtmlBlocks htmlBlocks = new HtmlBlockParser().parse( (String) portalResponse.getBody() );
@@ -70,6 +82,12 @@ final class PostProcessEvaluator
 
     private HtmlBlocks processInstructions( final HtmlBlocks htmlBlocks )
     {
+        // nested post-processing on a worker thread stays sequential, so workers never wait for each other
+        if ( executor != null && !IN_PARALLEL_WORKER.get() && countInstructions( htmlBlocks ) > 1 )
+        {
+            return processInstructionsInParallel( htmlBlocks );
+        }
+
         final HtmlBlocks.Builder processedHtmlBlocks = HtmlBlocks.builder();
 
         for ( HtmlBlock htmlBlock : htmlBlocks )
@@ -92,49 +110,175 @@ final class PostProcessEvaluator
         return processedHtmlBlocks.build();
     }
 
-    private HtmlBlocks executeInstruction( final String content )
+    private HtmlBlocks processInstructionsInParallel( final HtmlBlocks htmlBlocks )
     {
-        for ( final PostProcessInstruction instruction : this.instructions )
+        final List<CompletableFuture<PortalResponse>> evaluations = new ArrayList<>();
+        for ( HtmlBlock htmlBlock : htmlBlocks )
         {
-            final PortalResponse instructionResponse = instruction.evaluate( this.portalRequest, content );
-            if ( instructionResponse == null )
+            if ( isInstruction( htmlBlock ) )
             {
-                continue;
+                evaluations.add( evaluateAsync( ( (Instruction) htmlBlock ).getValue() ) );
             }
+        }
 
-            final boolean hasHeaders = !instructionResponse.getHeaders().isEmpty();
-            final boolean hasCookies = !instructionResponse.getCookies().isEmpty();
-            final boolean hasContributions = instructionResponse.hasContributions();
-            final boolean skipFilters = !instructionResponse.applyFilters();
-            if ( hasContributions || hasHeaders || skipFilters || hasCookies )
+        // results are applied in document order, so headers, cookies and contributions merge exactly as in sequential mode
+        final HtmlBlocks.Builder processedHtmlBlocks = HtmlBlocks.builder();
+        int index = 0;
+        for ( HtmlBlock htmlBlock : htmlBlocks )
+        {
+            if ( isInstruction( htmlBlock ) )
             {
-                final PortalResponse.Builder newPortalResponse = PortalResponse.create( this.portalResponse );
-
-                if ( hasContributions )
-                {
-                    newPortalResponse.contributionsFrom( instructionResponse );
-                }
-                if ( hasHeaders )
-                {
-                    newPortalResponse.headers( instructionResponse.getHeaders() );
-                }
-                if ( hasCookies )
+                final HtmlBlocks processedInstruction = applyInstructionResponse( join( evaluations.get( index++ ) ) );
+                if ( processedInstruction != null )
                 {
-                    newPortalResponse.cookies( instructionResponse.getCookies() );
+                    processedHtmlBlocks.addAll( processedInstruction );
                 }
-                if ( skipFilters )
+            }
+            else
+            {
+                processedHtmlBlocks.add( htmlBlock );
+            }
+        }
+
+        return processedHtmlBlocks.build();
+    }
+
+    private CompletableFuture<PortalResponse> evaluateAsync( final String content )
+    {
+        final Context context = ContextAccessor.current();
+        final PortalRequest request = copyRequest( this.portalRequest );
+        final Trace trace = Tracer.newTrace( "postProcessInstruction" );
+
+        return CompletableFuture.supplyAsync( () -> context.callWith( () -> {
+            IN_PARALLEL_WORKER.set( Boolean.TRUE );
+            PortalRequestAccessor.set( request );
+            try
+            {
+                if ( trace == null )
                 {
-                    newPortalResponse.applyFilters( false );
+                    return evaluateInstruction( request, content );
                 }
+                trace.put( "parallel", true );
+                return Tracer.trace( trace, () -> evaluateInstruction( request, content ) );
+            }
+            finally
+            {
+                PortalRequestAccessor.remove();
+                IN_PARALLEL_WORKER.remove();
+            }
+        } ), executor );
+    }
 
-                this.portalResponse = newPortalResponse.build();
+    private HtmlBlocks executeInstruction( final String content )
+    {
+        return applyInstructionResponse( evaluateInstruction( this.portalRequest, content ) );
+    }
+
+    private PortalResponse evaluateInstruction( final PortalRequest request, final String content )
+    {
+        for ( final PostProcessInstruction instruction : this.instructions )
+        {
+            final PortalResponse instructionResponse = instruction.evaluate( request, content );
+            if ( instructionResponse != null )
+            {
+                return instructionResponse;
             }
-            final String resultBody = instructionResponse.getAsString();
-            return resultBody == null ? null : new HtmlBlockParser().parse( resultBody );
         }
         return null;
     }
 
+    private HtmlBlocks applyInstructionResponse( final PortalResponse instructionResponse )
+    {
+        if ( instructionResponse == null )
+        {
+            return null;
+        }
+
+        final boolean hasHeaders = !instructionResponse.getHeaders().isEmpty();
+        final boolean hasCookies = !instructionResponse.getCookies().isEmpty();
+        final boolean hasContributions = instructionResponse.hasContributions();
+        final boolean skipFilters = !instructionResponse.applyFilters();
+        if ( hasContributions || hasHeaders || skipFilters || hasCookies )
+        {
+            final PortalResponse.Builder newPortalResponse = PortalResponse.create( this.portalResponse );
+
+            if ( hasContributions )
+            {
+                newPortalResponse.contributionsFrom( instructionResponse );
+            }
+            if ( hasHeaders )
+            {
+                newPortalResponse.headers( instructionResponse.getHeaders() );
+            }
+            if ( hasCookies )
+            {
+                newPortalResponse.cookies( instructionResponse.getCookies() );
+            }
+            if ( skipFilters )
+            {
+                newPortalResponse.applyFilters( false );
+            }
+
+            this.portalResponse = newPortalResponse.build();
+        }
+        final String resultBody = instructionResponse.getAsString();
+        return resultBody == null ? null : new HtmlBlockParser().parse( resultBody );
+    }
+
+    private static PortalResponse join( final CompletableFuture<PortalResponse> evaluation )
+    {
+        try
+        {
+            return evaluation.join();
+        }
+        catch ( CompletionException e )
+        {
+            final Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException )
+            {
+                throw (RuntimeException) cause;
+            }
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static PortalRequest copyRequest( final PortalRequest source )
+    {
+        final PortalRequest request = new PortalRequest( source );
+        request.setMode( source.getMode() );
+        request.setRepositoryId( source.getRepositoryId() );
+        request.setBranch( source.getBranch() );
+        request.setContentPath( source.getContentPath() );
+        request.setBaseUri( source.getBaseUri() );
+        request.setContextPath( source.getContextPath() );
+        request.setSite( source.getSite() );
+        request.setContent( source.getContent() );
+        request.setPageTemplate( source.getPageTemplate() );
+        request.setComponent( source.getComponent() );
+        request.setApplicationKey( source.getApplicationKey() );
+        request.setPageDescriptor( source.getPageDescriptor() );
+        request.setControllerScript( source.getControllerScript() );
+        request.setValidTicket( source.isValidTicket() );
+        return request;
+    }
+
+    private int countInstructions( final HtmlBlocks htmlBlocks )
+    {
+        int count = 0;
+        for ( HtmlBlock htmlBlock : htmlBlocks )
+        {
+            if ( isInstruction( htmlBlock ) )
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
     private HtmlBlocks processContributions( final HtmlBlocks htmlBlocks )
     {
         final HtmlBlocks.Builder processedHtmlBlocks = HtmlBlocks.builder();
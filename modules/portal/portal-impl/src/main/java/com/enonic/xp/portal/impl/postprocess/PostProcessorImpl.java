@@ -1,28 +1,38 @@
 package com.enonic.xp.portal.impl.postprocess;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.common.net.MediaType;
 
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
 import com.enonic.xp.portal.PortalRequest;
 import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.impl.PortalConfig;
 import com.enonic.xp.portal.postprocess.PostProcessInjection;
 import com.enonic.xp.portal.postprocess.PostProcessInstruction;
 import com.enonic.xp.portal.postprocess.PostProcessor;
 import com.enonic.xp.web.HttpMethod;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.portal")
 public final class PostProcessorImpl
     implements PostProcessor
 {
+    private static final Logger LOG = LoggerFactory.getLogger( PostProcessorImpl.class );
+
     private static final List<MediaType> HTML_CONTENT_TYPES =
         List.of( MediaType.HTML_UTF_8.withoutParameters(), MediaType.XHTML_UTF_8.withoutParameters() );
 
@@ -32,6 +42,31 @@ public final class PostProcessorImpl
 
     private final List<PostProcessInjection> injections = new CopyOnWriteArrayList<>();
 
+    private volatile SimpleExecutor executor;
+
+    @Activate
+    public void activate( final PortalConfig config )
+    {
+        final int parallelism = config.postprocess_parallelism();
+        if ( parallelism > 1 )
+        {
+            this.executor = new SimpleExecutor( tf -> Executors.newFixedThreadPool( parallelism, tf ), "postprocess-thread-%d",
+                                                e -> LOG.error( "Post-processing failed", e ) );
+        }
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        final SimpleExecutor executor = this.executor;
+        if ( executor != null )
+        {
+            this.executor = null;
+            executor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ), neverCommenced -> {
+            } );
+        }
+    }
+
     @Override
     public PortalResponse processResponse( final PortalRequest portalRequest, final PortalResponse portalResponse )
     {
@@ -84,6 +119,7 @@ public final class PostProcessorImpl
         evaluator.portalResponse = portalResponse;
         evaluator.instructions = this.instructions;
         evaluator.injections = this.injections;
+        evaluator.executor = this.executor;
         return evaluator;
     }
 
@@ -0,0 +1,261 @@
+package com.enonic.xp.portal.impl.rendering;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+import com.codahale.metrics.Meter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableListMultimap;
+
+import com.enonic.xp.app.ApplicationKey;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.RenderMode;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.region.ComponentCacheConfig;
+import com.enonic.xp.region.ComponentDescriptor;
+import com.enonic.xp.region.DescriptorBasedComponent;
+import com.enonic.xp.security.User;
+import com.enonic.xp.util.Metrics;
+import com.enonic.xp.web.HttpMethod;
+import com.enonic.xp.web.HttpStatus;
+
+@Component(immediate = true, service = {ComponentOutputCache.class, EventListener.class}, configurationPid = "com.enonic.xp.portal")
+public final class ComponentOutputCache
+    implements EventListener
+{
+    private static final String APPLICATION_EVENT_TYPE = "application";
+
+    private final Cache<Key, Entry> cache;
+
+    private final Meter hits = Metrics.meter( ComponentOutputCache.class, "hit" );
+
+    private final Meter misses = Metrics.meter( ComponentOutputCache.class, "miss" );
+
+    @Activate
+    public ComponentOutputCache( final PortalConfig config )
+    {
+        final int size = config.componentCache_size();
+        this.cache = size > 0 ? CacheBuilder.newBuilder().maximumSize( size ).build() : null;
+    }
+
+    public PortalResponse getOrRender( final ComponentDescriptor descriptor, final DescriptorBasedComponent component,
+                                       final PortalRequest portalRequest, final Supplier<PortalResponse> renderer )
+    {
+        final ComponentCacheConfig cacheConfig = descriptor.getCacheConfig();
+        if ( cache == null || cacheConfig == null || !isCacheable( cacheConfig, portalRequest ) )
+        {
+            return renderer.get();
+        }
+
+        final Key key = new Key( descriptor, component, portalRequest );
+        final Entry cached = cache.getIfPresent( key );
+        final Instant now = Instant.now();
+        if ( cached != null && cached.expires.isAfter( now ) )
+        {
+            hits.mark();
+            return cached.response;
+        }
+
+        misses.mark();
+        final PortalResponse response = renderer.get();
+        if ( isCacheable( response ) )
+        {
+            cache.put( key, new Entry( response, now.plus( cacheConfig.getTtl() ) ) );
+        }
+        return response;
+    }
+
+    @Override
+    public void onEvent( final Event event )
+    {
+        if ( cache == null )
+        {
+            return;
+        }
+
+        if ( event.isSubType( "node" ) )
+        {
+            invalidateNodes( event );
+        }
+        else if ( event.isSubType( "repository" ) )
+        {
+            cache.invalidateAll();
+        }
+        else if ( event.isType( APPLICATION_EVENT_TYPE ) )
+        {
+            event.getValueAs( String.class, "applicationKey" )
+                .map( ApplicationKey::from )
+                .ifPresent( applicationKey -> invalidateIf( key -> key.applicationKey.equals( applicationKey ) ) );
+        }
+    }
+
+    public void invalidateAll()
+    {
+        if ( cache != null )
+        {
+            cache.invalidateAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void invalidateNodes( final Event event )
+    {
+        final Object nodes = event.getData().get( "nodes" );
+        if ( !( nodes instanceof List ) )
+        {
+            return;
+        }
+
+        final Set<String> repoBranches = new HashSet<>();
+        for ( Map<String, String> node : (List<Map<String, String>>) nodes )
+        {
+            repoBranches.add( node.get( "repo" ) + ":" + node.get( "branch" ) );
+        }
+        invalidateIf( key -> repoBranches.contains( key.repositoryId + ":" + key.branch ) );
+    }
+
+    private void invalidateIf( final Predicate<Key> predicate )
+    {
+        cache.asMap().keySet().removeIf( predicate );
+    }
+
+    private static boolean isCacheable( final ComponentCacheConfig cacheConfig, final PortalRequest portalRequest )
+    {
+        return portalRequest.getMode() == RenderMode.LIVE && portalRequest.getMethod() == HttpMethod.GET &&
+            portalRequest.getContent() != null &&
+            ( cacheConfig.getVaryBy().contains( "user" ) || !ContextAccessor.current().getAuthInfo().isAuthenticated() );
+    }
+
+    private static boolean isCacheable( final PortalResponse response )
+    {
+        if ( response == null || response.getStatus() != HttpStatus.OK || !( response.getBody() instanceof String ) ||
+            !response.getCookies().isEmpty() || response.getHeaders().containsKey( "Set-Cookie" ) )
+        {
+            return false;
+        }
+
+        final String cacheControl = response.getHeaders().get( "Cache-Control" );
+        if ( cacheControl == null )
+        {
+            return true;
+        }
+        final String directives = cacheControl.toLowerCase( Locale.ROOT );
+        return !( directives.contains( "private" ) || directives.contains( "no-store" ) );
+    }
+
+    private static final class Entry
+    {
+        final PortalResponse response;
+
+        final Instant expires;
+
+        Entry( final PortalResponse response, final Instant expires )
+        {
+            this.response = response;
+            this.expires = expires;
+        }
+    }
+
+    private static final class Key
+    {
+        final ApplicationKey applicationKey;
+
+        final Instant descriptorModifiedTime;
+
+        final DescriptorBasedComponent component;
+
+        final String repositoryId;
+
+        final String branch;
+
+        final String contentId;
+
+        final Instant contentModifiedTime;
+
+        final String baseUrl;
+
+        final List<Object> varyBy;
+
+        Key( final ComponentDescriptor descriptor, final DescriptorBasedComponent component, final PortalRequest portalRequest )
+        {
+            this.applicationKey = descriptor.getApplicationKey();
+            this.descriptorModifiedTime = descriptor.getModifiedTime();
+            this.component = component;
+            this.repositoryId = portalRequest.getRepositoryId().toString();
+            this.branch = portalRequest.getBranch().getValue();
+            this.contentId = portalRequest.getContent().getId().toString();
+            this.contentModifiedTime = portalRequest.getContent().getModifiedTime();
+            this.baseUrl = portalRequest.getScheme() + "://" + portalRequest.getHost() + ":" + portalRequest.getPort() +
+                portalRequest.getBaseUri();
+            this.varyBy = varyBy( descriptor.getCacheConfig(), portalRequest );
+        }
+
+        private static List<Object> varyBy( final ComponentCacheConfig cacheConfig, final PortalRequest portalRequest )
+        {
+            final List<Object> values = new ArrayList<>();
+            for ( String varyBy : cacheConfig.getVaryBy() )
+            {
+                if ( "params".equals( varyBy ) )
+                {
+                    values.add( ImmutableListMultimap.copyOf( portalRequest.getParams() ) );
+                }
+                else if ( "user".equals( varyBy ) )
+                {
+                    final User user = ContextAccessor.current().getAuthInfo().getUser();
+                    values.add( user != null ? user.getKey().toString() : null );
+                }
+                else if ( varyBy.startsWith( "header:" ) )
+                {
+                    values.add( portalRequest.getHeaders().get( varyBy.substring( "header:".length() ) ) );
+                }
+                else if ( varyBy.startsWith( "cookie:" ) )
+                {
+                    values.add( portalRequest.getCookies().get( varyBy.substring( "cookie:".length() ) ) );
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public boolean equals( final Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() )
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return applicationKey.equals( key.applicationKey ) && Objects.equals( descriptorModifiedTime, key.descriptorModifiedTime ) &&
+                component.equals( key.component ) && Objects.equals( component.getPath(), key.component.getPath() ) &&
+                repositoryId.equals( key.repositoryId ) && branch.equals( key.branch ) && contentId.equals( key.contentId ) &&
+                Objects.equals( contentModifiedTime, key.contentModifiedTime ) && baseUrl.equals( key.baseUrl ) &&
+                varyBy.equals( key.varyBy );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash( applicationKey, component, component.getPath(), repositoryId, branch, contentId, contentModifiedTime,
+                                 baseUrl, varyBy );
+        }
+    }
+}
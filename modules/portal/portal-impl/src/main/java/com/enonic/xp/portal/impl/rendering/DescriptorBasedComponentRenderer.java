@@ -36,9 +36,13 @@ public abstract class DescriptorBasedComponentRenderer<R extends DescriptorBased
 
     private final ControllerScriptFactory controllerScriptFactory;
 
-    public DescriptorBasedComponentRenderer( final ControllerScriptFactory controllerScriptFactory )
+    private final ComponentOutputCache outputCache;
+
+    public DescriptorBasedComponentRenderer( final ControllerScriptFactory controllerScriptFactory,
+                                             final ComponentOutputCache outputCache )
     {
         this.controllerScriptFactory = controllerScriptFactory;
+        this.outputCache = outputCache;
     }
 
     @Override
@@ -67,6 +71,12 @@ public abstract class DescriptorBasedComponentRenderer<R extends DescriptorBased
             return renderEmptyComponent( component, portalRequest );
         }
 
+        return outputCache.getOrRender( descriptor, component, portalRequest,
+                                        () -> renderDescriptor( component, descriptor, portalRequest ) );
+    }
+
+    private PortalResponse renderDescriptor( final R component, final ComponentDescriptor descriptor, final PortalRequest portalRequest )
+    {
         final ResourceKey script = descriptor.getComponentPath().resolve( descriptor.getComponentPath().getName() + ".js" );
         final ControllerScript controllerScript = this.controllerScriptFactory.fromScript( script );
 
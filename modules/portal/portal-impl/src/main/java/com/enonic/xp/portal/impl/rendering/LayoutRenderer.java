@@ -18,9 +18,10 @@ public final class LayoutRenderer
 
     @Activate
     public LayoutRenderer( @Reference final ControllerScriptFactory controllerScriptFactory,
-                           @Reference final LayoutDescriptorService layoutDescriptorService )
+                           @Reference final LayoutDescriptorService layoutDescriptorService,
+                           @Reference final ComponentOutputCache outputCache )
     {
-        super( controllerScriptFactory );
+        super( controllerScriptFactory, outputCache );
         this.layoutDescriptorService = layoutDescriptorService;
     }
 
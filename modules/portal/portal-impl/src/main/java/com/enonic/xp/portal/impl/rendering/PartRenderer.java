@@ -17,9 +17,10 @@ public final class PartRenderer
     private final PartDescriptorService partDescriptorService;
 
     @Activate
-    public PartRenderer( @Reference final ControllerScriptFactory controllerScriptFactory, @Reference final PartDescriptorService partDescriptorService )
+    public PartRenderer( @Reference final ControllerScriptFactory controllerScriptFactory,
+                         @Reference final PartDescriptorService partDescriptorService, @Reference final ComponentOutputCache outputCache )
     {
-        super( controllerScriptFactory );
+        super( controllerScriptFactory, outputCache );
         this.partDescriptorService = partDescriptorService;
     }
 
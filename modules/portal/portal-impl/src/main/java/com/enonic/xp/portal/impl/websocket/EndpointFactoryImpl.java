@@ -14,10 +14,12 @@ final class EndpointFactoryImpl
 
     WebSocketRegistry registry;
 
+    WebSocketOutbound outbound;
+
     @Override
     public Endpoint newEndpoint()
     {
-        return new WebSocketEntryImpl( this.endpoint, this.registry );
+        return new WebSocketEntryImpl( this.endpoint, this.registry, this.outbound );
     }
 
     @Override
@@ -20,12 +20,15 @@ final class WebSocketContextImpl
 
     WebSocketRegistry registry;
 
+    WebSocketOutbound outbound;
+
     @Override
     public boolean apply( final WebSocketEndpoint endpoint )
         throws IOException
     {
         final EndpointFactoryImpl factory = new EndpointFactoryImpl();
         factory.registry = this.registry;
+        factory.outbound = this.outbound;
         factory.endpoint = endpoint;
 
         return this.webSocketService.acceptWebSocket( this.request, this.response, factory );
@@ -1,5 +1,7 @@
 package com.enonic.xp.portal.impl.websocket;
 
+import java.util.Set;
+
 interface WebSocketEntry
 {
     String getId();
@@ -10,5 +12,5 @@ interface WebSocketEntry
 
     void sendMessage( String message );
 
-    boolean isInGroup( String group );
+    Set<String> getGroups();
 }
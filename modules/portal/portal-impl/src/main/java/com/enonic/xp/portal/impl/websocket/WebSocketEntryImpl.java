@@ -1,5 +1,6 @@
 package com.enonic.xp.portal.impl.websocket;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -9,6 +10,7 @@ import javax.websocket.CloseReason;
 import javax.websocket.Endpoint;
 import javax.websocket.EndpointConfig;
 import javax.websocket.MessageHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
 
 import com.enonic.xp.trace.Trace;
@@ -27,18 +29,25 @@ final class WebSocketEntryImpl
 
     private final WebSocketRegistry registry;
 
+    private final WebSocketOutbound outbound;
+
     private final Set<String> groups = ConcurrentHashMap.newKeySet();
 
+    private final ArrayDeque<String> queue = new ArrayDeque<>();
+
+    private boolean sending;
+
     private Session session;
 
     private final String traceParentId;
 
     private final String traceApp;
 
-    WebSocketEntryImpl( final WebSocketEndpoint endpoint, final WebSocketRegistry registry )
+    WebSocketEntryImpl( final WebSocketEndpoint endpoint, final WebSocketRegistry registry, final WebSocketOutbound outbound )
     {
         this.endpoint = endpoint;
         this.registry = registry;
+        this.outbound = outbound;
 
         final Trace trace = Tracer.current();
         if ( trace != null )
@@ -85,6 +94,7 @@ final class WebSocketEntryImpl
         finally
         {
             this.registry.remove( this );
+            clearQueue();
         }
     }
 
@@ -137,22 +147,110 @@ final class WebSocketEntryImpl
         }
     }
 
+    /**
+     * Sends messages one at a time without blocking the caller. Messages sent while another one is in flight are queued,
+     * and a session with a full queue is handled as a slow consumer.
+     */
     private void doSendMessage( final String message )
+    {
+        final boolean slowConsumer;
+        synchronized ( this.queue )
+        {
+            if ( !this.sending )
+            {
+                this.sending = true;
+                slowConsumer = false;
+            }
+            else if ( this.queue.size() < this.outbound.maxQueued )
+            {
+                this.queue.add( message );
+                this.outbound.queued.incrementAndGet();
+                return;
+            }
+            else
+            {
+                slowConsumer = true;
+            }
+        }
+
+        if ( slowConsumer )
+        {
+            onSlowConsumer();
+        }
+        else
+        {
+            sendAsync( message );
+        }
+    }
+
+    private void sendAsync( final String message )
     {
         try
         {
-            this.session.getBasicRemote().sendText( message );
+            this.session.getAsyncRemote().sendText( message, this::onSent );
         }
         catch ( final Exception e )
         {
-            // Do nothing
+            onSent( new SendResult( e ) );
+        }
+    }
+
+    private void onSent( final SendResult result )
+    {
+        final String next;
+        synchronized ( this.queue )
+        {
+            next = result.isOK() ? this.queue.poll() : null;
+            if ( next == null )
+            {
+                this.sending = false;
+                if ( !result.isOK() )
+                {
+                    // session is broken, remaining messages would fail as well
+                    this.outbound.queued.addAndGet( -this.queue.size() );
+                    this.queue.clear();
+                }
+                return;
+            }
+            this.outbound.queued.decrementAndGet();
+        }
+        sendAsync( next );
+    }
+
+    private void onSlowConsumer()
+    {
+        if ( this.outbound.slowConsumerPolicy == WebSocketOutbound.SlowConsumerPolicy.CLOSE )
+        {
+            clearQueue();
+            this.outbound.closed.mark();
+            try
+            {
+                this.session.close( new CloseReason( CloseReason.CloseCodes.TRY_AGAIN_LATER, "Slow consumer" ) );
+            }
+            catch ( final Exception e )
+            {
+                // Do nothing
+            }
+        }
+        else
+        {
+            this.outbound.dropped.mark();
+        }
+    }
+
+    private void clearQueue()
+    {
+        synchronized ( this.queue )
+        {
+            this.outbound.queued.addAndGet( -this.queue.size() );
+            this.queue.clear();
         }
     }
 
     @Override
-    public boolean isInGroup( final String group )
+    public Set<String> getGroups()
     {
-        return this.groups.contains( group );
+        return this.groups;
     }
 
     private void onEvent( final WebSocketEvent event )
@@ -1,30 +1,86 @@
 package com.enonic.xp.portal.impl.websocket;
 
+import java.util.Locale;
+
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
 
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
+import com.enonic.xp.event.EventPublisher;
+import com.enonic.xp.portal.impl.PortalConfig;
 import com.enonic.xp.portal.websocket.WebSocketManager;
+import com.enonic.xp.util.Metrics;
 import com.enonic.xp.web.websocket.WebSocketContext;
 import com.enonic.xp.web.websocket.WebSocketContextFactory;
 import com.enonic.xp.web.websocket.WebSocketService;
 
-@Component(service = {WebSocketManager.class, WebSocketContextFactory.class})
+@Component(service = {WebSocketManager.class, WebSocketContextFactory.class,
+    EventListener.class}, configurationPid = "com.enonic.xp.portal")
 public final class WebSocketManagerImpl
-    implements WebSocketContextFactory, WebSocketManager
+    implements WebSocketContextFactory, WebSocketManager, EventListener
 {
+    private static final Logger LOG = LoggerFactory.getLogger( WebSocketManagerImpl.class );
+
+    private static final String GROUP_MESSAGE_EVENT = "websocket.groupMessage";
+
     private final WebSocketRegistryImpl registry;
 
     private final WebSocketService webSocketService;
 
+    private final EventPublisher eventPublisher;
+
+    private final WebSocketOutbound outbound;
+
+    private volatile boolean clusterBroadcast;
+
     @Activate
-    public WebSocketManagerImpl( @Reference final WebSocketService webSocketService )
+    public WebSocketManagerImpl( @Reference final WebSocketService webSocketService, @Reference final EventPublisher eventPublisher )
     {
         this.webSocketService = webSocketService;
+        this.eventPublisher = eventPublisher;
         this.registry = new WebSocketRegistryImpl();
+
+        Metrics.removeAll( WebSocketManagerImpl.class );
+        this.outbound = new WebSocketOutbound();
+        Metrics.register( WebSocketManagerImpl.class, "queued", (Gauge<Long>) this.outbound.queued::get );
+    }
+
+    @Activate
+    @Modified
+    public void activate( final PortalConfig config )
+    {
+        this.clusterBroadcast = config.websocket_clusterBroadcast();
+        this.outbound.configure( config.websocket_maxQueuedMessages(), slowConsumerPolicy( config.websocket_slowConsumer() ) );
+    }
+
+    private static WebSocketOutbound.SlowConsumerPolicy slowConsumerPolicy( final String value )
+    {
+        try
+        {
+            return WebSocketOutbound.SlowConsumerPolicy.valueOf( value.trim().toUpperCase( Locale.ROOT ) );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            LOG.warn( "Invalid websocket.slowConsumer value [{}], using [{}]", value, WebSocketOutbound.SlowConsumerPolicy.DROP );
+            return WebSocketOutbound.SlowConsumerPolicy.DROP;
+        }
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        Metrics.removeAll( WebSocketManagerImpl.class );
     }
 
     @Override
@@ -40,6 +96,7 @@ public final class WebSocketManagerImpl
         context.request = req;
         context.response = res;
         context.registry = this.registry;
+        context.outbound = this.outbound;
         return context;
     }
 
@@ -56,13 +113,19 @@ public final class WebSocketManagerImpl
     @Override
     public void sendToGroup( final String group, final String message )
     {
-        this.registry.getByGroup( group ).forEach( e -> e.sendMessage( message ) );
+        sendToLocalGroup( group, message );
+
+        if ( this.clusterBroadcast )
+        {
+            this.eventPublisher.publish(
+                Event.create( GROUP_MESSAGE_EVENT ).distributed( true ).value( "group", group ).value( "message", message ).build() );
+        }
     }
 
     @Override
     public long getGroupSize( final String group )
     {
-        return this.registry.getByGroup( group ).count();
+        return this.registry.getGroupSize( group );
     }
 
     @Override
@@ -71,7 +134,7 @@ public final class WebSocketManagerImpl
         final WebSocketEntry entry = this.registry.getById( id );
         if ( entry != null )
         {
-            entry.addGroup( group );
+            this.registry.addToGroup( group, entry );
         }
     }
 
@@ -81,7 +144,28 @@ public final class WebSocketManagerImpl
         final WebSocketEntry entry = this.registry.getById( id );
         if ( entry != null )
         {
-            entry.removeGroup( group );
+            this.registry.removeFromGroup( group, entry );
         }
     }
+
+    @Override
+    public void onEvent( final Event event )
+    {
+        if ( event.isLocalOrigin() || !event.isType( GROUP_MESSAGE_EVENT ) )
+        {
+            return;
+        }
+
+        final String group = event.getValueAs( String.class, "group" ).orElse( null );
+        final String message = event.getValueAs( String.class, "message" ).orElse( null );
+        if ( group != null && message != null )
+        {
+            sendToLocalGroup( group, message );
+        }
+    }
+
+    private void sendToLocalGroup( final String group, final String message )
+    {
+        this.registry.getByGroup( group ).forEach( e -> e.sendMessage( message ) );
+    }
 }
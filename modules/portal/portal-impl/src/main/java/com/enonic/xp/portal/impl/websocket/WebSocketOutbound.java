@@ -0,0 +1,35 @@
+package com.enonic.xp.portal.impl.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.codahale.metrics.Meter;
+
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Limits and counters shared by the outbound message queues of all sessions.
+ * Limits are updated in place on configuration changes, so open sessions keep their queues.
+ */
+final class WebSocketOutbound
+{
+    enum SlowConsumerPolicy
+    {
+        DROP, CLOSE
+    }
+
+    volatile int maxQueued;
+
+    volatile SlowConsumerPolicy slowConsumerPolicy;
+
+    final AtomicLong queued = new AtomicLong();
+
+    final Meter dropped = Metrics.meter( WebSocketManagerImpl.class, "dropped" );
+
+    final Meter closed = Metrics.meter( WebSocketManagerImpl.class, "slowConsumerClosed" );
+
+    void configure( final int maxQueued, final SlowConsumerPolicy slowConsumerPolicy )
+    {
+        this.maxQueued = maxQueued;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+    }
+}
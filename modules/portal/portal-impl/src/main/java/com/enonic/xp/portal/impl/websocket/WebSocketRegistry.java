@@ -11,4 +11,10 @@ interface WebSocketRegistry
     WebSocketEntry getById( String id );
 
     Stream<WebSocketEntry> getByGroup( String group );
+
+    long getGroupSize( String group );
+
+    void addToGroup( String group, WebSocketEntry entry );
+
+    void removeFromGroup( String group, WebSocketEntry entry );
 }
@@ -1,5 +1,6 @@
 package com.enonic.xp.portal.impl.websocket;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
@@ -9,6 +10,8 @@ final class WebSocketRegistryImpl
 {
     private final ConcurrentMap<String, WebSocketEntry> map = new ConcurrentHashMap<>();
 
+    private final ConcurrentMap<String, Set<WebSocketEntry>> groups = new ConcurrentHashMap<>();
+
     @Override
     public void add( final WebSocketEntry entry )
     {
@@ -18,7 +21,8 @@ final class WebSocketRegistryImpl
     @Override
     public void remove( final WebSocketEntry entry )
     {
-        this.map.remove( entry.getId() );
+        this.map.remove( entry.getId(), entry );
+        entry.getGroups().forEach( group -> removeGroupMember( group, entry ) );
     }
 
     @Override
@@ -30,6 +34,46 @@ final class WebSocketRegistryImpl
     @Override
     public Stream<WebSocketEntry> getByGroup( final String group )
     {
-        return this.map.values().stream().filter( e -> e.isInGroup( group ) );
+        final Set<WebSocketEntry> members = this.groups.get( group );
+        return members == null ? Stream.empty() : members.stream();
+    }
+
+    @Override
+    public long getGroupSize( final String group )
+    {
+        final Set<WebSocketEntry> members = this.groups.get( group );
+        return members == null ? 0 : members.size();
+    }
+
+    @Override
+    public void addToGroup( final String group, final WebSocketEntry entry )
+    {
+        entry.addGroup( group );
+        this.groups.compute( group, ( key, members ) -> {
+            final Set<WebSocketEntry> set = members == null ? ConcurrentHashMap.newKeySet() : members;
+            set.add( entry );
+            return set;
+        } );
+
+        // entry was removed concurrently and would otherwise stay in the group forever
+        if ( this.map.get( entry.getId() ) != entry )
+        {
+            removeFromGroup( group, entry );
+        }
+    }
+
+    @Override
+    public void removeFromGroup( final String group, final WebSocketEntry entry )
+    {
+        entry.removeGroup( group );
+        removeGroupMember( group, entry );
+    }
+
+    private void removeGroupMember( final String group, final WebSocketEntry entry )
+    {
+        this.groups.computeIfPresent( group, ( key, members ) -> {
+            members.remove( entry );
+            return members.isEmpty() ? null : members;
+        } );
     }
 }
@@ -20,6 +20,7 @@ import com.enonic.xp.schema.content.ContentTypeName;
 import com.enonic.xp.security.PrincipalKey;
 import com.enonic.xp.security.RoleKeys;
 import com.enonic.xp.security.acl.AccessControlEntry;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.security.acl.AccessControlList;
 import com.enonic.xp.security.acl.Permission;
 import com.enonic.xp.site.Site;
@@ -41,6 +42,9 @@ class ContentResolverTest
     @Mock
     ContentService contentService;
 
+    final AccessControlEvaluator accessControlEvaluator =
+        ( authInfo, acl, permission ) -> acl.isAllowedFor( authInfo.getPrincipals(), permission );
+
     @Test
     void resolve_in_edit_mode()
     {
@@ -54,7 +58,7 @@ class ContentResolverTest
         when( this.contentService.getById( ContentId.from( "c8da0c10-0002-4b68-b407-87412f3e45c8" ) ) ).thenReturn( content );
         when( this.contentService.getNearestSite( ContentId.from( "c8da0c10-0002-4b68-b407-87412f3e45c8" ) ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( content, result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -72,7 +76,7 @@ class ContentResolverTest
 
         when( this.contentService.getById( site.getId() ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( site, result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -93,7 +97,7 @@ class ContentResolverTest
         when( this.contentService.getByPath( contentPath ) ).thenThrow(
             ContentNotFoundException.class );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertNull( result.getContent() );
         assertNull( result.getNearestSite() );
@@ -116,7 +120,7 @@ class ContentResolverTest
 
         when( this.contentService.getNearestSite( ContentId.from( "c8da0c10-0002-4b68-b407-87412f3e45c8" ) ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( content, result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -134,7 +138,7 @@ class ContentResolverTest
 
         when( this.contentService.getById( ContentId.from( "root0c10-0002-4b68-b407-87412f3e45c8" ) ) ).thenReturn( rootContent );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertNull( result.getContent() );
         assertNull( result.getNearestSite() );
@@ -153,7 +157,7 @@ class ContentResolverTest
         when( this.contentService.getById( ContentId.from( "site0c10-0002-4b68-b407-87412f3e45c9" ) ) ).thenReturn( content );
         when( this.contentService.getNearestSite( any() ) ).thenReturn( null );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( content, result.getContent() );
         assertNull( result.getNearestSite() );
@@ -172,7 +176,7 @@ class ContentResolverTest
         when( this.contentService.getByPath( ContentPath.from( "/mysite/landing-page" ) ) ).thenReturn( content );
         when( this.contentService.findNearestSiteByPath( ContentPath.from( "/mysite/landing-page" ) ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( content, result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -195,7 +199,7 @@ class ContentResolverTest
         when( this.contentService.getByPath( ContentPath.from( "/mysite/landing-page" ) ) ).thenReturn( content );
         when( this.contentService.getNearestSite( content.getId() ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( content, result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -213,7 +217,7 @@ class ContentResolverTest
         when( this.contentService.getByPath( ContentPath.from( "/mysite" ) ) ).thenReturn( site );
         when( this.contentService.findNearestSiteByPath( ContentPath.from( "/mysite" ) ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( site, result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -232,7 +236,7 @@ class ContentResolverTest
         when( this.contentService.getByPath( contentPath ) ).thenThrow( ContentNotFoundException.class );
         when( this.contentService.findNearestSiteByPath( contentPath ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertNull( result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -254,7 +258,7 @@ class ContentResolverTest
         when( this.contentService.getByPath( contentPath ) ).thenReturn( content );
         when( this.contentService.findNearestSiteByPath( contentPath ) ).thenReturn( site );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertNull( result.getContent() );
         assertSame( site, result.getNearestSite() );
@@ -274,7 +278,7 @@ class ContentResolverTest
         when( this.contentService.getByPath( ContentPath.from( "/mysite/landing-page" ) ) ).thenReturn( content );
         when( this.contentService.findNearestSiteByPath( ContentPath.from( "/mysite/landing-page" ) ) ).thenReturn( null );
 
-        final ContentResolverResult result = new ContentResolver( contentService ).resolve( request );
+        final ContentResolverResult result = new ContentResolver( contentService, accessControlEvaluator ).resolve( request );
 
         assertSame( content, result.getContent() );
         assertNull( result.getNearestSite() );
@@ -1,13 +1,17 @@
 package com.enonic.xp.portal.impl.handler.asset;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 
+import com.google.common.io.ByteSource;
 import com.google.common.net.MediaType;
 
 import com.enonic.xp.app.ApplicationKey;
@@ -25,6 +29,7 @@ import com.enonic.xp.web.WebException;
 import com.enonic.xp.web.WebResponse;
 import com.enonic.xp.web.handler.BaseHandlerTest;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -236,4 +241,40 @@ public class AssetHandlerTest
         assertEquals( HttpStatus.OK, res.getStatus() );
         assertNull( res.getHeaders().get( "Cache-Control" ) );
     }
+
+    @Test
+    public void testGzipVariant()
+        throws Exception
+    {
+        final ResourceKey resourceKey = ResourceKey.from( "demo:/assets/css/main.css" );
+        final byte[] css = "body { color: red; }\n".repeat( 100 ).getBytes( StandardCharsets.UTF_8 );
+        this.resources.put( resourceKey, new MockResource( resourceKey, css, 1 ) );
+        this.request.getHeaders().put( "Accept-Encoding", "gzip, deflate" );
+
+        final WebResponse res = this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.OK, res.getStatus() );
+        assertEquals( "gzip", res.getHeaders().get( "Content-Encoding" ) );
+        assertEquals( "Accept-Encoding", res.getHeaders().get( "Vary" ) );
+        assertEquals( "\"1-834-gzip\"", res.getHeaders().get( "ETag" ) );
+
+        final byte[] body = ( (ByteSource) res.getBody() ).read();
+        try (GZIPInputStream gzip = new GZIPInputStream( new ByteArrayInputStream( body ) ))
+        {
+            assertArrayEquals( css, gzip.readAllBytes() );
+        }
+    }
+
+    @Test
+    public void testNotModified()
+        throws Exception
+    {
+        final ResourceKey resourceKey = ResourceKey.from( "demo:/assets/css/main.css" );
+        this.resources.put( resourceKey, new MockResource( resourceKey, "body {}".getBytes( StandardCharsets.UTF_8 ), 1 ) );
+        this.request.getHeaders().put( "If-None-Match", "\"1-7\"" );
+
+        final WebResponse res = this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.NOT_MODIFIED, res.getStatus() );
+        assertNull( res.getHeaders().get( "Content-Encoding" ) );
+        assertNull( res.getBody() );
+    }
 }
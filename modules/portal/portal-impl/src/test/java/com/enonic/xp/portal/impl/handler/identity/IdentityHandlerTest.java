@@ -14,6 +14,7 @@ import com.enonic.xp.portal.idprovider.IdProviderControllerExecutionParams;
 import com.enonic.xp.portal.idprovider.IdProviderControllerService;
 import com.enonic.xp.security.IdProviderKey;
 import com.enonic.xp.security.IdProviderKeys;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.HttpStatus;
 import com.enonic.xp.web.WebException;
@@ -56,6 +57,7 @@ public class IdentityHandlerTest
 
         this.handler = new IdentityHandler();
         this.handler.setContentService( contentService );
+        this.handler.setAccessControlEvaluator( ( authInfo, acl, permission ) -> acl.isAllowedFor( authInfo.getPrincipals(), permission ) );
         this.handler.setIdProviderControllerService( idProviderControllerService );
 
         this.request.setMethod( HttpMethod.GET );
@@ -22,6 +22,7 @@ import com.enonic.xp.project.ProjectService;
 import com.enonic.xp.resource.Resource;
 import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.resource.ResourceService;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.site.Site;
 import com.enonic.xp.site.SiteConfig;
 import com.enonic.xp.site.SiteConfigs;
@@ -84,8 +85,10 @@ class ComponentServiceMappingHandlerTest
         when( filterScriptFactory.fromScript( Mockito.any() ) ).thenReturn( filterScript );
         when( filterScript.execute( Mockito.any(), Mockito.any(), Mockito.any() ) ).thenReturn( portalResponse );
 
+        final AccessControlEvaluator accessControlEvaluator =
+            ( authInfo, acl, permission ) -> acl.isAllowedFor( authInfo.getPrincipals(), permission );
         this.handler = new ComponentServiceMappingHandler( projectService, resourceService, controllerScriptFactory, filterScriptFactory,
-                                                           rendererDelegate, siteService, contentService );
+                                                           rendererDelegate, siteService, contentService, accessControlEvaluator );
 
         this.request.setMethod( HttpMethod.GET );
         this.request.setBranch( ContentConstants.BRANCH_MASTER );
@@ -109,7 +109,8 @@ public class MappingHandlerTest
         this.projectService = mock( ProjectService.class );
 
         this.handler = new MappingHandler( siteService, contentService, resourceService, controllerScriptFactory, filterScriptFactory,
-                                           rendererDelegate, projectService );
+                                           rendererDelegate, projectService,
+                                           ( authInfo, acl, permission ) -> acl.isAllowedFor( authInfo.getPrincipals(), permission ) );
         this.request.setMethod( HttpMethod.GET );
     }
 
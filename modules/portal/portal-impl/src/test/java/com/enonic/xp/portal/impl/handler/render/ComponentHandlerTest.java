@@ -49,7 +49,8 @@ public class ComponentHandlerTest
         throws Exception
     {
         this.handler = new ComponentHandler( this.contentService, this.rendererDelegate, this.pageTemplateService, this.postProcessor,
-                                             this.pageDescriptorService, this.layoutDescriptorService );
+                                             this.pageDescriptorService, this.layoutDescriptorService,
+                                             ( authInfo, acl, permission ) -> acl.isAllowedFor( authInfo.getPrincipals(), permission ) );
 
         this.request.setMethod( HttpMethod.GET );
         this.request.setContentPath( ContentPath.from( "/site/somepath/content" ) );
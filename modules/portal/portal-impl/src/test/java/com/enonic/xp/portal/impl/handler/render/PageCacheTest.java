@@ -0,0 +1,209 @@
+package com.enonic.xp.portal.impl.handler.render;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.net.MediaType;
+
+import com.enonic.xp.branch.Branch;
+import com.enonic.xp.content.Content;
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.RenderMode;
+import com.enonic.xp.portal.impl.ContentResolverResult;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.schema.content.ContentTypeName;
+import com.enonic.xp.site.Site;
+import com.enonic.xp.web.HttpMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PageCacheTest
+{
+    private PageCache cache;
+
+    private PortalRequest portalRequest;
+
+    private ContentResolverResult resolverResult;
+
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp()
+    {
+        final PortalConfig config = mock( PortalConfig.class );
+        when( config.pageCache_enabled() ).thenReturn( true );
+        when( config.pageCache_size() ).thenReturn( "1mb" );
+        when( config.pageCache_ttl() ).thenReturn( 60L );
+        when( config.pageCache_staleWhileRevalidate() ).thenReturn( 30L );
+        cache = new PageCache( config );
+
+        portalRequest = new PortalRequest();
+        portalRequest.setMethod( HttpMethod.GET );
+        portalRequest.setMode( RenderMode.LIVE );
+        portalRequest.setScheme( "http" );
+        portalRequest.setHost( "localhost" );
+        portalRequest.setPort( 8080 );
+        portalRequest.setRawPath( "/site/myproject/master/mysite/page" );
+        portalRequest.setRepositoryId( RepositoryId.from( "com.enonic.cms.myproject" ) );
+        portalRequest.setBranch( Branch.from( "master" ) );
+
+        resolverResult = mock( ContentResolverResult.class );
+        when( resolverResult.getNearestSite() ).thenReturn( Site.create()
+                                                                 .id( ContentId.from( "site" ) )
+                                                                 .path( ContentPath.from( "/mysite" ) )
+                                                                 .type( ContentTypeName.site() )
+                                                                 .data( new PropertyTree() )
+                                                                 .build() );
+        setContent( Instant.ofEpochSecond( 0 ) );
+
+        renders = new AtomicInteger();
+    }
+
+    @Test
+    void cached()
+        throws Exception
+    {
+        assertEquals( "1", render() );
+        assertEquals( "1", render() );
+        assertEquals( 1, renders.get() );
+    }
+
+    @Test
+    void disabled()
+        throws Exception
+    {
+        final PortalConfig config = mock( PortalConfig.class );
+        when( config.pageCache_size() ).thenReturn( "1mb" );
+        when( config.pageCache_ttl() ).thenReturn( 60L );
+        cache = new PageCache( config );
+
+        assertFalse( cache.isCacheable( portalRequest ) );
+        render();
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void notCachedWithSession()
+        throws Exception
+    {
+        final HttpServletRequest rawRequest = mock( HttpServletRequest.class );
+        when( rawRequest.getSession( anyBoolean() ) ).thenReturn( mock( HttpSession.class ) );
+        portalRequest.setRawRequest( rawRequest );
+
+        assertFalse( cache.isCacheable( portalRequest ) );
+        render();
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void varyByParams()
+        throws Exception
+    {
+        assertEquals( "1", render() );
+        portalRequest.getParams().put( "page", "2" );
+        assertEquals( "2", render() );
+        assertEquals( "2", render() );
+    }
+
+    @Test
+    void notCachedWhenVaryingByRequestHeader()
+        throws Exception
+    {
+        final Callable<PortalResponse> renderer = () -> PortalResponse.create()
+            .body( String.valueOf( renders.incrementAndGet() ) )
+            .header( "Vary", "Accept-Encoding, Accept-Language" )
+            .build();
+
+        cache.getOrRender( portalRequest, resolverResult, renderer );
+        cache.getOrRender( portalRequest, resolverResult, renderer );
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void cachedWhenVaryingByEncoding()
+        throws Exception
+    {
+        final Callable<PortalResponse> renderer = () -> PortalResponse.create()
+            .body( String.valueOf( renders.incrementAndGet() ) )
+            .header( "Vary", "Accept-Encoding" )
+            .build();
+
+        cache.getOrRender( portalRequest, resolverResult, renderer );
+        cache.getOrRender( portalRequest, resolverResult, renderer );
+        assertEquals( 1, renders.get() );
+    }
+
+    @Test
+    void contentVersionChanged()
+        throws Exception
+    {
+        assertEquals( "1", render() );
+        setContent( Instant.ofEpochSecond( 1 ) );
+        assertEquals( "2", render() );
+    }
+
+    @Test
+    void invalidatedBySiteSubtreeEvent()
+        throws Exception
+    {
+        render();
+
+        cache.onEvent( nodeEvent( "node.pushed", "/content/othersite/page", "master" ) );
+        cache.onEvent( nodeEvent( "node.pushed", "/content/mysite/page", "draft" ) );
+        render();
+        assertEquals( 1, renders.get() );
+
+        cache.onEvent( nodeEvent( "node.deleted", "/content/mysite/other", "master" ) );
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    private void setContent( final Instant modifiedTime )
+    {
+        when( resolverResult.getContent() ).thenReturn( Content.create()
+                                                            .id( ContentId.from( "c1" ) )
+                                                            .name( "page" )
+                                                            .parentPath( ContentPath.from( "/mysite" ) )
+                                                            .type( ContentTypeName.folder() )
+                                                            .modifiedTime( modifiedTime )
+                                                            .data( new PropertyTree() )
+                                                            .build() );
+    }
+
+    private static Event nodeEvent( final String type, final String path, final String branch )
+    {
+        return Event.create( type )
+            .value( "nodes", List.of( Map.of( "id", "n1", "path", path, "repo", "com.enonic.cms.myproject", "branch", branch ) ) )
+            .build();
+    }
+
+    private String render()
+        throws Exception
+    {
+        return cache.getOrRender( portalRequest, resolverResult, () -> PortalResponse.create()
+            .contentType( MediaType.HTML_UTF_8 )
+            .body( String.valueOf( renders.incrementAndGet() ) )
+            .build() ).getAsString();
+    }
+}
@@ -23,6 +23,7 @@ import com.enonic.xp.security.PrincipalKey;
 import com.enonic.xp.security.RoleKeys;
 import com.enonic.xp.security.User;
 import com.enonic.xp.security.acl.AccessControlEntry;
+import com.enonic.xp.security.acl.AccessControlEvaluator;
 import com.enonic.xp.security.acl.AccessControlList;
 import com.enonic.xp.security.acl.Permission;
 import com.enonic.xp.security.auth.AuthenticationInfo;
@@ -51,6 +52,7 @@ public class PageHandlerTest
     {
         this.handler = new PageHandler();
         this.handler.setContentService( this.contentService );
+        this.handler.setAccessControlEvaluator( ( authInfo, acl, permission ) -> acl.isAllowedFor( authInfo.getPrincipals(), permission ) );
         this.handler.setPageDescriptorService( this.pageDescriptorService );
         this.handler.setLayoutDescriptorService( this.layoutDescriptorService );
         this.handler.setPageTemplateService( this.pageTemplateService );
@@ -95,6 +95,7 @@ public class ServiceHandlerTest
         this.handler = new ServiceHandler();
         this.handler.setControllerScriptFactory( controllerScriptFactory );
         this.handler.setContentService( this.contentService );
+        this.handler.setAccessControlEvaluator( ( authInfo, acl, permission ) -> acl.isAllowedFor( authInfo.getPrincipals(), permission ) );
         this.handler.setServiceDescriptorService( this.serviceDescriptorService );
 
         this.request.setMethod( HttpMethod.GET );
@@ -7,12 +7,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import javax.servlet.http.Cookie;
 
 import org.junit.jupiter.api.Test;
 
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalRequestAccessor;
 import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.postprocess.HtmlTag;
 import com.enonic.xp.portal.postprocess.PostProcessInjection;
@@ -20,6 +24,8 @@ import com.enonic.xp.portal.postprocess.PostProcessInstruction;
 
 import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class PostProcessEvaluatorTest
 {
@@ -294,6 +300,117 @@ public class PostProcessEvaluatorTest
         assertEquals( "<script src='my-script.js'/>", result.getContributions( HtmlTag.BODY_END ).get( 0 ) );
     }
 
+    @Test
+    public void testEvaluateInstructionsInParallel()
+        throws Exception
+    {
+        final PostProcessInstruction uppercaseInstruction = ( portalRequest, instruction ) -> {
+            if ( instruction.startsWith( "UPPERCASE " ) )
+            {
+                assertSame( portalRequest, PortalRequestAccessor.get() );
+                return PortalResponse.create().
+                    body( instruction.substring( "UPPERCASE ".length() ).toUpperCase() ).
+                    build();
+            }
+            return null;
+        };
+        final PostProcessInstruction expandInstruction = ( portalRequest, instruction ) -> {
+            if ( instruction.startsWith( "EXPAND " ) )
+            {
+                return PortalResponse.create().
+                    body( "<!--#UPPERCASE " + instruction.substring( "EXPAND ".length() ) + "-->" ).
+                    build();
+            }
+            return null;
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            final PostProcessEvaluator evaluator = new PostProcessEvaluator();
+            evaluator.portalRequest = new PortalRequest();
+            evaluator.injections = Collections.emptyList();
+            evaluator.instructions = List.of( uppercaseInstruction, expandInstruction );
+            evaluator.executor = executor;
+            evaluator.portalResponse = PortalResponse.create().body( readResource( "postProcessEvalSource3.html" ) ).build();
+            final PortalResponse result = evaluator.evaluate();
+            assertEqualsTrimmed( readResource( "postProcessEvalResult3.html" ), result.getAsString() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEvaluateInstructionsInParallelMergesInDocumentOrder()
+        throws Exception
+    {
+        final PostProcessInstruction headerInstruction = ( portalRequest, instruction ) -> {
+            final String value = instruction.substring( "HEADER ".length() ).trim();
+            try
+            {
+                // the first instruction completes last
+                Thread.sleep( "first".equals( value ) ? 200 : 0 );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+            return PortalResponse.create()
+                .header( "header-name", value )
+                .contribution( HtmlTag.BODY_END, value )
+                .body( value )
+                .build();
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            final PostProcessEvaluator evaluator = new PostProcessEvaluator();
+            evaluator.portalRequest = new PortalRequest();
+            evaluator.injections = Collections.emptyList();
+            evaluator.instructions = List.of( headerInstruction );
+            evaluator.executor = executor;
+            evaluator.portalResponse = PortalResponse.create().body( "<p><!--#HEADER first--></p><p><!--#HEADER second--></p>" ).build();
+            final PortalResponse result = evaluator.evaluate();
+
+            assertEquals( "<p>first</p><p>second</p>", result.getAsString() );
+            assertEquals( "second", result.getHeaders().get( "header-name" ) );
+            assertEquals( List.of( "first", "second" ), result.getContributions( HtmlTag.BODY_END ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEvaluateInstructionsInParallelPropagatesException()
+    {
+        final PostProcessInstruction failingInstruction = ( portalRequest, instruction ) -> {
+            throw new IllegalStateException( instruction.trim() );
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            final PostProcessEvaluator evaluator = new PostProcessEvaluator();
+            evaluator.portalRequest = new PortalRequest();
+            evaluator.injections = Collections.emptyList();
+            evaluator.instructions = List.of( failingInstruction );
+            evaluator.executor = executor;
+            evaluator.portalResponse = PortalResponse.create().body( "<!--#FAIL first--><!--#FAIL second-->" ).build();
+
+            final IllegalStateException e = assertThrows( IllegalStateException.class, evaluator::evaluate );
+            assertEquals( "FAIL first", e.getMessage() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
     private void assertEqualsTrimmed( final String expected, final String actual )
     {
         assertEquals( trimLines( expected ), trimLines( actual ) );
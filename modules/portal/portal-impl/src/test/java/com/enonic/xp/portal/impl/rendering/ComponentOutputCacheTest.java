@@ -0,0 +1,238 @@
+package com.enonic.xp.portal.impl.rendering;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.net.MediaType;
+
+import com.enonic.xp.app.ApplicationKey;
+import com.enonic.xp.branch.Branch;
+import com.enonic.xp.content.Content;
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.context.Context;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.context.ContextBuilder;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.form.Form;
+import com.enonic.xp.page.DescriptorKey;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.RenderMode;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.region.ComponentCacheConfig;
+import com.enonic.xp.region.PartComponent;
+import com.enonic.xp.region.PartDescriptor;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.schema.content.ContentTypeName;
+import com.enonic.xp.security.IdProviderKey;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.RoleKeys;
+import com.enonic.xp.security.User;
+import com.enonic.xp.security.auth.AuthenticationInfo;
+import com.enonic.xp.web.HttpMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ComponentOutputCacheTest
+{
+    private ComponentOutputCache cache;
+
+    private PortalRequest portalRequest;
+
+    private PartComponent component;
+
+    private PartDescriptor descriptor;
+
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp()
+    {
+        final PortalConfig config = mock( PortalConfig.class );
+        when( config.componentCache_size() ).thenReturn( 100 );
+        cache = new ComponentOutputCache( config );
+
+        portalRequest = new PortalRequest();
+        portalRequest.setMethod( HttpMethod.GET );
+        portalRequest.setMode( RenderMode.LIVE );
+        portalRequest.setRepositoryId( RepositoryId.from( "com.enonic.cms.myproject" ) );
+        portalRequest.setBranch( Branch.from( "master" ) );
+        portalRequest.setContent( Content.create()
+                                      .id( ContentId.from( "c1" ) )
+                                      .name( "landing-page" )
+                                      .parentPath( ContentPath.ROOT )
+                                      .type( ContentTypeName.site() )
+                                      .modifiedTime( Instant.ofEpochSecond( 0 ) )
+                                      .data( new PropertyTree() )
+                                      .build() );
+
+        descriptor = newDescriptor( ComponentCacheConfig.create().ttl( Duration.ofMinutes( 1 ) ).varyBy( "params" ).build() );
+        component = PartComponent.create().descriptor( descriptor.getKey() ).build();
+        renders = new AtomicInteger();
+    }
+
+    @Test
+    void cached()
+    {
+        assertEquals( "1", render() );
+        assertEquals( "1", render() );
+        assertEquals( 1, renders.get() );
+    }
+
+    @Test
+    void notCachedWithoutCacheConfig()
+    {
+        descriptor = newDescriptor( null );
+
+        render();
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void notCachedInEditMode()
+    {
+        portalRequest.setMode( RenderMode.EDIT );
+
+        render();
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void varyByParams()
+    {
+        assertEquals( "1", render() );
+        portalRequest.getParams().put( "page", "2" );
+        assertEquals( "2", render() );
+        assertEquals( "2", render() );
+    }
+
+    @Test
+    void notCachedForAuthenticatedUser()
+    {
+        authenticated().runWith( () -> {
+            render();
+            render();
+        } );
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void cachedPerUserWithVaryByUser()
+    {
+        descriptor = newDescriptor( ComponentCacheConfig.create().ttl( Duration.ofMinutes( 1 ) ).varyBy( "user" ).build() );
+
+        authenticated().runWith( () -> {
+            render();
+            render();
+        } );
+        assertEquals( 1, renders.get() );
+
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void privateResponseNotCached()
+    {
+        final Supplier<PortalResponse> renderer = () -> PortalResponse.create()
+            .body( String.valueOf( renders.incrementAndGet() ) )
+            .header( "Cache-Control", "private, max-age=60" )
+            .build();
+
+        cache.getOrRender( descriptor, component, portalRequest, renderer );
+        cache.getOrRender( descriptor, component, portalRequest, renderer );
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void noStoreResponseNotCachedIgnoringCase()
+    {
+        final Supplier<PortalResponse> renderer = () -> PortalResponse.create()
+            .body( String.valueOf( renders.incrementAndGet() ) )
+            .header( "cache-control", "No-Store" )
+            .build();
+
+        cache.getOrRender( descriptor, component, portalRequest, renderer );
+        cache.getOrRender( descriptor, component, portalRequest, renderer );
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void setCookieResponseNotCached()
+    {
+        final Supplier<PortalResponse> renderer = () -> PortalResponse.create()
+            .body( String.valueOf( renders.incrementAndGet() ) )
+            .header( "Set-Cookie", "session=abc; Path=/" )
+            .build();
+
+        cache.getOrRender( descriptor, component, portalRequest, renderer );
+        cache.getOrRender( descriptor, component, portalRequest, renderer );
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void invalidatedByNodeEvent()
+    {
+        render();
+
+        cache.onEvent( Event.create( "node.pushed" )
+                           .value( "nodes", List.of( Map.of( "id", "n1", "repo", "com.enonic.cms.other", "branch", "master" ) ) )
+                           .build() );
+        render();
+        assertEquals( 1, renders.get() );
+
+        cache.onEvent( Event.create( "node.pushed" )
+                           .value( "nodes", List.of( Map.of( "id", "n1", "repo", "com.enonic.cms.myproject", "branch", "master" ) ) )
+                           .build() );
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    @Test
+    void invalidatedByApplicationEvent()
+    {
+        render();
+
+        cache.onEvent( Event.create( "application" ).value( "eventType", "STARTED" ).value( "applicationKey", "myapp" ).build() );
+        render();
+        assertEquals( 2, renders.get() );
+    }
+
+    private String render()
+    {
+        return cache.getOrRender( descriptor, component, portalRequest, () -> PortalResponse.create()
+            .contentType( MediaType.HTML_UTF_8 )
+            .body( String.valueOf( renders.incrementAndGet() ) )
+            .build() ).getAsString();
+    }
+
+    private static Context authenticated()
+    {
+        final User user = User.create().key( PrincipalKey.ofUser( IdProviderKey.system(), "user1" ) ).login( "user1" ).build();
+        return ContextBuilder.from( ContextAccessor.current() )
+            .authInfo( AuthenticationInfo.create().user( user ).principals( RoleKeys.AUTHENTICATED ).build() )
+            .build();
+    }
+
+    private static PartDescriptor newDescriptor( final ComponentCacheConfig cacheConfig )
+    {
+        return PartDescriptor.create()
+            .key( DescriptorKey.from( ApplicationKey.from( "myapp" ), "mypart" ) )
+            .config( Form.create().build() )
+            .cacheConfig( cacheConfig )
+            .build();
+    }
+}
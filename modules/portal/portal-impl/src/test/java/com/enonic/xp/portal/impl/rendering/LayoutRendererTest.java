@@ -16,6 +16,7 @@ import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.RenderMode;
 import com.enonic.xp.portal.controller.ControllerScript;
 import com.enonic.xp.portal.controller.ControllerScriptFactory;
+import com.enonic.xp.portal.impl.PortalConfig;
 import com.enonic.xp.portal.impl.controller.PortalResponseSerializer;
 import com.enonic.xp.region.LayoutComponent;
 import com.enonic.xp.region.LayoutDescriptor;
@@ -61,7 +62,8 @@ public class LayoutRendererTest
     {
         layoutDescriptorService = mock( LayoutDescriptorService.class );
         controllerScriptFactory = mock( ControllerScriptFactory.class );
-        renderer = new LayoutRenderer( controllerScriptFactory, layoutDescriptorService );
+        final PortalConfig portalConfig = mock( PortalConfig.class );
+        renderer = new LayoutRenderer( controllerScriptFactory, layoutDescriptorService, new ComponentOutputCache( portalConfig ) );
 
         this.portalRequest = new PortalRequest();
         this.portalRequest.setBranch( Branch.from( "draft" ) );
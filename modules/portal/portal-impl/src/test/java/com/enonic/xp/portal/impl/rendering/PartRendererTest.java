@@ -16,6 +16,7 @@ import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.RenderMode;
 import com.enonic.xp.portal.controller.ControllerScript;
 import com.enonic.xp.portal.controller.ControllerScriptFactory;
+import com.enonic.xp.portal.impl.PortalConfig;
 import com.enonic.xp.portal.impl.controller.PortalResponseSerializer;
 import com.enonic.xp.region.PartComponent;
 import com.enonic.xp.region.PartDescriptor;
@@ -59,7 +60,8 @@ public class PartRendererTest
     {
         partDescriptorService = mock( PartDescriptorService.class );
         controllerScriptFactory = mock( ControllerScriptFactory.class );
-        renderer = new PartRenderer( controllerScriptFactory, partDescriptorService );
+        final PortalConfig portalConfig = mock( PortalConfig.class );
+        renderer = new PartRenderer( controllerScriptFactory, partDescriptorService, new ComponentOutputCache( portalConfig ) );
 
         this.portalRequest = new PortalRequest();
         this.portalRequest.setBranch( Branch.from( "draft" ) );
@@ -0,0 +1,110 @@
+package com.enonic.xp.portal.impl.websocket;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class WebSocketRegistryImplTest
+{
+    private final WebSocketRegistryImpl registry = new WebSocketRegistryImpl();
+
+    @Test
+    void getByGroup()
+    {
+        final TestEntry entry1 = new TestEntry( "1" );
+        final TestEntry entry2 = new TestEntry( "2" );
+        registry.add( entry1 );
+        registry.add( entry2 );
+
+        registry.addToGroup( "a", entry1 );
+        registry.addToGroup( "a", entry2 );
+        registry.addToGroup( "b", entry2 );
+
+        assertSame( entry1, registry.getById( "1" ) );
+        assertEquals( Set.of( entry1, entry2 ), registry.getByGroup( "a" ).collect( Collectors.toSet() ) );
+        assertEquals( Set.of( entry2 ), registry.getByGroup( "b" ).collect( Collectors.toSet() ) );
+        assertEquals( 2, registry.getGroupSize( "a" ) );
+        assertEquals( 0, registry.getGroupSize( "c" ) );
+
+        registry.removeFromGroup( "a", entry1 );
+        assertEquals( Set.of( entry2 ), registry.getByGroup( "a" ).collect( Collectors.toSet() ) );
+        assertEquals( Set.of( "b", "a" ), entry2.getGroups() );
+        assertEquals( Set.of(), entry1.getGroups() );
+    }
+
+    @Test
+    void remove_leaves_groups()
+    {
+        final TestEntry entry = new TestEntry( "1" );
+        registry.add( entry );
+        registry.addToGroup( "a", entry );
+        registry.addToGroup( "b", entry );
+
+        registry.remove( entry );
+
+        assertNull( registry.getById( "1" ) );
+        assertEquals( 0, registry.getGroupSize( "a" ) );
+        assertEquals( 0, registry.getGroupSize( "b" ) );
+    }
+
+    @Test
+    void addToGroup_after_remove()
+    {
+        final TestEntry entry = new TestEntry( "1" );
+        registry.add( entry );
+        registry.remove( entry );
+
+        registry.addToGroup( "a", entry );
+
+        assertEquals( 0, registry.getGroupSize( "a" ) );
+    }
+
+    private static final class TestEntry
+        implements WebSocketEntry
+    {
+        private final String id;
+
+        private final Set<String> groups = ConcurrentHashMap.newKeySet();
+
+        TestEntry( final String id )
+        {
+            this.id = id;
+        }
+
+        @Override
+        public String getId()
+        {
+            return id;
+        }
+
+        @Override
+        public void addGroup( final String group )
+        {
+            groups.add( group );
+        }
+
+        @Override
+        public void removeGroup( final String group )
+        {
+            groups.remove( group );
+        }
+
+        @Override
+        public void sendMessage( final String message )
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<String> getGroups()
+        {
+            return groups;
+        }
+    }
+}
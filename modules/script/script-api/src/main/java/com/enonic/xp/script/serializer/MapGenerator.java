@@ -22,4 +22,19 @@ public interface MapGenerator
     MapGenerator rawValue( String key, Object value );
 
     MapGenerator end();
+
+    /**
+     * Adds a map with the given key whose entries are written by {@code value} only when the map is first accessed.
+     * Generators that can not defer serialization write the entries immediately.
+     *
+     * @param key   key of the map
+     * @param value serializer of the map entries
+     * @return this generator
+     */
+    default MapGenerator lazyMap( final String key, final MapSerializable value )
+    {
+        map( key );
+        value.serialize( this );
+        return end();
+    }
 }
@@ -6,6 +6,7 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.google.common.collect.Multimap;
 import com.google.common.io.ByteSource;
@@ -76,6 +77,11 @@ public abstract class MapGeneratorBase
 
     protected abstract void putRawValueInMap( Object map, String key, Object value );
 
+    protected void putLazyInMap( final Object map, final String key, final Supplier<Object> value )
+    {
+        putInMap( map, key, value.get() );
+    }
+
     private Object addToArray( final Object value )
     {
         checkIfArray();
@@ -188,6 +194,14 @@ public abstract class MapGeneratorBase
         return this;
     }
 
+    @Override
+    public final MapGenerator lazyMap( final String key, final MapSerializable value )
+    {
+        checkIfMap();
+        putLazyInMap( this.current, key, () -> convertValue( value ) );
+        return this;
+    }
+
     @Override
     public final MapGenerator end()
     {
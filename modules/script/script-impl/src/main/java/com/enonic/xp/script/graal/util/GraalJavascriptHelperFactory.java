@@ -1,6 +1,7 @@
 package com.enonic.xp.script.graal.util;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Value;
@@ -13,6 +14,8 @@ public final class GraalJavascriptHelperFactory
     {
         return new JavascriptHelper<>()
         {
+            private Value lazyPropertyDefiner;
+
             @Override
             public Value newJsArray()
             {
@@ -40,6 +43,19 @@ public final class GraalJavascriptHelperFactory
                 }
             }
 
+            @Override
+            public void defineLazy( final Object object, final String key, final Supplier<?> value )
+            {
+                synchronized ( context )
+                {
+                    if ( lazyPropertyDefiner == null )
+                    {
+                        lazyPropertyDefiner = context.eval( "js", LAZY_PROPERTY_SCRIPT );
+                    }
+                    lazyPropertyDefiner.execute( object, key, value );
+                }
+            }
+
             @Override
             public Value parseJson( final String text )
             {
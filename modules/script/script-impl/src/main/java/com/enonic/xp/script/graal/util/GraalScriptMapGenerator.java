@@ -1,6 +1,7 @@
 package com.enonic.xp.script.graal.util;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.enonic.xp.script.impl.util.JavascriptHelper;
 import com.enonic.xp.script.serializer.MapGeneratorBase;
@@ -61,6 +62,12 @@ public final class GraalScriptMapGenerator
         GraalJSHelper.addToNativeObject( map, key, value );
     }
 
+    @Override
+    protected void putLazyInMap( final Object map, final String key, final Supplier<Object> value )
+    {
+        this.helper.defineLazy( map, key, value );
+    }
+
     @Override
     protected void addToArray( final Object array, final Object value )
     {
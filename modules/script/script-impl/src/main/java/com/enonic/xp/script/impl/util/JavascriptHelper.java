@@ -1,15 +1,22 @@
 package com.enonic.xp.script.impl.util;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public interface JavascriptHelper<T>
 {
+    String LAZY_PROPERTY_SCRIPT = "(o, k, f) => Object.defineProperty(o, k, {configurable: true, enumerable: true, " +
+        "get: () => { const v = f.get(); Object.defineProperty(o, k, {value: v, writable: true, enumerable: true, configurable: true}); return v; }, " +
+        "set: v => Object.defineProperty(o, k, {value: v, writable: true, enumerable: true, configurable: true})})";
+
     T newJsArray();
 
     T newJsObject();
 
     Object newFunction( Function<?, ?> function);
 
+    void defineLazy( Object object, String key, Supplier<?> value );
+
     T parseJson( String text );
 
     Object eval(String script);
@@ -1,6 +1,7 @@
 package com.enonic.xp.script.impl.util;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.script.Bindings;
 import javax.script.ScriptContext;
@@ -27,6 +28,8 @@ public final class JavascriptHelperFactory
 
         return new JavascriptHelper<>()
         {
+            private JSObject lazyPropertyDefiner;
+
             @Override
             public Bindings newJsArray()
             {
@@ -52,6 +55,16 @@ public final class JavascriptHelperFactory
                 }
             }
 
+            @Override
+            public void defineLazy( final Object object, final String key, final Supplier<?> value )
+            {
+                if ( lazyPropertyDefiner == null )
+                {
+                    lazyPropertyDefiner = (JSObject) eval( LAZY_PROPERTY_SCRIPT );
+                }
+                lazyPropertyDefiner.call( null, object, key, value );
+            }
+
             @Override
             public Bindings parseJson( final String text )
             {
@@ -1,6 +1,7 @@
 package com.enonic.xp.script.impl.util;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.enonic.xp.script.serializer.MapGeneratorBase;
 
@@ -60,6 +61,12 @@ final class ScriptMapGenerator
         NashornHelper.addToNativeObject( map, key, value );
     }
 
+    @Override
+    protected void putLazyInMap( final Object map, final String key, final Supplier<Object> value )
+    {
+        this.helper.defineLazy( map, key, value );
+    }
+
     @Override
     protected void addToArray( final Object array, final Object value )
     {
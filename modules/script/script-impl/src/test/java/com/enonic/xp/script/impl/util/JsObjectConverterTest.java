@@ -1,10 +1,15 @@
 package com.enonic.xp.script.impl.util;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.script.Bindings;
 import javax.script.ScriptEngine;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openjdk.nashorn.api.scripting.JSObject;
+
+import com.enonic.xp.script.serializer.MapSerializable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -13,10 +18,12 @@ public class JsObjectConverterTest
 {
     private JsObjectConverter instance;
 
+    private ScriptEngine engine;
+
     @BeforeEach
     public void setUp()
     {
-        final ScriptEngine engine = NashornHelper.getScriptEngine( getClass().getClassLoader() );
+        engine = NashornHelper.getScriptEngine( getClass().getClassLoader() );
 
         final JavascriptHelperFactory factory = new JavascriptHelperFactory( engine );
 
@@ -46,4 +53,26 @@ public class JsObjectConverterTest
         assertTrue( result instanceof int[] );
         assertEquals( 3, ( (int[]) result ).length );
     }
+
+    @Test
+    public void testToJs_LazyMap()
+        throws Exception
+    {
+        final AtomicInteger serialized = new AtomicInteger();
+        final MapSerializable value = gen -> {
+            gen.value( "name", "myContent" );
+            gen.lazyMap( "data", dataGen -> {
+                serialized.incrementAndGet();
+                dataGen.value( "title", "My title" );
+            } );
+        };
+
+        final Object result = instance.toJs( value );
+        assertEquals( 0, serialized.get() );
+
+        final JSObject stringify = (JSObject) engine.eval( "o => JSON.stringify(o)" );
+        assertEquals( "{\"name\":\"myContent\",\"data\":{\"title\":\"My title\"}}", stringify.call( null, result ) );
+        assertEquals( "{\"name\":\"myContent\",\"data\":{\"title\":\"My title\"}}", stringify.call( null, result ) );
+        assertEquals( 1, serialized.get() );
+    }
 }
@@ -56,6 +56,7 @@ public final class SystemResource
             .archive( params.isArchive() )
             .maxAge( params.getMaxAge() )
             .maxVersions( params.getMaxVersions() )
+            .baseDump( params.getBaseDump() )
             .taskService( taskService )
             .dumpService( dumpService )
             .build()
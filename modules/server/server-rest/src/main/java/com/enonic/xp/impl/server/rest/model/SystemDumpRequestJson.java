@@ -16,16 +16,20 @@ public class SystemDumpRequestJson
 
     private final Integer maxVersions;
 
+    private final String baseDump;
+
     public SystemDumpRequestJson( @JsonProperty("name") final String name, //
                                   @JsonProperty("includeVersions") final boolean includeVersions, //
                                   @JsonProperty("maxAge") final Integer maxAge, //
-                                  @JsonProperty("maxVersions") final Integer maxVersions, @JsonProperty("archive") final boolean archive )
+                                  @JsonProperty("maxVersions") final Integer maxVersions, @JsonProperty("archive") final boolean archive, //
+                                  @JsonProperty("baseDump") final String baseDump )
     {
         this.name = name;
         this.maxAge = maxAge;
         this.maxVersions = maxVersions;
         this.includeVersions = includeVersions;
         this.archive = archive;
+        this.baseDump = baseDump;
     }
 
     public String getName()
@@ -53,6 +57,11 @@ public class SystemDumpRequestJson
         return archive;
     }
 
+    public String getBaseDump()
+    {
+        return baseDump;
+    }
+
     @Override
     public boolean equals( final Object o )
     {
@@ -66,12 +75,13 @@ public class SystemDumpRequestJson
         }
         final SystemDumpRequestJson that = (SystemDumpRequestJson) o;
         return includeVersions == that.includeVersions && archive == that.archive && Objects.equals( name, that.name ) &&
-            Objects.equals( maxAge, that.maxAge ) && Objects.equals( maxVersions, that.maxVersions );
+            Objects.equals( maxAge, that.maxAge ) && Objects.equals( maxVersions, that.maxVersions ) &&
+            Objects.equals( baseDump, that.baseDump );
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash( name, includeVersions, maxAge, maxVersions, archive );
+        return Objects.hash( name, includeVersions, maxAge, maxVersions, archive, baseDump );
     }
 }
@@ -24,6 +24,8 @@ public class DumpRunnableTask
 
     private final Integer maxVersions;
 
+    private final String baseDump;
+
     private final DumpService dumpService;
 
     private final TaskService taskService;
@@ -35,6 +37,7 @@ public class DumpRunnableTask
         this.archive = builder.archive;
         this.maxAge = builder.maxAge;
         this.maxVersions = builder.maxVersions;
+        this.baseDump = builder.baseDump;
         this.dumpService = builder.dumpService;
         this.taskService = builder.taskService;
     }
@@ -60,6 +63,7 @@ public class DumpRunnableTask
             .maxAge( maxAge )
             .archive( archive )
             .maxVersions( maxVersions )
+            .baseDumpName( baseDump )
             .listener( new SystemDumpListenerImpl( progressReporter ) )
             .build();
 
@@ -79,6 +83,8 @@ public class DumpRunnableTask
 
         private Integer maxVersions;
 
+        private String baseDump;
+
         private DumpService dumpService;
 
         private TaskService taskService;
@@ -119,6 +125,12 @@ public class DumpRunnableTask
             return this;
         }
 
+        public Builder baseDump( final String baseDump )
+        {
+            this.baseDump = baseDump;
+            return this;
+        }
+
         public Builder dumpService( final DumpService dumpService )
         {
             this.dumpService = dumpService;
@@ -1,5 +1,10 @@
 package com.enonic.xp.impl.server.rest.task.listener;
 
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.enonic.xp.branch.Branch;
 import com.enonic.xp.dump.SystemLoadListener;
 import com.enonic.xp.repository.RepositoryId;
@@ -8,6 +13,8 @@ import com.enonic.xp.task.ProgressReporter;
 public class SystemLoadListenerImpl
     implements SystemLoadListener
 {
+    private static final Logger LOG = LoggerFactory.getLogger( SystemLoadListenerImpl.class );
+
     private final ProgressReporter progressReporter;
 
     private int total = 0;
@@ -60,4 +67,11 @@ public class SystemLoadListenerImpl
     public void loadingCommits( final RepositoryId repositoryId )
     {
     }
+
+    @Override
+    public void entriesLoaded( final long count, final Duration duration )
+    {
+        final long millis = Math.max( 1, duration.toMillis() );
+        LOG.info( "Loaded " + count + " entries in " + millis + " ms (" + count * 1000 / millis + " entries/s)" );
+    }
 }
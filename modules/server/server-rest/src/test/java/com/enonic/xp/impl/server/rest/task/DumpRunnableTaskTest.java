@@ -54,6 +54,7 @@ class DumpRunnableTaskTest
             .archive( params.isArchive() )
             .maxAge( params.getMaxAge() )
             .maxVersions( params.getMaxVersions() )
+            .baseDump( params.getBaseDump() )
             .build();
     }
 
@@ -89,7 +90,7 @@ class DumpRunnableTaskTest
 
         final DumpRunnableTask task = createTask(
             new SystemDumpRequestJson( params.getDumpName(), params.isIncludeVersions(), params.getMaxAge(), params.getMaxVersions(),
-                                       params.isArchive() ) );
+                                       params.isArchive(), null ) );
 
 
         task.run( TaskId.from( "taskId" ), progressReporter );
@@ -0,0 +1,99 @@
+package com.enonic.xp.server.internal.trace;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.Set;
+
+import com.enonic.xp.trace.Trace;
+import com.enonic.xp.trace.TraceLocation;
+
+/**
+ * Shared trace of requests that are not sampled. Discards attributes, so tracing such requests allocates nothing.
+ */
+final class NoopTrace
+    extends AbstractMap<String, Object>
+    implements Trace
+{
+    static final NoopTrace INSTANCE = new NoopTrace();
+
+    private NoopTrace()
+    {
+    }
+
+    @Override
+    public Object put( final String key, final Object value )
+    {
+        return null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet()
+    {
+        return Set.of();
+    }
+
+    @Override
+    public String getId()
+    {
+        return null;
+    }
+
+    @Override
+    public String getParentId()
+    {
+        return null;
+    }
+
+    @Override
+    public String getName()
+    {
+        return null;
+    }
+
+    @Override
+    public TraceLocation getLocation()
+    {
+        return null;
+    }
+
+    @Override
+    public Instant getStartTime()
+    {
+        return null;
+    }
+
+    @Override
+    public Instant getEndTime()
+    {
+        return null;
+    }
+
+    @Override
+    public boolean inProgress()
+    {
+        return false;
+    }
+
+    @Override
+    public Duration getDuration()
+    {
+        return Duration.ZERO;
+    }
+
+    @Override
+    public void start()
+    {
+    }
+
+    @Override
+    public void end()
+    {
+    }
+
+    @Override
+    public boolean isNoop()
+    {
+        return true;
+    }
+}
@@ -0,0 +1,337 @@
+package com.enonic.xp.server.internal.trace;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.enonic.xp.core.internal.HexCoder;
+import com.enonic.xp.trace.Trace;
+import com.enonic.xp.trace.TraceLocation;
+
+/**
+ * Trace of a sampled request. Attributes are kept by reference in arrays and only converted to strings when the whole request
+ * trace is kept by the {@link TraceSampler}. Traces started within a root trace are collected in it until the root ends.
+ */
+final class SampledTrace
+    extends AbstractMap<String, Object>
+    implements Trace
+{
+    static final int MAX_ATTRIBUTES = 32;
+
+    private final TraceSampler sampler;
+
+    private final SampledTrace root;
+
+    private final long id;
+
+    private final long parentId;
+
+    private final String name;
+
+    private final boolean headSampled;
+
+    private String[] keys = new String[8];
+
+    private Object[] values = new Object[8];
+
+    private int size;
+
+    private boolean started;
+
+    private long startTimeNano;
+
+    private boolean ended;
+
+    private long endTimeNano;
+
+    private long threadId;
+
+    // fields below are only used in root traces, guarded by the root trace
+
+    private List<SampledTrace> finished;
+
+    private int spans = 1;
+
+    private boolean kept;
+
+    SampledTrace( final TraceSampler sampler, final SampledTrace parent, final long id, final String name, final boolean headSampled )
+    {
+        this.sampler = sampler;
+        this.root = parent != null ? parent.root : this;
+        this.id = id;
+        this.parentId = parent != null ? parent.id : 0;
+        this.name = name;
+        this.headSampled = headSampled;
+    }
+
+    SampledTrace getRoot()
+    {
+        return root;
+    }
+
+    boolean isRoot()
+    {
+        return root == this;
+    }
+
+    boolean isHeadSampled()
+    {
+        return headSampled;
+    }
+
+    long getTraceId()
+    {
+        return root.id;
+    }
+
+    long getSpanId()
+    {
+        return id;
+    }
+
+    long getParentSpanId()
+    {
+        return parentId;
+    }
+
+    long getStartTimeNano()
+    {
+        return startTimeNano;
+    }
+
+    long getDurationNano()
+    {
+        return endTimeNano - startTimeNano;
+    }
+
+    long getThreadId()
+    {
+        return threadId;
+    }
+
+    int getAttributeCount()
+    {
+        return size;
+    }
+
+    String getAttributeKey( final int index )
+    {
+        return keys[index];
+    }
+
+    Object getAttributeValue( final int index )
+    {
+        return values[index];
+    }
+
+    synchronized boolean reserveSpan( final int maxSpans )
+    {
+        if ( spans >= maxSpans )
+        {
+            return false;
+        }
+        spans++;
+        return true;
+    }
+
+    /**
+     * Collects a finished trace of this root trace.
+     *
+     * @return {@code false} if this root trace has already ended
+     */
+    synchronized boolean addFinished( final SampledTrace trace )
+    {
+        if ( ended )
+        {
+            return false;
+        }
+        if ( finished == null )
+        {
+            finished = new ArrayList<>();
+        }
+        finished.add( trace );
+        return true;
+    }
+
+    /**
+     * Ends this root trace.
+     *
+     * @return traces started within this root trace that have finished so far
+     */
+    synchronized List<SampledTrace> endRoot( final boolean kept )
+    {
+        this.kept = kept;
+        this.ended = true;
+        final List<SampledTrace> result = finished != null ? finished : List.of();
+        finished = null;
+        return result;
+    }
+
+    synchronized boolean isKept()
+    {
+        return kept;
+    }
+
+    @Override
+    public Object put( final String key, final Object value )
+    {
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( keys[i].equals( key ) )
+            {
+                final Object previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+
+        if ( size == MAX_ATTRIBUTES )
+        {
+            return null;
+        }
+
+        if ( size == keys.length )
+        {
+            keys = Arrays.copyOf( keys, Math.min( size * 2, MAX_ATTRIBUTES ) );
+            values = Arrays.copyOf( values, keys.length );
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object get( final Object key )
+    {
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( keys[i].equals( key ) )
+            {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet()
+    {
+        return new AbstractSet<>()
+        {
+            @Override
+            public Iterator<Entry<String, Object>> iterator()
+            {
+                return new Iterator<>()
+                {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return index < size;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next()
+                    {
+                        if ( index >= size )
+                        {
+                            throw new NoSuchElementException();
+                        }
+                        final int i = index++;
+                        return new SimpleImmutableEntry<>( keys[i], values[i] );
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public String getId()
+    {
+        return HexCoder.toHex( id );
+    }
+
+    @Override
+    public String getParentId()
+    {
+        return parentId != 0 ? HexCoder.toHex( parentId ) : null;
+    }
+
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public TraceLocation getLocation()
+    {
+        return null;
+    }
+
+    @Override
+    public Instant getStartTime()
+    {
+        return started ? sampler.toInstant( startTimeNano ) : null;
+    }
+
+    @Override
+    public Instant getEndTime()
+    {
+        return ended ? sampler.toInstant( endTimeNano ) : null;
+    }
+
+    @Override
+    public boolean inProgress()
+    {
+        return !ended;
+    }
+
+    @Override
+    public Duration getDuration()
+    {
+        if ( !started )
+        {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos( ( ended ? endTimeNano : System.nanoTime() ) - startTimeNano );
+    }
+
+    @Override
+    public void start()
+    {
+        this.startTimeNano = System.nanoTime();
+        this.threadId = Thread.currentThread().getId();
+        this.started = true;
+    }
+
+    @Override
+    public void end()
+    {
+        this.endTimeNano = System.nanoTime();
+        if ( isRoot() )
+        {
+            sampler.endRoot( this );
+        }
+        else
+        {
+            this.ended = true;
+            sampler.endChild( this );
+        }
+    }
+}
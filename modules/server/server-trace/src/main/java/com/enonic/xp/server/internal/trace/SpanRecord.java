@@ -0,0 +1,73 @@
+package com.enonic.xp.server.internal.trace;
+
+/**
+ * Slot of the {@link TraceSampler} ring buffer. Slots are allocated up front and overwritten by newer traces.
+ */
+final class SpanRecord
+{
+    private static final int MAX_VALUE_LENGTH = 1024;
+
+    long traceId;
+
+    long spanId;
+
+    long parentSpanId;
+
+    String name;
+
+    long threadId;
+
+    long startEpochNano;
+
+    long durationNano;
+
+    final String[] keys = new String[SampledTrace.MAX_ATTRIBUTES];
+
+    final String[] values = new String[SampledTrace.MAX_ATTRIBUTES];
+
+    int attributeCount;
+
+    void set( final SampledTrace trace, final long startEpochNano )
+    {
+        this.traceId = trace.getTraceId();
+        this.spanId = trace.getSpanId();
+        this.parentSpanId = trace.getParentSpanId();
+        this.name = trace.getName();
+        this.threadId = trace.getThreadId();
+        this.startEpochNano = startEpochNano;
+        this.durationNano = trace.getDurationNano();
+        this.attributeCount = trace.getAttributeCount();
+        for ( int i = 0; i < attributeCount; i++ )
+        {
+            keys[i] = trace.getAttributeKey( i );
+            values[i] = toString( trace.getAttributeValue( i ) );
+        }
+        for ( int i = attributeCount; i < keys.length && keys[i] != null; i++ )
+        {
+            keys[i] = null;
+            values[i] = null;
+        }
+    }
+
+    SpanRecord copy()
+    {
+        final SpanRecord copy = new SpanRecord();
+        copy.traceId = traceId;
+        copy.spanId = spanId;
+        copy.parentSpanId = parentSpanId;
+        copy.name = name;
+        copy.threadId = threadId;
+        copy.startEpochNano = startEpochNano;
+        copy.durationNano = durationNano;
+        copy.attributeCount = attributeCount;
+        System.arraycopy( keys, 0, copy.keys, 0, attributeCount );
+        System.arraycopy( values, 0, copy.values, 0, attributeCount );
+        return copy;
+    }
+
+    private static String toString( final Object value )
+    {
+        final String string = String.valueOf( value );
+        return string.length() > MAX_VALUE_LENGTH ? string.substring( 0, MAX_VALUE_LENGTH ) : string;
+    }
+}
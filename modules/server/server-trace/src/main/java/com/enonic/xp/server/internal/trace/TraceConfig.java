@@ -3,4 +3,12 @@ package com.enonic.xp.server.internal.trace;
 public @interface TraceConfig
 {
     boolean enabled() default false;
+
+    boolean sampling_enabled() default false;
+
+    double sampling_rate() default 0.01;
+
+    long sampling_slowThreshold() default 1000;
+
+    int sampling_bufferSize() default 10000;
 }
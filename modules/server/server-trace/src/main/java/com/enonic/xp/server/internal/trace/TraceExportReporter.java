@@ -0,0 +1,181 @@
+package com.enonic.xp.server.internal.trace;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.net.MediaType;
+
+import com.enonic.xp.core.internal.HexCoder;
+import com.enonic.xp.status.StatusContext;
+import com.enonic.xp.status.StatusReporter;
+
+/**
+ * Exports sampled traces, either in Chrome trace event format (default), or as OTLP/JSON with {@code format=otlp}.
+ */
+@Component(immediate = true, service = StatusReporter.class)
+public final class TraceExportReporter
+    implements StatusReporter
+{
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final TraceSampler sampler;
+
+    @Activate
+    public TraceExportReporter( @Reference final TraceSampler sampler )
+    {
+        this.sampler = sampler;
+    }
+
+    @Override
+    public String getName()
+    {
+        return "trace.export";
+    }
+
+    @Override
+    public MediaType getMediaType()
+    {
+        return MediaType.JSON_UTF_8;
+    }
+
+    @Override
+    public void report( final StatusContext context )
+        throws IOException
+    {
+        doReport( context.getOutputStream(), "otlp".equals( context.getParameter( "format" ).orElse( "chrome" ) ) );
+    }
+
+    @Override
+    public void report( final OutputStream outputStream )
+        throws IOException
+    {
+        doReport( outputStream, false );
+    }
+
+    private void doReport( final OutputStream outputStream, final boolean otlp )
+        throws IOException
+    {
+        final List<SpanRecord> spans = this.sampler.snapshot();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator( outputStream ))
+        {
+            if ( otlp )
+            {
+                writeOtlp( generator, spans );
+            }
+            else
+            {
+                writeChrome( generator, spans );
+            }
+        }
+    }
+
+    private void writeChrome( final JsonGenerator generator, final List<SpanRecord> spans )
+        throws IOException
+    {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart( "traceEvents" );
+        for ( SpanRecord span : spans )
+        {
+            generator.writeStartObject();
+            generator.writeStringField( "name", span.name );
+            generator.writeStringField( "cat", "xp" );
+            generator.writeStringField( "ph", "X" );
+            generator.writeNumberField( "ts", TimeUnit.NANOSECONDS.toMicros( span.startEpochNano ) );
+            generator.writeNumberField( "dur", TimeUnit.NANOSECONDS.toMicros( span.durationNano ) );
+            generator.writeNumberField( "pid", 1 );
+            generator.writeNumberField( "tid", span.threadId );
+            generator.writeObjectFieldStart( "args" );
+            generator.writeStringField( "traceId", traceId( span ) );
+            generator.writeStringField( "spanId", HexCoder.toHex( span.spanId ) );
+            if ( span.parentSpanId != 0 )
+            {
+                generator.writeStringField( "parentSpanId", HexCoder.toHex( span.parentSpanId ) );
+            }
+            for ( int i = 0; i < span.attributeCount; i++ )
+            {
+                generator.writeStringField( span.keys[i], span.values[i] );
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeStringField( "displayTimeUnit", "ms" );
+        generator.writeEndObject();
+    }
+
+    private void writeOtlp( final JsonGenerator generator, final List<SpanRecord> spans )
+        throws IOException
+    {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart( "resourceSpans" );
+        generator.writeStartObject();
+
+        generator.writeObjectFieldStart( "resource" );
+        generator.writeArrayFieldStart( "attributes" );
+        writeOtlpAttribute( generator, "service.name", "xp" );
+        generator.writeEndArray();
+        generator.writeEndObject();
+
+        generator.writeArrayFieldStart( "scopeSpans" );
+        generator.writeStartObject();
+        generator.writeObjectFieldStart( "scope" );
+        generator.writeStringField( "name", "com.enonic.xp.trace" );
+        generator.writeEndObject();
+        generator.writeArrayFieldStart( "spans" );
+        for ( SpanRecord span : spans )
+        {
+            generator.writeStartObject();
+            generator.writeStringField( "traceId", traceId( span ) );
+            generator.writeStringField( "spanId", HexCoder.toHex( span.spanId ) );
+            if ( span.parentSpanId != 0 )
+            {
+                generator.writeStringField( "parentSpanId", HexCoder.toHex( span.parentSpanId ) );
+            }
+            generator.writeStringField( "name", span.name );
+            // SPAN_KIND_INTERNAL
+            generator.writeNumberField( "kind", 1 );
+            // 64-bit integers are strings in the JSON encoding of protobuf
+            generator.writeStringField( "startTimeUnixNano", Long.toString( span.startEpochNano ) );
+            generator.writeStringField( "endTimeUnixNano", Long.toString( span.startEpochNano + span.durationNano ) );
+            generator.writeArrayFieldStart( "attributes" );
+            writeOtlpAttribute( generator, "thread.id", Long.toString( span.threadId ) );
+            for ( int i = 0; i < span.attributeCount; i++ )
+            {
+                writeOtlpAttribute( generator, span.keys[i], span.values[i] );
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeOtlpAttribute( final JsonGenerator generator, final String key, final String value )
+        throws IOException
+    {
+        generator.writeStartObject();
+        generator.writeStringField( "key", key );
+        generator.writeObjectFieldStart( "value" );
+        generator.writeStringField( "stringValue", value );
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private String traceId( final SpanRecord span )
+    {
+        return HexCoder.toHex( this.sampler.getTraceIdHigh() ) + HexCoder.toHex( span.traceId );
+    }
+}
@@ -0,0 +1,171 @@
+package com.enonic.xp.server.internal.trace;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+import com.enonic.xp.trace.Trace;
+
+/**
+ * Samples request traces and keeps the spans of sampled requests in a ring buffer of preallocated records.
+ * <p>
+ * Requests are sampled at the start with the configured rate. If a slow threshold is configured, other requests are traced as well,
+ * and kept at the end only if they took longer than the threshold. Requests that are neither sampled nor traced for the threshold
+ * get the shared {@link NoopTrace}.
+ */
+@Component(service = TraceSampler.class, configurationPid = "com.enonic.xp.server.trace")
+public final class TraceSampler
+{
+    static final int MAX_SPANS_PER_TRACE = 1000;
+
+    private final boolean enabled;
+
+    private final double rate;
+
+    private final long slowThresholdNano;
+
+    private final SpanRecord[] records;
+
+    private final AtomicLong ids = new AtomicLong( ThreadLocalRandom.current().nextLong() );
+
+    private final long traceIdHigh = ThreadLocalRandom.current().nextLong();
+
+    private final long epochNano;
+
+    private final long startNano;
+
+    private long next;
+
+    @Activate
+    public TraceSampler( final TraceConfig config )
+    {
+        this.enabled = config.sampling_enabled() && config.sampling_bufferSize() > 0;
+        this.rate = config.sampling_rate();
+        this.slowThresholdNano = TimeUnit.MILLISECONDS.toNanos( config.sampling_slowThreshold() );
+        this.records = new SpanRecord[enabled ? config.sampling_bufferSize() : 0];
+        for ( int i = 0; i < records.length; i++ )
+        {
+            records[i] = new SpanRecord();
+        }
+
+        final Instant now = Instant.now();
+        this.epochNano = TimeUnit.SECONDS.toNanos( now.getEpochSecond() ) + now.getNano();
+        this.startNano = System.nanoTime();
+    }
+
+    boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    double getRate()
+    {
+        return rate;
+    }
+
+    long getTraceIdHigh()
+    {
+        return traceIdHigh;
+    }
+
+    Trace newTrace( final String name, final Trace parent )
+    {
+        if ( parent instanceof SampledTrace )
+        {
+            final SampledTrace sampledParent = (SampledTrace) parent;
+            if ( !sampledParent.getRoot().reserveSpan( MAX_SPANS_PER_TRACE ) )
+            {
+                return NoopTrace.INSTANCE;
+            }
+            return new SampledTrace( this, sampledParent, nextId(), name, false );
+        }
+
+        if ( parent != null && parent.isNoop() )
+        {
+            return NoopTrace.INSTANCE;
+        }
+
+        final boolean headSampled = rate >= 1 || ( rate > 0 && ThreadLocalRandom.current().nextDouble() < rate );
+        if ( !headSampled && slowThresholdNano <= 0 )
+        {
+            return NoopTrace.INSTANCE;
+        }
+        return new SampledTrace( this, null, nextId(), name, headSampled );
+    }
+
+    void endRoot( final SampledTrace root )
+    {
+        final boolean keep = root.isHeadSampled() || ( slowThresholdNano > 0 && root.getDurationNano() >= slowThresholdNano );
+        final List<SampledTrace> finished = root.endRoot( keep );
+        if ( keep )
+        {
+            synchronized ( this )
+            {
+                for ( SampledTrace trace : finished )
+                {
+                    record( trace );
+                }
+                record( root );
+            }
+        }
+    }
+
+    void endChild( final SampledTrace trace )
+    {
+        final SampledTrace root = trace.getRoot();
+        if ( !root.addFinished( trace ) && root.isKept() )
+        {
+            synchronized ( this )
+            {
+                record( trace );
+            }
+        }
+    }
+
+    /**
+     * @return kept spans, oldest first
+     */
+    synchronized List<SpanRecord> snapshot()
+    {
+        final int count = (int) Math.min( next, records.length );
+        final List<SpanRecord> result = new ArrayList<>( count );
+        for ( long i = next - count; i < next; i++ )
+        {
+            result.add( records[(int) ( i % records.length )].copy() );
+        }
+        return result;
+    }
+
+    Instant toInstant( final long nanoTime )
+    {
+        final long epoch = toEpochNano( nanoTime );
+        return Instant.ofEpochSecond( 0, epoch );
+    }
+
+    private long toEpochNano( final long nanoTime )
+    {
+        return epochNano + ( nanoTime - startNano );
+    }
+
+    private void record( final SampledTrace trace )
+    {
+        records[(int) ( next++ % records.length )].set( trace, toEpochNano( trace.getStartTimeNano() ) );
+    }
+
+    private long nextId()
+    {
+        long id;
+        do
+        {
+            id = ids.incrementAndGet();
+        }
+        while ( id == 0 );
+        return id;
+    }
+}
@@ -21,12 +21,22 @@ public final class TraceService
 
     private TraceEventDispatcher dispatcher;
 
+    private TraceSampler sampler;
+
+    private volatile boolean enabled;
+
     @Activate
     public void activate( final TraceConfig config )
     {
         if ( config.enabled() )
         {
             LOG.info( "Call tracing is enabled in config" );
+            this.enabled = true;
+            Tracer.setManager( this );
+        }
+        else if ( isSampling() )
+        {
+            LOG.info( "Call tracing is sampled in config, with rate {}", this.sampler.getRate() );
             Tracer.setManager( this );
         }
         else
@@ -44,23 +54,37 @@ public final class TraceService
     @Override
     public Trace newTrace( final String name, final Trace parent )
     {
+        if ( !this.enabled && isSampling() )
+        {
+            return this.sampler.newTrace( name, parent );
+        }
         return new TraceImpl( name, parent != null ? parent.getId() : null, TraceLocationImpl.findLocation() );
     }
 
     @Override
     public void dispatch( final TraceEvent event )
     {
+        if ( event.getTrace() instanceof SampledTrace )
+        {
+            return;
+        }
         this.dispatcher.queue( event );
     }
 
     @Override
     public void enable( final boolean enabled )
     {
+        this.enabled = enabled;
         if ( enabled )
         {
             Tracer.setManager( this );
             LOG.info( "Call tracing is enabled" );
         }
+        else if ( isSampling() )
+        {
+            Tracer.setManager( this );
+            LOG.info( "Call tracing is sampled" );
+        }
         else
         {
             Tracer.setManager( null );
@@ -68,9 +92,20 @@ public final class TraceService
         }
     }
 
+    private boolean isSampling()
+    {
+        return this.sampler != null && this.sampler.isEnabled();
+    }
+
     @Reference
     public void setDispatcher( final TraceEventDispatcher dispatcher )
     {
         this.dispatcher = dispatcher;
     }
+
+    @Reference
+    public void setSampler( final TraceSampler sampler )
+    {
+        this.sampler = sampler;
+    }
 }
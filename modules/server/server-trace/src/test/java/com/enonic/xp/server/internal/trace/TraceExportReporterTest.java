@@ -0,0 +1,100 @@
+package com.enonic.xp.server.internal.trace;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.enonic.xp.status.StatusContext;
+import com.enonic.xp.trace.Trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TraceExportReporterTest
+{
+    private TraceExportReporter reporter;
+
+    @BeforeEach
+    public void setUp()
+    {
+        final TraceSampler sampler = new TraceSampler( TraceSamplerTest.config( true, 1, 0, 10 ) );
+
+        final Trace root = sampler.newTrace( "portalRequest", null );
+        root.start();
+        root.put( "path", "/site/a" );
+        final Trace child = sampler.newTrace( "renderComponent", root );
+        child.start();
+        child.end();
+        root.end();
+
+        this.reporter = new TraceExportReporter( sampler );
+    }
+
+    @Test
+    public void testName()
+    {
+        assertEquals( "trace.export", this.reporter.getName() );
+    }
+
+    @Test
+    public void testChrome()
+        throws Exception
+    {
+        final JsonNode json = report( null );
+
+        final JsonNode events = json.get( "traceEvents" );
+        assertEquals( 2, events.size() );
+
+        final JsonNode root = events.get( 1 );
+        assertEquals( "portalRequest", root.get( "name" ).asText() );
+        assertEquals( "X", root.get( "ph" ).asText() );
+        assertEquals( "/site/a", root.get( "args" ).get( "path" ).asText() );
+        assertEquals( root.get( "args" ).get( "spanId" ), events.get( 0 ).get( "args" ).get( "parentSpanId" ) );
+    }
+
+    @Test
+    public void testOtlp()
+        throws Exception
+    {
+        final JsonNode json = report( "otlp" );
+
+        final JsonNode spans = json.get( "resourceSpans" ).get( 0 ).get( "scopeSpans" ).get( 0 ).get( "spans" );
+        assertEquals( 2, spans.size() );
+
+        final JsonNode child = spans.get( 0 );
+        final JsonNode root = spans.get( 1 );
+        assertEquals( "renderComponent", child.get( "name" ).asText() );
+        assertEquals( 32, root.get( "traceId" ).asText().length() );
+        assertEquals( root.get( "traceId" ), child.get( "traceId" ) );
+        assertEquals( root.get( "spanId" ), child.get( "parentSpanId" ) );
+        assertFalse( root.has( "parentSpanId" ) );
+        assertEquals( "path", root.get( "attributes" ).get( 1 ).get( "key" ).asText() );
+    }
+
+    private JsonNode report( final String format )
+        throws Exception
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.reporter.report( new StatusContext()
+        {
+            @Override
+            public Optional<String> getParameter( final String name )
+            {
+                return "format".equals( name ) ? Optional.ofNullable( format ) : Optional.empty();
+            }
+
+            @Override
+            public OutputStream getOutputStream()
+            {
+                return out;
+            }
+        } );
+        return new ObjectMapper().readTree( out.toByteArray() );
+    }
+}
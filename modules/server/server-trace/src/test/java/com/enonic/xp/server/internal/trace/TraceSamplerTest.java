@@ -0,0 +1,141 @@
+package com.enonic.xp.server.internal.trace;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.enonic.xp.trace.Trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TraceSamplerTest
+{
+    @Test
+    public void disabled()
+    {
+        final TraceSampler sampler = new TraceSampler( config( false, 1, 0, 10 ) );
+        assertFalse( sampler.isEnabled() );
+        assertTrue( sampler.snapshot().isEmpty() );
+    }
+
+    @Test
+    public void notSampled()
+    {
+        final TraceSampler sampler = new TraceSampler( config( true, 0, 0, 10 ) );
+
+        final Trace root = sampler.newTrace( "root", null );
+        assertSame( NoopTrace.INSTANCE, root );
+        assertTrue( root.isNoop() );
+        assertSame( NoopTrace.INSTANCE, sampler.newTrace( "child", root ) );
+
+        root.put( "key", "value" );
+        assertNull( root.get( "key" ) );
+        assertTrue( sampler.snapshot().isEmpty() );
+    }
+
+    @Test
+    public void sampled()
+    {
+        final TraceSampler sampler = new TraceSampler( config( true, 1, 0, 10 ) );
+
+        final Trace root = sampler.newTrace( "root", null );
+        root.start();
+        root.put( "path", "/site/a" );
+        root.put( "status", 200 );
+
+        final Trace child = sampler.newTrace( "child", root );
+        child.start();
+        assertEquals( root.getId(), child.getParentId() );
+        child.put( "contentId", 123L );
+        child.end();
+
+        assertTrue( sampler.snapshot().isEmpty() );
+        root.end();
+
+        final List<SpanRecord> spans = sampler.snapshot();
+        assertEquals( 2, spans.size() );
+
+        final SpanRecord childSpan = spans.get( 0 );
+        final SpanRecord rootSpan = spans.get( 1 );
+        assertEquals( "child", childSpan.name );
+        assertEquals( "root", rootSpan.name );
+        assertEquals( rootSpan.spanId, childSpan.parentSpanId );
+        assertEquals( rootSpan.traceId, childSpan.traceId );
+        assertEquals( 0, rootSpan.parentSpanId );
+        assertEquals( "123", childSpan.values[0] );
+        assertEquals( 2, rootSpan.attributeCount );
+        assertEquals( "status", rootSpan.keys[1] );
+        assertEquals( "200", rootSpan.values[1] );
+    }
+
+    @Test
+    public void slowKept()
+        throws Exception
+    {
+        final TraceSampler sampler = new TraceSampler( config( true, 0, 1, 10 ) );
+
+        final Trace fast = sampler.newTrace( "fast", null );
+        assertFalse( fast.isNoop() );
+        fast.start();
+        fast.end();
+        assertTrue( sampler.snapshot().isEmpty() );
+
+        final Trace slow = sampler.newTrace( "slow", null );
+        slow.start();
+        Thread.sleep( 5 );
+        slow.end();
+
+        final List<SpanRecord> spans = sampler.snapshot();
+        assertEquals( 1, spans.size() );
+        assertEquals( "slow", spans.get( 0 ).name );
+    }
+
+    @Test
+    public void ringBufferOverwritesOldest()
+    {
+        final TraceSampler sampler = new TraceSampler( config( true, 1, 0, 2 ) );
+        for ( int i = 0; i < 3; i++ )
+        {
+            final Trace trace = sampler.newTrace( "trace" + i, null );
+            trace.start();
+            trace.end();
+        }
+
+        final List<SpanRecord> spans = sampler.snapshot();
+        assertEquals( 2, spans.size() );
+        assertEquals( "trace1", spans.get( 0 ).name );
+        assertEquals( "trace2", spans.get( 1 ).name );
+    }
+
+    @Test
+    public void childEndedAfterRoot()
+    {
+        final TraceSampler sampler = new TraceSampler( config( true, 1, 0, 10 ) );
+
+        final Trace root = sampler.newTrace( "root", null );
+        root.start();
+        final Trace child = sampler.newTrace( "child", root );
+        child.start();
+        root.end();
+        child.end();
+
+        final List<SpanRecord> spans = sampler.snapshot();
+        assertEquals( 2, spans.size() );
+        assertEquals( "child", spans.get( 1 ).name );
+    }
+
+    static TraceConfig config( final boolean enabled, final double rate, final long slowThreshold, final int bufferSize )
+    {
+        final TraceConfig config = Mockito.mock( TraceConfig.class );
+        Mockito.when( config.sampling_enabled() ).thenReturn( enabled );
+        Mockito.when( config.sampling_rate() ).thenReturn( rate );
+        Mockito.when( config.sampling_slowThreshold() ).thenReturn( slowThreshold );
+        Mockito.when( config.sampling_bufferSize() ).thenReturn( bufferSize );
+        return config;
+    }
+}
@@ -73,6 +73,24 @@ public class TraceServiceTest
         Mockito.verify( this.dispatcher, Mockito.times( 1 ) ).queue( event );
     }
 
+    @Test
+    public void testSampling()
+    {
+        final TraceConfig config = Mockito.mock( TraceConfig.class );
+        this.service.setSampler( new TraceSampler( TraceSamplerTest.config( true, 0, 0, 10 ) ) );
+
+        this.service.activate( config );
+        assertTrue( Tracer.isEnabled() );
+        assertTrue( this.service.newTrace( "test", null ).isNoop() );
+
+        this.service.enable( true );
+        assertFalse( this.service.newTrace( "test", null ).isNoop() );
+
+        this.service.enable( false );
+        assertTrue( Tracer.isEnabled() );
+        assertTrue( this.service.newTrace( "test", null ).isNoop() );
+    }
+
     @Test
     public void testEnableTracing()
     {
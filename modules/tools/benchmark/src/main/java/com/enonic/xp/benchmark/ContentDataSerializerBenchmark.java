@@ -0,0 +1,53 @@
+package com.enonic.xp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.enonic.xp.content.Content;
+import com.enonic.xp.core.impl.content.serializer.ContentDataSerializer;
+import com.enonic.xp.data.PropertyTree;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentDataSerializerBenchmark
+{
+    private ContentDataSerializer serializer;
+
+    private Content content;
+
+    private PropertyTree nodeData;
+
+    @Setup
+    public void setup()
+    {
+        serializer = new ContentDataSerializer();
+        content = Fixtures.article();
+        nodeData = serializer.toNodeData( content );
+    }
+
+    @Benchmark
+    public PropertyTree toNodeData()
+    {
+        return serializer.toNodeData( content );
+    }
+
+    @Benchmark
+    public Content.Builder<?> fromData()
+    {
+        return serializer.fromData( nodeData.getRoot() );
+    }
+}
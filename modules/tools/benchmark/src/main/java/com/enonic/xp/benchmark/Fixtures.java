@@ -0,0 +1,155 @@
+package com.enonic.xp.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import com.enonic.xp.content.Content;
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.data.PropertySet;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.page.DescriptorKey;
+import com.enonic.xp.page.Page;
+import com.enonic.xp.page.PageRegions;
+import com.enonic.xp.region.LayoutComponent;
+import com.enonic.xp.region.LayoutRegions;
+import com.enonic.xp.region.PartComponent;
+import com.enonic.xp.region.Region;
+import com.enonic.xp.region.TextComponent;
+import com.enonic.xp.schema.content.ContentTypeName;
+import com.enonic.xp.security.IdProviderKey;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.util.GeoPoint;
+import com.enonic.xp.util.Reference;
+
+/**
+ * Shared benchmark fixtures, shaped after a typical article content of a site.
+ */
+public final class Fixtures
+{
+    public static final PrincipalKey USER = PrincipalKey.ofUser( IdProviderKey.system(), "editor" );
+
+    private static final String PARAGRAPH =
+        "<p>Lorem ipsum dolor sit amet, <strong>consectetur</strong> adipiscing elit, sed do eiusmod tempor incididunt ut labore et " +
+            "dolore magna aliqua. <a href=\"content://6f0a3d7e-0a0a-4b0c-9f3e-1c2d3e4f5a6b\">Ut enim</a> ad minim veniam, quis " +
+            "nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat.</p>\n";
+
+    private static final String FIGURE =
+        "<figure class=\"editor-align-justify\"><img alt=\"Figure\" src=\"image://7a1b2c3d-4e5f-6a7b-8c9d-0e1f2a3b4c5d?scale=16:9\" " +
+            "style=\"width:100%\"/><figcaption>Caption with <em>emphasis</em></figcaption></figure>\n";
+
+    private static final String MACRO =
+        "[embed]<iframe src=\"https://www.youtube.com/embed/dQw4w9WgXcQ\" width=\"560\" height=\"315\"></iframe>[/embed]\n" +
+            "[info header=\"Note\" type=\"warning\"]Text of the info box[/info]\n";
+
+    private Fixtures()
+    {
+    }
+
+    /**
+     * @param sections number of repeated text/figure/macro sections
+     */
+    public static String html( final int sections )
+    {
+        final StringBuilder html = new StringBuilder( "<h2>Article</h2>\n" );
+        for ( int i = 0; i < sections; i++ )
+        {
+            html.append( "<h3>Section " ).append( i ).append( "</h3>\n" ).append( PARAGRAPH ).append( FIGURE ).append( MACRO );
+        }
+        return html.toString();
+    }
+
+    public static PropertyTree articleData()
+    {
+        final PropertyTree data = new PropertyTree();
+        data.addString( "title", "An article about benchmarking" );
+        data.addString( "preface", "A short preface of the article that is shown in lists and teasers." );
+        data.addString( "body", html( 20 ) );
+        data.addStrings( "tags", "performance", "jmh", "content", "nodes", "serialization" );
+        data.addLocalDate( "publishDate", LocalDate.of( 2021, 3, 14 ) );
+        data.addBoolean( "featured", true );
+        data.addLong( "priority", 10L );
+        data.addGeoPoint( "location", new GeoPoint( 59.9139, 10.7522 ) );
+
+        final PropertySet author = data.addSet( "author" );
+        author.addString( "name", "Jane Doe" );
+        author.addReference( "image", Reference.from( "9c8b7a6d-5e4f-3a2b-1c0d-e9f8a7b6c5d4" ) );
+
+        for ( int i = 0; i < 20; i++ )
+        {
+            final PropertySet section = data.addSet( "sections" );
+            section.addString( "heading", "Section " + i );
+            section.addString( "text", html( 1 ) );
+            section.addReference( "image", new Reference( NodeId.from( "image-" + i ) ) );
+            final PropertySet link = section.addSet( "link" );
+            link.addString( "url", "https://www.example.com/section/" + i );
+            link.addBoolean( "newWindow", i % 2 == 0 );
+        }
+        return data;
+    }
+
+    public static Page page()
+    {
+        final PropertyTree pageConfig = new PropertyTree();
+        pageConfig.addString( "theme", "dark" );
+        pageConfig.addBoolean( "showBreadcrumbs", true );
+
+        final Region.Builder main = Region.create().name( "main" );
+        for ( int i = 0; i < 5; i++ )
+        {
+            main.add( layout( i ) );
+        }
+
+        return Page.create()
+            .descriptor( DescriptorKey.from( "com.enonic.app.site:default" ) )
+            .config( pageConfig )
+            .regions( PageRegions.create().add( main.build() ).build() )
+            .build();
+    }
+
+    public static Content article()
+    {
+        return Content.create()
+            .id( ContentId.from( "3e1f8c3a-6c5e-4a7b-9d2f-0a1b2c3d4e5f" ) )
+            .name( "an-article-about-benchmarking" )
+            .parentPath( ContentPath.from( "/mysite/articles" ) )
+            .type( ContentTypeName.from( "com.enonic.app.site:article" ) )
+            .displayName( "An article about benchmarking" )
+            .language( Locale.ENGLISH )
+            .owner( USER )
+            .creator( USER )
+            .modifier( USER )
+            .createdTime( Instant.parse( "2021-03-14T10:00:00Z" ) )
+            .modifiedTime( Instant.parse( "2021-03-15T12:30:00Z" ) )
+            .data( articleData() )
+            .page( page() )
+            .build();
+    }
+
+    private static LayoutComponent layout( final int index )
+    {
+        final LayoutRegions.Builder regions = LayoutRegions.create();
+        for ( String name : new String[]{"left", "right"} )
+        {
+            final PropertyTree partConfig = new PropertyTree();
+            partConfig.addString( "heading", "Part " + index + " " + name );
+            partConfig.addLong( "count", 5L );
+
+            regions.add( Region.create()
+                             .name( name )
+                             .add( PartComponent.create()
+                                       .descriptor( DescriptorKey.from( "com.enonic.app.site:teaser" ) )
+                                       .config( partConfig )
+                                       .build() )
+                             .add( TextComponent.create().text( html( 1 ) ).build() )
+                             .build() );
+        }
+
+        return LayoutComponent.create()
+            .descriptor( DescriptorKey.from( "com.enonic.app.site:two-column" ) )
+            .regions( regions.build() )
+            .build();
+    }
+}
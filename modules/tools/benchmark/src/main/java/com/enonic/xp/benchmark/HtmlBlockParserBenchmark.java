@@ -0,0 +1,46 @@
+package com.enonic.xp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.enonic.xp.portal.impl.parser.HtmlBlockParser;
+import com.enonic.xp.portal.impl.parser.HtmlBlocks;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HtmlBlockParserBenchmark
+{
+    @Param({"1", "20", "200"})
+    public int sections;
+
+    private String html;
+
+    @Setup
+    public void setup()
+    {
+        html = "<html><head><title>Article</title></head><body>" +
+            "<!--#COMPONENT main/0 --><main data-portal-region=\"main\">" + Fixtures.html( sections ) +
+            "<!--#COMPONENT main/1 --></main></body></html>";
+    }
+
+    @Benchmark
+    public HtmlBlocks parse()
+    {
+        return new HtmlBlockParser().parse( html );
+    }
+}
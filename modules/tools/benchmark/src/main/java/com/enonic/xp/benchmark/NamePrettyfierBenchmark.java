@@ -0,0 +1,34 @@
+package com.enonic.xp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.enonic.xp.name.NamePrettyfier;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamePrettyfierBenchmark
+{
+    @Param({"An article about benchmarking", "Ærlig talt: blåbærsyltetøy på søndag!", "Привет, как дела? 你好 — Ελληνικά"})
+    public String name;
+
+    @Benchmark
+    public String create()
+    {
+        return NamePrettyfier.create( name );
+    }
+}
@@ -0,0 +1,87 @@
+package com.enonic.xp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.core.impl.content.serializer.ContentDataSerializer;
+import com.enonic.xp.index.ChildOrder;
+import com.enonic.xp.index.IndexConfig;
+import com.enonic.xp.index.PatternIndexConfigDocument;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeType;
+import com.enonic.xp.node.NodeVersion;
+import com.enonic.xp.repo.impl.node.json.NodeVersionJsonSerializer;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.RoleKeys;
+import com.enonic.xp.security.acl.AccessControlEntry;
+import com.enonic.xp.security.acl.AccessControlList;
+import com.enonic.xp.security.acl.Permission;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodeVersionJsonSerializerBenchmark
+{
+    private NodeVersion nodeVersion;
+
+    private ByteSource data;
+
+    private ByteSource indexConfig;
+
+    private ByteSource accessControl;
+
+    @Setup
+    public void setup()
+    {
+        nodeVersion = NodeVersion.create()
+            .id( NodeId.from( "3e1f8c3a-6c5e-4a7b-9d2f-0a1b2c3d4e5f" ) )
+            .nodeType( NodeType.from( "content" ) )
+            .data( new ContentDataSerializer().toNodeData( Fixtures.article() ) )
+            .indexConfigDocument( PatternIndexConfigDocument.create()
+                                      .analyzer( "document_index_default" )
+                                      .defaultConfig( IndexConfig.BY_TYPE )
+                                      .add( "data.body", IndexConfig.FULLTEXT )
+                                      .add( "data.sections.text", IndexConfig.FULLTEXT )
+                                      .add( "page", IndexConfig.NONE )
+                                      .add( "site", IndexConfig.NONE )
+                                      .build() )
+            .childOrder( ChildOrder.defaultOrder() )
+            .permissions( AccessControlList.create()
+                              .add( AccessControlEntry.create().principal( PrincipalKey.ofAnonymous() ).allow( Permission.READ ).build() )
+                              .add( AccessControlEntry.create().principal( RoleKeys.CONTENT_MANAGER_ADMIN ).allowAll().build() )
+                              .add( AccessControlEntry.create().principal( Fixtures.USER ).allowAll().build() )
+                              .build() )
+            .build();
+
+        data = ByteSource.wrap( NodeVersionJsonSerializer.toNodeVersionBytes( nodeVersion ) );
+        indexConfig = ByteSource.wrap( NodeVersionJsonSerializer.toIndexConfigDocumentBytes( nodeVersion ) );
+        accessControl = ByteSource.wrap( NodeVersionJsonSerializer.toAccessControlBytes( nodeVersion ) );
+    }
+
+    @Benchmark
+    public byte[] serialize()
+    {
+        return NodeVersionJsonSerializer.toNodeVersionBytes( nodeVersion );
+    }
+
+    @Benchmark
+    public NodeVersion deserialize()
+    {
+        return NodeVersionJsonSerializer.toNodeVersion( data, indexConfig, accessControl );
+    }
+}
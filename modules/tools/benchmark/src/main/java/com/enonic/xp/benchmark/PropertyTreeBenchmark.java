@@ -0,0 +1,56 @@
+package com.enonic.xp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.enonic.xp.core.impl.content.serializer.ContentDataSerializer;
+import com.enonic.xp.data.Property;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.data.PropertyVisitor;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyTreeBenchmark
+{
+    private PropertyTree tree;
+
+    @Setup
+    public void setup()
+    {
+        tree = new ContentDataSerializer().toNodeData( Fixtures.article() );
+    }
+
+    @Benchmark
+    public PropertyTree copy()
+    {
+        return tree.copy();
+    }
+
+    @Benchmark
+    public void visit( final Blackhole blackhole )
+    {
+        new PropertyVisitor()
+        {
+            @Override
+            public void visit( final Property property )
+            {
+                blackhole.consume( property.getValue() );
+            }
+        }.traverse( tree );
+    }
+}
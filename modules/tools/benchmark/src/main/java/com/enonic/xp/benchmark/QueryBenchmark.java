@@ -0,0 +1,80 @@
+package com.enonic.xp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.enonic.xp.branch.Branch;
+import com.enonic.xp.node.NodeQuery;
+import com.enonic.xp.query.expr.QueryExpr;
+import com.enonic.xp.query.parser.QueryParser;
+import com.enonic.xp.repo.impl.SingleRepoSearchSource;
+import com.enonic.xp.repo.impl.elasticsearch.query.ElasticsearchQuery;
+import com.enonic.xp.repo.impl.elasticsearch.query.translator.ESQueryTranslator;
+import com.enonic.xp.repo.impl.search.SearchRequest;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.PrincipalKeys;
+import com.enonic.xp.security.RoleKeys;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryBenchmark
+{
+    private static final String QUERY = "fulltext('displayName^5,data.*,x.*', 'benchmark article', 'AND') " +
+        "AND type IN ('com.enonic.app.site:article', 'com.enonic.app.site:news') " +
+        "AND _path LIKE '/content/mysite/*' AND data.publishDate <= date('2021-12-31') " +
+        "AND (data.tags = 'performance' OR data.tags = 'jmh') AND NOT (data.featured = 'false') " +
+        "ORDER BY data.publishDate DESC, _score DESC";
+
+    private SearchRequest searchRequest;
+
+    @Setup
+    public void setup()
+    {
+        searchRequest = searchRequest( QueryParser.parse( QUERY ) );
+    }
+
+    @Benchmark
+    public QueryExpr parse()
+    {
+        return QueryParser.parse( QUERY );
+    }
+
+    @Benchmark
+    public ElasticsearchQuery translate()
+    {
+        return ESQueryTranslator.translate( searchRequest );
+    }
+
+    @Benchmark
+    public ElasticsearchQuery parseAndTranslate()
+    {
+        return ESQueryTranslator.translate( searchRequest( QueryParser.parse( QUERY ) ) );
+    }
+
+    private static SearchRequest searchRequest( final QueryExpr queryExpr )
+    {
+        return SearchRequest.create()
+            .query( NodeQuery.create().query( queryExpr ).size( 10 ).build() )
+            .searchSource( SingleRepoSearchSource.create()
+                               .repositoryId( RepositoryId.from( "com.enonic.cms.default" ) )
+                               .branch( Branch.from( "master" ) )
+                               .acl( PrincipalKeys.from( PrincipalKey.ofAnonymous(), RoleKeys.EVERYONE, Fixtures.USER ) )
+                               .build() )
+            .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.enonic.xp.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.enonic.xp.web.vhost.VirtualHost;
+import com.enonic.xp.web.vhost.VirtualHostService;
+import com.enonic.xp.web.vhost.impl.VirtualHostResolverImpl;
+import com.enonic.xp.web.vhost.impl.mapping.VirtualHostIdProvidersMapping;
+import com.enonic.xp.web.vhost.impl.mapping.VirtualHostMapping;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualHostResolverBenchmark
+{
+    @Param({"10", "1000", "5000"})
+    public int hosts;
+
+    private VirtualHostResolverImpl resolver;
+
+    private HttpServletRequest firstHostRequest;
+
+    private HttpServletRequest lastHostRequest;
+
+    private HttpServletRequest patternHostRequest;
+
+    @Setup
+    public void setup()
+    {
+        final List<VirtualHost> virtualHosts = new ArrayList<>();
+        for ( int i = 0; i < hosts; i++ )
+        {
+            final String host = "site" + i + ".example.com";
+            virtualHosts.add( mapping( "site" + i, host + " www." + host, "/", "/site/default/master/site" + i ) );
+            virtualHosts.add( mapping( "admin" + i, host, "/admin", "/admin" ) );
+        }
+        virtualHosts.add( mapping( "wildcard", "~(.+)\\.preview\\.example\\.com", "/", "/site/preview/draft/$1" ) );
+
+        resolver = new VirtualHostResolverImpl( new VirtualHostService()
+        {
+            @Override
+            public boolean isEnabled()
+            {
+                return true;
+            }
+
+            @Override
+            public List<VirtualHost> getVirtualHosts()
+            {
+                return virtualHosts;
+            }
+        } );
+
+        firstHostRequest = request( "site0.example.com", "/articles/an-article-about-benchmarking" );
+        lastHostRequest = request( "www.site" + ( hosts - 1 ) + ".example.com", "/articles/an-article-about-benchmarking" );
+        patternHostRequest = request( "site0.preview.example.com", "/" );
+    }
+
+    @Benchmark
+    public VirtualHost firstHost()
+    {
+        return resolver.resolveVirtualHost( firstHostRequest );
+    }
+
+    @Benchmark
+    public VirtualHost lastHost()
+    {
+        return resolver.resolveVirtualHost( lastHostRequest );
+    }
+
+    @Benchmark
+    public VirtualHost patternHost()
+    {
+        return resolver.resolveVirtualHost( patternHostRequest );
+    }
+
+    private static VirtualHost mapping( final String name, final String host, final String source, final String target )
+    {
+        return new VirtualHostMapping( name, host, source, target, VirtualHostIdProvidersMapping.create().build(), 0 );
+    }
+
+    private static HttpServletRequest request( final String serverName, final String requestUri )
+    {
+        return (HttpServletRequest) Proxy.newProxyInstance( HttpServletRequest.class.getClassLoader(),
+                                                            new Class<?>[]{HttpServletRequest.class}, ( proxy, method, args ) -> {
+                switch ( method.getName() )
+                {
+                    case "getServerName":
+                        return serverName;
+                    case "getRequestURI":
+                        return requestUri;
+                    default:
+                        throw new UnsupportedOperationException( method.getName() );
+                }
+            } );
+    }
+}
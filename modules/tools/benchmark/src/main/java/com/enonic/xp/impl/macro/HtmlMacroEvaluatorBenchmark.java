@@ -0,0 +1,43 @@
+package com.enonic.xp.impl.macro;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.enonic.xp.benchmark.Fixtures;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HtmlMacroEvaluatorBenchmark
+{
+    @Param({"1", "20", "200"})
+    public int sections;
+
+    private String html;
+
+    @Setup
+    public void setup()
+    {
+        html = Fixtures.html( sections );
+    }
+
+    @Benchmark
+    public String evaluate()
+    {
+        return new HtmlMacroEvaluator( html, macro -> "<div class=\"" + macro.getName() + "\">" + macro.getBody() + "</div>" ).evaluate();
+    }
+}
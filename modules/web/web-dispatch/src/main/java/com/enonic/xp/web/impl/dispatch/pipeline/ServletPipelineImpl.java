@@ -2,6 +2,8 @@ package com.enonic.xp.web.impl.dispatch.pipeline;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.servlet.Servlet;
 import javax.servlet.ServletException;
@@ -14,6 +16,11 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
+import com.codahale.metrics.MetricRegistry;
+
+import com.enonic.xp.core.internal.metrics.StatusTimers;
+import com.enonic.xp.util.Metrics;
+import com.enonic.xp.web.dispatch.DispatchConstants;
 import com.enonic.xp.web.dispatch.ServletMapping;
 import com.enonic.xp.web.impl.dispatch.mapping.ResourceDefinitionFactory;
 import com.enonic.xp.web.impl.dispatch.mapping.ServletDefinition;
@@ -23,10 +30,15 @@ public final class ServletPipelineImpl
     extends ResourcePipelineImpl<ServletDefinition>
     implements ServletPipeline
 {
+    private final String connector;
+
+    private final ConcurrentMap<Class<?>, StatusTimers> servletTimers = new ConcurrentHashMap<>();
+
     @Activate
     public ServletPipelineImpl( final Map<String, ?> properties )
     {
         super( properties );
+        this.connector = (String) properties.get( DispatchConstants.CONNECTOR_PROPERTY );
     }
 
     @Override
@@ -35,7 +47,7 @@ public final class ServletPipelineImpl
     {
         for ( final ServletDefinition def : this.list.snapshot() )
         {
-            if ( def.service( req, res ) )
+            if ( service( def, req, res ) )
             {
                 return;
             }
@@ -43,6 +55,33 @@ public final class ServletPipelineImpl
         res.sendError( HttpServletResponse.SC_SERVICE_UNAVAILABLE );
     }
 
+    private boolean service( final ServletDefinition def, final HttpServletRequest req, final HttpServletResponse res )
+        throws ServletException, IOException
+    {
+        final long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        boolean served = true;
+        try
+        {
+            served = def.service( req, res );
+            status = res.getStatus();
+            return served;
+        }
+        finally
+        {
+            if ( served )
+            {
+                getTimers( def ).update( status, System.nanoTime() - start );
+            }
+        }
+    }
+
+    private StatusTimers getTimers( final ServletDefinition def )
+    {
+        return servletTimers.computeIfAbsent( def.getResource().getClass(), type -> new StatusTimers(
+            Metrics.registry(), MetricRegistry.name( ServletPipeline.class, connector, type.getSimpleName() ) ) );
+    }
+
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     public void addServlet( final Servlet servlet, final Map<String, ?> props )
     {
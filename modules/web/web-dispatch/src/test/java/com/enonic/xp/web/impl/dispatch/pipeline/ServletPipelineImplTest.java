@@ -3,17 +3,24 @@ package com.enonic.xp.web.impl.dispatch.pipeline;
 import java.util.Map;
 
 import javax.servlet.Servlet;
+import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletResponse;
 
 import org.junit.jupiter.api.Test;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import com.enonic.xp.util.Metrics;
 import com.enonic.xp.web.dispatch.DispatchConstants;
 import com.enonic.xp.web.dispatch.ServletMapping;
 import com.enonic.xp.web.impl.dispatch.mapping.ServletDefinition;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -89,6 +96,22 @@ public class ServletPipelineImplTest
         verify( def2, times( 1 ) ).service( this.request, this.response );
     }
 
+    @Test
+    void service_failure_timed_as_error()
+        throws Exception
+    {
+        final ServletDefinition def = newDefinition();
+        when( def.service( this.request, this.response ) ).thenThrow( new ServletException( "failed" ) );
+        this.pipeline.add( def );
+
+        final Timer timer = Metrics.registry()
+            .timer( MetricRegistry.name( ServletPipeline.class, "xp", MyServlet.class.getSimpleName(), "500" ) );
+        final long count = timer.getCount();
+
+        assertThrows( ServletException.class, () -> this.pipeline.service( this.request, this.response ) );
+        assertEquals( count + 1, timer.getCount() );
+    }
+
     @Test
     void no_service()
         throws Exception
@@ -2,10 +2,18 @@ package com.enonic.xp.web.impl.handler;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.osgi.service.component.annotations.Component;
 
+import com.codahale.metrics.MetricRegistry;
+
 import com.enonic.xp.core.internal.concurrent.AtomicSortedList;
+import com.enonic.xp.core.internal.metrics.StatusTimers;
+import com.enonic.xp.util.Metrics;
+import com.enonic.xp.web.HttpStatus;
+import com.enonic.xp.web.WebException;
 import com.enonic.xp.web.WebRequest;
 import com.enonic.xp.web.WebResponse;
 import com.enonic.xp.web.handler.WebHandler;
@@ -16,6 +24,10 @@ public final class WebDispatcherImpl
 {
     private final AtomicSortedList<WebHandler> webHandlerList = new AtomicSortedList<>( Comparator.comparingInt( WebHandler::getOrder ) );
 
+    private final ConcurrentMap<Class<?>, StatusTimers> handlerTimers = new ConcurrentHashMap<>();
+
+    private final StatusTimers notFoundTimers = newTimers( "none" );
+
     @Override
     public void add( final WebHandler webHandler )
     {
@@ -32,7 +44,24 @@ public final class WebDispatcherImpl
     public WebResponse dispatch( final WebRequest req, final WebResponse res )
         throws Exception
     {
-        return new WebHandlerChainImpl( this.webHandlerList.snapshot() ).handle( req, res );
+        final WebHandlerChainImpl chain = new WebHandlerChainImpl( this.webHandlerList.snapshot() );
+        final long start = System.nanoTime();
+        int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+        try
+        {
+            final WebResponse response = chain.handle( req, res );
+            status = response.getStatus().value();
+            return response;
+        }
+        catch ( WebException e )
+        {
+            status = e.getStatus().value();
+            throw e;
+        }
+        finally
+        {
+            getTimers( chain.getHandler() ).update( status, System.nanoTime() - start );
+        }
     }
 
     @Override
@@ -40,4 +69,19 @@ public final class WebDispatcherImpl
     {
         return this.webHandlerList.snapshot().iterator();
     }
+
+    private StatusTimers getTimers( final WebHandler handler )
+    {
+        if ( handler == null )
+        {
+            return notFoundTimers;
+        }
+        return handlerTimers.computeIfAbsent( handler.getClass(), type -> newTimers(
+            type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName() ) );
+    }
+
+    private static StatusTimers newTimers( final String handlerName )
+    {
+        return new StatusTimers( Metrics.registry(), MetricRegistry.name( WebDispatcher.class, "handler", handlerName ) );
+    }
 }
@@ -14,6 +14,8 @@ final class WebHandlerChainImpl
 {
     private final Iterator<WebHandler> webHandlerIterator;
 
+    private WebHandler handler;
+
     WebHandlerChainImpl( final List<WebHandler> handlers )
     {
         this.webHandlerIterator = List.copyOf( handlers ).iterator();
@@ -25,8 +27,18 @@ final class WebHandlerChainImpl
     {
         if ( webHandlerIterator.hasNext() )
         {
-            return webHandlerIterator.next().handle( webRequest, webResponse, this );
+            handler = webHandlerIterator.next();
+            return handler.handle( webRequest, webResponse, this );
         }
+        handler = null;
         throw WebException.notFound( "Handler not found" );
     }
+
+    /**
+     * @return last handler the request was passed to, or {@code null} if no handler handled the request
+     */
+    WebHandler getHandler()
+    {
+        return handler;
+    }
 }
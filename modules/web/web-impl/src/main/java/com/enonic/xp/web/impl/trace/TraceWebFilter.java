@@ -38,14 +38,17 @@ public final class TraceWebFilter
             return chain.handle( req, res );
         }
 
-        trace.put( "path", req.getPath() );
-        trace.put( "rawpath", req.getRawPath() );
-        trace.put( "url", ServletRequestUrlHelper.getFullUrl( req.getRawRequest() ) );
-        trace.put( "method", req.getMethod().toString() );
-        trace.put( "host", req.getHost() );
-        trace.put( "httpRequest", req );
-        trace.put( "httpResponse", res );
-        trace.put( "context", ContextAccessor.current() );
+        if ( !trace.isNoop() )
+        {
+            trace.put( "path", req.getPath() );
+            trace.put( "rawpath", req.getRawPath() );
+            trace.put( "url", ServletRequestUrlHelper.getFullUrl( req.getRawRequest() ) );
+            trace.put( "method", req.getMethod().toString() );
+            trace.put( "host", req.getHost() );
+            trace.put( "httpRequest", req );
+            trace.put( "httpResponse", res );
+            trace.put( "context", ContextAccessor.current() );
+        }
 
         return Tracer.traceEx( trace, () -> {
             final WebResponse webResponse = chain.handle( req, res );
@@ -6,9 +6,19 @@ import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.Test;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import com.enonic.xp.util.Metrics;
+import com.enonic.xp.web.HttpStatus;
+import com.enonic.xp.web.WebException;
+import com.enonic.xp.web.WebRequest;
+import com.enonic.xp.web.WebResponse;
 import com.enonic.xp.web.handler.WebHandler;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class WebDispatcherImplTest
 {
@@ -45,4 +55,34 @@ class WebDispatcherImplTest
         assertSame( webHandler0, list.get( 0 ) );
         assertSame( webHandlerAlso0, list.get( 1 ) );
     }
+
+    @Test
+    void timedByHandlerAndStatus()
+        throws Exception
+    {
+        final WebDispatcherImpl dispatcher = new WebDispatcherImpl();
+        final TestWebHandler handler = new TestWebHandler();
+        handler.response = WebResponse.create().status( HttpStatus.CREATED ).build();
+        dispatcher.add( handler );
+
+        final long count = timerCount( "TestWebHandler.201" );
+        dispatcher.dispatch( new WebRequest(), WebResponse.create().build() );
+        assertEquals( count + 1, timerCount( "TestWebHandler.201" ) );
+    }
+
+    @Test
+    void timedNotFound()
+    {
+        final WebDispatcherImpl dispatcher = new WebDispatcherImpl();
+
+        final long count = timerCount( "none.404" );
+        assertThrows( WebException.class, () -> dispatcher.dispatch( new WebRequest(), WebResponse.create().build() ) );
+        assertEquals( count + 1, timerCount( "none.404" ) );
+    }
+
+    private static long timerCount( final String name )
+    {
+        final Timer timer = Metrics.registry().getTimers().get( MetricRegistry.name( WebDispatcher.class, "handler", name ) );
+        return timer != null ? timer.getCount() : 0;
+    }
 }